@@ -26,10 +26,23 @@ public class ErrorConstant {
             System.lineSeparator() + UiConstant.PARTITION_LINE;
     public static final String DATA_INTEGRITY_ERROR = "Data file integrity compromised. Exiting.";
     public static final String MISSING_INTEGRITY_ERROR = "Key files for integrity missing. Exiting.";
+    public static final String BINARY_FORMAT_ERROR = "Binary data file is malformed or has an unsupported record: ";
+    public static final String SEGMENT_MANIFEST_ERROR = "Segment manifest is malformed.";
+    public static final String BLOCK_INDEX_ERROR = "Block index does not match the data file.";
+    public static final String INVALID_LOG_LEVEL_ERROR = "Ignoring invalid log level: ";
+    public static final String QUARANTINED_RECORDS_ERROR = "Entries %d to %d of the data file are corrupted and "
+            + "could not be loaded. They have been moved to '%s'.";
     public static final String HASH_ERROR = "Error occurred while processing file hash.";
+    public static final String JOURNAL_ERROR = "Unable to open journal file. Data will only be saved on exit.";
+    public static final String JOURNAL_CORRUPT_ERROR = "Journal entry %d is corrupted or has been edited. "
+            + "Changes from that entry onwards were not loaded. The journal has been moved to '%s'.";
+    public static final String JOURNAL_SKIPPED_DELETES_ERROR = "%d deletion(s) in the journal were of entries "
+            + "that were quarantined, so they were skipped.";
     public static final String LOAD_GYM_FORMAT_ERROR = LOAD_ERROR + "Format of gym entry is incorrect/corrupted";
     public static final String LOAD_GYM_TYPE_ERROR = LOAD_ERROR + "Format of gym type is incorrect/corrupted";
     public static final String LOAD_NUMBER_OF_STATION_ERROR = LOAD_ERROR + "Number of stations is corrupted";
+    public static final String LOAD_GYM_STATIONS_ERROR = "Unable to read the stations of a gym entry "
+            + "from the data file.";
     public static final String INVALID_COMMAND_ERROR = "Invalid command. Enter 'help' to view " +
             "available commands.";
     public static final String NO_DATE_SPECIFIED_ERROR = "NA";
@@ -49,6 +62,7 @@ public class ErrorConstant {
             + "Only input what is required! Additional characters between flags will cause errors.";
     public static final String RUN_EMPTY_ERROR = "No runs found! You need to add a run entry first!";
     public static final String GYM_EMPTY_ERROR = "No gyms found! You need to add a gym entry first!";
+    public static final String WORKOUT_NOT_FOUND_ERROR = "Workout is missing from the workouts list.";
     public static final String WORKOUTS_EMPTY_ERROR = "No workouts found! You need to add " +
             "either a run or a gym entry first!";
     public static final String APPOINTMENT_EMPTY_ERROR = "No appointments found! You need to add an " +
@@ -239,6 +253,9 @@ public class ErrorConstant {
             + System.lineSeparator()
             + "- appointment";
 
+    public static final String INVALID_LOG_LINES_ERROR = "Number of log lines must be a positive integer!";
+    public static final String READ_LOG_ERROR = "Unable to read the log file.";
+
     public static final String TOO_MANY_SLASHES_ERROR = "Too many '/' characters specified within input. " +
             "Parameters cannot contain any '/' characters!";
 
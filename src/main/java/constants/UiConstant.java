@@ -8,7 +8,6 @@ import java.io.File;
  * numerical values, history management, delete operations, and split indices.
  */
 public class UiConstant {
-    public static final String SPLIT_BY_SLASH = "/";
     public static final String SPLIT_BY_COLON = ":";
     public static final String SPLIT_BY_WHITESPACE = " ";
     public static final String SPLIT_BY_COMMAS = ",";
@@ -17,23 +16,57 @@ public class UiConstant {
     public static final String PARTITION_LINE = "____________________________________________________________";
     public static final String EMPTY_STRING = "";
     public static final String FULL_STOP = ".";
-    public static final String VALID_DATE_REGEX = "^\\d{2}-\\d{2}-\\d{4}$";
-    public static final String VALID_TWO_DP_NUMBER_REGEX = "^\\d+\\.\\d{2}$";
-    public static final String VALID_TIME_REGEX = "^\\d{2}:\\d{2}$";
-    public static final String VALID_TIME_WITH_HOURS_REGEX = "^\\d{2}:\\d{2}:\\d{2}$";
-    public static final String VALID_POSITIVE_INTEGER_REGEX = "^[1-9]\\d*$";
-    public static final String VALID_APPOINTMENT_DESCRIPTION_REGEX = "^[0-9a-zA-Z\\s'\"]+$";
-    public static final String VALID_GYM_STATION_NAME_REGEX = "^[A-Za-z\\s]+$";
-    public static final String VALID_USERNAME_REGEX = "^[0-9A-Za-z\\s]+$";
-    public static final String VALID_WEIGHTS_ARRAY_REGEX = "^\\d+(\\.\\d{1,3})?(,\\d+(\\.\\d{1,3})?)*$";
     public static final String EXIT_MESSAGE = "Initiating PulsePilot landing sequence...";
     public static final int DATA_TYPE_INDEX = 0;
     public static final int NAME_INDEX = 1;
     public static final String NAME_LABEL = "NAME";
     public static final String LOG_FILE_PATH = "./pulsepilot_log.txt";
+    public static boolean isAsyncLogging = true;
+    public static final String LOG_LEVEL_ARGUMENT = "--log-level=";
+    public static final long LOG_MAX_FILE_BYTES = 1024 * 1024;
+    public static int logRetainedSegments = 5;
+    public static final String LOG_SEGMENT_EXTENSION = ".gz";
+    public static final String LINES_FLAG = "/lines:";
+    public static final String SEARCH_FLAG = "/search:";
+    public static final int DEFAULT_LOG_LINES = 20;
+    public static final String NO_LOG_LINES_MESSAGE = "No log entries found.";
+    public static final int NUM_OF_SLASHES_FOR_LOG = 2;
+    public static final int LOG_BUFFER_CAPACITY = 8192;
+    public static final int LOG_BATCH_SIZE = 256;
+    public static final long LOG_WRITER_IDLE_MILLISECONDS = 5;
+    public static final long LOG_BLOCKED_WAIT_MICROSECONDS = 50;
     public static String dataFilePath = "./pulsepilot_data.txt";
     public static String hashFilePath = "./pulsepilot_hash.txt";
     public static File saveFile = new File(UiConstant.dataFilePath);
+    public static final String TEXT_DATA_FILE_PATH = "./pulsepilot_data.txt";
+    public static final String BINARY_DATA_FILE_PATH = "./pulsepilot_data.bin";
+    public static final String BINARY_FORMAT_ARGUMENT = "--binary";
+    public static boolean isBinaryFormat = false;
+    public static final String SEGMENTED_FORMAT_ARGUMENT = "--segmented";
+    public static final String MANIFEST_FILE_PATH = "./pulsepilot_manifest.txt";
+    public static final String SEGMENT_FILE_EXTENSION = ".txt";
+    public static String segmentFilePrefix = "./pulsepilot_";
+    public static boolean isSegmentedFormat = false;
+    public static String journalFilePath = "./pulsepilot_journal.txt";
+    public static final String JOURNAL_SNAPSHOT_LABEL = "SNAPSHOT";
+    public static final String JOURNAL_ADD_LABEL = "ADD";
+    public static final String JOURNAL_DELETE_LABEL = "DELETE";
+    public static final String JOURNAL_CHECKSUM_SEPARATOR = "|";
+    public static String journalCorruptFilePath = "./pulsepilot_journal_corrupt.txt";
+    public static final long JOURNAL_COMPACTION_THRESHOLD_BYTES = 64 * 1024;
+    public static final long JOURNAL_CLOSE_TIMEOUT_SECONDS = 30;
+    public static final long AUTOSAVE_INTERVAL_MILLISECONDS = 2000;
+    public static final int AUTOSAVE_MAX_DIRTY_INTERVALS = 5;
+    public static final long AUTOSAVE_RETRY_MODIFICATION_COUNT = -1;
+    public static String blockIndexFilePath = "./pulsepilot_blocks.txt";
+    public static String quarantineFilePath = "./pulsepilot_quarantine.txt";
+    public static final String BLOCK_INDEX_LABEL = "RECORDS";
+    public static final int BLOCK_SIZE_BYTES = 4096;
+    public static final String LAZY_GYM_ARGUMENT = "--lazy-gyms";
+    public static String gymDetailFilePath = "./pulsepilot_gym_details.tmp";
+    public static final int GYM_CACHE_SIZE = 32;
+    public static final int DATE_CACHE_SIZE = 1024;
+    public static boolean isLazyGymLoading = false;
     public static final int FILE_FOUND = 0;
     public static final int FILE_NOT_FOUND = 1;
     public static final String FILE_FOUND_MESSAGE = "Welcome back, Captain ";
@@ -57,7 +90,5 @@ public class UiConstant {
     public static final int NUM_OF_SLASHES_FOR_LATEST_AND_HISTORY = 1;
     public static final int DELETE_ITEM_STRING_INDEX = 0;
     public static final int DELETE_ITEM_NUMBER_INDEX = 1;
-    public static final int SPLIT_TIME_HOUR_INDEX = 0;
-    public static final int SPLIT_TIME_MINUTES_INDEX = 1;
 
 }
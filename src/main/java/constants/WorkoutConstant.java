@@ -33,8 +33,8 @@ public class WorkoutConstant {
     public static final int RUN_TIME_SECOND_INDEX = 2;
     public static final int RUN_TIME_NO_HOURS_MINUTE_INDEX = 0;
     public static final int RUN_TIME_NO_HOURS_SECOND_INDEX = 1;
-    public static final Integer STATION_NAME_INDEX = 0;
     public static final int NO_HOURS_PRESENT = -1;
+    public static final int CENTIMETRES_IN_KILOMETRE = 100_000;
 
     public static final int GYM_NUMBER_OF_STATIONS_INDEX = 0;
     public static final int GYM_DATE_INDEX = 1;
@@ -57,6 +57,7 @@ public class WorkoutConstant {
     public static final int DATE_FILE_INDEX = 2;
 
     public static final int GYM_FILE_BASE_COUNTER = 3;
+    public static final long NO_FILE_OFFSET = -1;
     public static final int SETS_OFFSET = 1;
     public static final int REPS_OFFSET = 2;
     public static final int WEIGHTS_OFFSET = 3;
@@ -2,7 +2,7 @@ package health;
 
 import constants.ErrorConstant;
 import constants.HealthConstant;
-import utility.Parser;
+import utility.DateCodec;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -13,11 +13,9 @@ import java.time.LocalTime;
  */
 public class Appointment extends Health {
     //@@author syj_02
-    private LocalDate date;
-    private LocalTime time;
-    private String description;
-    private final Parser parser = new Parser();
-    private final HealthList healthList = new HealthList();
+    private final LocalDate date;
+    private final LocalTime time;
+    private final String description;
 
     /**
      * Constructor for Appointment object.
@@ -27,10 +25,9 @@ public class Appointment extends Health {
      * @param description A string describing the appointment.
      */
     public Appointment(String stringDate, String stringTime, String description) {
-        this.date = parser.parseDate(stringDate);
-        this.time = parser.parseTime(stringTime);
+        this.date = DateCodec.parseDate(stringDate);
+        this.time = DateCodec.parseTime(stringTime);
         this.description = description;
-        healthList.addAppointment(this);
     }
 
     /**
@@ -1,6 +1,6 @@
 package health;
 
-import utility.Parser;
+import utility.DateCodec;
 import constants.ErrorConstant;
 import constants.UiConstant;
 import constants.HealthConstant;
@@ -14,14 +14,10 @@ import java.time.LocalDate;
  */
 public class Bmi extends Health {
     //@@author j013n3
-    private double bmiValue;
-
-    private LocalDate date;
-
-    private HealthList healthList = new HealthList();
-    private double height;
-    private double weight;
-    private Parser parser = new Parser();
+    private final double bmiValue;
+    private final LocalDate date;
+    private final double height;
+    private final double weight;
 
     /**
      * Constructor for Bmi object.
@@ -38,10 +34,9 @@ public class Bmi extends Health {
         assert this.height > HealthConstant.MIN_HEIGHT && this.weight > HealthConstant.MIN_WEIGHT
                 : ErrorConstant.NEGATIVE_VALUE_ERROR;
 
-        this.date = parser.parseDate(date);
+        this.date = DateCodec.parseDate(date);
 
         this.bmiValue = calculateBmiValue();
-        healthList.addBmi(this);
     }
 
     /**
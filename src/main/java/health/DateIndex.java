@@ -0,0 +1,50 @@
+package health;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Represents a hash index of the dates of the Health objects in one of the lists in HealthList.
+ * Dates are keyed by epoch day and counted, so removing one of several objects on the same date keeps the date
+ * in the index. Used to check whether a date is already taken in constant time, for types of Health objects that
+ * only allow one entry per day.
+ */
+public class DateIndex {
+    private final Map<Long, Integer> dateCounts = new HashMap<>();
+
+    /**
+     * Adds the date of a Health object that was added to the list.
+     *
+     * @param date The date of the Health object.
+     */
+    public void add(LocalDate date) {
+        dateCounts.merge(date.toEpochDay(), 1, Integer::sum);
+    }
+
+    /**
+     * Removes the date of a Health object that was removed from the list.
+     *
+     * @param date The date of the Health object.
+     */
+    public void remove(LocalDate date) {
+        dateCounts.computeIfPresent(date.toEpochDay(), (epochDay, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * Checks whether any Health object in the list has a specified date.
+     *
+     * @param date The date to check.
+     * @return True if the date is taken, false otherwise.
+     */
+    public boolean contains(LocalDate date) {
+        return dateCounts.containsKey(date.toEpochDay());
+    }
+
+    /**
+     * Removes every date from the index after the list is cleared.
+     */
+    public void clear() {
+        dateCounts.clear();
+    }
+}
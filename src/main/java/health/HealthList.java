@@ -8,50 +8,101 @@ import constants.HealthConstant;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import ui.Output;
 
 /**
- * The HealthList class inherits from ArrayList.
- * It contains the individual lists of Bmi, Appointment, and Period objects.
+ * The HealthList class gives access to the individual lists of Bmi, Appointment, and Period objects,
+ * which are kept in the HealthRepository of the session of the calling thread.
  * Methods to get, add and print Health objects are listed here.
+ * Each list is kept in order at all times. New objects are inserted at the position found by binary search,
+ * after any objects that compare equal, so the lists are never re-sorted.
  */
-public class HealthList extends ArrayList<Health> {
+public class HealthList {
     //@@author j013n3
     static LogFile logFile = LogFile.getInstance();
-    private static final ArrayList<Bmi> BMIS = new ArrayList<>();
-    private static final ArrayList<Period> PERIODS = new ArrayList<>();
-
-    private static final ArrayList<Appointment> APPOINTMENTS = new ArrayList<>();
+    private static final HealthRepository DEFAULT_REPOSITORY = new HealthRepository();
+    private static final InheritableThreadLocal<HealthRepository> SESSION_REPOSITORY =
+            new InheritableThreadLocal<>() {
+                @Override
+                protected HealthRepository initialValue() {
+                    return DEFAULT_REPOSITORY;
+                }
+            };
 
     public HealthList() {
 
     }
 
     /**
-     * Retrieves all Bmi objects within BMIS.
+     * Retrieves the HealthRepository of the session of the calling thread.
+     * Threads use the default repository unless another one is set for them, and threads they start use the
+     * same repository as they do.
+     *
+     * @return The HealthRepository of the current session.
+     */
+    public static HealthRepository getRepository() {
+        return SESSION_REPOSITORY.get();
+    }
+
+    /**
+     * Sets the HealthRepository used by the calling thread, and by threads it starts afterwards.
+     *
+     * @param repository The HealthRepository of the session, or null to use the default repository.
+     */
+    public static void setRepository(HealthRepository repository) {
+        if (repository == null) {
+            SESSION_REPOSITORY.remove();
+        } else {
+            SESSION_REPOSITORY.set(repository);
+        }
+    }
+
+    /**
+     * Retrieves the number of changes made to the health lists so far.
+     * Used to tell whether the lists have changed since they were last saved.
+     *
+     * @return The number of changes made.
+     */
+    public static long getModificationCount() {
+        return getRepository().getModificationCount();
+    }
+
+    /**
+     * Retrieves a copy of all Bmi objects within BMIS.
      *
-     * @return The BMIS array list.
+     * @return A copy of the BMIS array list.
      */
     public static ArrayList<Bmi> getBmis() {
-        return BMIS;
+        return getRepository().getBmis();
     }
 
     /**
-     * Retrieves all Period objects within PERIODS.
+     * Checks whether a Bmi object with a specified date is recorded.
      *
-     * @return The PERIODS array list.
+     * @param date The date to check.
+     * @return True if a Bmi object has the date, false otherwise.
+     */
+    public static boolean isBmiDatePresent(LocalDate date) {
+        return getRepository().isBmiDatePresent(date);
+    }
+
+    /**
+     * Retrieves a copy of all Period objects within PERIODS.
+     *
+     * @return A copy of the PERIODS array list.
      */
     public static ArrayList<Period> getPeriods() {
-        return PERIODS;
+        return getRepository().getPeriods();
     }
 
     /**
-     * Retrieves all Appointment objects within APPOINTMENTS.
+     * Retrieves a copy of all Appointment objects within APPOINTMENTS.
      *
-     * @return The APPOINTMENTS array list.
+     * @return A copy of the APPOINTMENTS array list.
      */
     public static ArrayList<Appointment> getAppointments() {
-        return APPOINTMENTS;
+        return getRepository().getAppointments();
     }
 
     /**
@@ -61,10 +112,7 @@ public class HealthList extends ArrayList<Health> {
      * @return The Period object at the specified index, or null if the index is out of bounds.
      */
     public static Period getPeriod(int index) {
-        if (index < HealthConstant.FIRST_ITEM || index >= PERIODS.size()) {
-            return null;
-        }
-        return PERIODS.get(index);
+        return getRepository().getPeriod(index);
     }
 
     /**
@@ -73,7 +121,7 @@ public class HealthList extends ArrayList<Health> {
      * @return The number of Period objects recorded.
      */
     public static int getPeriodSize() {
-        return PERIODS.size();
+        return getRepository().periodList().size();
     }
 
     //@@author L5-Z
@@ -83,7 +131,7 @@ public class HealthList extends ArrayList<Health> {
      * @return Size of BMIS list.
      */
     public static int getBmisSize() {
-        return BMIS.size();
+        return getRepository().bmiList().size();
     }
 
     /**
@@ -92,7 +140,7 @@ public class HealthList extends ArrayList<Health> {
      * @return Size of PERIODS list.
      */
     public static int getPeriodsSize() {
-        return PERIODS.size();
+        return getRepository().periodList().size();
     }
 
     //@@author L5-Z
@@ -100,48 +148,52 @@ public class HealthList extends ArrayList<Health> {
      * Deletes Bmi object based on a specified index and prints delete message if successful.
      *
      * @param index Index of the Bmi object to be deleted.
+     * @return The Bmi object deleted.
      * @throws CustomExceptions.OutOfBounds If the index of the Bmi object given does not exist.
      */
-    public static void deleteBmi(int index) throws CustomExceptions.OutOfBounds {
+    public static Bmi deleteBmi(int index) throws CustomExceptions.OutOfBounds {
         if (index < HealthConstant.FIRST_ITEM) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.BMI_EMPTY_ERROR);
-        } else if (index >= BMIS.size()) {
+        } else if (index >= getRepository().bmiList().size()) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.INVALID_INDEX_DELETE_ERROR);
         }
-        assert !BMIS.isEmpty() : ErrorConstant.EMPTY_BMI_LIST_ERROR;
-        Bmi deletedBmi = BMIS.get(index);
+        assert !getRepository().bmiList().isEmpty() : ErrorConstant.EMPTY_BMI_LIST_ERROR;
+        Bmi deletedBmi = getRepository().bmiList().get(index);
         Output.printLine();
         System.out.printf((HealthConstant.LOG_DELETE_BMI_FORMAT) + System.lineSeparator(),
                 deletedBmi.getBmiValueDouble(),
                 deletedBmi.getDate());
         Output.printLine();
-        BMIS.remove(index);
+        removeBmi(index);
         LogFile.writeLog(HealthConstant.BMI_REMOVED_MESSAGE_PREFIX + index, false);
+        return deletedBmi;
     }
 
     /**
      * Deletes Period object based on a specified index and prints delete message if successful.
      *
      * @param index Index of the Period object to be deleted.
+     * @return The Period object deleted.
      * @throws CustomExceptions.OutOfBounds If the index of the Period object given does not exist.
      */
-    public static void deletePeriod(int index) throws CustomExceptions.OutOfBounds {
+    public static Period deletePeriod(int index) throws CustomExceptions.OutOfBounds {
         if (index < HealthConstant.FIRST_ITEM) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.PERIOD_EMPTY_ERROR);
-        } else if(index >= PERIODS.size()) {
+        } else if(index >= getRepository().periodList().size()) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.INVALID_INDEX_DELETE_ERROR);
         }
-        assert !PERIODS.isEmpty() : ErrorConstant.EMPTY_PERIOD_LIST_ERROR;
-        Period deletedPeriod = PERIODS.get(index);
+        assert !getRepository().periodList().isEmpty() : ErrorConstant.EMPTY_PERIOD_LIST_ERROR;
+        Period deletedPeriod = getRepository().periodList().get(index);
         String endDateUnit = (deletedPeriod.getEndDate() == null) ?
                 ErrorConstant.NO_DATE_SPECIFIED_ERROR : deletedPeriod.getEndDate().toString();
         Output.printLine();
         System.out.printf((HealthConstant.LOG_DELETE_PERIOD_FORMAT) + System.lineSeparator(),
                 deletedPeriod.getStartDate(),
                 endDateUnit);
-        PERIODS.remove(index);
+        removePeriod(index);
         Output.printLine();
         LogFile.writeLog(HealthConstant.PERIOD_REMOVED_MESSAGE_PREFIX + index, false);
+        return deletedPeriod;
     }
 
     //@@author syj02
@@ -150,27 +202,60 @@ public class HealthList extends ArrayList<Health> {
      * Deletes Appointment object based on a specified index and prints delete message if successful.
      *
      * @param index Index of the Appointment object to be deleted.
+     * @return The Appointment object deleted.
      * @throws CustomExceptions.OutOfBounds If the index of the Appointment object given does not exist.
      */
-    public static void deleteAppointment(int index) throws CustomExceptions.OutOfBounds {
+    public static Appointment deleteAppointment(int index) throws CustomExceptions.OutOfBounds {
         if (index < HealthConstant.FIRST_ITEM) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.APPOINTMENT_EMPTY_ERROR);
-        } else if (index >= APPOINTMENTS.size()) {
+        } else if (index >= getRepository().appointmentList().size()) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.INVALID_INDEX_DELETE_ERROR);
         }
-        assert !APPOINTMENTS.isEmpty() : ErrorConstant.EMPTY_APPOINTMENT_LIST_ERROR;
-        Appointment deletedAppointment = APPOINTMENTS.get(index);
+        assert !getRepository().appointmentList().isEmpty() : ErrorConstant.EMPTY_APPOINTMENT_LIST_ERROR;
+        Appointment deletedAppointment = getRepository().appointmentList().get(index);
         Output.printLine();
         System.out.printf((HealthConstant.LOG_DELETE_APPOINTMENT_FORMAT) + System.lineSeparator(),
                 deletedAppointment.getDate(),
                 deletedAppointment.getTime(),
                 deletedAppointment.getDescription());
         Output.printLine();
-        APPOINTMENTS.remove(index);
+        removeAppointment(index);
         LogFile.writeLog(HealthConstant.APPOINTMENT_REMOVED_MESSAGE_PREFIX + index, false);
-        if (!APPOINTMENTS.isEmpty()) {
+        if (!getRepository().appointmentList().isEmpty()) {
             printAppointmentHistory();
         }
+        return deletedAppointment;
+    }
+
+    /**
+     * Removes the Bmi object at a specified index without printing any message.
+     * Used when replaying stored deletions.
+     *
+     * @param index Index of the Bmi object to be removed.
+     */
+    public static void removeBmi(int index) {
+        getRepository().removeBmi(index);
+    }
+
+    /**
+     * Removes the Period object at a specified index without printing any message.
+     * Used when replaying stored deletions.
+     * The cycle length of the period that was before the removed one is updated, as its next period changes.
+     *
+     * @param index Index of the Period object to be removed.
+     */
+    public static void removePeriod(int index) {
+        getRepository().removePeriod(index);
+    }
+
+    /**
+     * Removes the Appointment object at a specified index without printing any message.
+     * Used when replaying stored deletions.
+     *
+     * @param index Index of the Appointment object to be removed.
+     */
+    public static void removeAppointment(int index) {
+        getRepository().removeAppointment(index);
     }
 
     /**
@@ -180,11 +265,11 @@ public class HealthList extends ArrayList<Health> {
      * @throws AssertionError If BMIS is empty.
      */
     public static void printLatestBmi() throws CustomExceptions.OutOfBounds {
-        if (BMIS.isEmpty()) {
+        if (getRepository().bmiList().isEmpty()) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.BMI_EMPTY_ERROR);
         }
-        assert !BMIS.isEmpty() : ErrorConstant.EMPTY_BMI_LIST_ERROR;
-        System.out.println(BMIS.get(HealthConstant.FIRST_ITEM));
+        assert !getRepository().bmiList().isEmpty() : ErrorConstant.EMPTY_BMI_LIST_ERROR;
+        System.out.println(getRepository().bmiList().get(HealthConstant.FIRST_ITEM));
     }
 
     //@@author j013n3
@@ -195,11 +280,11 @@ public class HealthList extends ArrayList<Health> {
      * @throws AssertionError If PERIODS is empty.
      */
     public static void printLatestPeriod() throws CustomExceptions.OutOfBounds {
-        if (PERIODS.isEmpty()) {
+        if (getRepository().periodList().isEmpty()) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.PERIOD_EMPTY_ERROR);
         }
-        assert !PERIODS.isEmpty() : ErrorConstant.EMPTY_PERIOD_LIST_ERROR;
-        System.out.println(PERIODS.get(HealthConstant.FIRST_ITEM));
+        assert !getRepository().periodList().isEmpty() : ErrorConstant.EMPTY_PERIOD_LIST_ERROR;
+        System.out.println(getRepository().periodList().get(HealthConstant.FIRST_ITEM));
     }
 
     //@@author syj_02
@@ -210,12 +295,12 @@ public class HealthList extends ArrayList<Health> {
      * @throws AssertionError If APPOINTMENTS is empty.
      */
     public static void printLatestAppointment() throws CustomExceptions.OutOfBounds {
-        if (APPOINTMENTS.isEmpty()) {
+        if (getRepository().appointmentList().isEmpty()) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.APPOINTMENT_EMPTY_ERROR);
         }
-        assert !APPOINTMENTS.isEmpty() : ErrorConstant.EMPTY_APPOINTMENT_LIST_ERROR;
-        int index = APPOINTMENTS.size() - 1;
-        System.out.println(APPOINTMENTS.get(index));
+        assert !getRepository().appointmentList().isEmpty() : ErrorConstant.EMPTY_APPOINTMENT_LIST_ERROR;
+        int index = getRepository().appointmentList().size() - 1;
+        System.out.println(getRepository().appointmentList().get(index));
     }
 
     /**
@@ -225,13 +310,13 @@ public class HealthList extends ArrayList<Health> {
      * @throws AssertionError If BMIS list is empty.
      */
     public static void printBmiHistory() throws CustomExceptions.OutOfBounds {
-        if (BMIS.isEmpty()) {
+        if (getRepository().bmiList().isEmpty()) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.BMI_EMPTY_ERROR);
         }
-        assert !BMIS.isEmpty() : ErrorConstant.EMPTY_BMI_LIST_ERROR;
+        assert !getRepository().bmiList().isEmpty() : ErrorConstant.EMPTY_BMI_LIST_ERROR;
         int index = 1;
         System.out.println(HealthConstant.BMI_HISTORY_HEADER);
-        for (Bmi bmi : BMIS) {
+        for (Bmi bmi : getRepository().bmiList()) {
             System.out.print(index + UiConstant.FULL_STOP + UiConstant.SPLIT_BY_WHITESPACE);
             System.out.println(bmi);
             index += 1;
@@ -246,13 +331,13 @@ public class HealthList extends ArrayList<Health> {
      * @throws AssertionError If PERIODS list is empty.
      */
     public static void printPeriodHistory() throws CustomExceptions.OutOfBounds {
-        if (PERIODS.isEmpty()) {
+        if (getRepository().periodList().isEmpty()) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.PERIOD_EMPTY_ERROR);
         }
-        assert !PERIODS.isEmpty() : ErrorConstant.EMPTY_PERIOD_LIST_ERROR;
+        assert !getRepository().periodList().isEmpty() : ErrorConstant.EMPTY_PERIOD_LIST_ERROR;
         int index = 1;
         System.out.println(HealthConstant.PERIOD_HISTORY_HEADER);
-        for (Period period : PERIODS) {
+        for (Period period : getRepository().periodList()) {
             System.out.print(index + UiConstant.FULL_STOP + UiConstant.SPLIT_BY_WHITESPACE);
             System.out.println(period);
             index += 1;
@@ -267,13 +352,13 @@ public class HealthList extends ArrayList<Health> {
      * @throws AssertionError If APPOINTMENTS list is empty.
      */
     public static void printAppointmentHistory() throws CustomExceptions.OutOfBounds {
-        if (APPOINTMENTS.isEmpty()) {
+        if (getRepository().appointmentList().isEmpty()) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.APPOINTMENT_EMPTY_ERROR);
         }
-        assert !APPOINTMENTS.isEmpty() : ErrorConstant.EMPTY_APPOINTMENT_LIST_ERROR;
+        assert !getRepository().appointmentList().isEmpty() : ErrorConstant.EMPTY_APPOINTMENT_LIST_ERROR;
         int index = 1;
         System.out.println(HealthConstant.APPOINTMENT_HISTORY_HEADER);
-        for (Appointment appointment : APPOINTMENTS) {
+        for (Appointment appointment : getRepository().appointmentList()) {
             System.out.print(index + UiConstant.FULL_STOP + UiConstant.SPLIT_BY_WHITESPACE);
             System.out.println(appointment);
             index += 1;
@@ -287,12 +372,10 @@ public class HealthList extends ArrayList<Health> {
      * @throws AssertionError If PERIODS, BMIS and APPOINTMENTS lists are not empty.
      */
     public static void clearHealthLists() {
-        PERIODS.clear();
-        BMIS.clear();
-        APPOINTMENTS.clear();
-        assert BMIS.isEmpty() : ErrorConstant.BMI_LIST_UNCLEARED_ERROR;
-        assert PERIODS.isEmpty() : ErrorConstant.PERIOD_LIST_UNCLEARED_ERROR;
-        assert APPOINTMENTS.isEmpty() : ErrorConstant.APPOINTMENT_LIST_UNCLEARED_ERROR;
+        getRepository().clear();
+        assert getRepository().bmiList().isEmpty() : ErrorConstant.BMI_LIST_UNCLEARED_ERROR;
+        assert getRepository().periodList().isEmpty() : ErrorConstant.PERIOD_LIST_UNCLEARED_ERROR;
+        assert getRepository().appointmentList().isEmpty() : ErrorConstant.APPOINTMENT_LIST_UNCLEARED_ERROR;
     }
 
     //@@author j013n3
@@ -306,7 +389,7 @@ public class HealthList extends ArrayList<Health> {
         assert startIndex >= HealthConstant.FIRST_ITEM : ErrorConstant.START_INDEX_NEGATIVE_ERROR;
 
         for (int i = startIndex; i < endIndex; i++) {
-            System.out.println(PERIODS.get(i));
+            System.out.println(getRepository().periodList().get(i));
         }
 
     }
@@ -319,26 +402,26 @@ public class HealthList extends ArrayList<Health> {
      * @throws CustomExceptions.OutOfBounds If PERIODS is empty.
      */
     public static LocalDate predictNextPeriodStartDate() throws CustomExceptions.OutOfBounds {
-        if (PERIODS.isEmpty()) {
+        if (getRepository().periodList().isEmpty()) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.PERIOD_EMPTY_ERROR);
         }
-        assert !PERIODS.isEmpty() : ErrorConstant.EMPTY_PERIOD_LIST_ERROR;
-        Period latestPeriod = PERIODS.get(HealthConstant.FIRST_ITEM);
+        assert !getRepository().periodList().isEmpty() : ErrorConstant.EMPTY_PERIOD_LIST_ERROR;
+        Period latestPeriod = getRepository().periodList().get(HealthConstant.FIRST_ITEM);
         return latestPeriod.nextCyclePrediction();
     }
 
     //@@author j013n3
     /**
      * Adds a Bmi object to BMIS.
+     * Bmi objects are not added when they are constructed, so the classes that create them from user input or
+     * the data file add them here.
      *
      * @param bmi Bmi object.
      * @throws AssertionError If Bmi object is null.
      */
-    protected void addBmi(Bmi bmi) {
-        assert bmi != null : ErrorConstant.NULL_BMI_ERROR;
-        BMIS.add(bmi);
+    public static void addBmi(Bmi bmi) {
         // bmi sorted from latest to earliest date
-        BMIS.sort(Comparator.comparing(Bmi::getDate).reversed());
+        getRepository().addBmi(bmi);
     }
 
     //@@author syj02
@@ -348,34 +431,47 @@ public class HealthList extends ArrayList<Health> {
      * @param period Period object to be added.
      * @throws AssertionError If Period object is null.
      */
-    protected void addPeriod(Period period) {
-        assert period != null : ErrorConstant.NULL_PERIOD_ERROR;
-
-        PERIODS.add(period);
-
-        PERIODS.sort(Comparator.comparing(Period::getStartDate).reversed());
-
-        int size = PERIODS.size();
-        if (size > HealthConstant.MIN_SIZE_FOR_COMPARISON) {
-            for (int i = size - 1; i > HealthConstant.FIRST_ITEM; i--) {
-                Period newerPeriod = PERIODS.get(i -  1);
-                Period olderPeriod = PERIODS.get(i);
-                olderPeriod.setCycleLength(newerPeriod.getStartDate());
-            }
-        }
+    public static void addPeriod(Period period) {
+        getRepository().addPeriod(period);
     }
 
     /**
      * Adds an Appointment to APPOINTMENTS.
-     * Sorts all Appointment objects in APPOINTMENTS by date and time of the appointments with
+     * Keeps all Appointment objects in APPOINTMENTS sorted by date and time of the appointments with
      * the earliest appointment at the top.
      *
      * @param appointment Appointment object.
      * @throws AssertionError If Appointment object is null.
      */
-    protected void addAppointment(Appointment appointment) {
-        assert appointment != null : ErrorConstant.NULL_APPOINTMENT_ERROR;
-        APPOINTMENTS.add(appointment);
-        APPOINTMENTS.sort(Comparator.comparing(Appointment::getDate).thenComparing(Appointment::getTime));
+    public static void addAppointment(Appointment appointment) {
+        getRepository().addAppointment(appointment);
+    }
+
+    /**
+     * Finds the index to insert an object at so that a sorted list stays sorted.
+     * The index is after every object that compares equal, which keeps objects with the same date in the order
+     * they were added. Objects loaded in list order are always inserted at the end.
+     *
+     * @param list  The sorted list.
+     * @param item  The object to be inserted.
+     * @param order The order of the list.
+     * @param <T>   The type of the objects in the list.
+     * @return The index to insert the object at.
+     */
+    static <T> int findInsertionIndex(List<T> list, T item, Comparator<? super T> order) {
+        int low = 0;
+        int high = list.size();
+        if (high > 0 && order.compare(list.get(high - 1), item) <= 0) {
+            return high;
+        }
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (order.compare(list.get(middle), item) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
     }
 }
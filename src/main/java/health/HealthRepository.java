@@ -0,0 +1,380 @@
+package health;
+
+import constants.ErrorConstant;
+import constants.HealthConstant;
+import storage.RecordHash;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Represents the Bmi, Period and Appointment objects of one user session.
+ * Each HealthRepository has its own lists, date index and record hash, so several sessions can be kept
+ * in one JVM without sharing any state. HealthList works on the repository of the session of the calling thread.
+ * Every change is made while holding the write lock, and lookups are made while holding the read lock, so any
+ * number of threads can read while one thread writes. The lists are returned as copies taken while holding the
+ * read lock. Only HealthList, on the thread that changes the repository, uses the lists themselves.
+ */
+public class HealthRepository {
+    private static final Comparator<Bmi> BMI_ORDER = Comparator.comparing(Bmi::getDate).reversed();
+    private static final Comparator<Period> PERIOD_ORDER = Comparator.comparing(Period::getStartDate).reversed();
+    private static final Comparator<Appointment> APPOINTMENT_ORDER =
+            Comparator.comparing(Appointment::getDate).thenComparing(Appointment::getTime);
+
+    private final ArrayList<Bmi> bmis = new ArrayList<>();
+    private final ArrayList<Period> periods = new ArrayList<>();
+    private final ArrayList<Appointment> appointments = new ArrayList<>();
+    private final DateIndex bmiDates = new DateIndex();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile long modificationCount = 0;
+    private BigInteger recordHash = BigInteger.ZERO;
+
+    /**
+     * Retrieves the read lock, which is held to read several parts of the repository as of the same change.
+     *
+     * @return The read lock of the repository.
+     */
+    public Lock readLock() {
+        return lock.readLock();
+    }
+
+    /**
+     * Retrieves the number of changes made to the repository so far.
+     *
+     * @return The number of changes made.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Retrieves the sum of the digests of every record in the repository, as used by RecordHash.
+     *
+     * @return The record hash of the repository.
+     */
+    public BigInteger getRecordHash() {
+        lock.readLock().lock();
+        try {
+            return recordHash;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves a copy of the Bmi objects, sorted from the latest date to the earliest.
+     * The copy is taken while holding the read lock, so it can be used on any thread.
+     *
+     * @return A copy of the list of Bmi objects.
+     */
+    public ArrayList<Bmi> getBmis() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(bmis);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the Bmi objects themselves, without copying them.
+     * Must only be used on the thread that changes the repository.
+     *
+     * @return The list of Bmi objects.
+     */
+    ArrayList<Bmi> bmiList() {
+        return bmis;
+    }
+
+    /**
+     * Retrieves a copy of the Period objects, sorted from the latest start date to the earliest.
+     * The copy is taken while holding the read lock, so it can be used on any thread.
+     *
+     * @return A copy of the list of Period objects.
+     */
+    public ArrayList<Period> getPeriods() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(periods);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the Period objects themselves, without copying them.
+     * Must only be used on the thread that changes the repository.
+     *
+     * @return The list of Period objects.
+     */
+    ArrayList<Period> periodList() {
+        return periods;
+    }
+
+    /**
+     * Retrieves a copy of the Appointment objects, sorted from the earliest date and time to the latest.
+     * The copy is taken while holding the read lock, so it can be used on any thread.
+     *
+     * @return A copy of the list of Appointment objects.
+     */
+    public ArrayList<Appointment> getAppointments() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(appointments);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the Appointment objects themselves, without copying them.
+     * Must only be used on the thread that changes the repository.
+     *
+     * @return The list of Appointment objects.
+     */
+    ArrayList<Appointment> appointmentList() {
+        return appointments;
+    }
+
+    /**
+     * Checks whether a Bmi object with a specified date is recorded.
+     *
+     * @param date The date to check.
+     * @return True if a Bmi object has the date, false otherwise.
+     */
+    public boolean isBmiDatePresent(LocalDate date) {
+        lock.readLock().lock();
+        try {
+            return bmiDates.contains(date);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the Period object at a specified index.
+     *
+     * @param index The index of the Period object.
+     * @return The Period object at the specified index, or null if the index is out of bounds.
+     */
+    public Period getPeriod(int index) {
+        lock.readLock().lock();
+        try {
+            if (index < HealthConstant.FIRST_ITEM || index >= periods.size()) {
+                return null;
+            }
+            return periods.get(index);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a Bmi object in date order.
+     *
+     * @param bmi Bmi object.
+     */
+    void addBmi(Bmi bmi) {
+        assert bmi != null : ErrorConstant.NULL_BMI_ERROR;
+        lock.writeLock().lock();
+        try {
+            bmis.add(HealthList.findInsertionIndex(bmis, bmi, BMI_ORDER), bmi);
+            bmiDates.add(bmi.getDate());
+            register(bmi);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a Period object in start date order, and updates the cycle lengths of the periods next to it.
+     *
+     * @param period Period object.
+     */
+    void addPeriod(Period period) {
+        assert period != null : ErrorConstant.NULL_PERIOD_ERROR;
+        lock.writeLock().lock();
+        try {
+            int index = HealthList.findInsertionIndex(periods, period, PERIOD_ORDER);
+            periods.add(index, period);
+            register(period);
+            if (periods.size() > HealthConstant.MIN_SIZE_FOR_COMPARISON) {
+                updateCycleLength(index);
+                updateCycleLength(index + 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds an Appointment object in date and time order.
+     *
+     * @param appointment Appointment object.
+     */
+    void addAppointment(Appointment appointment) {
+        assert appointment != null : ErrorConstant.NULL_APPOINTMENT_ERROR;
+        lock.writeLock().lock();
+        try {
+            appointments.add(HealthList.findInsertionIndex(appointments, appointment, APPOINTMENT_ORDER),
+                    appointment);
+            register(appointment);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the Bmi object at a specified index.
+     *
+     * @param index Index of the Bmi object to be removed.
+     * @return The removed Bmi object.
+     */
+    public Bmi removeBmi(int index) {
+        lock.writeLock().lock();
+        try {
+            Bmi removedBmi = bmis.remove(index);
+            bmiDates.remove(removedBmi.getDate());
+            unregister(removedBmi);
+            return removedBmi;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the Period object at a specified index.
+     * The cycle length of the period that was before the removed one is updated, as its next period changes.
+     *
+     * @param index Index of the Period object to be removed.
+     * @return The removed Period object.
+     */
+    public Period removePeriod(int index) {
+        lock.writeLock().lock();
+        try {
+            Period removedPeriod = periods.remove(index);
+            unregister(removedPeriod);
+            updateCycleLength(index);
+            return removedPeriod;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the Appointment object at a specified index.
+     *
+     * @param index Index of the Appointment object to be removed.
+     * @return The removed Appointment object.
+     */
+    public Appointment removeAppointment(int index) {
+        lock.writeLock().lock();
+        try {
+            Appointment removedAppointment = appointments.remove(index);
+            unregister(removedAppointment);
+            return removedAppointment;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Changes a Health object, keeping the record hash up to date if the object is in the repository.
+     * An object that has not been added yet is changed without touching the record hash.
+     *
+     * @param health The Health object to be changed.
+     * @param change The change to make to the Health object.
+     */
+    void update(Health health, Runnable change) {
+        lock.writeLock().lock();
+        try {
+            if (!isStored(health)) {
+                change.run();
+                return;
+            }
+            recordHash = RecordHash.subtract(recordHash, RecordHash.digestOf(health));
+            change.run();
+            recordHash = RecordHash.add(recordHash, RecordHash.digestOf(health));
+            modificationCount++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every Bmi, Period and Appointment object.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            bmis.clear();
+            periods.clear();
+            appointments.clear();
+            bmiDates.clear();
+            recordHash = BigInteger.ZERO;
+            modificationCount++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Checks whether a Health object is in the list for its type.
+     * Must be called while holding the lock.
+     *
+     * @param health The Health object.
+     * @return True if the object itself is in the repository, false otherwise.
+     */
+    private boolean isStored(Health health) {
+        if (health instanceof Bmi) {
+            return bmis.contains(health);
+        } else if (health instanceof Period) {
+            return periods.contains(health);
+        }
+        return appointments.contains(health);
+    }
+
+    /**
+     * Adds the record of a Health object that was added to one of the lists to the record hash.
+     * Must be called while holding the write lock.
+     *
+     * @param health The Health object that was added.
+     */
+    private void register(Health health) {
+        recordHash = RecordHash.add(recordHash, RecordHash.digestOf(health));
+        modificationCount++;
+    }
+
+    /**
+     * Removes the record of a Health object that was removed from one of the lists from the record hash.
+     * Must be called while holding the write lock.
+     *
+     * @param health The Health object that was removed.
+     */
+    private void unregister(Health health) {
+        recordHash = RecordHash.subtract(recordHash, RecordHash.digestOf(health));
+        modificationCount++;
+    }
+
+    /**
+     * Updates the cycle length of the Period object at a specified index from the start date of the next period,
+     * which is the Period object before it in the list.
+     * Only the periods next to an added or removed period need their cycle length updated, as every other
+     * cycle is unchanged. The latest period has no cycle length. Must be called while holding the write lock.
+     *
+     * @param index Index of the Period object to be updated.
+     */
+    private void updateCycleLength(int index) {
+        if (index >= periods.size()) {
+            return;
+        }
+        Period period = periods.get(index);
+        LocalDate nextStartDate = (index == HealthConstant.FIRST_ITEM) ?
+                period.getStartDate() : periods.get(index - 1).getStartDate();
+        period.setCycleLength(nextStartDate);
+    }
+}
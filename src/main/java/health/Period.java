@@ -3,7 +3,7 @@ package health;
 import constants.ErrorConstant;
 import constants.HealthConstant;
 import ui.Output;
-import utility.Parser;
+import utility.DateCodec;
 import constants.UiConstant;
 
 import java.time.LocalDate;
@@ -17,25 +17,21 @@ import java.util.Objects;
  */
 public class Period extends Health {
     //@@author syj02
-    private LocalDate startDate;
+    private final LocalDate startDate;
     private LocalDate endDate;
     private long periodLength;
     private long cycleLength;
 
-    private final Parser parser = new Parser();
-    private final HealthList healthList = new HealthList();
-
     /**
      * Constructs a new Period object with only the start date provided.
      *
      * @param stringStartDate A string representing the start date of the period.
      */
     public Period(String stringStartDate) {
-        this.startDate = parser.parseDate(stringStartDate);
+        this.startDate = DateCodec.parseDate(stringStartDate);
         this.endDate = null;
         this.periodLength = 1;
         this.cycleLength = 0;
-        healthList.addPeriod(this);
     }
 
     /**
@@ -45,11 +41,10 @@ public class Period extends Health {
      * @param stringEndDate   A string representing the end date of the period.
      */
     public Period(String stringStartDate, String stringEndDate) {
-        this.startDate = parser.parseDate(stringStartDate);
-        this.endDate = parser.parseDate(stringEndDate);
+        this.startDate = DateCodec.parseDate(stringStartDate);
+        this.endDate = DateCodec.parseDate(stringEndDate);
         this.periodLength = calculatePeriodLength();
         this.cycleLength = 0;
-        healthList.addPeriod(this);
     }
 
     /**
@@ -67,8 +62,10 @@ public class Period extends Health {
      * @param stringEndDate A String representing the new end date of the period.
      */
     public void updateEndDate(String stringEndDate) {
-        this.endDate = parser.parseDate(stringEndDate);
-        this.periodLength = calculatePeriodLength();
+        HealthList.getRepository().update(this, () -> {
+            this.endDate = DateCodec.parseDate(stringEndDate);
+            this.periodLength = calculatePeriodLength();
+        });
     }
 
     /**
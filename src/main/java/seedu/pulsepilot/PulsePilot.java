@@ -1,7 +1,15 @@
 package seedu.pulsepilot;
 
+import constants.ErrorConstant;
+import constants.UiConstant;
+import storage.DataFile;
+import storage.LogFile;
 import ui.Handler;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+
 /**
  * Main class representing the entry-point for PulsePilot.
  */
@@ -10,9 +18,32 @@ public class PulsePilot {
     /**
      * Main entry-point for PulsePilot.
      *
-     * @param args Command-line arguments.
+     * @param args Command-line arguments. Pass --binary to store data in the compact binary format,
+     *             or --segmented to store each type of data in its own file.
+     *             Pass --lazy-gyms to only load the stations of a gym session when it is viewed.
+     *             Pass --log-level=LEVEL, such as --log-level=WARNING, to only write logs of that level or above.
      */
     public static void main(String[] args) {
+        List<String> arguments = Arrays.asList(args);
+        // Logs must go to the log file, at the chosen level, before a data file conversion writes any
+        LogFile.getInstance();
+        for (String argument : arguments) {
+            if (argument.startsWith(UiConstant.LOG_LEVEL_ARGUMENT)) {
+                try {
+                    LogFile.setLogLevel(Level.parse(argument.substring(UiConstant.LOG_LEVEL_ARGUMENT.length())));
+                } catch (IllegalArgumentException e) {
+                    System.err.println(ErrorConstant.INVALID_LOG_LEVEL_ERROR + argument);
+                }
+            }
+        }
+        DataFile.Format format = DataFile.Format.TEXT;
+        if (arguments.contains(UiConstant.SEGMENTED_FORMAT_ARGUMENT)) {
+            format = DataFile.Format.SEGMENTED;
+        } else if (arguments.contains(UiConstant.BINARY_FORMAT_ARGUMENT)) {
+            format = DataFile.Format.BINARY;
+        }
+        new DataFile().selectFormat(format);
+        UiConstant.isLazyGymLoading = arguments.contains(UiConstant.LAZY_GYM_ARGUMENT);
         Handler handler = new Handler();
         handler.initialiseBot();
         handler.processInput();
@@ -0,0 +1,182 @@
+package storage;
+
+import constants.UiConstant;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Represents a log handler that writes log records on a dedicated writer thread.
+ * Publishing a record only places it in a LogRingBuffer, so threads that write logs never wait for the log file.
+ * The writer thread takes records from the buffer in batches, passes them to the target handler and flushes the
+ * target once per batch. When the buffer is full, the OverflowPolicy decides whether the publishing thread waits
+ * for space or a record is dropped. Dropped records are counted and reported in the log.
+ */
+public class AsyncLogHandler extends Handler {
+    /**
+     * Represents what happens to a record published while the buffer is full.
+     */
+    public enum OverflowPolicy {
+        BLOCK, DROP_NEWEST, DROP_OLDEST
+    }
+
+    private final Handler target;
+    private final LogRingBuffer<LogRecord> buffer;
+    private final int batchSize;
+    private final Object writeLock = new Object();
+    private final AtomicLong droppedRecords = new AtomicLong();
+    private long reportedDroppedRecords = 0;
+    private final Thread writerThread;
+    private volatile OverflowPolicy overflowPolicy;
+    private volatile boolean isClosed = false;
+
+    /**
+     * Constructs a new AsyncLogHandler and starts its writer thread.
+     *
+     * @param target         The handler that records are written to.
+     * @param capacity       The maximum number of records waiting to be written, which must be a power of two.
+     * @param batchSize      The maximum number of records written before the target is flushed.
+     * @param overflowPolicy The policy for records published while the buffer is full.
+     */
+    public AsyncLogHandler(Handler target, int capacity, int batchSize, OverflowPolicy overflowPolicy) {
+        this.target = target;
+        this.buffer = new LogRingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        writerThread = new Thread(this::runWriter, "pulsepilot-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Places a record in the buffer to be written by the writer thread.
+     *
+     * @param record The LogRecord to write.
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        while (!buffer.offer(record)) {
+            switch (overflowPolicy) {
+            case DROP_NEWEST:
+                droppedRecords.incrementAndGet();
+                return;
+
+            case DROP_OLDEST:
+                if (buffer.poll() != null) {
+                    droppedRecords.incrementAndGet();
+                }
+                break;
+
+            default:
+                LockSupport.unpark(writerThread);
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(UiConstant.LOG_BLOCKED_WAIT_MICROSECONDS));
+                break;
+            }
+        }
+    }
+
+    /**
+     * Writes every record in the buffer to the target on the calling thread, then flushes the target.
+     */
+    @Override
+    public void flush() {
+        synchronized (writeLock) {
+            while (writeBatch()) {
+                // Keep writing until the buffer is empty.
+            }
+            target.flush();
+        }
+    }
+
+    /**
+     * Stops the writer thread, writes every remaining record and closes the target.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(UiConstant.JOURNAL_CLOSE_TIMEOUT_SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        target.close();
+    }
+
+    /**
+     * Changes the policy for records published while the buffer is full.
+     *
+     * @param overflowPolicy The new OverflowPolicy.
+     */
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Retrieves the number of records dropped because the buffer was full.
+     *
+     * @return The number of dropped records.
+     */
+    public long getDroppedRecords() {
+        return droppedRecords.get();
+    }
+
+    private void runWriter() {
+        while (!isClosed) {
+            boolean hasWritten;
+            synchronized (writeLock) {
+                hasWritten = writeBatch();
+                if (hasWritten) {
+                    target.flush();
+                }
+            }
+            if (!hasWritten) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(UiConstant.LOG_WRITER_IDLE_MILLISECONDS));
+            }
+        }
+    }
+
+    /**
+     * Takes up to one batch of records from the buffer and writes them to the target without flushing it.
+     * Must be called while holding writeLock, so batches are written in order.
+     *
+     * @return True if any record was written.
+     */
+    private boolean writeBatch() {
+        List<LogRecord> batch = new ArrayList<>();
+        LogRecord record = buffer.poll();
+        while (record != null) {
+            batch.add(record);
+            if (batch.size() == batchSize) {
+                break;
+            }
+            record = buffer.poll();
+        }
+
+        long dropped = droppedRecords.get() - reportedDroppedRecords;
+        if (dropped > 0) {
+            reportedDroppedRecords += dropped;
+            LogRecord dropRecord = new LogRecord(Level.WARNING, "Dropped " + dropped + " log records");
+            dropRecord.setSourceClassName(AsyncLogHandler.class.getName());
+            dropRecord.setSourceMethodName("writeBatch");
+            target.publish(dropRecord);
+        }
+        for (LogRecord batchRecord : batch) {
+            target.publish(batchRecord);
+        }
+        return !batch.isEmpty() || dropped > 0;
+    }
+}
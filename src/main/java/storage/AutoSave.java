@@ -0,0 +1,139 @@
+package storage;
+
+import constants.UiConstant;
+import health.HealthList;
+import utility.CustomExceptions;
+import workouts.WorkoutLists;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Represents the background autosave of PulsePilot's data.
+ * A scheduler thread checks at a fixed interval whether HealthList or WorkoutLists have changed since the
+ * last save. Saves are debounced, so a burst of changes is saved once it settles, or after a maximum number
+ * of intervals if changes keep coming. Nothing is saved while the lists are unchanged.
+ * While the journal is open, every change is already on disk as a journal record, and JournalFile compacts the
+ * journal into a snapshot itself, so autosave only syncs the journal to the storage device.
+ * Otherwise, the entries are formatted into records while holding the read locks of both repositories, which
+ * are only held for writing while an entry is added, changed or removed. The records are then written without
+ * the locks, so commands never wait for a save to be written, or for a save while they wait for user input.
+ */
+public class AutoSave {
+    private static ScheduledExecutorService autoSaveExecutor = null;
+    private static DataFile dataFile = null;
+    private static long savedModificationCount = 0;
+    private static long lastSeenModificationCount = 0;
+    private static int dirtyIntervals = 0;
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private AutoSave() {
+    }
+
+    /**
+     * Starts autosaving, treating the current lists as already saved.
+     */
+    public static void startAutoSave() {
+        if (autoSaveExecutor != null) {
+            return;
+        }
+        dataFile = new DataFile();
+        savedModificationCount = getModificationCount();
+        lastSeenModificationCount = savedModificationCount;
+        dirtyIntervals = 0;
+        autoSaveExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pulsepilot-autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+        autoSaveExecutor.scheduleWithFixedDelay(AutoSave::checkForChanges, UiConstant.AUTOSAVE_INTERVAL_MILLISECONDS,
+                UiConstant.AUTOSAVE_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
+        LogFile.writeLog("Autosave started", false);
+    }
+
+    /**
+     * Stops autosaving and waits for any save in progress to finish.
+     */
+    public static void stopAutoSave() {
+        if (autoSaveExecutor == null) {
+            return;
+        }
+        autoSaveExecutor.shutdown();
+        try {
+            if (!autoSaveExecutor.awaitTermination(UiConstant.JOURNAL_CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LogFile.writeLog("Timed out waiting for autosave", true);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        autoSaveExecutor = null;
+        LogFile.writeLog("Autosave stopped", false);
+    }
+
+    /**
+     * Saves the lists if they have changed since the last save and have either stopped changing since the
+     * last check, or have been changing for the maximum number of intervals. If the journal is open, syncs the
+     * journal instead.
+     */
+    static void checkForChanges() {
+        long modificationCount = getModificationCount();
+        if (modificationCount == savedModificationCount || DataFile.userName == null) {
+            return;
+        }
+
+        dirtyIntervals++;
+        boolean isSettled = modificationCount == lastSeenModificationCount;
+        lastSeenModificationCount = modificationCount;
+        if (!isSettled && dirtyIntervals < UiConstant.AUTOSAVE_MAX_DIRTY_INTERVALS) {
+            return;
+        }
+        dirtyIntervals = 0;
+
+        if (JournalFile.isOpen()) {
+            savedModificationCount = modificationCount;
+            JournalFile.syncJournal();
+            LogFile.writeLog("Autosave synced journal", false);
+            return;
+        }
+
+        String name;
+        List<String> records;
+        String recordHash;
+        Lock healthLock = HealthList.getRepository().readLock();
+        Lock workoutLock = WorkoutLists.getRepository().readLock();
+        healthLock.lock();
+        workoutLock.lock();
+        try {
+            savedModificationCount = getModificationCount();
+            name = DataFile.userName;
+            records = dataFile.formatRecords(HealthList.getBmis(), HealthList.getAppointments(),
+                    HealthList.getPeriods(), WorkoutLists.getWorkouts());
+            recordHash = RecordHash.getHash(name);
+        } catch (UncheckedIOException e) {
+            LogFile.writeLog("Autosave failed: " + e.getMessage(), true);
+            savedModificationCount = UiConstant.AUTOSAVE_RETRY_MODIFICATION_COUNT;
+            return;
+        } finally {
+            workoutLock.unlock();
+            healthLock.unlock();
+        }
+
+        try {
+            dataFile.saveRecords(name, records, recordHash);
+            LogFile.writeLog("Autosaved records: " + records.size(), false);
+        } catch (CustomExceptions.FileWriteError e) {
+            LogFile.writeLog("Autosave failed: " + e.getMessage(), true);
+            savedModificationCount = UiConstant.AUTOSAVE_RETRY_MODIFICATION_COUNT;
+        }
+    }
+
+    private static long getModificationCount() {
+        return HealthList.getModificationCount() + WorkoutLists.getModificationCount();
+    }
+}
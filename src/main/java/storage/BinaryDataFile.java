@@ -0,0 +1,434 @@
+package storage;
+
+import constants.ErrorConstant;
+import constants.UiConstant;
+import constants.WorkoutConstant;
+import utility.CustomExceptions;
+import utility.DateCodec;
+import utility.Filters.DataType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the optional compact binary format of the data file.
+ * Each record starts with a one byte header holding the ordinal of its DataType, followed by its fields.
+ * Dates are stored as epoch days, run and appointment times as seconds or minutes, and heights, weights,
+ * distances and BMI values as fixed-point integers, all written as variable-length integers.
+ * Records are converted to and from the text format of the data file, so both formats share the same
+ * validation and loading code, and a data file can be converted losslessly between the two.
+ * File format: MAGIC, NAME, then RECORD until the end of the file.
+ */
+public class BinaryDataFile {
+    private static final byte[] MAGIC = {'P', 'P', 'B', '1'};
+    private static final int HUNDREDTHS_PER_UNIT = 100;
+    private static final int EIGHTHS_PER_KG = 8;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int NO_DATE = 0;
+    private static final int VARINT_PAYLOAD_MASK = 0x7F;
+    private static final int VARINT_CONTINUE_BIT = 0x80;
+    private static final int VARINT_PAYLOAD_BITS = 7;
+    private static final int GYM_FIELDS_BEFORE_STATIONS = 3;
+    private static final int GYM_FIELDS_PER_STATION = 4;
+    private static final String FILE_TIME_SPLIT_REGEX = "\\.";
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private BinaryDataFile() {
+    }
+
+    /**
+     * Writes the username and records to an output stream in the binary format.
+     *
+     * @param out     The stream to write to.
+     * @param name    The username.
+     * @param records The records in the text data file format.
+     * @throws IOException If the stream cannot be written to.
+     * @throws CustomExceptions.InvalidInput If a record cannot be represented in the binary format.
+     */
+    public static void write(OutputStream out, String name, List<String> records)
+            throws IOException, CustomExceptions.InvalidInput {
+        writeName(out, name);
+        for (String record : records) {
+            writeRecord(out, record);
+        }
+    }
+
+    /**
+     * Writes the header and username to an output stream in the binary format.
+     *
+     * @param out  The stream to write to.
+     * @param name The username.
+     * @throws IOException If the stream cannot be written to.
+     */
+    public static void writeName(OutputStream out, String name) throws IOException {
+        out.write(MAGIC);
+        writeString(out, name);
+    }
+
+    /**
+     * Reads the header and username from an input stream in the binary format.
+     *
+     * @param in The stream to read from.
+     * @return The username.
+     * @throws IOException If the stream is not in the binary format or cannot be read.
+     */
+    public static String readName(InputStream in) throws IOException {
+        for (byte magicByte : MAGIC) {
+            if (in.read() != magicByte) {
+                throw new IOException(ErrorConstant.BINARY_FORMAT_ERROR);
+            }
+        }
+        return readString(in);
+    }
+
+    /**
+     * Reads the next record from an input stream in the binary format.
+     *
+     * @param in The stream to read from.
+     * @return The record in the text data file format, or null if the end of the stream has been reached.
+     * @throws IOException If the record is malformed or cannot be read.
+     */
+    public static String readRecord(InputStream in) throws IOException {
+        int header = in.read();
+        if (header == -1) {
+            return null;
+        }
+        if (header >= DataType.values().length) {
+            throw new IOException(ErrorConstant.BINARY_FORMAT_ERROR);
+        }
+
+        DataType dataType = DataType.values()[header];
+        StringBuilder record = new StringBuilder(dataType.name());
+        switch (dataType) {
+        case BMI:
+            appendField(record, formatHundredths(readVarInt(in)));
+            appendField(record, formatHundredths(readVarInt(in)));
+            appendField(record, formatHundredths(readVarInt(in)));
+            appendField(record, readDate(in));
+            break;
+
+        case APPOINTMENT:
+            appendField(record, readDate(in));
+            appendField(record, formatMinutesOfDay(readVarInt(in)));
+            appendField(record, readString(in));
+            break;
+
+        case PERIOD:
+            appendField(record, readDate(in));
+            appendField(record, readDate(in));
+            appendField(record, String.valueOf(readVarInt(in)));
+            break;
+
+        case RUN:
+            appendField(record, formatHundredths(readVarInt(in)));
+            appendField(record, formatRunSeconds(readVarInt(in)));
+            appendField(record, readDate(in));
+            break;
+
+        case GYM:
+            readGym(in, record);
+            break;
+
+        default:
+            break;
+        }
+        return record.toString();
+    }
+
+    /**
+     * Converts a text data file into a binary data file.
+     *
+     * @param textFile   The text data file to read.
+     * @param binaryFile The binary data file to write.
+     * @throws IOException If either file cannot be accessed, or the text file has no name.
+     * @throws CustomExceptions.InvalidInput If a record cannot be represented in the binary format.
+     */
+    public static void convertTextToBinary(File textFile, File binaryFile)
+            throws IOException, CustomExceptions.InvalidInput {
+        List<String> lines = Files.readAllLines(textFile.toPath());
+        if (lines.isEmpty()) {
+            throw new IOException(ErrorConstant.BINARY_FORMAT_ERROR);
+        }
+        String name = lines.get(0).split(UiConstant.SPLIT_BY_COLON)[UiConstant.NAME_INDEX].trim();
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(binaryFile))) {
+            write(out, name, lines.subList(1, lines.size()));
+        }
+    }
+
+    /**
+     * Converts a binary data file into a text data file.
+     *
+     * @param binaryFile The binary data file to read.
+     * @param textFile   The text data file to write.
+     * @throws IOException If either file cannot be accessed, or the binary file is malformed.
+     */
+    public static void convertBinaryToText(File binaryFile, File textFile) throws IOException {
+        List<String> records = new ArrayList<>();
+        String name;
+        try (InputStream in = new BufferedInputStream(new FileInputStream(binaryFile))) {
+            name = readName(in);
+            String record;
+            while ((record = readRecord(in)) != null) {
+                records.add(record);
+            }
+        }
+
+        try (BufferedWriter out = new BufferedWriter(new FileWriter(textFile))) {
+            out.write(UiConstant.NAME_LABEL + UiConstant.SPLIT_BY_COLON + name + System.lineSeparator());
+            for (String record : records) {
+                out.write(record + System.lineSeparator());
+            }
+        }
+    }
+
+    /**
+     * Writes a single text format record in the binary format.
+     *
+     * @param out    The stream to write to.
+     * @param record The record in the text data file format.
+     * @throws IOException If the stream cannot be written to.
+     * @throws CustomExceptions.InvalidInput If the record cannot be represented in the binary format.
+     */
+    public static void writeRecord(OutputStream out, String record)
+            throws IOException, CustomExceptions.InvalidInput {
+        String[] fields = record.split(UiConstant.SPLIT_BY_COLON);
+        try {
+            DataType dataType = DataType.valueOf(fields[UiConstant.DATA_TYPE_INDEX].trim());
+            out.write(dataType.ordinal());
+            switch (dataType) {
+            case BMI:
+                writeVarInt(out, parseHundredths(fields[1]));
+                writeVarInt(out, parseHundredths(fields[2]));
+                writeVarInt(out, parseHundredths(fields[3]));
+                writeDate(out, fields[4]);
+                break;
+
+            case APPOINTMENT:
+                writeDate(out, fields[1]);
+                writeVarInt(out, parseMinutesOfDay(fields[2]));
+                writeString(out, fields[3].trim());
+                break;
+
+            case PERIOD:
+                writeDate(out, fields[1]);
+                writeDate(out, fields[2]);
+                writeVarInt(out, Integer.parseInt(fields[3].trim()));
+                break;
+
+            case RUN:
+                writeVarInt(out, parseHundredths(fields[1]));
+                writeVarInt(out, parseRunSeconds(fields[2]));
+                writeDate(out, fields[3]);
+                break;
+
+            case GYM:
+                writeGym(out, fields);
+                break;
+
+            default:
+                break;
+            }
+        } catch (RuntimeException e) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.BINARY_FORMAT_ERROR + record);
+        }
+    }
+
+    /**
+     * Writes the fields of a gym record. The number of stations is stored once, as it is implied by the stations.
+     *
+     * @param out    The stream to write to.
+     * @param fields The fields of the gym record in the text data file format.
+     * @throws IOException If the stream cannot be written to.
+     */
+    private static void writeGym(OutputStream out, String[] fields) throws IOException {
+        int numberOfStations = Integer.parseInt(fields[WorkoutConstant.NUM_OF_STATIONS_FILE_INDEX]);
+        if (fields.length != GYM_FIELDS_BEFORE_STATIONS + numberOfStations * GYM_FIELDS_PER_STATION) {
+            throw new IllegalArgumentException(ErrorConstant.LOAD_GYM_FORMAT_ERROR);
+        }
+        writeDate(out, fields[WorkoutConstant.DATE_FILE_INDEX]);
+        writeVarInt(out, numberOfStations);
+        for (int i = GYM_FIELDS_BEFORE_STATIONS; i < fields.length; i += GYM_FIELDS_PER_STATION) {
+            writeString(out, fields[i]);
+            writeVarInt(out, Integer.parseInt(fields[i + 1]));
+            writeVarInt(out, Integer.parseInt(fields[i + 2]));
+            String[] weights = fields[i + 3].split(UiConstant.SPLIT_BY_COMMAS);
+            writeVarInt(out, weights.length);
+            for (String weight : weights) {
+                double eighths = Double.parseDouble(weight) * EIGHTHS_PER_KG;
+                if (eighths != Math.rint(eighths)) {
+                    throw new IllegalArgumentException(ErrorConstant.INVALID_WEIGHTS_VALUE_ERROR);
+                }
+                writeVarInt(out, (int) eighths);
+            }
+        }
+    }
+
+    /**
+     * Reads the fields of a gym record and appends them to the record in the text data file format.
+     *
+     * @param in     The stream to read from.
+     * @param record The record to append to.
+     * @throws IOException If the record is malformed or cannot be read.
+     */
+    private static void readGym(InputStream in, StringBuilder record) throws IOException {
+        String date = readDate(in);
+        int numberOfStations = readVarInt(in);
+        appendField(record, String.valueOf(numberOfStations));
+        appendField(record, date);
+        for (int i = 0; i < numberOfStations; i++) {
+            appendField(record, readString(in));
+            appendField(record, String.valueOf(readVarInt(in)));
+            appendField(record, String.valueOf(readVarInt(in)));
+            int numberOfWeights = readVarInt(in);
+            StringBuilder weights = new StringBuilder();
+            for (int j = 0; j < numberOfWeights; j++) {
+                if (j > 0) {
+                    weights.append(UiConstant.SPLIT_BY_COMMAS);
+                }
+                weights.append((double) readVarInt(in) / EIGHTHS_PER_KG);
+            }
+            appendField(record, weights.toString());
+        }
+    }
+
+    private static void appendField(StringBuilder record, String field) {
+        record.append(UiConstant.SPLIT_BY_COLON).append(field);
+    }
+
+    private static int parseHundredths(String value) {
+        return (int) Math.round(Double.parseDouble(value.trim()) * HUNDREDTHS_PER_UNIT);
+    }
+
+    private static String formatHundredths(int hundredths) {
+        return String.format(WorkoutConstant.TWO_DECIMAL_PLACE_FORMAT, (double) hundredths / HUNDREDTHS_PER_UNIT);
+    }
+
+    /**
+     * Parses a file time in HH.MM format into minutes since midnight.
+     */
+    private static int parseMinutesOfDay(String time) {
+        String[] parts = time.trim().split(FILE_TIME_SPLIT_REGEX);
+        return Integer.parseInt(parts[0]) * MINUTES_PER_HOUR + Integer.parseInt(parts[1]);
+    }
+
+    private static String formatMinutesOfDay(int minutes) {
+        return String.format(WorkoutConstant.TWO_DIGIT_PLACE_FORMAT, minutes / MINUTES_PER_HOUR)
+                + UiConstant.FULL_STOP
+                + String.format(WorkoutConstant.TWO_DIGIT_PLACE_FORMAT, minutes % MINUTES_PER_HOUR);
+    }
+
+    /**
+     * Parses a run time in MM.SS or HH.MM.SS format into seconds.
+     */
+    private static int parseRunSeconds(String time) {
+        int seconds = 0;
+        for (String part : time.trim().split(FILE_TIME_SPLIT_REGEX)) {
+            seconds = seconds * UiConstant.NUM_SECONDS_IN_MINUTE + Integer.parseInt(part);
+        }
+        return seconds;
+    }
+
+    /**
+     * Formats seconds into a run time. Hours are only included if present, as run times never have 00 hours.
+     */
+    private static String formatRunSeconds(int totalSeconds) {
+        int hours = totalSeconds / UiConstant.NUM_SECONDS_IN_HOUR;
+        int minutes = (totalSeconds % UiConstant.NUM_SECONDS_IN_HOUR) / UiConstant.NUM_SECONDS_IN_MINUTE;
+        int seconds = totalSeconds % UiConstant.NUM_SECONDS_IN_MINUTE;
+        String time = String.format(WorkoutConstant.TWO_DIGIT_PLACE_FORMAT, minutes) + UiConstant.FULL_STOP
+                + String.format(WorkoutConstant.TWO_DIGIT_PLACE_FORMAT, seconds);
+        if (hours > 0) {
+            time = String.format(WorkoutConstant.TWO_DIGIT_PLACE_FORMAT, hours) + UiConstant.FULL_STOP + time;
+        }
+        return time;
+    }
+
+    /**
+     * Writes a date in dd-MM-yyyy format, or NA, as a zigzag-encoded epoch day offset by one.
+     * Zero is reserved for NA.
+     */
+    private static void writeDate(OutputStream out, String date) throws IOException {
+        String trimmedDate = date.trim();
+        if (trimmedDate.equals(ErrorConstant.NO_DATE_SPECIFIED_ERROR)) {
+            writeVarInt(out, NO_DATE);
+            return;
+        }
+        LocalDate parsedDate = DateCodec.parseDate(trimmedDate);
+        if (parsedDate == null) {
+            throw new IOException(ErrorConstant.INVALID_DATE_ERROR);
+        }
+        long epochDay = parsedDate.toEpochDay();
+        writeVarInt(out, (int) ((epochDay << 1) ^ (epochDay >> 63)) + 1);
+    }
+
+    private static String readDate(InputStream in) throws IOException {
+        int encodedDate = readVarInt(in);
+        if (encodedDate == NO_DATE) {
+            return ErrorConstant.NO_DATE_SPECIFIED_ERROR;
+        }
+        int zigzag = encodedDate - 1;
+        long epochDay = (zigzag >>> 1) ^ -(zigzag & 1);
+        return DateCodec.formatEpochDay(epochDay);
+    }
+
+    private static void writeString(OutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(InputStream in) throws IOException {
+        int length = readVarInt(in);
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException(ErrorConstant.BINARY_FORMAT_ERROR);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a non-negative integer using 7 bits per byte, with the high bit set on every byte but the last.
+     */
+    private static void writeVarInt(OutputStream out, int value) throws IOException {
+        if (value < 0) {
+            throw new IllegalArgumentException(ErrorConstant.BINARY_FORMAT_ERROR);
+        }
+        int remaining = value;
+        while ((remaining & ~VARINT_PAYLOAD_MASK) != 0) {
+            out.write((remaining & VARINT_PAYLOAD_MASK) | VARINT_CONTINUE_BIT);
+            remaining >>>= VARINT_PAYLOAD_BITS;
+        }
+        out.write(remaining);
+    }
+
+    private static int readVarInt(InputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += VARINT_PAYLOAD_BITS) {
+            int currentByte = in.read();
+            if (currentByte == -1) {
+                throw new EOFException(ErrorConstant.BINARY_FORMAT_ERROR);
+            }
+            value |= (currentByte & VARINT_PAYLOAD_MASK) << shift;
+            if ((currentByte & VARINT_CONTINUE_BIT) == 0) {
+                return value;
+            }
+        }
+        throw new IOException(ErrorConstant.BINARY_FORMAT_ERROR);
+    }
+}
@@ -0,0 +1,245 @@
+package storage;
+
+import constants.ErrorConstant;
+import constants.UiConstant;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32C;
+
+/**
+ * Represents the block index of a text or binary data file, kept in a side file next to it.
+ * The records of the data file are grouped into blocks of at least BLOCK_SIZE_BYTES that end on a record
+ * boundary, and the index stores the byte range, first record and CRC32C checksum of every block, along with
+ * the part of the hash of the data file that its records add, as given by RecordHash.hashOfBlock.
+ * On load, the blocks are verified in parallel. A block that fails its checksum is moved to the quarantine file,
+ * so the records in every other block can still be loaded. The records that are loaded are then checked against
+ * the hash file with the hashes of the quarantined blocks removed, so the hash file still detects any other
+ * change to the data file or the index.
+ * Index format:
+ * RECORDS:OFFSET_OF_FIRST_RECORD:FILE_LENGTH
+ * OFFSET:LENGTH:FIRST_RECORD:NUMBER_OF_RECORDS:CHECKSUM:HASH
+ */
+public class BlockIndex {
+    private static final int RECORDS_OFFSET_INDEX = 1;
+    private static final int FILE_LENGTH_INDEX = 2;
+    private static final int OFFSET_INDEX = 0;
+    private static final int LENGTH_INDEX = 1;
+    private static final int FIRST_RECORD_INDEX = 2;
+    private static final int NUMBER_OF_RECORDS_INDEX = 3;
+    private static final int CHECKSUM_INDEX = 4;
+    private static final int HASH_INDEX = 5;
+
+    private final int recordsOffset;
+    private final List<Block> blocks;
+
+    private BlockIndex(int recordsOffset, List<Block> blocks) {
+        this.recordsOffset = recordsOffset;
+        this.blocks = blocks;
+    }
+
+    /**
+     * Represents a block of records within the data file.
+     */
+    public static class Block {
+        private final int offset;
+        private final int length;
+        private final int firstRecord;
+        private final int numberOfRecords;
+        private final long checksum;
+        private final String recordHash;
+        private boolean isIntact = true;
+
+        private Block(int offset, int length, int firstRecord, int numberOfRecords, long checksum,
+                      String recordHash) {
+            this.offset = offset;
+            this.length = length;
+            this.firstRecord = firstRecord;
+            this.numberOfRecords = numberOfRecords;
+            this.checksum = checksum;
+            this.recordHash = recordHash;
+        }
+
+        public int getOffset() {
+            return offset;
+        }
+
+        public int getEnd() {
+            return offset + length;
+        }
+
+        public int getFirstRecord() {
+            return firstRecord;
+        }
+
+        public int getNumberOfRecords() {
+            return numberOfRecords;
+        }
+
+        public String getRecordHash() {
+            return recordHash;
+        }
+
+        public boolean isIntact() {
+            return isIntact;
+        }
+    }
+
+    /**
+     * Splits the records of a data file into blocks and writes their checksums and hashes to the block index file.
+     *
+     * @param data          The contents of the data file.
+     * @param recordOffsets The offset of each record within the data file, in order.
+     * @param records       The records in the data file format, in the same order.
+     * @throws IOException If the block index file cannot be written.
+     */
+    public static void write(byte[] data, List<Integer> recordOffsets, List<String> records) throws IOException {
+        assert recordOffsets.size() == records.size() : "Every record must have an offset.";
+        int recordsOffset = recordOffsets.isEmpty() ? data.length : recordOffsets.get(0);
+        StringBuilder index = new StringBuilder(UiConstant.BLOCK_INDEX_LABEL + UiConstant.SPLIT_BY_COLON
+                + recordsOffset + UiConstant.SPLIT_BY_COLON + data.length + System.lineSeparator());
+
+        int firstRecord = 0;
+        while (firstRecord < recordOffsets.size()) {
+            int offset = recordOffsets.get(firstRecord);
+            int nextRecord = firstRecord + 1;
+            while (nextRecord < recordOffsets.size()
+                    && recordOffsets.get(nextRecord) - offset < UiConstant.BLOCK_SIZE_BYTES) {
+                nextRecord++;
+            }
+            int end = nextRecord < recordOffsets.size() ? recordOffsets.get(nextRecord) : data.length;
+            index.append(offset).append(UiConstant.SPLIT_BY_COLON)
+                    .append(end - offset).append(UiConstant.SPLIT_BY_COLON)
+                    .append(firstRecord).append(UiConstant.SPLIT_BY_COLON)
+                    .append(nextRecord - firstRecord).append(UiConstant.SPLIT_BY_COLON)
+                    .append(checksumOf(data, offset, end - offset)).append(UiConstant.SPLIT_BY_COLON)
+                    .append(RecordHash.hashOfBlock(records.subList(firstRecord, nextRecord)))
+                    .append(System.lineSeparator());
+            firstRecord = nextRecord;
+        }
+        Files.write(new File(UiConstant.blockIndexFilePath).toPath(),
+                index.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads the block index of a data file.
+     *
+     * @param data The contents of the data file.
+     * @return The BlockIndex, or null if there is no block index or it does not cover the data file exactly.
+     */
+    public static BlockIndex read(byte[] data) {
+        File indexFile = new File(UiConstant.blockIndexFilePath);
+        if (!indexFile.exists()) {
+            return null;
+        }
+        try {
+            List<String> lines = Files.readAllLines(indexFile.toPath());
+            String[] header = lines.get(0).split(UiConstant.SPLIT_BY_COLON);
+            int recordsOffset = Integer.parseInt(header[RECORDS_OFFSET_INDEX]);
+            if (!header[0].equals(UiConstant.BLOCK_INDEX_LABEL)
+                    || Integer.parseInt(header[FILE_LENGTH_INDEX]) != data.length) {
+                throw new IOException(ErrorConstant.BLOCK_INDEX_ERROR);
+            }
+
+            List<Block> blocks = new ArrayList<>();
+            int expectedOffset = recordsOffset;
+            for (int i = 1; i < lines.size(); i++) {
+                String[] fields = lines.get(i).split(UiConstant.SPLIT_BY_COLON);
+                Block block = new Block(Integer.parseInt(fields[OFFSET_INDEX]),
+                        Integer.parseInt(fields[LENGTH_INDEX]), Integer.parseInt(fields[FIRST_RECORD_INDEX]),
+                        Integer.parseInt(fields[NUMBER_OF_RECORDS_INDEX]), Long.parseLong(fields[CHECKSUM_INDEX]),
+                        fields[HASH_INDEX]);
+                if (block.offset != expectedOffset || block.length <= 0) {
+                    throw new IOException(ErrorConstant.BLOCK_INDEX_ERROR);
+                }
+                expectedOffset = block.getEnd();
+                blocks.add(block);
+            }
+            if (expectedOffset != data.length) {
+                throw new IOException(ErrorConstant.BLOCK_INDEX_ERROR);
+            }
+            return new BlockIndex(recordsOffset, blocks);
+        } catch (IOException | RuntimeException e) {
+            LogFile.writeLog("Ignoring block index: " + e.getMessage(), true);
+            return null;
+        }
+    }
+
+    /**
+     * Deletes the block index file.
+     */
+    public static void delete() {
+        new File(UiConstant.blockIndexFilePath).delete();
+    }
+
+    /**
+     * Retrieves the offset of the first record, which is where the header of the data file ends.
+     *
+     * @return The offset of the first record.
+     */
+    public int getRecordsOffset() {
+        return recordsOffset;
+    }
+
+    /**
+     * Retrieves the blocks of the data file, in order.
+     *
+     * @return The list of blocks.
+     */
+    public List<Block> getBlocks() {
+        return blocks;
+    }
+
+    /**
+     * Verifies the checksum of every block in parallel, marking the blocks that do not match.
+     *
+     * @param data The contents of the data file.
+     * @return The blocks that do not match their checksum.
+     */
+    public List<Block> verify(byte[] data) {
+        IntStream.range(0, blocks.size()).parallel().forEach(i -> {
+            Block block = blocks.get(i);
+            block.isIntact = checksumOf(data, block.offset, block.length) == block.checksum;
+        });
+
+        List<Block> corruptBlocks = new ArrayList<>();
+        for (Block block : blocks) {
+            if (!block.isIntact) {
+                LogFile.writeLog("Block checksum mismatch at offset " + block.offset, true);
+                corruptBlocks.add(block);
+            }
+        }
+        return corruptBlocks;
+    }
+
+    /**
+     * Appends the bytes of a corrupt block to the quarantine file, so they are kept for manual recovery.
+     *
+     * @param data  The contents of the data file.
+     * @param block The corrupt block.
+     * @throws IOException If the quarantine file cannot be written.
+     */
+    public static void quarantine(byte[] data, Block block) throws IOException {
+        String header = "# " + LocalDateTime.now() + " entries " + (block.firstRecord + 1) + " to "
+                + (block.firstRecord + block.numberOfRecords) + System.lineSeparator();
+        try (OutputStream quarantineFile = new FileOutputStream(UiConstant.quarantineFilePath, true)) {
+            quarantineFile.write(header.getBytes(StandardCharsets.UTF_8));
+            quarantineFile.write(data, block.offset, block.length);
+            quarantineFile.write(System.lineSeparator().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static long checksumOf(byte[] data, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(data, offset, length);
+        return crc.getValue();
+    }
+}
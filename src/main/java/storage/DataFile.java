@@ -1,12 +1,17 @@
 //@@author L5-Z
 package storage;
 
-import java.io.FileWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.io.IOException;
 import java.io.File;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -14,16 +19,23 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import health.Appointment;
 import health.Bmi;
+import health.HealthList;
 import health.Period;
 import constants.ErrorConstant;
+import constants.HealthConstant;
 import ui.Output;
+import utility.DateCodec;
 import utility.Parser;
 import utility.Validation;
+import utility.ValidationResult;
 import workouts.Gym;
+import workouts.GymStation;
 import workouts.Run;
 import workouts.Workout;
+import workouts.WorkoutLists;
 import utility.CustomExceptions;
 import constants.UiConstant;
+import constants.WorkoutConstant;
 import utility.Filters.DataType;
 
 /**
@@ -33,11 +45,19 @@ import utility.Filters.DataType;
  * It provides methods to load, save, and process different types of data as well as prevent tampering via hashing.
  */
 public class DataFile {
+    /**
+     * Represents the layouts the data file can be stored in.
+     */
+    public enum Format {
+        TEXT, BINARY, SEGMENTED
+    }
+
     public static String userName = null;
     private static DataFile instance = null;
 
     private final Output output;
     private final Validation validation;
+    private final Parser parser;
 
 
     /**
@@ -47,6 +67,7 @@ public class DataFile {
     public DataFile() {
         output = new Output();
         validation = new Validation();
+        parser = new Parser();
     }
 
     /**
@@ -73,8 +94,9 @@ public class DataFile {
     }
 
     /**
-     * Initializes the data file to be used. Or loads the existing data file, verifies its integrity, and processes
-     * its content. Exits if the file cannot be created or loaded.
+     * Initializes the data file to be used. Or checks that the existing data file and its hash file are both present.
+     * The hash of an existing data file is verified while it is parsed in readDataFile.
+     * Exits if the file cannot be created or loaded.
      *
      * @return Returns 0 if the file is found. Else, returns 1.
      */
@@ -85,17 +107,7 @@ public class DataFile {
             File dataFile = UiConstant.saveFile;
             File hashFile = new File(UiConstant.hashFilePath);
 
-            if (dataFile.exists() && hashFile.exists()) {
-                String expectedHash = generateFileHash(dataFile);
-                String actualHash = readHashFromFile(hashFile);
-
-                if (expectedHash.equals(actualHash)) {
-                    status = verifyIntegrity(dataFile);
-                } else {
-                    processFail(ErrorConstant.DATA_INTEGRITY_ERROR);
-                    System.exit(1);
-                }
-            } else if (!dataFile.exists() && !hashFile.exists()) {
+            if (dataFile.exists() == hashFile.exists()) {
                 status = verifyIntegrity(dataFile);
             } else {
                 processFail(ErrorConstant.MISSING_INTEGRITY_ERROR);
@@ -105,10 +117,6 @@ public class DataFile {
             System.err.println(ErrorConstant.CREATE_FILE_ERROR);
             LogFile.writeLog(ErrorConstant.CREATE_FILE_ERROR, true);
             System.exit(1);
-        } catch (IOException | NoSuchAlgorithmException e) {
-            LogFile.writeLog("Error occurred while processing file hash: " + e.getMessage(), true);
-            output.printException(ErrorConstant.HASH_ERROR);
-            System.exit(1);
         }
 
         Path dataFilePath = Path.of(UiConstant.dataFilePath);
@@ -117,67 +125,440 @@ public class DataFile {
     }
 
     /**
-     * Reads data from the existing data file and processes it.
+     * Reads data from the existing data file and processes it, then checks the hash kept by RecordHash for the
+     * loaded lists against the hash file, so the data file is never hashed as a whole.
+     * In the segmented format, every segment is also checked against the manifest.
+     * If a record cannot be parsed, the data file is treated as corrupted. Otherwise, the records parsed are only
+     * kept if the hash matches the one in the hash file, and the data file is treated as tampered if it does not.
+     * In the text and binary formats, the blocks of the data file are first verified against the block index.
+     * Corrupt blocks are quarantined and the rest of the data file is checked against the hash with the hashes of
+     * the quarantined blocks removed. The journal is then replayed on top of it, and it is saved again.
+     * A text data file whose hash file holds the hash of the whole file, as written by older versions,
+     * is accepted and saved again with the hash of its records.
      *
      * @throws CustomExceptions.FileReadError If there is an error reading the data file.
      */
     public void readDataFile() throws CustomExceptions.FileReadError {
-        int lineNumberCount = 0; // just for getting lineNumber, no other use
-        try (final Scanner readFile = new Scanner(UiConstant.saveFile)) {
+        boolean isParsed;
+        boolean isIntact = true;
+        boolean isRecovered = false;
+        BlockIndex blockIndex = null;
+        try {
             LogFile.writeLog("Read begins", false);
-            try {
-                String[] input = readFile.nextLine().split(UiConstant.SPLIT_BY_COLON);
-                String name = input[UiConstant.NAME_INDEX].trim();
-                LogFile.writeLog("Processing Name", false);
-                processName(name);
-                LogFile.writeLog("Name Loaded", false);
-
-            } catch (Exception e) {
-                LogFile.writeLog("Data file is missing name, exiting." + e, true);
-                processFail(ErrorConstant.CORRUPT_ERROR);
+            if (UiConstant.isSegmentedFormat) {
+                SegmentedDataFile segmentedDataFile = SegmentedDataFile.readManifest(
+                        Files.readAllBytes(UiConstant.saveFile.toPath()));
+                List<String> records = segmentedDataFile.readVerifiedRecords();
+                isIntact = records != null;
+                isParsed = isIntact && readSegmentedRecords(segmentedDataFile.getName(), records);
+            } else {
+                byte[] data = Files.readAllBytes(UiConstant.saveFile.toPath());
+                if (UiConstant.isLazyGymLoading) {
+                    GymDetails.open(UiConstant.saveFile, UiConstant.isBinaryFormat);
+                }
+                blockIndex = BlockIndex.read(data);
+                isRecovered = blockIndex != null && quarantineCorruptBlocks(data, blockIndex);
+                isParsed = UiConstant.isBinaryFormat
+                        ? readBinaryRecords(data, blockIndex)
+                        : readTextRecords(data, blockIndex);
+            }
+        } catch (IOException e) {
+            throw new CustomExceptions.FileReadError(ErrorConstant.LOAD_ERROR + e.getMessage());
+        }
+
+        String actualHash;
+        try {
+            actualHash = readHashFromFile(new File(UiConstant.hashFilePath));
+        } catch (IOException e) {
+            throw new CustomExceptions.FileReadError(ErrorConstant.HASH_ERROR);
+        }
+
+        if (!isParsed) {
+            discardLoadedData();
+            processFail(isIntact ? ErrorConstant.CORRUPT_ERROR : ErrorConstant.DATA_INTEGRITY_ERROR);
+            System.exit(1);
+        }
+        if (isRecovered) {
+            if (!RecordHash.getHash(userName).equals(getRecoveredHash(actualHash, blockIndex))) {
+                discardLoadedData();
+                processFail(ErrorConstant.DATA_INTEGRITY_ERROR);
                 System.exit(1);
             }
+            JournalFile.replayRecoveredJournal(actualHash);
+            saveLoadedData();
+            JournalFile.discardJournal();
+            return;
+        }
+        if (!RecordHash.getHash(userName).equals(actualHash)) {
+            if (isLegacyFormat() && isLegacyHash(UiConstant.saveFile, actualHash)) {
+                LogFile.writeLog("Legacy hash found, saving data file with record hash", false);
+                saveLoadedData();
+                return;
+            }
+            discardLoadedData();
+            processFail(ErrorConstant.DATA_INTEGRITY_ERROR);
+            System.exit(1);
+        }
+    }
 
-            while (readFile.hasNextLine()) {
-                String rawInput = readFile.nextLine();
-                LogFile.writeLog("Read String: " + rawInput, false);
-                String[] input = rawInput.split(UiConstant.SPLIT_BY_COLON);
-                String dataType = input[UiConstant.DATA_TYPE_INDEX].trim();
+    /**
+     * Verifies the blocks of the data file, moving every corrupt block to the quarantine file and telling the
+     * user which entries were lost.
+     *
+     * @param data       The contents of the data file.
+     * @param blockIndex The block index of the data file.
+     * @return True if any block was quarantined, false otherwise.
+     * @throws IOException If a corrupt block cannot be written to the quarantine file.
+     */
+    private boolean quarantineCorruptBlocks(byte[] data, BlockIndex blockIndex) throws IOException {
+        List<BlockIndex.Block> corruptBlocks = blockIndex.verify(data);
+        for (BlockIndex.Block block : corruptBlocks) {
+            BlockIndex.quarantine(data, block);
+            String message = String.format(ErrorConstant.QUARANTINED_RECORDS_ERROR, block.getFirstRecord() + 1,
+                    block.getFirstRecord() + block.getNumberOfRecords(), UiConstant.quarantineFilePath);
+            LogFile.writeLog(message, true);
+            output.printException(message);
+        }
+        return !corruptBlocks.isEmpty();
+    }
 
-                LogFile.writeLog("Current DataType:" + dataType, false);
-                DataType filter = DataType.valueOf(dataType);
-                switch (filter) {
+    /**
+     * Retrieves the hash that the entries loaded from the intact blocks of the data file should have.
+     *
+     * @param actualHash The hash read from the hash file.
+     * @param blockIndex The block index of the data file.
+     * @return The hash of the data file without the quarantined blocks, or null if the hash file is malformed.
+     */
+    private String getRecoveredHash(String actualHash, BlockIndex blockIndex) {
+        List<String> quarantinedHashes = new ArrayList<>();
+        for (BlockIndex.Block block : blockIndex.getBlocks()) {
+            if (!block.isIntact()) {
+                quarantinedHashes.add(block.getRecordHash());
+            }
+        }
+        try {
+            return RecordHash.subtractBlocks(actualHash, quarantinedHashes);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 
-                case APPOINTMENT:
-                    processAppointment(input);
-                    break;
+    /**
+     * Saves the entries loaded from the data file again, so the data file, hash file and block index match.
+     * Used after blocks are quarantined, or when the hash file holds a legacy hash.
+     */
+    private void saveLoadedData() {
+        try {
+            saveRecords(userName, formatRecords(HealthList.getBmis(), HealthList.getAppointments(),
+                    HealthList.getPeriods(), WorkoutLists.getWorkouts()), RecordHash.getHash(userName));
+        } catch (CustomExceptions.FileWriteError | UncheckedIOException e) {
+            LogFile.writeLog("Unable to save loaded data: " + e.getMessage(), true);
+        }
+    }
+
+    /**
+     * Checks whether the data file was loaded in the layout written by older versions, which is the text format
+     * without a block index.
+     *
+     * @return True if the data file is in the text format, false otherwise.
+     */
+    private boolean isLegacyFormat() {
+        return !UiConstant.isSegmentedFormat && !UiConstant.isBinaryFormat;
+    }
 
-                case PERIOD:
-                    processPeriod(input);
-                    break;
+    /**
+     * Checks whether the hash file holds the hash of the whole data file, as written by older versions.
+     *
+     * @param file       The data file.
+     * @param actualHash The hash read from the hash file.
+     * @return True if the hash matches the hash of the whole data file, false otherwise.
+     */
+    private boolean isLegacyHash(File file, String actualHash) {
+        try {
+            return generateFileHash(file).equals(actualHash);
+        } catch (NoSuchAlgorithmException | IOException e) {
+            LogFile.writeLog("Unable to check legacy hash: " + e.getMessage(), true);
+            return false;
+        }
+    }
 
-                case BMI:
-                    processBmi(input);
-                    break;
+    /**
+     * Retrieves the byte ranges of the data file that records are read from, skipping any quarantined blocks.
+     *
+     * @param blockIndex    The block index of the data file, or null if there is none.
+     * @param recordsOffset The offset of the first record.
+     * @param end           The length of the data file.
+     * @return The start and end offsets of each range, in order.
+     */
+    private List<int[]> getRecordRanges(BlockIndex blockIndex, int recordsOffset, int end) {
+        List<int[]> ranges = new ArrayList<>();
+        if (blockIndex == null) {
+            ranges.add(new int[]{recordsOffset, end});
+            return ranges;
+        }
+        for (BlockIndex.Block block : blockIndex.getBlocks()) {
+            if (block.isIntact()) {
+                ranges.add(new int[]{block.getOffset(), block.getEnd()});
+            }
+        }
+        return ranges;
+    }
 
-                case GYM:
-                    processGym(rawInput);
-                    break;
+    /**
+     * Parses the records of a text data file.
+     *
+     * @param data       The contents of the data file.
+     * @param blockIndex The block index of the data file, or null if there is none.
+     * @return True if every record was parsed, false otherwise.
+     */
+    private boolean readTextRecords(byte[] data, BlockIndex blockIndex) {
+        int lineNumberCount = 0; // just for getting lineNumber, no other use
+        int headerEnd = blockIndex == null ? data.length : blockIndex.getRecordsOffset();
+        RecordReader readFile = new RecordReader(data, 0, headerEnd);
+        try {
+            readFile.nextLine();
+            String name = readFile.getField(UiConstant.NAME_INDEX);
+            LogFile.writeLog("Processing Name", false);
+            processName(name);
+            LogFile.writeLog("Name Loaded", false);
 
-                case RUN:
-                    processRun(input);
-                    break;
+        } catch (Exception e) {
+            LogFile.writeLog("Data file is missing name." + e, true);
+            return false;
+        }
 
-                default:
-                    break; // valueOf results in immediate exception for non-match with enum DataType
+        RecordLoader recordLoader = new RecordLoader(this);
+        for (int[] range : getRecordRanges(blockIndex, readFile.getPosition(), data.length)) {
+            RecordReader blockReader = new RecordReader(data, range[0], range[1]);
+            while (blockReader.nextLine()) {
+                if (LogFile.isLoggable(false)) {
+                    LogFile.writeLog("Read String: {0}", blockReader.getLine(), false);
+                }
+                try {
+                    DataType filter = blockReader.getDataType();
+                    String rawInput = filter == DataType.GYM ? blockReader.getLine() : null;
+                    recordLoader.addRecord(filter, blockReader.getFields(), rawInput, blockReader.getLineStart(),
+                            blockReader.getLineEnd() - blockReader.getLineStart());
+                } catch (Exception e) {
+                    LogFile.writeLog("Data file is missing content at line " + lineNumberCount + "." + e, true);
+                    return false;
                 }
                 lineNumberCount += 1;
             }
+        }
+        return recordLoader.loadRecords();
+    }
+
+    /**
+     * Parses the records of a binary data file.
+     * Each record is decoded back into the text data file format and loaded in the same way.
+     *
+     * @param data       The contents of the data file.
+     * @param blockIndex The block index of the data file, or null if there is none.
+     * @return True if every record was parsed, false otherwise.
+     */
+    private boolean readBinaryRecords(byte[] data, BlockIndex blockIndex) {
+        int headerEnd = blockIndex == null ? data.length : blockIndex.getRecordsOffset();
+        ByteArrayInputStream readFile = new ByteArrayInputStream(data, 0, headerEnd);
+        RecordLoader recordLoader = new RecordLoader(this);
+        try {
+            LogFile.writeLog("Processing Name", false);
+            processName(BinaryDataFile.readName(readFile));
+            LogFile.writeLog("Name Loaded", false);
+
+            int recordsOffset = headerEnd - readFile.available();
+            for (int[] range : getRecordRanges(blockIndex, recordsOffset, data.length)) {
+                ByteArrayInputStream blockStream = new ByteArrayInputStream(data, range[0], range[1] - range[0]);
+                int recordStart = range[0];
+                String record;
+                while ((record = BinaryDataFile.readRecord(blockStream)) != null) {
+                    LogFile.writeLog("Read String: {0}", record, false);
+                    int recordEnd = range[1] - blockStream.available();
+                    String[] input = record.split(UiConstant.SPLIT_BY_COLON);
+                    recordLoader.addRecord(DataType.valueOf(input[UiConstant.DATA_TYPE_INDEX]), input, record,
+                            recordStart, recordEnd - recordStart);
+                    recordStart = recordEnd;
+                }
+            }
         } catch (Exception e) {
-            LogFile.writeLog("Data file is missing content at line " + lineNumberCount + ", exiting." + e,
-                    true);
-            processFail(ErrorConstant.CORRUPT_ERROR);
-            System.exit(1);
+            LogFile.writeLog("Binary data file is corrupted." + e, true);
+            return false;
+        }
+        return recordLoader.loadRecords();
+    }
+
+    /**
+     * Parses the records of a segmented data file whose segments have already been verified.
+     *
+     * @param name    The username from the manifest.
+     * @param records The records of all segments, in load order.
+     * @return True if every record was parsed, false otherwise.
+     */
+    private boolean readSegmentedRecords(String name, List<String> records) {
+        RecordLoader recordLoader = new RecordLoader(this);
+        try {
+            LogFile.writeLog("Processing Name", false);
+            processName(name);
+            LogFile.writeLog("Name Loaded", false);
+
+            for (String record : records) {
+                LogFile.writeLog("Read String: {0}", record, false);
+                String[] input = record.split(UiConstant.SPLIT_BY_COLON);
+                recordLoader.addRecord(DataType.valueOf(input[UiConstant.DATA_TYPE_INDEX]), input, record);
+            }
+        } catch (Exception e) {
+            LogFile.writeLog("Segmented data file is corrupted." + e, true);
+            return false;
+        }
+        return recordLoader.loadRecords();
+    }
+
+    /**
+     * Processes a single record line in the data file format and adds it to the relevant list.
+     *
+     * @param rawInput The raw record line, starting with its DataType label.
+     * @throws CustomExceptions.InvalidInput If there is an error in the record format.
+     * @throws CustomExceptions.InsufficientInput If there is insufficient data in the record.
+     * @throws CustomExceptions.FileReadError If the gym record cannot be read.
+     * @throws IllegalArgumentException If the record does not start with a valid DataType.
+     */
+    public void processRecord(String rawInput) throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput, CustomExceptions.FileReadError {
+        String[] input = rawInput.split(UiConstant.SPLIT_BY_COLON);
+        String dataType = input[UiConstant.DATA_TYPE_INDEX].trim();
+
+        LogFile.writeLog("Current DataType:{0}", dataType, false);
+        processRecord(DataType.valueOf(dataType), input, rawInput);
+    }
+
+    /**
+     * Processes a single record that has already been split into fields and adds it to the relevant list.
+     *
+     * @param filter   The DataType of the record.
+     * @param input    The fields of the record.
+     * @param rawInput The raw record line. Only required for gym records.
+     * @throws CustomExceptions.InvalidInput If there is an error in the record format.
+     * @throws CustomExceptions.InsufficientInput If there is insufficient data in the record.
+     * @throws CustomExceptions.FileReadError If the gym record cannot be read.
+     */
+    public void processRecord(DataType filter, String[] input, String rawInput) throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput, CustomExceptions.FileReadError {
+        prepareRecord(filter, input, rawInput).construct();
+    }
+
+    /**
+     * Validates a single record that has already been split into fields, without adding it to any list.
+     * Only reads the record itself, so records can be prepared on several threads at once.
+     *
+     * @param filter   The DataType of the record.
+     * @param input    The fields of the record.
+     * @param rawInput The raw record line. Only required for gym records.
+     * @return The validated record, which adds its object to the relevant list when constructed.
+     * @throws CustomExceptions.InvalidInput If there is an error in the record format.
+     * @throws CustomExceptions.InsufficientInput If there is insufficient data in the record.
+     * @throws CustomExceptions.FileReadError If the gym record cannot be read.
+     */
+    PreparedRecord prepareRecord(DataType filter, String[] input, String rawInput)
+            throws CustomExceptions.InvalidInput, CustomExceptions.InsufficientInput,
+            CustomExceptions.FileReadError {
+        checkRecord(filter, input).throwIfInvalid();
+        return createRecord(filter, input, rawInput);
+    }
+
+    /**
+     * Checks a single record that has already been split into fields, without throwing an exception.
+     * A gym record is only checked by createRecord, as its stations are checked while the GymStation objects
+     * are created.
+     *
+     * @param filter The DataType of the record.
+     * @param input  The fields of the record.
+     * @return The result of the check.
+     */
+    ValidationResult checkRecord(DataType filter, String[] input) {
+        switch (filter) {
+
+        case APPOINTMENT:
+            return validation.checkAppointmentDetails(getAppointmentDetails(input));
+
+        case PERIOD:
+            return validation.checkPeriodInput(getPeriodDetails(input));
+
+        case BMI:
+            return validation.checkBmiDetails(getBmiDetails(input));
+
+        case GYM:
+            return ValidationResult.VALID;
+
+        case RUN:
+            return validation.checkRunInput(getRunDetails(input));
+
+        default:
+            return ValidationResult.VALID;
+        }
+    }
+
+    /**
+     * Creates the prepared record of a single record that has passed checkRecord, without adding it to any list.
+     * Only reads the record itself, so records can be prepared on several threads at once.
+     *
+     * @param filter   The DataType of the record.
+     * @param input    The fields of the record.
+     * @param rawInput The raw record line. Only required for gym records.
+     * @return The prepared record, which adds its object to the relevant list when constructed.
+     * @throws CustomExceptions.InvalidInput If a gym station is invalid.
+     * @throws CustomExceptions.InsufficientInput If a gym station is missing data.
+     * @throws CustomExceptions.FileReadError If the gym record cannot be read.
+     */
+    PreparedRecord createRecord(DataType filter, String[] input, String rawInput)
+            throws CustomExceptions.InvalidInput, CustomExceptions.InsufficientInput,
+            CustomExceptions.FileReadError {
+        return createRecord(filter, input, rawInput, WorkoutConstant.NO_FILE_OFFSET, 0);
+    }
+
+    /**
+     * Creates the prepared record of a single record that has passed checkRecord, given its location in the
+     * data file. When lazy gym loading is selected, a gym record with a known location is still checked in full,
+     * but its GymStation objects are not kept, and only its location is kept to read them from again.
+     *
+     * @param filter     The DataType of the record.
+     * @param input      The fields of the record.
+     * @param rawInput   The raw record line. Only required for gym records.
+     * @param fileOffset The offset of the record in the data file, or NO_FILE_OFFSET if it is not known.
+     * @param fileLength The length of the record in the data file.
+     * @return The prepared record, which adds its object to the relevant list when constructed.
+     * @throws CustomExceptions.InvalidInput If a gym station is invalid.
+     * @throws CustomExceptions.InsufficientInput If a gym station is missing data.
+     * @throws CustomExceptions.FileReadError If the gym record cannot be read.
+     */
+    PreparedRecord createRecord(DataType filter, String[] input, String rawInput, long fileOffset, int fileLength)
+            throws CustomExceptions.InvalidInput, CustomExceptions.InsufficientInput,
+            CustomExceptions.FileReadError {
+        switch (filter) {
+
+        case APPOINTMENT:
+            String[] appointmentDetails = getAppointmentDetails(input);
+            return () -> HealthList.addAppointment(new Appointment(
+                    appointmentDetails[HealthConstant.APPOINTMENT_DATE_INDEX],
+                    appointmentDetails[HealthConstant.APPOINTMENT_TIME_INDEX],
+                    appointmentDetails[HealthConstant.APPOINTMENT_DESCRIPTION_INDEX]));
+
+        case PERIOD:
+            return createPeriod(getPeriodDetails(input));
+
+        case BMI:
+            return createBmi(getBmiDetails(input));
+
+        case GYM:
+            if (UiConstant.isLazyGymLoading && fileOffset != WorkoutConstant.NO_FILE_OFFSET) {
+                return createLazyGym(rawInput, fileOffset, fileLength);
+            }
+            return createGym(rawInput);
+
+        case RUN:
+            return createRun(getRunDetails(input));
+
+        default:
+            return () -> { };
         }
     }
 
@@ -203,13 +584,19 @@ public class DataFile {
      */
     public void processAppointment(String[] input) throws CustomExceptions.InsufficientInput,
             CustomExceptions.InvalidInput {
+        String[] appointmentDetails = getAppointmentDetails(input);
+        validation.validateAppointmentDetails(appointmentDetails);
+        HealthList.addAppointment(new Appointment(appointmentDetails[HealthConstant.APPOINTMENT_DATE_INDEX],
+                appointmentDetails[HealthConstant.APPOINTMENT_TIME_INDEX],
+                appointmentDetails[HealthConstant.APPOINTMENT_DESCRIPTION_INDEX]));
+    }
+
+    private String[] getAppointmentDetails(String[] input) {
         String date = input[1].trim(); // date
         String time = input[2].trim(); // time
         String formattedTime = time.replace(".", ":");
         String description = input[3].trim(); // description
-        String[] checkAppointmentDetails = {date, formattedTime, description};
-        validation.validateAppointmentDetails(checkAppointmentDetails);
-        Appointment appointment = new Appointment(date, formattedTime, description);
+        return new String[]{date, formattedTime, description};
     }
 
     /**
@@ -221,16 +608,25 @@ public class DataFile {
      */
     public void processPeriod(String[] input) throws CustomExceptions.InsufficientInput,
             CustomExceptions.InvalidInput {
+        String[] periodDetails = getPeriodDetails(input);
+        boolean isParser = false;
+        validation.validatePeriodInput(periodDetails, isParser);
+        createPeriod(periodDetails).construct();
+    }
+
+    private String[] getPeriodDetails(String[] input) {
         String startDate = input[1].trim(); // start
         String endDate = input[2].trim(); // end, skip 3 duration
-        String[] checkPeriodInput = {startDate, endDate};
-        boolean isParser = false;
-        validation.validatePeriodInput(checkPeriodInput, isParser);
+        return new String[]{startDate, endDate};
+    }
+
+    private PreparedRecord createPeriod(String[] periodDetails) {
+        String startDate = periodDetails[HealthConstant.PERIOD_START_DATE_INDEX];
+        String endDate = periodDetails[HealthConstant.PERIOD_END_DATE_INDEX];
         if (endDate.equals(ErrorConstant.NO_DATE_SPECIFIED_ERROR)) {
-            new Period(startDate);
-        } else {
-            new Period(startDate, endDate);
+            return () -> HealthList.addPeriod(new Period(startDate));
         }
+        return () -> HealthList.addPeriod(new Period(startDate, endDate));
     }
 
     /**
@@ -241,12 +637,30 @@ public class DataFile {
      * @throws CustomExceptions.InvalidInput If there is an error in the input data format.
      */
     public void processBmi(String[] input) throws CustomExceptions.InsufficientInput, CustomExceptions.InvalidInput {
+        String[] bmiDetails = getBmiDetails(input);
+        validation.validateBmiDetails(bmiDetails);
+        createBmi(bmiDetails).construct();
+    }
+
+    private String[] getBmiDetails(String[] input) {
         String height = input[1].trim(); // height
         String weight = input[2].trim(); // weight
         String date = input[4].trim();// skip 3, bmi score, 4 is date
-        String[] checkBmiInput = {height, weight, date};
-        validation.validateBmiInput(checkBmiInput);
-        new Bmi(height, weight, date);
+        return new String[]{height, weight, date};
+    }
+
+    /**
+     * Creates a BMI entry. Whether its date is already taken is only checked when it is constructed,
+     * as that depends on the BMI entries before it.
+     */
+    private PreparedRecord createBmi(String[] bmiDetails) {
+        String height = bmiDetails[HealthConstant.BMI_HEIGHT_INDEX];
+        String weight = bmiDetails[HealthConstant.BMI_WEIGHT_INDEX];
+        String date = bmiDetails[HealthConstant.BMI_DATE_INDEX];
+        return () -> {
+            validation.validateDateNotPresent(date);
+            HealthList.addBmi(new Bmi(height, weight, date));
+        };
     }
 
     /**
@@ -257,17 +671,27 @@ public class DataFile {
      * @throws CustomExceptions.InsufficientInput If there is insufficient input data.
      */
     public void processRun(String[] input) throws CustomExceptions.InvalidInput, CustomExceptions.InsufficientInput {
+        String[] runDetails = getRunDetails(input);
+        validation.validateRunInput(runDetails);
+        createRun(runDetails).construct();
+    }
+
+    private String[] getRunDetails(String[] input) {
         String distance = input[1].trim(); // distance
         String time = input[2].trim(); // time
         String formattedTime = time.replace(".", ":");
         String date = input[3].trim(); // 3 is date
-        String[] checkRunInput = {formattedTime, distance, date};
-        validation.validateRunInput(checkRunInput);
+        return new String[]{formattedTime, distance, date};
+    }
+
+    private PreparedRecord createRun(String[] runDetails) {
+        String time = runDetails[WorkoutConstant.RUN_TIME_INDEX];
+        String distance = runDetails[WorkoutConstant.RUN_DISTANCE_INDEX];
+        String date = runDetails[WorkoutConstant.RUN_DATE_INDEX];
         if (date.equals(ErrorConstant.NO_DATE_SPECIFIED_ERROR)) {
-            new Run(formattedTime, distance);
-        } else {
-            new Run(formattedTime, distance, date);
+            return () -> WorkoutLists.addRun(new Run(time, distance));
         }
+        return () -> WorkoutLists.addRun(new Run(time, distance, date));
     }
 
     /**
@@ -281,8 +705,35 @@ public class DataFile {
     public void processGym(String rawInput) throws CustomExceptions.InvalidInput, CustomExceptions.FileReadError,
             CustomExceptions.InsufficientInput {
 
-        Parser newParser = new Parser();
-        newParser.parseGymFileInput(rawInput);
+        parser.parseGymFileInput(rawInput);
+    }
+
+    /**
+     * Validates a gym entry and creates its stations. The Gym object itself is only created when constructed.
+     */
+    private PreparedRecord createGym(String rawInput) throws CustomExceptions.InvalidInput,
+            CustomExceptions.FileReadError, CustomExceptions.InsufficientInput {
+        ArrayList<GymStation> stations = parser.parseGymFileStations(rawInput);
+        return () -> parser.parseGymFileInput(rawInput, stations);
+    }
+
+    /**
+     * Validates a gym entry and its stations in the same way as createGym, but only keeps the date, the number of
+     * stations and the location of the record, leaving the stations in the data file.
+     *
+     * @param rawInput   The raw gym record.
+     * @param fileOffset The offset of the gym record in the data file.
+     * @param fileLength The length of the gym record in the data file.
+     * @return The prepared record, which adds a lazy Gym object to the lists when constructed.
+     */
+    private PreparedRecord createLazyGym(String rawInput, long fileOffset, int fileLength)
+            throws CustomExceptions.InvalidInput, CustomExceptions.FileReadError,
+            CustomExceptions.InsufficientInput {
+        int numberOfStations = parser.parseGymFileStations(rawInput).size();
+        String date = rawInput.split(UiConstant.SPLIT_BY_COLON)[WorkoutConstant.DATE_FILE_INDEX];
+        BigInteger recordDigest = RecordHash.digestOf(rawInput);
+        return () -> WorkoutLists.addLazyGym(Gym.createLazy(date, numberOfStations, fileOffset, fileLength),
+                recordDigest);
     }
 
     /**
@@ -301,137 +752,292 @@ public class DataFile {
                              ArrayList<Period> periodArrayList,
                              ArrayList<Workout> workoutArrayList
     ) throws CustomExceptions.FileWriteError {
+        List<String> records;
+        try {
+            records = formatRecords(bmiArrayList, appointmentArrayList, periodArrayList, workoutArrayList);
+        } catch (UncheckedIOException e) {
+            LogFile.writeLog("Unable to read gym session: " + e.getMessage(), true);
+            throw new CustomExceptions.FileWriteError(ErrorConstant.SAVE_ERROR);
+        }
+        saveRecords(name, records);
+    }
+
+    /**
+     * Formats every entry into its data file record, in the order they are saved.
+     * The records are plain Strings, so they form a snapshot that can be saved on another thread
+     * while the lists and entries continue to change.
+     *
+     * @param bmiArrayList         List of BMI entries to be formatted.
+     * @param appointmentArrayList List of appointment entries to be formatted.
+     * @param periodArrayList      List of period entries to be formatted.
+     * @param workoutArrayList     List of workout entries to be formatted.
+     * @return The records of all the entries.
+     */
+    public ArrayList<String> formatRecords(ArrayList<Bmi> bmiArrayList,
+                                           ArrayList<Appointment> appointmentArrayList,
+                                           ArrayList<Period> periodArrayList,
+                                           ArrayList<Workout> workoutArrayList) {
+        ArrayList<String> records = new ArrayList<>();
+        // bmi format: bmi:HEIGHT:WEIGHT:BMI_SCORE:DATE (NA if no date)
+        for (Bmi bmiEntry : bmiArrayList) {
+            records.add(formatBmi(bmiEntry));
+        }
 
-        try (FileWriter dataFile = new FileWriter(UiConstant.dataFilePath)) {
-            LogFile.writeLog("Attempting to write name: " + name, false);
-            writeName(dataFile, name);
+        // appointment format: appointment:DATE:TIME:DESCRIPTION
+        for (Appointment appointmentEntry : appointmentArrayList) {
+            records.add(formatAppointment(appointmentEntry));
+        }
 
-            writeHealthData(dataFile, bmiArrayList,
-                    appointmentArrayList,
-                    periodArrayList);
+        // period format: period:START:END:DURATION
+        for (Period periodEntry : periodArrayList) {
+            records.add(formatPeriod(periodEntry));
+        }
 
-            writeWorkoutData(dataFile, workoutArrayList);
+        // run format: run:DISTANCE:TIME:DATE
+        for (Workout workoutEntry : workoutArrayList) {
+            records.add(formatWorkout(workoutEntry));
+        }
+        return records;
+    }
 
-            LogFile.writeLog("Write end", false);
+    /**
+     * Saves the username and formatted records to the data file in the selected format, then updates its hash.
+     * The hash is computed from the records, as they may not come from the lists.
+     *
+     * @param name    The username to be saved.
+     * @param records The records to be saved, as returned by formatRecords.
+     * @throws CustomExceptions.FileWriteError If there is an error writing to the data file.
+     */
+    public void saveRecords(String name, List<String> records) throws CustomExceptions.FileWriteError {
+        saveRecords(name, records, RecordHash.hashOf(name, records));
+    }
 
+    /**
+     * Saves the username and formatted records to the data file in the selected format, along with their hash.
+     * Used with the hash kept by RecordHash when the records are formatted from the lists,
+     * so saving never rehashes the records.
+     *
+     * @param name       The username to be saved.
+     * @param records    The records to be saved, as returned by formatRecords.
+     * @param recordHash The hash of the name and records, as returned by RecordHash.
+     * @throws CustomExceptions.FileWriteError If there is an error writing to the data file.
+     */
+    public void saveRecords(String name, List<String> records, String recordHash)
+            throws CustomExceptions.FileWriteError {
+        try {
+            GymDetails.detach();
         } catch (IOException e) {
             throw new CustomExceptions.FileWriteError(ErrorConstant.SAVE_ERROR);
         }
+        if (UiConstant.isSegmentedFormat) {
+            try {
+                LogFile.writeLog("Attempting to write segments for: {0}", name, false);
+                SegmentedDataFile.write(name, records);
+                BlockIndex.delete();
+                LogFile.writeLog("Write end", false);
+            } catch (IOException | IllegalArgumentException e) {
+                throw new CustomExceptions.FileWriteError(ErrorConstant.SAVE_ERROR);
+            }
+        } else {
+            try {
+                ByteArrayOutputStream data = new ByteArrayOutputStream();
+                List<Integer> recordOffsets = new ArrayList<>(records.size());
+                if (UiConstant.isBinaryFormat) {
+                    LogFile.writeLog("Attempting to write binary data file for: {0}", name, false);
+                    BinaryDataFile.writeName(data, name.trim());
+                    for (String record : records) {
+                        recordOffsets.add(data.size());
+                        BinaryDataFile.writeRecord(data, record);
+                    }
+                } else {
+                    LogFile.writeLog("Attempting to write name: {0}", name, false);
+                    data.write((UiConstant.NAME_LABEL + UiConstant.SPLIT_BY_COLON + name.trim()
+                            + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+                    for (String record : records) {
+                        recordOffsets.add(data.size());
+                        data.write((record + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+                    }
+                }
+                byte[] dataBytes = data.toByteArray();
+                Files.write(UiConstant.saveFile.toPath(), dataBytes);
+                BlockIndex.write(dataBytes, recordOffsets, records);
+                LogFile.writeLog("Write end", false);
 
-        try (FileWriter hashFile = new FileWriter(UiConstant.hashFilePath)) {
-            LogFile.writeLog("Attempting to write hash", false);
-            File dataFile = UiConstant.saveFile;
-            writeHashToFile(generateFileHash(dataFile));
+            } catch (IOException | CustomExceptions.InvalidInput e) {
+                throw new CustomExceptions.FileWriteError(ErrorConstant.SAVE_ERROR);
+            }
+        }
 
+        try {
+            LogFile.writeLog("Attempting to write hash", false);
+            writeHashToFile(recordHash);
             LogFile.writeLog("Write end", false);
 
-        } catch (IOException | NoSuchAlgorithmException e) {
+        } catch (IOException e) {
             throw new CustomExceptions.FileWriteError(ErrorConstant.SAVE_ERROR);
         }
     }
 
     /**
-     * Writes the user's name to the data file.
+     * Selects the layout of the data file. If the data is only stored in another layout, it is converted
+     * losslessly into the selected layout, its hash is rewritten and the old files are deleted.
+     * The old files are left untouched if their hash does not match, so the usual integrity checks still apply.
      *
-     * @param dataFile The FileWriter object for writing to the data file.
-     * @param name     The user's name to be written to the file.
-     * @throws IOException If an I/O error occurs while writing to the file.
+     * @param format The layout to store the data file in.
      */
-    public void writeName(FileWriter dataFile, String name) throws IOException {
-        dataFile.write(UiConstant.NAME_LABEL + UiConstant.SPLIT_BY_COLON + name.trim() + System.lineSeparator());
-        LogFile.writeLog("Wrote name to file", false);
+    public void selectFormat(Format format) {
+        File selectedFile = getFormatFile(format);
+        UiConstant.isBinaryFormat = format == Format.BINARY;
+        UiConstant.isSegmentedFormat = format == Format.SEGMENTED;
+        UiConstant.dataFilePath = selectedFile.getPath();
+        UiConstant.saveFile = selectedFile;
+
+        File hashFile = new File(UiConstant.hashFilePath);
+        if (selectedFile.exists() || !hashFile.exists()) {
+            return;
+        }
+
+        for (Format otherFormat : Format.values()) {
+            File otherFile = getFormatFile(otherFormat);
+            if (otherFormat != format && otherFile.exists()) {
+                convertFormat(otherFormat, otherFile, hashFile);
+                return;
+            }
+        }
     }
 
     /**
-     * Writes health-related data (BMI, appointments, periods) to the data file.
+     * Converts the data stored in another layout into the selected layout.
      *
-     * @param dataFile             The FileWriter object for writing to the data file.
-     * @param bmiArrayList         The list of BMI entries to be written.
-     * @param appointmentArrayList The list of appointment entries to be written.
-     * @param periodArrayList      The list of period entries to be written.
-     * @throws IOException If an I/O error occurs while writing to the file.
+     * @param oldFormat The layout the data is stored in.
+     * @param oldFile   The data file, or manifest, of that layout.
+     * @param hashFile  The hash file.
      */
-    public void writeHealthData(FileWriter dataFile, ArrayList<Bmi> bmiArrayList,
-                                ArrayList<Appointment> appointmentArrayList,
-                                ArrayList<Period> periodArrayList) throws IOException {
-        Parser newParser = new Parser();
-        // Write each bmi entry in a specific format
-        // bmi format: bmi:HEIGHT:WEIGHT:BMI_SCORE:DATE (NA if no date)
-        if (!bmiArrayList.isEmpty()) {
-            for (Bmi bmiEntry : bmiArrayList) {
-                String formattedDate = newParser.parseFormattedDate(bmiEntry.getDate());
-
-                dataFile.write(DataType.BMI + UiConstant.SPLIT_BY_COLON + bmiEntry.getHeight() +
-                        UiConstant.SPLIT_BY_COLON + bmiEntry.getWeight() +
-                        UiConstant.SPLIT_BY_COLON + bmiEntry.getBmiValueString() +
-                        UiConstant.SPLIT_BY_COLON + formattedDate + System.lineSeparator());
+    private void convertFormat(Format oldFormat, File oldFile, File hashFile) {
+        try {
+            byte[] oldBytes = Files.readAllBytes(oldFile.toPath());
+            String name;
+            List<String> records = new ArrayList<>();
+            if (oldFormat == Format.SEGMENTED) {
+                SegmentedDataFile segmentedDataFile = SegmentedDataFile.readManifest(oldBytes);
+                name = segmentedDataFile.getName();
+                records = segmentedDataFile.readVerifiedRecords();
+                if (records == null) {
+                    LogFile.writeLog("Segment hash mismatch, skipping data file conversion", true);
+                    return;
+                }
+            } else if (oldFormat == Format.BINARY) {
+                ByteArrayInputStream in = new ByteArrayInputStream(oldBytes);
+                name = BinaryDataFile.readName(in);
+                String record;
+                while ((record = BinaryDataFile.readRecord(in)) != null) {
+                    records.add(record);
+                }
+            } else {
+                List<String> lines = Files.readAllLines(oldFile.toPath());
+                name = lines.get(0).split(UiConstant.SPLIT_BY_COLON)[UiConstant.NAME_INDEX].trim();
+                records.addAll(lines.subList(1, lines.size()));
             }
-        }
 
-        // Write each appointment entry in a specific format
-        // appointment format: appointment:DATE:TIME:DESCRIPTION
-        if (!appointmentArrayList.isEmpty()) {
-            for (Appointment appointmentEntry : appointmentArrayList) {
-                String formattedDate = newParser.parseFormattedDate(appointmentEntry.getDate());
-                String formattedTime = String.valueOf(appointmentEntry.getTime());
-                formattedTime = formattedTime.replace(":", ".");
-
-                dataFile.write(DataType.APPOINTMENT + UiConstant.SPLIT_BY_COLON + formattedDate +
-                        UiConstant.SPLIT_BY_COLON + formattedTime +
-                        UiConstant.SPLIT_BY_COLON + appointmentEntry.getDescription() + System.lineSeparator());
+            String recordHash = RecordHash.hashOf(name, records);
+            String actualHash = readHashFromFile(hashFile);
+            boolean isLegacy = oldFormat == Format.TEXT && isLegacyHash(oldFile, actualHash);
+            if (!recordHash.equals(actualHash) && !isLegacy) {
+                LogFile.writeLog("Hash mismatch, skipping data file conversion", true);
+                return;
             }
-        }
 
-        // Write each period entry in a specific format
-        // period format: period:START:END:DURATION
-        if (!periodArrayList.isEmpty()) {
-            for (Period periodEntry : periodArrayList) {
-                LogFile.writeLog("Writing period to file", false);
-                String formattedStartDate = newParser.parseFormattedDate(periodEntry.getStartDate());
-                String formattedEndDate = newParser.parseFormattedDate(periodEntry.getEndDate());
-
-                dataFile.write(DataType.PERIOD + UiConstant.SPLIT_BY_COLON + formattedStartDate +
-                        UiConstant.SPLIT_BY_COLON + formattedEndDate +
-                        UiConstant.SPLIT_BY_COLON + periodEntry.getPeriodLength() + System.lineSeparator());
-                LogFile.writeLog("Wrote period to file", false);
+            saveRecords(name, records, recordHash);
+            oldFile.delete();
+            if (oldFormat == Format.SEGMENTED) {
+                SegmentedDataFile.deleteSegments();
             }
+            LogFile.writeLog("Converted data file to " + UiConstant.dataFilePath, false);
+        } catch (IOException | CustomExceptions.FileWriteError | IndexOutOfBoundsException e) {
+            UiConstant.saveFile.delete();
+            LogFile.writeLog("Error converting data file: " + e.getMessage(), true);
         }
+    }
+
+    private File getFormatFile(Format format) {
+        switch (format) {
+        case BINARY:
+            return new File(UiConstant.BINARY_DATA_FILE_PATH);
+
+        case SEGMENTED:
+            return new File(UiConstant.MANIFEST_FILE_PATH);
 
+        default:
+            return new File(UiConstant.TEXT_DATA_FILE_PATH);
+        }
     }
 
     /**
-     * Writes workout-related data (runs and gym sessions) to the data file.
+     * Formats a Bmi object into its data file record.
      *
-     * @param dataFile         The FileWriter object for writing to the data file.
-     * @param workoutArrayList The list of workout entries to be written.
-     * @throws IOException If an I/O error occurs while writing to the file.
+     * @param bmiEntry The Bmi object to format.
+     * @return The record in the format BMI:HEIGHT:WEIGHT:BMI_SCORE:DATE.
      */
-    public void writeWorkoutData(FileWriter dataFile,
-                                 ArrayList<Workout> workoutArrayList) throws IOException {
+    public String formatBmi(Bmi bmiEntry) {
+        String formattedDate = DateCodec.formatDate(bmiEntry.getDate());
+        return DataType.BMI + UiConstant.SPLIT_BY_COLON + bmiEntry.getHeight() +
+                UiConstant.SPLIT_BY_COLON + bmiEntry.getWeight() +
+                UiConstant.SPLIT_BY_COLON + bmiEntry.getBmiValueString() +
+                UiConstant.SPLIT_BY_COLON + formattedDate;
+    }
 
-        // Write each run entry in a specific format
-        // run format: run:DISTANCE:TIME:DATE
-        if (!workoutArrayList.isEmpty()) {
-            for (Workout workoutEntry : workoutArrayList) {
-                if (workoutEntry instanceof Run) {
-                    Run runEntry = (Run) workoutEntry;
-                    String formattedDate = runEntry.getDateForFile();
-                    String formattedTime = runEntry.getTimes().replace(":", ".");
-
-                    dataFile.write(DataType.RUN + UiConstant.SPLIT_BY_COLON + runEntry.getDistance() +
-                            UiConstant.SPLIT_BY_COLON + formattedTime +
-                            UiConstant.SPLIT_BY_COLON + formattedDate + System.lineSeparator());
-                } else if (workoutEntry instanceof Gym) {
-                    Gym gymEntry = (Gym) workoutEntry;
-                    String gymString = gymEntry.toFileString();
-                    dataFile.write(gymString + System.lineSeparator());
-                }
-            }
+    /**
+     * Formats an Appointment object into its data file record.
+     *
+     * @param appointmentEntry The Appointment object to format.
+     * @return The record in the format APPOINTMENT:DATE:TIME:DESCRIPTION.
+     */
+    public String formatAppointment(Appointment appointmentEntry) {
+        String formattedDate = DateCodec.formatDate(appointmentEntry.getDate());
+        String formattedTime = String.valueOf(appointmentEntry.getTime());
+        formattedTime = formattedTime.replace(":", ".");
+        return DataType.APPOINTMENT + UiConstant.SPLIT_BY_COLON + formattedDate +
+                UiConstant.SPLIT_BY_COLON + formattedTime +
+                UiConstant.SPLIT_BY_COLON + appointmentEntry.getDescription();
+    }
+
+    /**
+     * Formats a Period object into its data file record.
+     *
+     * @param periodEntry The Period object to format.
+     * @return The record in the format PERIOD:START:END:DURATION.
+     */
+    public String formatPeriod(Period periodEntry) {
+        String formattedStartDate = DateCodec.formatDate(periodEntry.getStartDate());
+        String formattedEndDate = DateCodec.formatDate(periodEntry.getEndDate());
+        return DataType.PERIOD + UiConstant.SPLIT_BY_COLON + formattedStartDate +
+                UiConstant.SPLIT_BY_COLON + formattedEndDate +
+                UiConstant.SPLIT_BY_COLON + periodEntry.getPeriodLength();
+    }
+
+    /**
+     * Formats a Run or Gym object into its data file record.
+     *
+     * @param workoutEntry The Workout object to format.
+     * @return The record in the format RUN:DISTANCE:TIME:DATE, or the Gym file string.
+     */
+    public String formatWorkout(Workout workoutEntry) {
+        if (workoutEntry instanceof Run) {
+            Run runEntry = (Run) workoutEntry;
+            String formattedDate = runEntry.getDateForFile();
+            String formattedTime = runEntry.getTimes().replace(":", ".");
+            return DataType.RUN + UiConstant.SPLIT_BY_COLON + runEntry.getDistance() +
+                    UiConstant.SPLIT_BY_COLON + formattedTime +
+                    UiConstant.SPLIT_BY_COLON + formattedDate;
         }
+        assert workoutEntry instanceof Gym : "Workout must be a Run or Gym.";
+        return ((Gym) workoutEntry).toFileString();
     }
+
     //@@author L5-Z
     /**
      * Generates the SHA-256 hash value of the pulsepilot_data.txt file.
+     * Older versions stored this hash in the hash file, so it is only used to accept and migrate their data files.
      *
      * @param file The file for which to generate the hash.
      * @return A String representing the SHA-256 hash value of the pulsepilot_data.txt file.
@@ -448,16 +1054,34 @@ public class DataFile {
             md.update(dataBytes, 0, bytesRead);
         }
 
-        byte[] digest = md.digest();
+        fis.close();
+        return toHexString(md.digest());
+    }
+
+    /**
+     * Converts a digest into its lowercase hexadecimal string representation.
+     *
+     * @param digest The digest bytes.
+     * @return The hexadecimal string of the digest.
+     */
+    static String toHexString(byte[] digest) {
         StringBuilder sb = new StringBuilder();
         for (byte b : digest) {
             sb.append(String.format("%02x", b & 0xff));
         }
-
-        fis.close();
         return sb.toString();
     }
 
+    /**
+     * Clears every record loaded from a data file that failed verification, so none of it is used.
+     */
+    private void discardLoadedData() {
+        HealthList.clearHealthLists();
+        WorkoutLists.clearWorkoutsRunGym();
+        GymDetails.close();
+        userName = null;
+    }
+
     /**
      * Handles the failure of file hash verification.
      * This method is called when the hash value of the data file does not match the expected value.
@@ -474,6 +1098,10 @@ public class DataFile {
 
         hashFile.delete();
         dataFile.delete();
+        BlockIndex.delete();
+        if (UiConstant.isSegmentedFormat) {
+            SegmentedDataFile.deleteSegments();
+        }
     }
 
     /**
@@ -0,0 +1,135 @@
+package storage;
+
+import constants.UiConstant;
+import utility.Parser;
+import workouts.Gym;
+import workouts.GymStation;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Represents the store of gym sessions that are loaded lazily.
+ * A lazy Gym only keeps its date, number of stations and the location of its record in the data file it was
+ * loaded from. Its GymStation objects are created from that record when they are first accessed, and kept in a
+ * cache of the most recently used gym sessions, so the memory used does not grow with the number of sessions.
+ * Before the data file is first overwritten, it is copied to a detail file that the lazy gyms are then read from,
+ * so their locations stay valid for the rest of the session.
+ */
+public class GymDetails {
+    private static final Map<Gym, ArrayList<GymStation>> STATION_CACHE =
+            new LinkedHashMap<>(UiConstant.GYM_CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Gym, ArrayList<GymStation>> eldest) {
+                    return size() > UiConstant.GYM_CACHE_SIZE;
+                }
+            };
+    private static final Parser parser = new Parser();
+    private static File sourceFile = null;
+    private static boolean isBinarySource = false;
+    private static boolean isDetached = false;
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private GymDetails() {
+    }
+
+    /**
+     * Starts reading lazy gym sessions from a data file that is about to be loaded.
+     *
+     * @param dataFile The data file.
+     * @param isBinary Whether the data file is in the binary format.
+     */
+    public static synchronized void open(File dataFile, boolean isBinary) {
+        close();
+        sourceFile = dataFile;
+        isBinarySource = isBinary;
+    }
+
+    /**
+     * Copies the data file that lazy gym sessions are read from to the detail file, if it has not been copied yet.
+     * Must be called before the data file is overwritten.
+     *
+     * @throws IOException If the data file cannot be copied.
+     */
+    public static synchronized void detach() throws IOException {
+        if (sourceFile == null || isDetached) {
+            return;
+        }
+        File detailFile = new File(UiConstant.gymDetailFilePath);
+        Files.copy(sourceFile.toPath(), detailFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        sourceFile = detailFile;
+        isDetached = true;
+        LogFile.writeLog("Copied data file for lazy gym sessions", false);
+    }
+
+    /**
+     * Stops reading lazy gym sessions and deletes the detail file.
+     */
+    public static synchronized void close() {
+        STATION_CACHE.clear();
+        sourceFile = null;
+        isDetached = false;
+        new File(UiConstant.gymDetailFilePath).delete();
+    }
+
+    /**
+     * Retrieves the GymStation objects of a lazy gym session, creating them from its record if they are not cached.
+     *
+     * @param gym The lazy Gym object.
+     * @return The GymStation objects of the gym session.
+     * @throws IOException If the record cannot be read, or no longer holds the stations loaded with the gym session.
+     */
+    public static synchronized ArrayList<GymStation> getStations(Gym gym) throws IOException {
+        ArrayList<GymStation> stations = STATION_CACHE.get(gym);
+        if (stations != null) {
+            return stations;
+        }
+        try {
+            stations = parser.parseGymFileStations(readRecord(gym));
+        } catch (Exception e) {
+            LogFile.writeLog("Unable to load gym session: " + e.getMessage(), true);
+            throw new IOException(e.getMessage(), e);
+        }
+        if (stations.size() != gym.getNumberOfStations()) {
+            throw new IOException("Gym record no longer has " + gym.getNumberOfStations() + " stations");
+        }
+        STATION_CACHE.put(gym, stations);
+        return stations;
+    }
+
+    /**
+     * Reads the record of a lazy gym session from the data file without creating its GymStation objects.
+     *
+     * @param gym The lazy Gym object.
+     * @return The gym record in the text data file format.
+     * @throws IOException If there is no data file to read from, or the record cannot be read.
+     */
+    public static synchronized String readRecord(Gym gym) throws IOException {
+        if (sourceFile == null) {
+            throw new IOException("No data file for lazy gym session");
+        }
+        byte[] recordBytes = new byte[gym.getFileLength()];
+        try (RandomAccessFile file = new RandomAccessFile(sourceFile, "r")) {
+            file.seek(gym.getFileOffset());
+            file.readFully(recordBytes);
+        }
+        if (isBinarySource) {
+            String record = BinaryDataFile.readRecord(new ByteArrayInputStream(recordBytes));
+            if (record == null) {
+                throw new IOException("Gym record is empty");
+            }
+            return record;
+        }
+        return new String(recordBytes, StandardCharsets.UTF_8);
+    }
+}
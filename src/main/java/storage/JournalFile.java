@@ -0,0 +1,529 @@
+package storage;
+
+import constants.ErrorConstant;
+import constants.UiConstant;
+import health.Appointment;
+import health.Bmi;
+import health.Health;
+import health.HealthList;
+import health.Period;
+import ui.Output;
+import utility.CustomExceptions;
+import utility.Filters.DataType;
+import workouts.Workout;
+import workouts.WorkoutLists;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Represents the append-only journal used to persist changes to PulsePilot as they are made.
+ * Every add or delete is appended as one record on top of the last snapshot written to the data file,
+ * so a crash before exit no longer loses the session. On startup, the journal is replayed over the snapshot.
+ * Once the journal grows past a size threshold, it is folded into a new snapshot in the background.
+ * Every record ends with a checksum chained from the one before it, starting from the hash of the snapshot,
+ * so a record that is edited, added or removed by hand is detected on replay. Only a torn last record, left by
+ * a crash mid-write, is dropped silently. Any other corrupt record stops replay, and the journal is kept aside
+ * for the user.
+ * A delete names the record deleted rather than its index, so the journal can still be replayed over a snapshot
+ * that lost the entries in quarantined blocks.
+ * Journal format:
+ * SNAPSHOT:HASH_OF_DATA_FILE
+ * ADD:RECORD_IN_DATA_FILE_FORMAT|CHECKSUM
+ * DELETE:RECORD_IN_DATA_FILE_FORMAT|CHECKSUM
+ * where CHECKSUM is the SHA-256 of the checksum before it, or the snapshot hash, followed by the record.
+ */
+public class JournalFile {
+    private static final DataFile dataFile = new DataFile();
+    private static ExecutorService journalExecutor = null;
+    private static FileOutputStream journalStream = null;
+    private static BufferedWriter journalWriter = null;
+    private static long journalSize = 0;
+    private static String chainHash = null;
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private JournalFile() {
+    }
+
+    /**
+     * Opens the journal after the data file has been loaded. Replays any records written since the last
+     * snapshot, then starts accepting new records. If the journal is missing or belongs to an older snapshot,
+     * a fresh snapshot is written first.
+     *
+     * @throws CustomExceptions.FileWriteError If the journal or snapshot cannot be written.
+     */
+    public static void openJournal() throws CustomExceptions.FileWriteError {
+        File journal = new File(UiConstant.journalFilePath);
+        File hashFile = new File(UiConstant.hashFilePath);
+        boolean isSnapshotNeeded = true;
+
+        try {
+            if (journal.exists() && hashFile.exists()) {
+                isSnapshotNeeded = !replayJournal(journal, dataFile.readHashFromFile(hashFile), false);
+            }
+
+            if (isSnapshotNeeded) {
+                String recordHash = RecordHash.getHash(DataFile.userName);
+                writeSnapshot(DataFile.userName, formatCurrentRecords(), recordHash);
+                chainHash = recordHash;
+            } else {
+                openWriter(true);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            throw new CustomExceptions.FileWriteError(ErrorConstant.JOURNAL_ERROR);
+        }
+
+        journalSize = journal.length();
+        journalExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "pulsepilot-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        LogFile.writeLog("Journal opened", false);
+    }
+
+    /**
+     * Replays the journal on top of a data file that had blocks quarantined, before it is saved again without
+     * them. Deletes of entries that were in a quarantined block are skipped, and the user is told about them.
+     * Must be followed by discardJournal once the recovered data is saved, so the journal is not replayed twice.
+     *
+     * @param snapshotHash The hash in the hash file, which the journal was written against.
+     */
+    public static void replayRecoveredJournal(String snapshotHash) {
+        File journal = new File(UiConstant.journalFilePath);
+        if (!journal.exists()) {
+            return;
+        }
+        try {
+            replayJournal(journal, snapshotHash, true);
+        } catch (IOException e) {
+            LogFile.writeLog("Unable to replay journal for recovered data: " + e.getMessage(), true);
+        }
+    }
+
+    /**
+     * Deletes the journal, after the changes in it have been saved to the data file.
+     */
+    public static void discardJournal() {
+        new File(UiConstant.journalFilePath).delete();
+    }
+
+    /**
+     * Checks whether the journal is currently accepting records.
+     *
+     * @return True if the journal is open, false otherwise.
+     */
+    public static boolean isOpen() {
+        return journalExecutor != null;
+    }
+
+    /**
+     * Appends an added Bmi, Period or Appointment object to the journal.
+     *
+     * @param health The Health object that was added.
+     */
+    public static void recordAdd(Health health) {
+        if (!isOpen()) {
+            return;
+        }
+        append(UiConstant.JOURNAL_ADD_LABEL + UiConstant.SPLIT_BY_COLON + formatHealth(health));
+    }
+
+    /**
+     * Appends an added Run or Gym object to the journal.
+     *
+     * @param workout The Workout object that was added.
+     */
+    public static void recordAdd(Workout workout) {
+        if (!isOpen()) {
+            return;
+        }
+        append(UiConstant.JOURNAL_ADD_LABEL + UiConstant.SPLIT_BY_COLON + dataFile.formatWorkout(workout));
+    }
+
+    /**
+     * Appends a deleted Bmi, Period or Appointment object to the journal.
+     * Must be called before the object is changed, as the record deleted is formatted from it.
+     *
+     * @param health The Health object that was deleted.
+     */
+    public static void recordDelete(Health health) {
+        if (!isOpen()) {
+            return;
+        }
+        append(UiConstant.JOURNAL_DELETE_LABEL + UiConstant.SPLIT_BY_COLON + formatHealth(health));
+    }
+
+    /**
+     * Appends a deleted Run or Gym object to the journal.
+     *
+     * @param workout The Workout object that was deleted.
+     */
+    public static void recordDelete(Workout workout) {
+        if (!isOpen()) {
+            return;
+        }
+        append(UiConstant.JOURNAL_DELETE_LABEL + UiConstant.SPLIT_BY_COLON + dataFile.formatWorkout(workout));
+    }
+
+    private static String formatHealth(Health health) {
+        if (health instanceof Bmi) {
+            return dataFile.formatBmi((Bmi) health);
+        } else if (health instanceof Period) {
+            return dataFile.formatPeriod((Period) health);
+        }
+        return dataFile.formatAppointment((Appointment) health);
+    }
+
+    /**
+     * Stops accepting records and waits for all pending records and snapshots to be written.
+     */
+    public static void closeJournal() {
+        if (!isOpen()) {
+            return;
+        }
+        journalExecutor.shutdown();
+        try {
+            if (!journalExecutor.awaitTermination(UiConstant.JOURNAL_CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LogFile.writeLog("Timed out waiting for journal writes", true);
+            }
+            if (journalWriter != null) {
+                journalWriter.close();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            LogFile.writeLog("Error closing journal: " + e.getMessage(), true);
+        }
+        journalExecutor = null;
+        journalWriter = null;
+        journalStream = null;
+        LogFile.writeLog("Journal closed", false);
+    }
+
+    /**
+     * Queues a sync of the journal to the storage device behind all pending journal writes.
+     * Every record is already flushed to the operating system when it is written, so this only makes sure the
+     * records survive a power loss as well.
+     */
+    public static void syncJournal() {
+        if (!isOpen()) {
+            return;
+        }
+        journalExecutor.submit(() -> {
+            try {
+                journalWriter.flush();
+                journalStream.getFD().sync();
+            } catch (IOException e) {
+                LogFile.writeLog("Error syncing journal: " + e.getMessage(), true);
+            }
+        });
+    }
+
+    /**
+     * Queues a line to be appended to the journal, followed by its chained checksum. Schedules a background
+     * snapshot once the journal grows past the compaction threshold.
+     *
+     * @param line The journal line to append.
+     */
+    private static void append(String line) {
+        chainHash = checksumOf(chainHash, line);
+        String entry = line + UiConstant.JOURNAL_CHECKSUM_SEPARATOR + chainHash + System.lineSeparator();
+        journalSize += entry.getBytes(StandardCharsets.UTF_8).length;
+        journalExecutor.submit(() -> {
+            try {
+                journalWriter.write(entry);
+                journalWriter.flush();
+            } catch (IOException e) {
+                LogFile.writeLog("Error writing to journal: " + e.getMessage(), true);
+            }
+        });
+
+        if (journalSize > UiConstant.JOURNAL_COMPACTION_THRESHOLD_BYTES) {
+            scheduleCompaction();
+        }
+    }
+
+    /**
+     * Formats the current lists and queues a snapshot of them behind all pending journal writes.
+     * If a lazy gym session cannot be read, the journal is left to grow until the next change.
+     */
+    private static void scheduleCompaction() {
+        List<String> records;
+        try {
+            records = formatCurrentRecords();
+        } catch (UncheckedIOException e) {
+            LogFile.writeLog("Error compacting journal: " + e.getMessage(), true);
+            return;
+        }
+        scheduleSnapshot(DataFile.userName, records, RecordHash.getHash(DataFile.userName));
+        LogFile.writeLog("Journal compaction scheduled", false);
+    }
+
+    /**
+     * Queues a snapshot of already formatted records behind all pending journal writes, after which the journal
+     * restarts from that snapshot. Must be called on the thread that records the changes, so no change is
+     * recorded between formatting and queueing the snapshot.
+     *
+     * @param name       The username.
+     * @param records    The records of the snapshot, as returned by DataFile.formatRecords.
+     * @param recordHash The hash of the snapshot, as returned by RecordHash.getHash when it was formatted.
+     */
+    public static void scheduleSnapshot(String name, List<String> records, String recordHash) {
+        if (!isOpen()) {
+            return;
+        }
+        journalSize = 0;
+        chainHash = recordHash;
+        journalExecutor.submit(() -> {
+            try {
+                writeSnapshot(name, records, recordHash);
+                LogFile.writeLog("Journal compacted into snapshot", false);
+            } catch (IOException | CustomExceptions.FileWriteError e) {
+                LogFile.writeLog("Error compacting journal: " + e.getMessage(), true);
+            }
+        });
+    }
+
+    private static List<String> formatCurrentRecords() {
+        return dataFile.formatRecords(HealthList.getBmis(), HealthList.getAppointments(),
+                HealthList.getPeriods(), WorkoutLists.getWorkouts());
+    }
+
+    /**
+     * Writes the given records as a new data file snapshot, then starts a fresh journal tied to its hash.
+     *
+     * @throws IOException If the journal cannot be rewritten.
+     * @throws CustomExceptions.FileWriteError If the snapshot cannot be written.
+     */
+    private static void writeSnapshot(String name, List<String> records, String recordHash)
+            throws IOException, CustomExceptions.FileWriteError {
+        dataFile.saveRecords(name, records, recordHash);
+
+        if (journalWriter != null) {
+            journalWriter.close();
+        }
+        openWriter(false);
+        journalWriter.write(UiConstant.JOURNAL_SNAPSHOT_LABEL + UiConstant.SPLIT_BY_COLON + recordHash
+                + System.lineSeparator());
+        journalWriter.flush();
+    }
+
+    private static void openWriter(boolean isAppending) throws IOException {
+        journalStream = new FileOutputStream(UiConstant.journalFilePath, isAppending);
+        journalWriter = new BufferedWriter(new OutputStreamWriter(journalStream, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Replays the journal on top of the loaded snapshot, verifying the checksum of every record first.
+     * A last record without a line separator was torn by a crash mid-write, so it is truncated and the journal
+     * can still be appended to. Any other record that fails its checksum or cannot be replayed stops replay,
+     * and the journal is moved aside and reported to the user, so the records after it are not lost silently.
+     *
+     * @param journal      The journal file.
+     * @param snapshotHash The hash of the loaded data file.
+     * @param isRecovering Whether the snapshot had blocks quarantined, so deletes of missing entries are skipped.
+     * @return True if every record was replayed and the journal can be appended to, false otherwise.
+     * @throws IOException If the journal cannot be read.
+     */
+    private static boolean replayJournal(File journal, String snapshotHash, boolean isRecovering)
+            throws IOException {
+        byte[] data = Files.readAllBytes(journal.toPath());
+        String expectedHeader = UiConstant.JOURNAL_SNAPSHOT_LABEL + UiConstant.SPLIT_BY_COLON + snapshotHash;
+        int headerEnd = indexOfLineEnd(data, 0);
+        if (headerEnd == -1 || !readLine(data, 0, headerEnd).equals(expectedHeader)) {
+            LogFile.writeLog("Journal does not match snapshot, discarding", true);
+            return false;
+        }
+
+        String chain = snapshotHash;
+        int numberOfRecords = 0;
+        int numberOfSkippedDeletes = 0;
+        int lineStart = headerEnd + 1;
+        while (lineStart < data.length) {
+            int lineEnd = indexOfLineEnd(data, lineStart);
+            if (lineEnd == -1) {
+                LogFile.writeLog("Truncating torn journal record", true);
+                truncate(journal, lineStart);
+                break;
+            }
+            String line = readLine(data, lineStart, lineEnd);
+            int separatorIndex = line.lastIndexOf(UiConstant.JOURNAL_CHECKSUM_SEPARATOR);
+            String record = separatorIndex == -1 ? line : line.substring(0, separatorIndex);
+            String checksum = checksumOf(chain, record);
+            try {
+                if (separatorIndex == -1 || !line.substring(separatorIndex + 1).equals(checksum)) {
+                    throw new IllegalArgumentException("Checksum mismatch");
+                }
+                if (!replayLine(record)) {
+                    if (!isRecovering) {
+                        throw new IllegalArgumentException("Deleted record not found");
+                    }
+                    numberOfSkippedDeletes++;
+                }
+            } catch (Exception e) {
+                LogFile.writeLog("Corrupt journal record, stopping replay: " + line, true);
+                reportCorruption(journal, numberOfRecords + 1);
+                return false;
+            }
+            chain = checksum;
+            numberOfRecords++;
+            lineStart = lineEnd + 1;
+        }
+        chainHash = chain;
+        LogFile.writeLog("Replayed journal records: " + numberOfRecords, false);
+        if (numberOfSkippedDeletes > 0) {
+            String message = String.format(ErrorConstant.JOURNAL_SKIPPED_DELETES_ERROR, numberOfSkippedDeletes);
+            LogFile.writeLog(message, true);
+            new Output().printException(message);
+        }
+        return true;
+    }
+
+    /**
+     * Moves a journal with a corrupt record to the corrupt journal file and tells the user, as the records
+     * from the corrupt one onwards are not loaded.
+     *
+     * @param journal      The journal file.
+     * @param recordNumber The 1-based number of the corrupt record.
+     * @throws IOException If the journal cannot be moved.
+     */
+    private static void reportCorruption(File journal, int recordNumber) throws IOException {
+        Files.move(journal.toPath(), new File(UiConstant.journalCorruptFilePath).toPath(),
+                StandardCopyOption.REPLACE_EXISTING);
+        String message = String.format(ErrorConstant.JOURNAL_CORRUPT_ERROR, recordNumber,
+                UiConstant.journalCorruptFilePath);
+        LogFile.writeLog(message, true);
+        new Output().printException(message);
+    }
+
+    /**
+     * Computes the checksum of a journal record, chained from the checksum of the record before it.
+     *
+     * @param previousChecksum The checksum of the previous record, or the snapshot hash for the first record.
+     * @param record           The journal record, without its checksum.
+     * @return The checksum as a hexadecimal string.
+     */
+    static String checksumOf(String previousChecksum, String record) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            md.update(previousChecksum.getBytes(StandardCharsets.UTF_8));
+            return DataFile.toHexString(md.digest(record.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ErrorConstant.HASH_ERROR, e);
+        }
+    }
+
+    private static int indexOfLineEnd(byte[] data, int start) {
+        for (int i = start; i < data.length; i++) {
+            if (data[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String readLine(byte[] data, int start, int end) {
+        int lineEnd = end > start && data[end - 1] == '\r' ? end - 1 : end;
+        return new String(data, start, lineEnd - start, StandardCharsets.UTF_8);
+    }
+
+    private static void truncate(File journal, long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(journal.toPath(), StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+        }
+    }
+
+    /**
+     * Applies a single journal line to the health and workout lists.
+     * A delete removes the first entry in its list with the same record.
+     *
+     * @param line The journal line.
+     * @return True if the line was applied, false if the entry it deletes is not in the lists.
+     * @throws Exception If the line is malformed or the record is invalid.
+     */
+    private static boolean replayLine(String line) throws Exception {
+        int separatorIndex = line.indexOf(UiConstant.SPLIT_BY_COLON);
+        String label = line.substring(0, separatorIndex);
+        String record = line.substring(separatorIndex + 1);
+
+        if (label.equals(UiConstant.JOURNAL_ADD_LABEL)) {
+            dataFile.processRecord(record);
+            return true;
+        }
+        if (!label.equals(UiConstant.JOURNAL_DELETE_LABEL)) {
+            throw new IllegalArgumentException(line);
+        }
+
+        String[] input = record.split(UiConstant.SPLIT_BY_COLON);
+        DataType dataType = DataType.valueOf(input[UiConstant.DATA_TYPE_INDEX]);
+        int index;
+        switch (dataType) {
+        case BMI:
+            index = indexOfRecord(HealthList.getBmis(), record, dataFile::formatBmi);
+            if (index != -1) {
+                HealthList.removeBmi(index);
+            }
+            break;
+
+        case PERIOD:
+            index = indexOfRecord(HealthList.getPeriods(), record, dataFile::formatPeriod);
+            if (index != -1) {
+                HealthList.removePeriod(index);
+            }
+            break;
+
+        case APPOINTMENT:
+            index = indexOfRecord(HealthList.getAppointments(), record, dataFile::formatAppointment);
+            if (index != -1) {
+                HealthList.removeAppointment(index);
+            }
+            break;
+
+        case GYM:
+            index = indexOfRecord(WorkoutLists.getGyms(), record, dataFile::formatWorkout);
+            if (index != -1) {
+                WorkoutLists.removeGym(index);
+            }
+            break;
+
+        case RUN:
+            index = indexOfRecord(WorkoutLists.getRuns(), record, dataFile::formatWorkout);
+            if (index != -1) {
+                WorkoutLists.removeRun(index);
+            }
+            break;
+
+        default:
+            throw new IllegalArgumentException(line);
+        }
+        return index != -1;
+    }
+
+    private static <T> int indexOfRecord(List<T> list, String record, Function<? super T, String> formatter) {
+        for (int i = 0; i < list.size(); i++) {
+            if (formatter.apply(list.get(i)).equals(record)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
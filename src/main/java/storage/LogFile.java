@@ -1,13 +1,20 @@
 package storage;
 
 import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Handler;
 import java.util.logging.Level;
-import java.util.logging.FileHandler;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
 
 
 import constants.UiConstant;
@@ -16,9 +23,15 @@ import utility.Validation;
 //@@author L5-Z
 /**
  * Represents a Logfile object used to write information and error logs for PulsePilot.
+ * By default, logs are written asynchronously through an AsyncLogHandler, so commands and loading never wait for
+ * the log file. If asynchronous logging is turned off, records are written on the calling thread instead.
+ * The log file is rotated into compressed segments by a RotatingLogHandler once it reaches a maximum size.
+ * Logs below the current log level are discarded before their message is built. Messages that are costly to build
+ * can be passed as a template with an argument, which is only formatted once the log is written, or as a Supplier.
  */
 public class LogFile {
-    protected static FileHandler logFileHandler = null;
+    protected static Handler logFileHandler = null;
+    private static AsyncLogHandler asyncLogHandler = null;
     private static LogFile instance = null;
     private static final Logger logger = Logger.getLogger(LogFile.class.getName());
 
@@ -46,14 +59,23 @@ public class LogFile {
     /**
      * Initialises the log file to be used. Creates the log file if needed, then sets formatters.
      * Parent handlers are set to false to prevent printing of logs to terminal.
+     * With asynchronous logging, a shutdown hook writes any logs still waiting in the buffer.
      */
     public static void initializeLogFile() {
         Validation validation = new Validation();
         validation.validateDirectoryPermissions();
         try {
             if (logFileHandler == null) {
-                logFileHandler = new FileHandler(UiConstant.LOG_FILE_PATH);
-                logFileHandler.setFormatter(new SimpleFormatter());
+                RotatingLogHandler fileWriter = new RotatingLogHandler(UiConstant.LOG_FILE_PATH,
+                        UiConstant.LOG_MAX_FILE_BYTES, UiConstant.logRetainedSegments, !UiConstant.isAsyncLogging);
+                if (UiConstant.isAsyncLogging) {
+                    asyncLogHandler = new AsyncLogHandler(fileWriter, UiConstant.LOG_BUFFER_CAPACITY,
+                            UiConstant.LOG_BATCH_SIZE, AsyncLogHandler.OverflowPolicy.BLOCK);
+                    logFileHandler = asyncLogHandler;
+                    Runtime.getRuntime().addShutdownHook(new Thread(LogFile::closeLogFile));
+                } else {
+                    logFileHandler = fileWriter;
+                }
                 logger.addHandler(logFileHandler);
                 logger.setUseParentHandlers(false);
             }
@@ -63,6 +85,59 @@ public class LogFile {
         assert(logFileHandler != null);
     }
 
+    /**
+     * Changes what happens to logs written while the asynchronous log buffer is full.
+     * Has no effect with synchronous logging.
+     *
+     * @param overflowPolicy The new OverflowPolicy.
+     */
+    public static void setOverflowPolicy(AsyncLogHandler.OverflowPolicy overflowPolicy) {
+        if (asyncLogHandler != null) {
+            asyncLogHandler.setOverflowPolicy(overflowPolicy);
+        }
+    }
+
+    /**
+     * Writes every log waiting in the buffer to the log file.
+     */
+    public static void flushLogFile() {
+        if (logFileHandler != null) {
+            logFileHandler.flush();
+        }
+    }
+
+    /**
+     * Writes every log waiting in the buffer to the log file, then closes it.
+     */
+    public static synchronized void closeLogFile() {
+        if (logFileHandler != null) {
+            logger.removeHandler(logFileHandler);
+            logFileHandler.close();
+            logFileHandler = null;
+            asyncLogHandler = null;
+        }
+    }
+
+    /**
+     * Changes the lowest level of logs that are written to the log file.
+     *
+     * @param level The new log level.
+     */
+    public static void setLogLevel(Level level) {
+        logger.setLevel(level);
+    }
+
+    /**
+     * Checks whether information or warning logs are currently written to the log file.
+     * Used to skip work that is only needed to build a log message.
+     *
+     * @param isError Boolean variable to determine if log is an error.
+     * @return True if such logs are written, false otherwise.
+     */
+    public static boolean isLoggable(boolean isError) {
+        return logger.isLoggable(isError ? Level.WARNING : Level.INFO);
+    }
+
     //@@author L5-Z
     /**
      * Writes information or warning logs to the log file.
@@ -71,28 +146,112 @@ public class LogFile {
      * @param isError Boolean variable to determine if log is an error.
      */
     public static void writeLog(String input, boolean isError) {
-        if (isError) {
-            logger.log(Level.WARNING, input);
-        } else {
-            logger.log(Level.INFO, input);
+        if (isLoggable(isError)) {
+            logger.log(createRecord(input, isError));
         }
     }
 
+    /**
+     * Writes information or warning logs to the log file, only building the message if the log is written.
+     *
+     * @param message Supplier of the log message.
+     * @param isError Boolean variable to determine if log is an error.
+     */
+    public static void writeLog(Supplier<String> message, boolean isError) {
+        if (isLoggable(isError)) {
+            logger.log(createRecord(message.get(), isError));
+        }
+    }
+
+    /**
+     * Writes information or warning logs to the log file, where the message is a template in the
+     * java.text.MessageFormat style. The argument is placed into the template when the log is written,
+     * so no String is built on the calling thread.
+     *
+     * @param template The log message, with {0} in place of the argument.
+     * @param argument The argument of the log message.
+     * @param isError  Boolean variable to determine if log is an error.
+     */
+    public static void writeLog(String template, Object argument, boolean isError) {
+        if (isLoggable(isError)) {
+            LogRecord record = createRecord(template, isError);
+            record.setParameters(new Object[]{argument});
+            logger.log(record);
+        }
+    }
+
+    private static LogRecord createRecord(String message, boolean isError) {
+        LogRecord record = new LogRecord(isError ? Level.WARNING : Level.INFO, message);
+        record.setSourceClassName(LogFile.class.getName());
+        record.setSourceMethodName("writeLog");
+        record.setLoggerName(logger.getName());
+        return record;
+    }
+
     /**
      * Reads the log file content.
      *
      * @return Log file contents.
      */
     public static String readLogContent() {
-        StringBuilder logContent = new StringBuilder();
+        flushLogFile();
         try {
-            List<String> lines = Files.readAllLines(Path.of(UiConstant.LOG_FILE_PATH));
-            for (String line : lines) {
-                logContent.append(line).append(System.lineSeparator());
-            }
+            return new String(Files.readAllBytes(Path.of(UiConstant.LOG_FILE_PATH)), Charset.defaultCharset());
         } catch (IOException e) {
             System.err.println("Error reading log file: " + e.getMessage());
+            return UiConstant.EMPTY_STRING;
+        }
+    }
+
+    /**
+     * Retrieves the last lines of the log file, optionally only those containing a search term.
+     * The log file is memory-mapped and scanned backwards from its end, stopping once enough lines are found,
+     * so only the returned lines are held in memory however large the log file is.
+     * Compressed segments of the log file are not searched.
+     *
+     * @param numberOfLines The maximum number of lines to retrieve.
+     * @param searchTerm    The text that lines must contain, or null to retrieve every line.
+     * @return The matching lines, from oldest to newest.
+     * @throws IOException If the log file cannot be read.
+     */
+    public static List<String> tailLog(int numberOfLines, String searchTerm) throws IOException {
+        flushLogFile();
+        byte[] searchBytes = searchTerm == null ? null : searchTerm.getBytes(Charset.defaultCharset());
+        ArrayDeque<String> lines = new ArrayDeque<>();
+        try (FileChannel channel = FileChannel.open(Path.of(UiConstant.LOG_FILE_PATH), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int lineEnd = buffer.limit();
+            for (int i = buffer.limit() - 1; i >= -1 && lines.size() < numberOfLines; i--) {
+                if (i >= 0 && buffer.get(i) != '\n') {
+                    continue;
+                }
+                int lineStart = i + 1;
+                int contentEnd = lineEnd;
+                if (contentEnd > lineStart && buffer.get(contentEnd - 1) == '\r') {
+                    contentEnd--;
+                }
+                if (contentEnd > lineStart && (searchBytes == null
+                        || containsBytes(buffer, lineStart, contentEnd, searchBytes))) {
+                    byte[] lineBytes = new byte[contentEnd - lineStart];
+                    buffer.get(lineStart, lineBytes);
+                    lines.addFirst(new String(lineBytes, Charset.defaultCharset()));
+                }
+                lineEnd = i;
+            }
+        }
+        return new ArrayList<>(lines);
+    }
+
+    private static boolean containsBytes(MappedByteBuffer buffer, int start, int end, byte[] searchBytes) {
+        for (int i = start; i <= end - searchBytes.length; i++) {
+            int matched = 0;
+            while (matched < searchBytes.length && buffer.get(i + matched) == searchBytes[matched]) {
+                matched++;
+            }
+            if (matched == searchBytes.length) {
+                return true;
+            }
         }
-        return logContent.toString();
+        return false;
     }
 }
@@ -0,0 +1,97 @@
+package storage;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Represents a bounded lock-free queue used to pass log records from the threads that write logs to the
+ * log writer thread.
+ * Every slot has a sequence number that tells producers and consumers whether the slot is free or filled,
+ * so a slot is claimed with a single compare-and-set on the enqueue or dequeue position and no lock is taken.
+ * Any number of threads can offer and poll at the same time.
+ *
+ * @param <T> The type of the items in the queue.
+ */
+public class LogRingBuffer<T> {
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong enqueuePosition = new AtomicLong();
+    private final AtomicLong dequeuePosition = new AtomicLong();
+
+    /**
+     * Constructs a new empty LogRingBuffer.
+     *
+     * @param capacity The maximum number of items in the queue, which must be a power of two.
+     */
+    public LogRingBuffer(int capacity) {
+        assert capacity > 0 && Integer.bitCount(capacity) == 1 : "Capacity must be a power of two";
+        slots = new AtomicReferenceArray<>(capacity);
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        mask = capacity - 1;
+    }
+
+    /**
+     * Adds an item to the back of the queue if it is not full.
+     *
+     * @param item The item to add.
+     * @return True if the item was added, false if the queue is full.
+     */
+    public boolean offer(T item) {
+        long position = enqueuePosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (enqueuePosition.compareAndSet(position, position + 1)) {
+                    slots.set(index, item);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = enqueuePosition.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = enqueuePosition.get();
+            }
+        }
+    }
+
+    /**
+     * Removes the item at the front of the queue.
+     *
+     * @return The item, or null if the queue is empty.
+     */
+    public T poll() {
+        long position = dequeuePosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (dequeuePosition.compareAndSet(position, position + 1)) {
+                    T item = slots.getAndSet(index, null);
+                    sequences.set(index, position + mask + 1);
+                    return item;
+                }
+                position = dequeuePosition.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = dequeuePosition.get();
+            }
+        }
+    }
+
+    /**
+     * Checks whether the queue is empty.
+     *
+     * @return True if there are no items in the queue.
+     */
+    public boolean isEmpty() {
+        return enqueuePosition.get() == dequeuePosition.get();
+    }
+}
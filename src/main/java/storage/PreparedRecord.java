@@ -0,0 +1,17 @@
+package storage;
+
+import utility.CustomExceptions;
+
+/**
+ * Represents a data file record that has been validated, but whose object has not been created yet.
+ * Creating the object adds it to its list, so this is done separately from the validation.
+ */
+@FunctionalInterface
+interface PreparedRecord {
+    /**
+     * Creates the object for the record and adds it to its list.
+     *
+     * @throws CustomExceptions.InvalidInput If the record conflicts with the objects already in the lists.
+     */
+    void construct() throws CustomExceptions.InvalidInput;
+}
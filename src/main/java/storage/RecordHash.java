@@ -0,0 +1,172 @@
+package storage;
+
+import constants.ErrorConstant;
+import constants.UiConstant;
+import health.Appointment;
+import health.Bmi;
+import health.Health;
+import health.HealthList;
+import health.Period;
+import workouts.Workout;
+import workouts.WorkoutLists;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+/**
+ * Represents the integrity hash of PulsePilot's data, kept up to date by HealthRepository and WorkoutRepository
+ * as objects are added to and removed from them.
+ * The hash is the sum, modulo 2^256, of the SHA-256 digests of every record in the data file format, including
+ * the NAME record. Adding or removing a record only adds or subtracts its own digest, so the hash never needs to
+ * be recomputed over the whole data file. Changing or deleting any record still changes the hash.
+ * As a sum, the hash does not depend on the order of the records, and it does not depend on the layout
+ * the data file is stored in.
+ */
+public class RecordHash {
+    private static final BigInteger MODULUS = BigInteger.ONE.shiftLeft(256);
+    private static final String HASH_FORMAT = "%064x";
+    private static final DataFile dataFile = new DataFile();
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private RecordHash() {
+    }
+
+    /**
+     * Computes the digest of the record of a Bmi, Period or Appointment object.
+     *
+     * @param health The Health object.
+     * @return The digest of its record.
+     */
+    public static BigInteger digestOf(Health health) {
+        return digestOf(formatHealth(health));
+    }
+
+    /**
+     * Computes the digest of the record of a Run or Gym object.
+     *
+     * @param workout The Workout object.
+     * @return The digest of its record.
+     */
+    public static BigInteger digestOf(Workout workout) {
+        return digestOf(dataFile.formatWorkout(workout));
+    }
+
+    /**
+     * Computes the digest of a record in the data file format, such as a record read from the data file.
+     *
+     * @param record The record.
+     * @return The digest of the record.
+     */
+    public static BigInteger digestOf(String record) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return new BigInteger(1, md.digest(record.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ErrorConstant.HASH_ERROR, e);
+        }
+    }
+
+    /**
+     * Adds the digest of a record to a hash.
+     *
+     * @param hash   The hash.
+     * @param digest The digest of the record that was added.
+     * @return The new hash.
+     */
+    public static BigInteger add(BigInteger hash, BigInteger digest) {
+        return hash.add(digest).mod(MODULUS);
+    }
+
+    /**
+     * Removes the digest of a record from a hash.
+     *
+     * @param hash   The hash.
+     * @param digest The digest of the record that was removed.
+     * @return The new hash.
+     */
+    public static BigInteger subtract(BigInteger hash, BigInteger digest) {
+        return hash.subtract(digest).mod(MODULUS);
+    }
+
+    /**
+     * Retrieves the hash of the data file that would be saved from the lists of the current session.
+     *
+     * @param name The username.
+     * @return The hash as a hexadecimal string.
+     */
+    public static String getHash(String name) {
+        BigInteger healthHash = HealthList.getRepository().getRecordHash();
+        BigInteger workoutHash = WorkoutLists.getRepository().getRecordHash();
+        return toHexString(healthHash.add(workoutHash).add(digestOf(formatName(name))));
+    }
+
+    /**
+     * Computes the hash of a data file from its records. Used when the records do not come from the lists.
+     *
+     * @param name    The username.
+     * @param records The records in the data file format.
+     * @return The hash as a hexadecimal string.
+     */
+    public static String hashOf(String name, List<String> records) {
+        BigInteger hash = digestOf(formatName(name));
+        for (String record : records) {
+            hash = hash.add(digestOf(record));
+        }
+        return toHexString(hash);
+    }
+
+    /**
+     * Computes the part of the hash of a data file that a block of its records adds, which is the hash of the
+     * records without the NAME record.
+     *
+     * @param records The records of the block in the data file format.
+     * @return The hash of the block as a hexadecimal string.
+     */
+    static String hashOfBlock(List<String> records) {
+        BigInteger hash = BigInteger.ZERO;
+        for (String record : records) {
+            hash = hash.add(digestOf(record));
+        }
+        return toHexString(hash);
+    }
+
+    /**
+     * Removes the hashes of blocks of records from the hash of a data file, giving the hash of the data file
+     * without those blocks.
+     *
+     * @param hash        The hash of the data file as a hexadecimal string.
+     * @param blockHashes The hashes of the blocks, as returned by hashOfBlock.
+     * @return The hash of the data file without the blocks, as a hexadecimal string.
+     * @throws NumberFormatException If a hash is not a hexadecimal string.
+     */
+    static String subtractBlocks(String hash, List<String> blockHashes) {
+        BigInteger remainingHash = new BigInteger(hash, 16);
+        for (String blockHash : blockHashes) {
+            remainingHash = subtract(remainingHash, new BigInteger(blockHash, 16));
+        }
+        return toHexString(remainingHash);
+    }
+
+    private static String formatHealth(Health health) {
+        if (health instanceof Bmi) {
+            return dataFile.formatBmi((Bmi) health);
+        } else if (health instanceof Period) {
+            return dataFile.formatPeriod((Period) health);
+        }
+        return dataFile.formatAppointment((Appointment) health);
+    }
+
+    private static String formatName(String name) {
+        String trimmedName = name == null ? UiConstant.EMPTY_STRING : name.trim();
+        return UiConstant.NAME_LABEL + UiConstant.SPLIT_BY_COLON + trimmedName;
+    }
+
+    private static String toHexString(BigInteger hash) {
+        return String.format(HASH_FORMAT, hash.mod(MODULUS));
+    }
+}
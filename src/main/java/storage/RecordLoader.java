@@ -0,0 +1,129 @@
+package storage;
+
+import constants.WorkoutConstant;
+import utility.Filters.DataType;
+import utility.ValidationResult;
+
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+
+/**
+ * Represents a loader that validates the records of a data file in parallel before adding them to the lists.
+ * Validating a record only reads the record itself, so the records are split into chunks and validated by a
+ * parallel stream on the common ForkJoinPool. Creating an object adds it to HealthList or WorkoutLists, so the
+ * objects are then created one at a time in file order. This keeps every list exactly as it would be if the
+ * records were loaded one by one, including BMIs sorted newest-first and the recomputed period cycle lengths.
+ */
+public class RecordLoader {
+    private static final int RECORDS_PER_TASK = 256;
+
+    private final DataFile dataFile;
+    private final ArrayList<DataType> dataTypes = new ArrayList<>();
+    private final ArrayList<String[]> inputs = new ArrayList<>();
+    private final ArrayList<String> rawInputs = new ArrayList<>();
+    private final ArrayList<Long> fileOffsets = new ArrayList<>();
+    private final ArrayList<Integer> fileLengths = new ArrayList<>();
+    private PreparedRecord[] preparedRecords;
+    private ValidationResult[] invalidResults;
+    private Exception[] errors;
+
+    /**
+     * Constructs a RecordLoader that validates records using a DataFile.
+     *
+     * @param dataFile The DataFile used to validate each record.
+     */
+    public RecordLoader(DataFile dataFile) {
+        this.dataFile = dataFile;
+    }
+
+    /**
+     * Queues a record to be loaded.
+     *
+     * @param dataType The DataType of the record.
+     * @param input    The fields of the record.
+     * @param rawInput The raw record line. Only required for gym records.
+     */
+    public void addRecord(DataType dataType, String[] input, String rawInput) {
+        addRecord(dataType, input, rawInput, WorkoutConstant.NO_FILE_OFFSET, 0);
+    }
+
+    /**
+     * Queues a record to be loaded, along with its location in the data file.
+     *
+     * @param dataType   The DataType of the record.
+     * @param input      The fields of the record.
+     * @param rawInput   The raw record line. Only required for gym records.
+     * @param fileOffset The offset of the record in the data file.
+     * @param fileLength The length of the record in the data file.
+     */
+    public void addRecord(DataType dataType, String[] input, String rawInput, long fileOffset, int fileLength) {
+        dataTypes.add(dataType);
+        inputs.add(input);
+        rawInputs.add(rawInput);
+        fileOffsets.add(fileOffset);
+        fileLengths.add(fileLength);
+    }
+
+    /**
+     * Validates every queued record in parallel, then adds them to the lists in file order.
+     * Stops at the first record that is invalid, as loading one by one would.
+     *
+     * @return True if every record was loaded, false otherwise.
+     */
+    public boolean loadRecords() {
+        int numberOfRecords = dataTypes.size();
+        preparedRecords = new PreparedRecord[numberOfRecords];
+        invalidResults = new ValidationResult[numberOfRecords];
+        errors = new Exception[numberOfRecords];
+        if (numberOfRecords > RECORDS_PER_TASK) {
+            int numberOfTasks = (numberOfRecords + RECORDS_PER_TASK - 1) / RECORDS_PER_TASK;
+            IntStream.range(0, numberOfTasks).parallel().forEach(task -> prepareRange(task * RECORDS_PER_TASK,
+                    Math.min(numberOfRecords, (task + 1) * RECORDS_PER_TASK)));
+        } else {
+            prepareRange(0, numberOfRecords);
+        }
+
+        for (int i = 0; i < numberOfRecords; i++) {
+            if (invalidResults[i] != null) {
+                LogFile.writeLog("Data file is missing content at line " + i + "."
+                        + invalidResults[i].getMessage(), true);
+                return false;
+            }
+            try {
+                if (errors[i] != null) {
+                    throw errors[i];
+                }
+                preparedRecords[i].construct();
+            } catch (Exception e) {
+                LogFile.writeLog("Data file is missing content at line " + i + "." + e, true);
+                return false;
+            }
+        }
+        LogFile.writeLog("Loaded records: {0,number,#}", numberOfRecords, false);
+        return true;
+    }
+
+    /**
+     * Validates the records within a range, storing at its index each prepared record, or the result of the check
+     * that it failed. Records are checked without throwing, so invalid records cost no more than valid ones.
+     * Only a gym station that fails its checks, or a record that cannot be read, is stored as an exception.
+     *
+     * @param start The index of the first record.
+     * @param end   The index after the last record.
+     */
+    private void prepareRange(int start, int end) {
+        for (int i = start; i < end; i++) {
+            try {
+                ValidationResult result = dataFile.checkRecord(dataTypes.get(i), inputs.get(i));
+                if (!result.isValid()) {
+                    invalidResults[i] = result;
+                    continue;
+                }
+                preparedRecords[i] = dataFile.createRecord(dataTypes.get(i), inputs.get(i), rawInputs.get(i),
+                        fileOffsets.get(i), fileLengths.get(i));
+            } catch (Exception e) {
+                errors[i] = e;
+            }
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package storage;
+
+import utility.Filters.DataType;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+/**
+ * Represents a reader that tokenizes colon-delimited records straight from the bytes of a data file.
+ * The whole file is read in one bulk read, and each line is split by recording the offsets of its fields,
+ * so no intermediate line Strings, regular expressions or trimmed copies are created.
+ * Strings are only created for the fields that are requested.
+ * The file is read rather than memory-mapped, as a live mapping prevents the same file from being
+ * overwritten or deleted on Windows.
+ */
+public class RecordReader {
+    private static final byte COLON = ':';
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final byte WHITESPACE = ' ';
+    private static final int INITIAL_FIELD_CAPACITY = 16;
+
+    private final byte[] data;
+    private final int end;
+    private int position;
+    private int lineStart = 0;
+    private int lineEnd = 0;
+    private int[] fieldStarts = new int[INITIAL_FIELD_CAPACITY];
+    private int[] fieldEnds = new int[INITIAL_FIELD_CAPACITY];
+    private int fieldCount = 0;
+
+    /**
+     * Constructs a RecordReader over the contents of a file.
+     *
+     * @param file The file to read.
+     * @throws IOException If the file cannot be read.
+     */
+    public RecordReader(File file) throws IOException {
+        this(Files.readAllBytes(file.toPath()));
+    }
+
+    /**
+     * Constructs a RecordReader over the contents of a file that has already been read.
+     *
+     * @param data The contents of the file.
+     */
+    public RecordReader(byte[] data) {
+        this(data, 0, data.length);
+    }
+
+    /**
+     * Constructs a RecordReader over a range of the contents of a file, such as a single block.
+     *
+     * @param data  The contents of the file.
+     * @param start The offset of the first byte to read.
+     * @param end   The offset after the last byte to read.
+     */
+    public RecordReader(byte[] data, int start, int end) {
+        this.data = data;
+        this.position = start;
+        this.end = end;
+    }
+
+    /**
+     * Retrieves the offset of the first byte of the current line.
+     *
+     * @return The offset of the current line.
+     */
+    public int getLineStart() {
+        return lineStart;
+    }
+
+    /**
+     * Retrieves the offset after the last byte of the current line, excluding its line terminator.
+     *
+     * @return The offset of the end of the current line.
+     */
+    public int getLineEnd() {
+        return lineEnd;
+    }
+
+    /**
+     * Retrieves the offset of the byte after the current line.
+     *
+     * @return The offset of the next line.
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Advances to the next line and splits it into fields.
+     *
+     * @return True if there is another line, false if the end of the file has been reached.
+     */
+    public boolean nextLine() {
+        if (position >= end) {
+            return false;
+        }
+        lineStart = position;
+        int index = position;
+        while (index < end && data[index] != LINE_FEED) {
+            index++;
+        }
+        position = index + 1;
+        lineEnd = (index > lineStart && data[index - 1] == CARRIAGE_RETURN) ? index - 1 : index;
+        splitFields();
+        return true;
+    }
+
+    /**
+     * Retrieves the number of fields in the current line.
+     *
+     * @return The number of fields.
+     */
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * Retrieves a trimmed field of the current line.
+     *
+     * @param index The index of the field.
+     * @return The field as a String.
+     * @throws ArrayIndexOutOfBoundsException If the line has no field at that index.
+     */
+    public String getField(int index) {
+        if (index >= fieldCount) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        return decode(fieldStarts[index], fieldEnds[index]);
+    }
+
+    /**
+     * Retrieves all the trimmed fields of the current line.
+     *
+     * @return An array of the fields.
+     */
+    public String[] getFields() {
+        String[] fields = new String[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            fields[i] = decode(fieldStarts[i], fieldEnds[i]);
+        }
+        return fields;
+    }
+
+    /**
+     * Retrieves the current line without its line terminator.
+     *
+     * @return The current line as a String.
+     */
+    public String getLine() {
+        return decode(lineStart, lineEnd);
+    }
+
+    /**
+     * Matches the first field of the current line against the DataType labels without creating a String.
+     *
+     * @return The DataType of the current line.
+     * @throws IllegalArgumentException If the first field is not a DataType label.
+     */
+    public DataType getDataType() {
+        for (DataType dataType : DataType.values()) {
+            if (isFieldEqualTo(0, dataType.name())) {
+                return dataType;
+            }
+        }
+        throw new IllegalArgumentException("No DataType for record: " + getLine());
+    }
+
+    /**
+     * Checks whether a field of the current line equals an ASCII label.
+     *
+     * @param index The index of the field.
+     * @param label The ASCII label to compare against.
+     * @return True if the field equals the label, false otherwise.
+     */
+    public boolean isFieldEqualTo(int index, String label) {
+        if (index >= fieldCount || fieldEnds[index] - fieldStarts[index] != label.length()) {
+            return false;
+        }
+        for (int i = 0; i < label.length(); i++) {
+            if (data[fieldStarts[index] + i] != label.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Records the trimmed start and end offsets of each colon-delimited field in the current line.
+     * Trailing empty fields are dropped, matching String.split.
+     */
+    private void splitFields() {
+        fieldCount = 0;
+        int start = lineStart;
+        for (int i = lineStart; i <= lineEnd; i++) {
+            if (i == lineEnd || data[i] == COLON) {
+                addField(start, i);
+                start = i + 1;
+            }
+        }
+        while (fieldCount > 1 && fieldStarts[fieldCount - 1] == fieldEnds[fieldCount - 1]
+                && isUntrimmedEmpty(fieldCount - 1)) {
+            fieldCount--;
+        }
+    }
+
+    /**
+     * Adds a field, trimming leading and trailing whitespace and control characters like String.trim.
+     *
+     * @param start The offset of the first byte of the field.
+     * @param end   The offset after the last byte of the field.
+     */
+    private void addField(int start, int end) {
+        if (fieldCount == fieldStarts.length) {
+            int[] newStarts = new int[fieldCount * 2];
+            int[] newEnds = new int[fieldCount * 2];
+            System.arraycopy(fieldStarts, 0, newStarts, 0, fieldCount);
+            System.arraycopy(fieldEnds, 0, newEnds, 0, fieldCount);
+            fieldStarts = newStarts;
+            fieldEnds = newEnds;
+        }
+        int trimmedStart = start;
+        int trimmedEnd = end;
+        while (trimmedStart < trimmedEnd && (data[trimmedStart] & 0xff) <= WHITESPACE) {
+            trimmedStart++;
+        }
+        while (trimmedEnd > trimmedStart && (data[trimmedEnd - 1] & 0xff) <= WHITESPACE) {
+            trimmedEnd--;
+        }
+        fieldStarts[fieldCount] = trimmedStart;
+        fieldEnds[fieldCount] = trimmedEnd;
+        fieldCount++;
+    }
+
+    /**
+     * Checks whether a field had no bytes at all before trimming, i.e. two adjacent colons or a trailing colon.
+     *
+     * @param index The index of the field.
+     * @return True if the field was empty before trimming.
+     */
+    private boolean isUntrimmedEmpty(int index) {
+        int end = fieldEnds[index];
+        boolean isAfterSeparator = end == lineStart || data[end - 1] == COLON;
+        boolean isBeforeSeparator = end == lineEnd || data[end] == COLON;
+        return isAfterSeparator && isBeforeSeparator;
+    }
+
+    private String decode(int start, int end) {
+        return new String(data, start, end - start, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,152 @@
+package storage;
+
+import constants.UiConstant;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.logging.ErrorManager;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+import java.util.logging.StreamHandler;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Represents a log handler that writes to the log file and rotates it once it reaches a maximum size.
+ * The size is checked when the log file is flushed, which the log writer thread does after every batch.
+ * On rotation, the log file is compressed into segment 1, older segments move up by one, and the oldest
+ * segment beyond the number retained is deleted. The log file then starts again empty.
+ * Segment files are named after the log file, such as pulsepilot_log.txt.1.gz for the most recent one.
+ */
+public class RotatingLogHandler extends StreamHandler {
+    private final File logFile;
+    private final long maxFileBytes;
+    private final int retainedSegments;
+    private final boolean isAutoFlush;
+    private CountingOutputStream output;
+
+    /**
+     * Constructs a new RotatingLogHandler, replacing any existing log file.
+     *
+     * @param logFilePath      The path of the log file.
+     * @param maxFileBytes     The size at which the log file is rotated.
+     * @param retainedSegments The number of compressed segments kept.
+     * @param isAutoFlush      Whether the log file is flushed after every record.
+     * @throws IOException If the log file cannot be opened.
+     */
+    public RotatingLogHandler(String logFilePath, long maxFileBytes, int retainedSegments, boolean isAutoFlush)
+            throws IOException {
+        this.logFile = new File(logFilePath);
+        this.maxFileBytes = maxFileBytes;
+        this.retainedSegments = retainedSegments;
+        this.isAutoFlush = isAutoFlush;
+        setFormatter(new SimpleFormatter());
+        openLogFile();
+    }
+
+    /**
+     * Retrieves the file of a compressed segment.
+     *
+     * @param logFilePath The path of the log file.
+     * @param segment     The number of the segment, starting from 1 for the most recent.
+     * @return The segment file.
+     */
+    public static File getSegmentFile(String logFilePath, int segment) {
+        return new File(logFilePath + UiConstant.FULL_STOP + segment + UiConstant.LOG_SEGMENT_EXTENSION);
+    }
+
+    /**
+     * Writes a record to the log file, flushing it afterwards if auto flush is on.
+     *
+     * @param record The LogRecord to write.
+     */
+    @Override
+    public synchronized void publish(LogRecord record) {
+        super.publish(record);
+        if (isAutoFlush) {
+            flush();
+        }
+    }
+
+    /**
+     * Flushes the log file, rotating it afterwards if it has reached the maximum size.
+     */
+    @Override
+    public synchronized void flush() {
+        super.flush();
+        if (output != null && output.getCount() >= maxFileBytes) {
+            rotate();
+        }
+    }
+
+    private void openLogFile() throws IOException {
+        output = new CountingOutputStream(new FileOutputStream(logFile));
+        setOutputStream(output);
+    }
+
+    private void rotate() {
+        super.close();
+        output = null;
+        try {
+            File oldestSegment = getSegmentFile(logFile.getPath(), retainedSegments);
+            oldestSegment.delete();
+            for (int segment = retainedSegments - 1; segment >= 1; segment--) {
+                File segmentFile = getSegmentFile(logFile.getPath(), segment);
+                if (segmentFile.exists()) {
+                    Files.move(segmentFile.toPath(), getSegmentFile(logFile.getPath(), segment + 1).toPath(),
+                            StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            if (retainedSegments > 0) {
+                compress(logFile, getSegmentFile(logFile.getPath(), 1));
+            }
+        } catch (IOException e) {
+            reportError("Unable to rotate log file", e, ErrorManager.GENERIC_FAILURE);
+        }
+
+        try {
+            openLogFile();
+        } catch (IOException e) {
+            reportError("Unable to reopen log file", e, ErrorManager.OPEN_FAILURE);
+        }
+    }
+
+    private static void compress(File source, File destination) throws IOException {
+        try (InputStream in = Files.newInputStream(source.toPath());
+                OutputStream out = new GZIPOutputStream(new FileOutputStream(destination))) {
+            in.transferTo(out);
+        }
+    }
+
+    /**
+     * Represents an output stream that counts the bytes written through it.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count = 0;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+        private long getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package storage;
+
+import constants.ErrorConstant;
+import constants.UiConstant;
+import utility.Filters.DataType;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents the optional segmented layout of the data file, where each type of record is kept in its own
+ * segment file with its own SHA-256 hash. A small manifest ties the segments to the username and lists the hash
+ * of every segment, and the username and records are protected by the hash file like a single data file is.
+ * Saving only rewrites the segments whose records changed, and loading verifies the segments in parallel.
+ * The manifest is stored at the path of the data file while the segmented layout is selected.
+ * Runs and gyms share the WORKOUT segment, as WorkoutLists keeps them in one list ordered by creation.
+ * Manifest format:
+ * NAME:USERNAME
+ * SEGMENT:HASH_OF_SEGMENT
+ */
+public class SegmentedDataFile {
+    /**
+     * Represents the segments of the data file, in the order their records are loaded.
+     */
+    public enum Segment {
+        BMI, APPOINTMENT, PERIOD, WORKOUT
+    }
+
+    private final String name;
+    private final Map<Segment, String> segmentHashes;
+
+    private SegmentedDataFile(String name, Map<Segment, String> segmentHashes) {
+        this.name = name;
+        this.segmentHashes = segmentHashes;
+    }
+
+    /**
+     * Parses a manifest.
+     *
+     * @param manifestBytes The contents of the manifest file.
+     * @return The SegmentedDataFile described by the manifest.
+     * @throws IOException If the manifest is malformed.
+     */
+    public static SegmentedDataFile readManifest(byte[] manifestBytes) throws IOException {
+        String[] lines = new String(manifestBytes, StandardCharsets.UTF_8).split(System.lineSeparator());
+        String[] nameLine = lines[0].split(UiConstant.SPLIT_BY_COLON);
+        if (nameLine.length <= UiConstant.NAME_INDEX || !nameLine[UiConstant.DATA_TYPE_INDEX].equals(
+                UiConstant.NAME_LABEL)) {
+            throw new IOException(ErrorConstant.SEGMENT_MANIFEST_ERROR);
+        }
+
+        Map<Segment, String> segmentHashes = new EnumMap<>(Segment.class);
+        try {
+            for (int i = 1; i < lines.length; i++) {
+                String[] segmentLine = lines[i].split(UiConstant.SPLIT_BY_COLON);
+                segmentHashes.put(Segment.valueOf(segmentLine[0]), segmentLine[1]);
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException(ErrorConstant.SEGMENT_MANIFEST_ERROR);
+        }
+        if (segmentHashes.size() != Segment.values().length) {
+            throw new IOException(ErrorConstant.SEGMENT_MANIFEST_ERROR);
+        }
+        return new SegmentedDataFile(nameLine[UiConstant.NAME_INDEX], segmentHashes);
+    }
+
+    /**
+     * Retrieves the username stored in the manifest.
+     *
+     * @return The username.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Reads every segment in parallel and checks each against the hash listed in the manifest.
+     *
+     * @return The records of all segments in load order, or null if any segment does not match its hash.
+     * @throws IOException If a segment cannot be read.
+     */
+    public List<String> readVerifiedRecords() throws IOException {
+        List<CompletableFuture<byte[]>> reads = new ArrayList<>();
+        for (Segment segment : Segment.values()) {
+            reads.add(CompletableFuture.supplyAsync(() -> readVerifiedSegment(segment)));
+        }
+
+        List<String> records = new ArrayList<>();
+        try {
+            for (CompletableFuture<byte[]> read : reads) {
+                byte[] segmentBytes = read.join();
+                if (segmentBytes == null) {
+                    return null;
+                }
+                String contents = new String(segmentBytes, StandardCharsets.UTF_8);
+                if (!contents.isEmpty()) {
+                    records.addAll(Arrays.asList(contents.split(System.lineSeparator())));
+                }
+            }
+        } catch (RuntimeException e) {
+            throw new IOException(ErrorConstant.LOAD_ERROR + e.getMessage());
+        }
+        return records;
+    }
+
+    /**
+     * Saves records into their segments, rewriting only the segments whose contents differ from the hashes in
+     * the existing manifest, then rewrites the manifest.
+     *
+     * @param name    The username.
+     * @param records The records in the data file format, as returned by DataFile.formatRecords.
+     * @throws IOException If a segment or the manifest cannot be written.
+     */
+    public static void write(String name, List<String> records) throws IOException {
+        Map<Segment, StringBuilder> contents = new EnumMap<>(Segment.class);
+        for (Segment segment : Segment.values()) {
+            contents.put(segment, new StringBuilder());
+        }
+        for (String record : records) {
+            String dataType = record.substring(0, record.indexOf(UiConstant.SPLIT_BY_COLON));
+            contents.get(getSegment(DataType.valueOf(dataType))).append(record).append(System.lineSeparator());
+        }
+
+        Map<Segment, String> previousHashes = readExistingHashes();
+        StringBuilder manifest = new StringBuilder(UiConstant.NAME_LABEL + UiConstant.SPLIT_BY_COLON
+                + name.trim() + System.lineSeparator());
+        for (Segment segment : Segment.values()) {
+            byte[] segmentBytes = contents.get(segment).toString().getBytes(StandardCharsets.UTF_8);
+            String hash = hashOf(segmentBytes);
+            File segmentFile = getSegmentFile(segment);
+            if (!hash.equals(previousHashes.get(segment)) || !segmentFile.exists()) {
+                Files.write(segmentFile.toPath(), segmentBytes);
+                LogFile.writeLog("Wrote segment " + segment, false);
+            }
+            manifest.append(segment).append(UiConstant.SPLIT_BY_COLON).append(hash).append(System.lineSeparator());
+        }
+        Files.write(UiConstant.saveFile.toPath(), manifest.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Deletes every segment file.
+     */
+    public static void deleteSegments() {
+        for (Segment segment : Segment.values()) {
+            getSegmentFile(segment).delete();
+        }
+    }
+
+    /**
+     * Retrieves the segment that records of a DataType are stored in.
+     *
+     * @param dataType The DataType of the record.
+     * @return The segment of the record.
+     */
+    public static Segment getSegment(DataType dataType) {
+        switch (dataType) {
+        case BMI:
+            return Segment.BMI;
+
+        case APPOINTMENT:
+            return Segment.APPOINTMENT;
+
+        case PERIOD:
+            return Segment.PERIOD;
+
+        default:
+            return Segment.WORKOUT;
+        }
+    }
+
+    /**
+     * Retrieves the file of a segment.
+     *
+     * @param segment The segment.
+     * @return The segment file.
+     */
+    public static File getSegmentFile(Segment segment) {
+        return new File(UiConstant.segmentFilePrefix + segment.name().toLowerCase()
+                + UiConstant.SEGMENT_FILE_EXTENSION);
+    }
+
+    private byte[] readVerifiedSegment(Segment segment) {
+        try {
+            byte[] segmentBytes = Files.readAllBytes(getSegmentFile(segment).toPath());
+            if (!hashOf(segmentBytes).equals(segmentHashes.get(segment))) {
+                LogFile.writeLog("Segment hash mismatch: " + segment, true);
+                return null;
+            }
+            return segmentBytes;
+        } catch (IOException e) {
+            LogFile.writeLog("Unable to read segment " + segment + ": " + e.getMessage(), true);
+            return null;
+        }
+    }
+
+    private static Map<Segment, String> readExistingHashes() {
+        try {
+            return readManifest(Files.readAllBytes(UiConstant.saveFile.toPath())).segmentHashes;
+        } catch (IOException e) {
+            return new EnumMap<>(Segment.class);
+        }
+    }
+
+    private static String hashOf(byte[] bytes) throws IOException {
+        try {
+            return DataFile.toHexString(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(ErrorConstant.HASH_ERROR);
+        }
+    }
+}
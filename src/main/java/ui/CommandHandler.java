@@ -0,0 +1,20 @@
+package ui;
+
+import utility.CustomExceptions;
+
+/**
+ * Represents the handling of one kind of user input, registered in a dispatch table of Handler.
+ */
+@FunctionalInterface
+interface CommandHandler {
+    /**
+     * Handles the user input.
+     *
+     * @param userInput The user input string.
+     * @throws CustomExceptions.InvalidInput If the user input is invalid.
+     * @throws CustomExceptions.InsufficientInput If the user input is missing parameters.
+     * @throws CustomExceptions.OutOfBounds If the user input refers to an item that does not exist.
+     */
+    void handle(String userInput) throws CustomExceptions.InvalidInput, CustomExceptions.InsufficientInput,
+            CustomExceptions.OutOfBounds;
+}
@@ -5,7 +5,11 @@ import health.Appointment;
 import health.Bmi;
 import health.HealthList;
 import health.Period;
+import storage.AutoSave;
 import storage.DataFile;
+import storage.GymDetails;
+import storage.JournalFile;
+import utility.CommandTokens;
 import utility.CustomExceptions;
 import constants.ErrorConstant;
 import constants.UiConstant;
@@ -14,13 +18,19 @@ import constants.WorkoutConstant;
 import utility.Filters.Command;
 import utility.Filters.DeleteFilters;
 import utility.Filters.HealthFilters;
+import utility.KeywordTable;
 import utility.Parser;
 import utility.Filters.WorkoutFilters;
 import utility.Validation;
 import workouts.Workout;
 import workouts.WorkoutLists;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Scanner;
 import storage.LogFile;
 
@@ -31,11 +41,36 @@ public class Handler {
 
     //@@author JustinSoh
     static LogFile logFile = LogFile.getInstance();
+    private static final KeywordTable<Command> COMMANDS = new KeywordTable<>(Command.class);
+    private static final KeywordTable<WorkoutFilters> WORKOUT_TYPES = new KeywordTable<>(WorkoutFilters.class);
+    private static final KeywordTable<HealthFilters> HEALTH_TYPES = new KeywordTable<>(HealthFilters.class);
+    private static final KeywordTable<DeleteFilters> DELETE_TYPES = new KeywordTable<>(DeleteFilters.class);
+    private static final Map<DeleteFilters, ItemDeleter> DELETERS = new EnumMap<>(DeleteFilters.class);
     private final Scanner in;
     private final Parser parser;
     private final DataFile dataFile;
     private final Output output;
     private final Validation validation;
+    private final Map<Command, CommandHandler> commandHandlers = new EnumMap<>(Command.class);
+    private final Map<WorkoutFilters, CommandHandler> workoutHandlers = new EnumMap<>(WorkoutFilters.class);
+    private final Map<HealthFilters, CommandHandler> healthHandlers = new EnumMap<>(HealthFilters.class);
+
+    static {
+        DELETERS.put(DeleteFilters.BMI, index -> JournalFile.recordDelete(HealthList.deleteBmi(index)));
+        DELETERS.put(DeleteFilters.PERIOD, index -> JournalFile.recordDelete(HealthList.deletePeriod(index)));
+        DELETERS.put(DeleteFilters.GYM, index -> JournalFile.recordDelete(WorkoutLists.deleteGym(index)));
+        DELETERS.put(DeleteFilters.RUN, index -> JournalFile.recordDelete(WorkoutLists.deleteRun(index)));
+        DELETERS.put(DeleteFilters.APPOINTMENT,
+                index -> JournalFile.recordDelete(HealthList.deleteAppointment(index)));
+    }
+
+    /**
+     * Represents the deletion of an item at an index from one of the lists, which is then recorded in the journal.
+     */
+    @FunctionalInterface
+    private interface ItemDeleter {
+        void delete(int index) throws CustomExceptions.OutOfBounds;
+    }
 
     public Handler(){
         in = new Scanner(System.in);
@@ -43,6 +78,7 @@ public class Handler {
         dataFile = new DataFile();
         output = new Output();
         validation = new Validation();
+        registerHandlers();
     }
 
     public Handler(String input){
@@ -51,61 +87,64 @@ public class Handler {
         dataFile = new DataFile();
         output = new Output();
         validation = new Validation();
+        registerHandlers();
+    }
+
+    /**
+     * Registers the handler of every command, workout type and health type in the dispatch tables.
+     * EXIT has no handler, as it ends processInput.
+     */
+    private void registerHandlers() {
+        commandHandlers.put(Command.WORKOUT, this::handleWorkout);
+        commandHandlers.put(Command.HEALTH, this::handleHealth);
+        commandHandlers.put(Command.HISTORY, this::handleHistory);
+        commandHandlers.put(Command.LATEST, this::handleLatest);
+        commandHandlers.put(Command.DELETE, this::handleDelete);
+        commandHandlers.put(Command.HELP, userInput -> output.printHelp());
+        commandHandlers.put(Command.LOG, this::handleLog);
+
+        workoutHandlers.put(WorkoutFilters.RUN, parser::parseRunInput);
+        workoutHandlers.put(WorkoutFilters.GYM, parser::parseGymInput);
+
+        healthHandlers.put(HealthFilters.BMI, parser::parseBmiInput);
+        healthHandlers.put(HealthFilters.PERIOD, parser::parsePeriodInput);
+        healthHandlers.put(HealthFilters.PREDICTION, userInput -> parser.parsePredictionInput());
+        healthHandlers.put(HealthFilters.APPOINTMENT, parser::parseAppointmentInput);
     }
 
     //@@author L5-Z
     /**
      * Processes user input and filters for valid command words from enum Command,
      * then creates the relevant object based on details entered.
-     *
-     * @throws IllegalArgumentException If an error occurs during command processing.
+     * The command word is looked up where it is in the input, ignoring case, and its handler is taken from
+     * the dispatch table.
      */
     public void processInput() {
         while (in.hasNextLine()) {
             String userInput = in.nextLine().trim();
-            String instruction = userInput.toUpperCase().split(UiConstant.SPLIT_BY_WHITESPACE)[0];
-            LogFile.writeLog("User Input: " + userInput, false);
-            assert userInput != null : "Object cannot be null";
+            Command command = COMMANDS.lookupFirstWord(userInput);
+            LogFile.writeLog("User Input: {0}", userInput, false);
 
+            if (command == null) {
+                LogFile.writeLog("Invalid Command Error: " + userInput, true);
+                output.printException(ErrorConstant.INVALID_COMMAND_ERROR);
+                continue;
+            }
+            if (command == Command.EXIT) {
+                System.out.println(UiConstant.EXIT_MESSAGE);
+                return;
+            }
             try {
-                Command command = Command.valueOf(instruction);
-                switch (command) {
-                case EXIT:
-                    System.out.println(UiConstant.EXIT_MESSAGE);
-                    return;
-
-                case WORKOUT:
-                    handleWorkout(userInput);
-                    break;
-
-                case HEALTH:
-                    handleHealth(userInput);
-                    break;
-
-                case HISTORY:
-                    handleHistory(userInput);
-                    break;
-
-                case LATEST:
-                    handleLatest(userInput);
-                    break;
-
-                case DELETE:
-                    handleDelete(userInput);
-                    break;
-
-                case HELP:
-                    output.printHelp();
-                    break;
-
-                default:
-                    break; // valueOf results in immediate exception for non-match with enum Command
-                }
-            } catch (CustomExceptions.InvalidInput e) {
+                commandHandlers.get(command).handle(userInput);
+            } catch (CustomExceptions.InvalidInput | CustomExceptions.InsufficientInput
+                     | CustomExceptions.OutOfBounds e) {
                 output.printException(e.getMessage());
             } catch (IllegalArgumentException e) {
                 LogFile.writeLog("Invalid Command Error: " + userInput, true);
                 output.printException(ErrorConstant.INVALID_COMMAND_ERROR);
+            } catch (UncheckedIOException e) {
+                LogFile.writeLog("Unable to read gym stations: " + e.getMessage(), true);
+                output.printException(ErrorConstant.LOAD_GYM_STATIONS_ERROR);
             }
         }
     }
@@ -118,26 +157,17 @@ public class Handler {
      * @param userInput The user input string.
      */
     public void handleWorkout(String userInput) {
+        WorkoutFilters filter = CommandTokens.tokenize(userInput).getKeyword(WorkoutConstant.EXERCISE_FLAG,
+                WORKOUT_TYPES);
+        if (filter == null) {
+            output.printException(ErrorConstant.INVALID_WORKOUT_TYPE_ERROR);
+            return;
+        }
         try {
-            String typeOfWorkout = parser.extractSubstringFromSpecificIndex(userInput,
-                    WorkoutConstant.EXERCISE_FLAG);
-            WorkoutFilters filter = WorkoutFilters.valueOf(typeOfWorkout.toUpperCase());
-            switch(filter) {
-            case RUN:
-                parser.parseRunInput(userInput);
-                break;
-
-            case GYM:
-                parser.parseGymInput(userInput);
-                break;
-
-            default:
-                break;
-            }
-        } catch (CustomExceptions.InvalidInput | CustomExceptions.InsufficientInput e) {
+            workoutHandlers.get(filter).handle(userInput);
+        } catch (CustomExceptions.InvalidInput | CustomExceptions.InsufficientInput
+                 | CustomExceptions.OutOfBounds e) {
             output.printException(e.getMessage());
-        } catch (IllegalArgumentException e) {
-            output.printException(ErrorConstant.INVALID_WORKOUT_TYPE_ERROR);
         }
     }
 
@@ -152,7 +182,7 @@ public class Handler {
         String filter = parser.parseHistory(userInput);
         if (filter != null) {
             output.printHistory(filter);
-            LogFile.writeLog("Viewed history for " + filter, false);
+            LogFile.writeLog("Viewed history for {0}", filter, false);
         }
     }
 
@@ -169,37 +199,33 @@ public class Handler {
             return;
         }
         try {
-            DeleteFilters filter = DeleteFilters.valueOf(parsedInputs[0].toUpperCase());
+            DeleteFilters filter = DELETE_TYPES.lookup(parsedInputs[0]);
             int index = Integer.parseInt(parsedInputs[1]) - 1;
-            switch (filter) {
-            case BMI:
-                HealthList.deleteBmi(index);
-                break;
-
-            case PERIOD:
-                HealthList.deletePeriod(index);
-                break;
-
-            case GYM:
-                WorkoutLists.deleteGym(index);
-                break;
-
-            case RUN:
-                WorkoutLists.deleteRun(index);
-                break;
-
-            case APPOINTMENT:
-                HealthList.deleteAppointment(index);
-                break;
-
-            default:
-                break;
-            }
+            DELETERS.get(filter).delete(index);
         } catch (CustomExceptions.OutOfBounds e) {
             output.printException(e.getMessage());
         }
     }
 
+    /**
+     * Handles the log command.
+     * Prints the last lines of the log file, optionally only those containing a search term.
+     *
+     * @param userInput The user input string.
+     */
+    public void handleLog(String userInput) {
+        String[] logDetails = parser.parseLogInput(userInput);
+        if (logDetails == null) {
+            return;
+        }
+        try {
+            List<String> lines = LogFile.tailLog(Integer.parseInt(logDetails[0]), logDetails[1]);
+            output.printLogLines(lines);
+        } catch (IOException e) {
+            output.printException(ErrorConstant.READ_LOG_ERROR);
+        }
+    }
+
     //@@author syj02
     /**
      * Handles Health command.
@@ -208,33 +234,16 @@ public class Handler {
      * @param userInput The user input string.
      */
     public void handleHealth(String userInput) {
+        HealthFilters filter = CommandTokens.tokenize(userInput).getKeyword(HealthConstant.HEALTH_FLAG,
+                HEALTH_TYPES);
+        if (filter == null) {
+            output.printException(ErrorConstant.INVALID_HEALTH_INPUT_ERROR);
+            return;
+        }
         try {
-            String typeOfHealth = parser.extractSubstringFromSpecificIndex(userInput, HealthConstant.HEALTH_FLAG);
-            HealthFilters filter = HealthFilters.valueOf(typeOfHealth.toUpperCase());
-            switch(filter) {
-            case BMI:
-                parser.parseBmiInput(userInput);
-                break;
-
-            case PERIOD:
-                parser.parsePeriodInput(userInput);
-                break;
-
-            case PREDICTION:
-                parser.parsePredictionInput();
-                break;
-
-            case APPOINTMENT:
-                parser.parseAppointmentInput(userInput);
-                break;
-
-            default:
-                break;
-            }
+            healthHandlers.get(filter).handle(userInput);
         } catch (CustomExceptions.InvalidInput | CustomExceptions.InsufficientInput | CustomExceptions.OutOfBounds e) {
             output.printException(e.getMessage());
-        } catch (IllegalArgumentException e) {
-            output.printException(ErrorConstant.INVALID_HEALTH_INPUT_ERROR);
         }
     }
 
@@ -249,7 +258,7 @@ public class Handler {
         String filter = parser.parseLatest(userInput);
         if (filter != null) {
             output.printLatest(filter);
-            LogFile.writeLog("Viewed latest for " + filter, false);
+            LogFile.writeLog("Viewed latest for {0}", filter, false);
         }
     }
 
@@ -277,7 +286,7 @@ public class Handler {
         System.out.println("Initiating FTL jump sequence...");
 
         // DataFile.saveName(name);
-        LogFile.writeLog("Name Entered: " + name, false);
+        LogFile.writeLog("Name Entered: {0}", name, false);
         System.out.println("FTL jump completed.");
     }
 
@@ -304,6 +313,13 @@ public class Handler {
             userInduction();
         }
 
+        try {
+            JournalFile.openJournal();
+        } catch (CustomExceptions.FileWriteError e) {
+            output.printException(e.getMessage());
+        }
+        AutoSave.startAutoSave();
+
         System.out.println("Terminal primed. Command inputs are now accepted...");
         Output.printLine();
     }
@@ -311,25 +327,32 @@ public class Handler {
     /**
      * Terminates PulsePilot by saving tasks to storage, printing a goodbye message,
      * and indicating the filename where tasks are saved.
+     * If the journal is open, all changes are already journaled and only pending writes are flushed.
      */
     public void terminateBot() {
         LogFile.writeLog("User terminating PulsePilot", false);
+        AutoSave.stopAutoSave();
 
-        try {
-            LogFile.writeLog("Attempting to save data file", false);
+        if (JournalFile.isOpen()) {
+            JournalFile.closeJournal();
+        } else {
+            try {
+                LogFile.writeLog("Attempting to save data file", false);
 
-            String userName = DataFile.userName;
-            ArrayList<Workout> workoutList = WorkoutLists.getWorkouts();
-            ArrayList<Bmi> bmiList = HealthList.getBmis();
-            ArrayList<Appointment> appointmentList = HealthList.getAppointments();
-            ArrayList<Period> periodList = HealthList.getPeriods();
-            dataFile.saveDataFile(userName, bmiList, appointmentList, periodList, workoutList);
+                String userName = DataFile.userName;
+                ArrayList<Workout> workoutList = WorkoutLists.getWorkouts();
+                ArrayList<Bmi> bmiList = HealthList.getBmis();
+                ArrayList<Appointment> appointmentList = HealthList.getAppointments();
+                ArrayList<Period> periodList = HealthList.getPeriods();
+                dataFile.saveDataFile(userName, bmiList, appointmentList, periodList, workoutList);
 
-        } catch (CustomExceptions.FileWriteError e) {
-            LogFile.writeLog("File write error", true);
-            output.printException(e.getMessage());
+            } catch (CustomExceptions.FileWriteError e) {
+                LogFile.writeLog("File write error", true);
+                output.printException(e.getMessage());
+            }
         }
 
+        GymDetails.close();
         output.printGoodbyeMessage();
         // Yet to implement : Reply.printReply("Saved tasks as: " + Constant.FILE_NAME);
         LogFile.writeLog("Bot exited gracefully", false);
@@ -5,6 +5,7 @@ import constants.UiConstant;
 import constants.WorkoutConstant;
 import constants.HealthConstant;
 import utility.CustomExceptions;
+import utility.KeywordTable;
 
 import workouts.Gym;
 import workouts.GymStation;
@@ -17,12 +18,16 @@ import health.Period;
 import health.Appointment;
 import utility.Filters.HistoryAndLatestFilters;
 
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * The Output class handles printing various messages, data, and ASCII art for the user interface.
  */
 public class Output {
+    private static final KeywordTable<HistoryAndLatestFilters> HISTORY_AND_LATEST_TYPES =
+            new KeywordTable<>(HistoryAndLatestFilters.class);
 
     //@@author L5-Z
     /**
@@ -54,6 +59,8 @@ public class Output {
         System.out.println("delete /item:[run/gym/bmi/period/appointment] /index:INDEX - " +
                 "Deletes a run/gym/bmi/period/appointment record");
 
+        System.out.println("log [/lines:NUMBER_OF_LINES] [/search:TEXT] - " +
+                "Shows the latest log entries, optionally only those containing TEXT");
         System.out.println("help - Show this help message");
         System.out.println("exit - Exit the program");
         printLine();
@@ -182,8 +189,12 @@ public class Output {
      * @param filter The type of item, which is set to Workouts, Run, Gym, Bmi, Period, or Appointment.
      */
     public void printHistory(String filter) {
+        HistoryAndLatestFilters parsedFilter = HISTORY_AND_LATEST_TYPES.lookup(filter);
+        if (parsedFilter == null) {
+            printException(ErrorConstant.INVALID_HISTORY_FILTER_ERROR);
+            return;
+        }
         try {
-            HistoryAndLatestFilters parsedFilter = HistoryAndLatestFilters.valueOf(filter.toUpperCase());
             switch (parsedFilter) {
             case WORKOUTS:
                 printWorkoutHistory();
@@ -214,8 +225,6 @@ public class Output {
             }
         } catch (CustomExceptions.OutOfBounds | CustomExceptions.InvalidInput e ) {
             printException(e.getMessage());
-        } catch (IllegalArgumentException e) {
-            printException(ErrorConstant.INVALID_HISTORY_FILTER_ERROR);
         }
     }
 
@@ -229,6 +238,22 @@ public class Output {
         System.err.println("\u001b[31mException Caught!" + System.lineSeparator() + message + "\u001b[0m");
     }
 
+    /**
+     * Prints lines of the log file.
+     *
+     * @param lines The log lines to be printed, from oldest to newest.
+     */
+    public void printLogLines(List<String> lines) {
+        printLine();
+        if (lines.isEmpty()) {
+            System.out.println(UiConstant.NO_LOG_LINES_MESSAGE);
+        }
+        for (String line : lines) {
+            System.out.println(line);
+        }
+        printLine();
+    }
+
     //@@author L5-Z
     /**
      * Prints the welcome banner for PulsePilot.
@@ -263,9 +288,18 @@ public class Output {
      * @param gym Gym to delete
      */
     public static void printDeleteGymMessage(Gym gym){
+        printDeleteGymMessage(gym.getNumberOfStations());
+    }
+
+    /**
+     * Prints delete gym message for a gym session that is removed before it is added, such as one left
+     * while its stations are being entered.
+     *
+     * @param numberOfStations Number of stations in the gym session.
+     */
+    public static void printDeleteGymMessage(int numberOfStations){
         Output.printLine();
-        String messageString = String.format(WorkoutConstant.GYM_DELETE_MESSAGE_FORMAT,
-                gym.getStations().size());
+        String messageString = String.format(WorkoutConstant.GYM_DELETE_MESSAGE_FORMAT, numberOfStations);
 
         System.out.println(messageString);
         Output.printLine();
@@ -413,34 +447,34 @@ public class Output {
      * @param filter The type of item, which is set to Run, Gym, Bmi, Period, or Appointment.
      */
     protected void printLatest(String filter) {
-        try {
-            HistoryAndLatestFilters parsedFilter = HistoryAndLatestFilters.valueOf(filter.toUpperCase());
-            switch (parsedFilter) {
-            case RUN:
-                printLatestRun();
-                break;
+        HistoryAndLatestFilters parsedFilter = HISTORY_AND_LATEST_TYPES.lookup(filter);
+        if (parsedFilter == null) {
+            printException(ErrorConstant.INVALID_LATEST_OR_DELETE_FILTER);
+            return;
+        }
+        switch (parsedFilter) {
+        case RUN:
+            printLatestRun();
+            break;
 
-            case GYM:
-                printLatestGym();
-                break;
+        case GYM:
+            printLatestGym();
+            break;
 
-            case BMI:
-                printLatestBmi();
-                break;
+        case BMI:
+            printLatestBmi();
+            break;
 
-            case PERIOD:
-                printLatestPeriod();
-                break;
+        case PERIOD:
+            printLatestPeriod();
+            break;
 
-            case APPOINTMENT:
-                printLatestAppointment();
-                break;
+        case APPOINTMENT:
+            printLatestAppointment();
+            break;
 
-            default:
-                break;
-            }
-        } catch (IllegalArgumentException e) {
-            printException(ErrorConstant.INVALID_LATEST_OR_DELETE_FILTER);
+        default:
+            break;
         }
     }
 
@@ -486,17 +520,21 @@ public class Output {
                             (i + 1), formattedRunString);
                 } else {
                     Gym gym = (Gym) workout;
-                    int numberOfStation = gym.getStations().size();
-                    for (int j = 0; j < numberOfStation; j++) {
-                        String gymString;
-                        if (j == 0) {
-                            gymString = String.format(WorkoutConstant.HISTORY_WORKOUTS_DATA_HEADER_FORMAT,
-                                    (i + 1), gym.getHistoryFormatForSpecificGymStation(j));
-                        } else {
-                            gymString = String.format(WorkoutConstant.HISTORY_WORKOUTS_DATA_HEADER_FORMAT,
-                                    "", gym.getHistoryFormatForSpecificGymStation(j));
+                    try {
+                        int numberOfStation = gym.getStations().size();
+                        for (int j = 0; j < numberOfStation; j++) {
+                            String gymString;
+                            if (j == 0) {
+                                gymString = String.format(WorkoutConstant.HISTORY_WORKOUTS_DATA_HEADER_FORMAT,
+                                        (i + 1), gym.getHistoryFormatForSpecificGymStation(j));
+                            } else {
+                                gymString = String.format(WorkoutConstant.HISTORY_WORKOUTS_DATA_HEADER_FORMAT,
+                                        "", gym.getHistoryFormatForSpecificGymStation(j));
+                            }
+                            System.out.println(gymString);
                         }
-                        System.out.println(gymString);
+                    } catch (UncheckedIOException e) {
+                        printException(ErrorConstant.LOAD_GYM_STATIONS_ERROR);
                     }
                 }
             }
@@ -533,10 +571,18 @@ public class Output {
     /**
      * Prints all the stations within a specified Gym object.
      *
+     * If the stations of a lazy Gym cannot be read from the data file, an error is printed instead.
+     *
      * @param gym The Gym object containing the GymStation objects to be printed.
      */
     protected void printGymStats(Gym gym) {
-        ArrayList<GymStation> allStations = gym.getStations();
+        ArrayList<GymStation> allStations;
+        try {
+            allStations = gym.getStations();
+        } catch (UncheckedIOException e) {
+            printException(ErrorConstant.LOAD_GYM_STATIONS_ERROR);
+            return;
+        }
         for (int i = 0; i < allStations.size(); i++) {
             System.out.printf("Station %d %s%n", i + 1, allStations.get(i).toString());
         }
@@ -0,0 +1,175 @@
+package utility;
+
+/**
+ * Represents a command line split into its flags in a single pass.
+ * A flag starts at a '/' and ends at the first ':' after it, such as "/date:", and its value is the text after the
+ * flag up to the next '/' or the end of the line. The text before the first '/' is the head of the command.
+ * Only the positions of the flags and values are kept, and a value String is only created when it is retrieved,
+ * so tokenizing a command line creates no objects other than the CommandTokens itself and its position array.
+ */
+public class CommandTokens {
+    private static final char FLAG_START = '/';
+    private static final char FLAG_END = ':';
+    private static final int INITIAL_NUMBER_OF_FLAGS = 6;
+    private static final int POSITIONS_PER_FLAG = 3;
+    private static final int FLAG_OFFSET = 0;
+    private static final int VALUE_OFFSET = 1;
+    private static final int END_OFFSET = 2;
+
+    private final String input;
+    private int[] positions = new int[INITIAL_NUMBER_OF_FLAGS * POSITIONS_PER_FLAG];
+    private int numberOfFlags = 0;
+    private int numberOfSlashes = 0;
+    private int headEnd;
+
+    /**
+     * Constructs CommandTokens by going through the command line once.
+     *
+     * @param input The command line.
+     */
+    private CommandTokens(String input) {
+        this.input = input;
+        int length = input.length();
+        headEnd = length;
+        int segmentStart = -1;
+        int valueStart = -1;
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            if (c == FLAG_START) {
+                if (numberOfSlashes == 0) {
+                    headEnd = i;
+                }
+                addFlag(segmentStart, valueStart, i);
+                numberOfSlashes++;
+                segmentStart = i;
+                valueStart = -1;
+            } else if (c == FLAG_END && valueStart == -1 && segmentStart != -1) {
+                valueStart = i + 1;
+            }
+        }
+        addFlag(segmentStart, valueStart, length);
+    }
+
+    /**
+     * Splits a command line into its flags.
+     *
+     * @param input The command line.
+     * @return The CommandTokens of the command line.
+     */
+    public static CommandTokens tokenize(String input) {
+        return new CommandTokens(input);
+    }
+
+    /**
+     * Retrieves the number of '/' characters in the command line.
+     *
+     * @return The number of '/' characters.
+     */
+    public int getNumberOfSlashes() {
+        return numberOfSlashes;
+    }
+
+    /**
+     * Checks whether the command line contains a flag.
+     *
+     * @param flag The flag, starting with '/' and ending with ':'.
+     * @return True if the flag is present, otherwise false.
+     */
+    public boolean hasFlag(String flag) {
+        return findFlag(flag) != -1;
+    }
+
+    /**
+     * Retrieves the value of the first occurrence of a flag, without leading and trailing whitespace.
+     *
+     * @param flag The flag, starting with '/' and ending with ':'.
+     * @return The value of the flag, or an empty string if the flag is not present.
+     */
+    public String getValue(String flag) {
+        int index = findFlag(flag);
+        if (index == -1) {
+            return "";
+        }
+        return trimmedSubstring(positions[index + VALUE_OFFSET], positions[index + END_OFFSET]);
+    }
+
+    /**
+     * Retrieves the constant of an enum named by the value of the first occurrence of a flag, ignoring case and
+     * leading and trailing whitespace, without creating the value String.
+     *
+     * @param flag  The flag, starting with '/' and ending with ':'.
+     * @param table The KeywordTable of the enum.
+     * @param <E>   The enum whose constants are looked up.
+     * @return The matching constant, or null if the flag is not present or its value matches no constant.
+     */
+    public <E extends Enum<E>> E getKeyword(String flag, KeywordTable<E> table) {
+        int index = findFlag(flag);
+        if (index == -1) {
+            return null;
+        }
+        int start = positions[index + VALUE_OFFSET];
+        int end = positions[index + END_OFFSET];
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return table.lookup(input, start, end);
+    }
+
+    /**
+     * Retrieves the text before the first '/', without leading and trailing whitespace.
+     *
+     * @return The head of the command line.
+     */
+    public String getHead() {
+        return trimmedSubstring(0, headEnd);
+    }
+
+    /**
+     * Records a flag that ends at a specified position, if the text from its '/' contains a ':'.
+     */
+    private void addFlag(int segmentStart, int valueStart, int end) {
+        if (segmentStart == -1 || valueStart == -1) {
+            return;
+        }
+        int offset = numberOfFlags * POSITIONS_PER_FLAG;
+        if (offset == positions.length) {
+            int[] grown = new int[positions.length * 2];
+            System.arraycopy(positions, 0, grown, 0, positions.length);
+            positions = grown;
+        }
+        positions[offset + FLAG_OFFSET] = segmentStart;
+        positions[offset + VALUE_OFFSET] = valueStart;
+        positions[offset + END_OFFSET] = end;
+        numberOfFlags++;
+    }
+
+    /**
+     * Finds the first flag that is the same as a specified flag.
+     *
+     * @return The offset of the flag in the position array, or -1 if it is not present.
+     */
+    private int findFlag(String flag) {
+        for (int i = 0; i < numberOfFlags; i++) {
+            int offset = i * POSITIONS_PER_FLAG;
+            int start = positions[offset + FLAG_OFFSET];
+            int flagLength = positions[offset + VALUE_OFFSET] - start;
+            if (flagLength == flag.length() && input.regionMatches(start, flag, 0, flagLength)) {
+                return offset;
+            }
+        }
+        return -1;
+    }
+
+    private String trimmedSubstring(int start, int end) {
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return input.substring(start, end);
+    }
+}
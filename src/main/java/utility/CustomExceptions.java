@@ -4,6 +4,8 @@ import constants.ErrorConstant;
 import storage.LogFile;
 /**
  * Represents a custom exception class designed for PulsePilot to handle errors during command processing.
+ * The exceptions do not record a stack trace, as they are only used to report an error message to the user.
+ * Code that checks many inputs at once should use the ValidationResult check methods of Validation instead.
  */
 public class CustomExceptions extends Exception {
 
@@ -16,7 +18,7 @@ public class CustomExceptions extends Exception {
             super(ErrorConstant.COLOR_HEADING
                     + ErrorConstant.OUT_OF_BOUND_HEADER
                     + message
-                    + ErrorConstant.COLOR_ENDING);
+                    + ErrorConstant.COLOR_ENDING, null, false, false);
             LogFile.writeLog(ErrorConstant.OUT_OF_BOUND_HEADER + message, true);
         }
     }
@@ -29,7 +31,7 @@ public class CustomExceptions extends Exception {
             super(ErrorConstant.COLOR_HEADING
                     + ErrorConstant.INVALID_INPUT_HEADER
                     + message
-                    + ErrorConstant.COLOR_ENDING);
+                    + ErrorConstant.COLOR_ENDING, null, false, false);
             LogFile.writeLog(ErrorConstant.INVALID_INPUT_HEADER + message, true);
         }
     }
@@ -40,7 +42,8 @@ public class CustomExceptions extends Exception {
      */
     public static class FileReadError extends Exception{
         public FileReadError(String message) {
-            super(ErrorConstant.COLOR_HEADING + ErrorConstant.FILE_READ_HEADER + message + ErrorConstant.COLOR_ENDING);
+            super(ErrorConstant.COLOR_HEADING + ErrorConstant.FILE_READ_HEADER + message + ErrorConstant.COLOR_ENDING,
+                    null, false, false);
             LogFile.writeLog(ErrorConstant.FILE_READ_HEADER + message, true);
         }
     }
@@ -51,7 +54,7 @@ public class CustomExceptions extends Exception {
     public static class FileWriteError extends Exception{
         public FileWriteError(String message) {
             super( ErrorConstant.COLOR_HEADING + ErrorConstant.FILE_WRITE_HEADER +
-                    message + ErrorConstant.COLOR_ENDING);
+                    message + ErrorConstant.COLOR_ENDING, null, false, false);
             LogFile.writeLog(ErrorConstant.FILE_WRITE_HEADER + message, true);
         }
     }
@@ -62,7 +65,7 @@ public class CustomExceptions extends Exception {
     public static class FileCreateError extends Exception{
         public FileCreateError(String message) {
             super(ErrorConstant.COLOR_HEADING + ErrorConstant.FILE_CREATE_HEADER +
-                    message + ErrorConstant.COLOR_ENDING);
+                    message + ErrorConstant.COLOR_ENDING, null, false, false);
             LogFile.writeLog(ErrorConstant.FILE_CREATE_HEADER + message, true);
         }
     }
@@ -76,7 +79,7 @@ public class CustomExceptions extends Exception {
             super(ErrorConstant.COLOR_HEADING
                     + ErrorConstant.INSUFFICIENT_INPUT_HEADER
                     + message
-                    + ErrorConstant.COLOR_ENDING);
+                    + ErrorConstant.COLOR_ENDING, null, false, false);
             LogFile.writeLog(ErrorConstant.INSUFFICIENT_INPUT_HEADER + message, true);
         }
     }
@@ -0,0 +1,261 @@
+package utility;
+
+import constants.ErrorConstant;
+import constants.UiConstant;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Represents the shared codec for dates in the dd-MM-yyyy format and times in the HH:mm format.
+ * Dates and times are read digit by digit instead of through a DateTimeFormatter. Every date parsed or formatted
+ * is kept in a small cache indexed by its epoch day, which holds the LocalDate and its formatted String, so a date
+ * that is used again returns the same objects without parsing or formatting it again.
+ * The cache entries cannot be changed once created, so any number of threads can use the codec at the same time.
+ * Like a DateTimeFormatter with the default resolver style, a day past the end of its month is moved back to the
+ * last day of that month.
+ */
+public class DateCodec {
+    private static final int DATE_LENGTH = 10;
+    private static final int TIME_LENGTH = 5;
+    private static final int DAY_INDEX = 0;
+    private static final int MONTH_INDEX = 3;
+    private static final int YEAR_INDEX = 6;
+    private static final int FIRST_SEPARATOR_INDEX = 2;
+    private static final int SECOND_SEPARATOR_INDEX = 5;
+    private static final int MINUTE_INDEX = 3;
+    private static final int MAX_DAY = 31;
+    private static final int MAX_MONTH = 12;
+    private static final int MAX_HOUR = 23;
+    private static final int MAX_MINUTE = 59;
+    private static final long DAYS_0000_TO_1970 = 719_528;
+    private static final int CACHE_MASK = UiConstant.DATE_CACHE_SIZE - 1;
+    private static final CachedDate[] CACHE = new CachedDate[UiConstant.DATE_CACHE_SIZE];
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private DateCodec() {
+    }
+
+    /**
+     * Checks whether a String has the dd-MM-yyyy format, without checking whether it is a valid date.
+     *
+     * @param text The String to check.
+     * @return True if the String is two digits, a dash, two digits, a dash and four digits.
+     */
+    public static boolean isDateFormat(String text) {
+        if (text == null || text.length() != DATE_LENGTH
+                || text.charAt(FIRST_SEPARATOR_INDEX) != '-' || text.charAt(SECOND_SEPARATOR_INDEX) != '-') {
+            return false;
+        }
+        return readDigits(text, DAY_INDEX, 2) >= 0 && readDigits(text, MONTH_INDEX, 2) >= 0
+                && readDigits(text, YEAR_INDEX, 4) >= 0;
+    }
+
+    /**
+     * Retrieves the day of a String in the dd-MM-yyyy format.
+     *
+     * @param text A String for which isDateFormat is true.
+     * @return The day.
+     */
+    public static int getDay(String text) {
+        return readDigits(text, DAY_INDEX, 2);
+    }
+
+    /**
+     * Retrieves the month of a String in the dd-MM-yyyy format.
+     *
+     * @param text A String for which isDateFormat is true.
+     * @return The month.
+     */
+    public static int getMonth(String text) {
+        return readDigits(text, MONTH_INDEX, 2);
+    }
+
+    /**
+     * Retrieves the year of a String in the dd-MM-yyyy format.
+     *
+     * @param text A String for which isDateFormat is true.
+     * @return The year.
+     */
+    public static int getYear(String text) {
+        return readDigits(text, YEAR_INDEX, 4);
+    }
+
+    /**
+     * Parses a date in the dd-MM-yyyy format.
+     *
+     * @param text The date String.
+     * @return The LocalDate, or null if the String is not a date in the dd-MM-yyyy format.
+     */
+    public static LocalDate parseDate(String text) {
+        if (!isDateFormat(text)) {
+            return null;
+        }
+        int day = getDay(text);
+        int month = getMonth(text);
+        int year = getYear(text);
+        if (day < 1 || day > MAX_DAY || month < 1 || month > MAX_MONTH) {
+            return null;
+        }
+        int lastDay = lengthOfMonth(year, month);
+        boolean isClamped = day > lastDay;
+        if (isClamped) {
+            day = lastDay;
+        }
+
+        long epochDay = toEpochDay(year, month, day);
+        CachedDate cached = CACHE[(int) epochDay & CACHE_MASK];
+        if (cached != null && cached.epochDay == epochDay) {
+            return cached.date;
+        }
+        LocalDate date = LocalDate.of(year, month, day);
+        String formattedDate = isClamped ? format(day, month, year) : text;
+        CACHE[(int) epochDay & CACHE_MASK] = new CachedDate(epochDay, date, formattedDate);
+        return date;
+    }
+
+    /**
+     * Formats a date in the dd-MM-yyyy format.
+     *
+     * @param date The LocalDate.
+     * @return The formatted date, or "NA" if the date is null.
+     */
+    public static String formatDate(LocalDate date) {
+        if (date == null) {
+            return ErrorConstant.NO_DATE_SPECIFIED_ERROR;
+        }
+        long epochDay = date.toEpochDay();
+        CachedDate cached = CACHE[(int) epochDay & CACHE_MASK];
+        if (cached != null && cached.epochDay == epochDay) {
+            return cached.text;
+        }
+        String formattedDate = format(date.getDayOfMonth(), date.getMonthValue(), date.getYear());
+        CACHE[(int) epochDay & CACHE_MASK] = new CachedDate(epochDay, date, formattedDate);
+        return formattedDate;
+    }
+
+    /**
+     * Formats a date given as a day count from 1970-01-01 in the dd-MM-yyyy format.
+     *
+     * @param epochDay The epoch day.
+     * @return The formatted date.
+     */
+    public static String formatEpochDay(long epochDay) {
+        CachedDate cached = CACHE[(int) epochDay & CACHE_MASK];
+        if (cached != null && cached.epochDay == epochDay) {
+            return cached.text;
+        }
+        return formatDate(LocalDate.ofEpochDay(epochDay));
+    }
+
+    /**
+     * Parses a time in the HH:mm format.
+     *
+     * @param text The time String.
+     * @return The LocalTime, or null if the String is not a valid time in the HH:mm format.
+     */
+    public static LocalTime parseTime(String text) {
+        if (text == null || text.length() != TIME_LENGTH || text.charAt(FIRST_SEPARATOR_INDEX) != ':') {
+            return null;
+        }
+        int hour = readDigits(text, 0, 2);
+        int minute = readDigits(text, MINUTE_INDEX, 2);
+        if (hour < 0 || hour > MAX_HOUR || minute < 0 || minute > MAX_MINUTE) {
+            return null;
+        }
+        return LocalTime.of(hour, minute);
+    }
+
+    /**
+     * Reads a number made of a fixed count of digits.
+     *
+     * @return The number, or -1 if any of the characters is not a digit.
+     */
+    private static int readDigits(String text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static String format(int day, int month, int year) {
+        char[] chars = new char[DATE_LENGTH];
+        writeDigits(chars, DAY_INDEX, 2, day);
+        chars[FIRST_SEPARATOR_INDEX] = '-';
+        writeDigits(chars, MONTH_INDEX, 2, month);
+        chars[SECOND_SEPARATOR_INDEX] = '-';
+        writeDigits(chars, YEAR_INDEX, 4, year);
+        return new String(chars);
+    }
+
+    private static void writeDigits(char[] chars, int start, int count, int value) {
+        for (int i = start + count - 1; i >= start; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+    }
+
+    /**
+     * Retrieves the number of days in a month.
+     *
+     * @param year  The year.
+     * @param month The month, from 1 to 12.
+     * @return The number of days in the month.
+     */
+    static int lengthOfMonth(int year, int month) {
+        switch (month) {
+        case 2:
+            return isLeapYear(year) ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+
+    /**
+     * Computes the day count from 1970-01-01 of a valid date between the years 0 and 9999, in the same way as
+     * LocalDate.toEpochDay, without creating the LocalDate.
+     */
+    private static long toEpochDay(int year, int month, int day) {
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * Represents a date in the cache with its epoch day and its formatted String.
+     */
+    private static final class CachedDate {
+        private final long epochDay;
+        private final LocalDate date;
+        private final String text;
+
+        private CachedDate(long epochDay, LocalDate date, String text) {
+            this.epochDay = epochDay;
+            this.date = date;
+            this.text = text;
+        }
+    }
+}
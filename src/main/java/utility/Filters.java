@@ -13,6 +13,7 @@ public class Filters {
         HEALTH,
         DELETE,
         HELP,
+        LOG,
         EXIT
     }
 
@@ -0,0 +1,173 @@
+package utility;
+
+/**
+ * Represents the checks on the format of values entered by the user.
+ * Each check goes through the characters of the value once, instead of compiling and running a regular expression
+ * through String.matches, and creates no objects.
+ */
+public class InputFormat {
+    private static final int MAX_WEIGHT_DECIMAL_PLACES = 3;
+
+    /**
+     * Private constructor to prevent instantiation from outside the class.
+     */
+    private InputFormat() {
+    }
+
+    /**
+     * Checks whether a value is a number with exactly two decimal places, such as "1.75".
+     *
+     * @param value The value to check.
+     * @return True if the value is one or more digits, a '.' and two digits.
+     */
+    public static boolean isTwoDecimalNumber(String value) {
+        int point = value.indexOf('.');
+        return point > 0 && point == value.length() - 3 && isDigits(value, 0, point)
+                && isDigits(value, point + 1, value.length());
+    }
+
+    /**
+     * Checks whether a value has the mm:ss or HH:mm format, without checking whether the numbers are in range.
+     *
+     * @param value The value to check.
+     * @return True if the value is two digits, a ':' and two digits.
+     */
+    public static boolean isTime(String value) {
+        return value.length() == 5 && isTwoDigitsAt(value, 0) && value.charAt(2) == ':' && isTwoDigitsAt(value, 3);
+    }
+
+    /**
+     * Checks whether a value has the HH:mm:ss format, without checking whether the numbers are in range.
+     *
+     * @param value The value to check.
+     * @return True if the value is three pairs of digits separated by ':'.
+     */
+    public static boolean isTimeWithHours(String value) {
+        return value.length() == 8 && isTwoDigitsAt(value, 0) && value.charAt(2) == ':'
+                && isTwoDigitsAt(value, 3) && value.charAt(5) == ':' && isTwoDigitsAt(value, 6);
+    }
+
+    /**
+     * Checks whether a value is a positive integer without leading zeroes.
+     *
+     * @param value The value to check.
+     * @return True if the value is a digit from 1 to 9 followed by any number of digits.
+     */
+    public static boolean isPositiveInteger(String value) {
+        return !value.isEmpty() && value.charAt(0) != '0' && isDigits(value, 0, value.length());
+    }
+
+    /**
+     * Checks whether a value is a list of weights separated by commas, each with up to three decimal places,
+     * such as "40,42.5,45.125".
+     *
+     * @param value The value to check.
+     * @return True if the value is one or more weights separated by commas.
+     */
+    public static boolean isWeights(String value) {
+        int start = 0;
+        while (true) {
+            int end = value.indexOf(',', start);
+            if (end == -1) {
+                end = value.length();
+            }
+            if (!isWeight(value, start, end)) {
+                return false;
+            }
+            if (end == value.length()) {
+                return true;
+            }
+            start = end + 1;
+        }
+    }
+
+    /**
+     * Checks whether a value is made of letters and whitespace only.
+     *
+     * @param value The value to check.
+     * @return True if the value is not empty and has only letters and whitespace.
+     */
+    public static boolean isLettersAndSpaces(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!isLetter(c) && !isWhitespace(c)) {
+                return false;
+            }
+        }
+        return !value.isEmpty();
+    }
+
+    /**
+     * Checks whether a value is made of letters, digits and whitespace only.
+     *
+     * @param value The value to check.
+     * @return True if the value is not empty and has only letters, digits and whitespace.
+     */
+    public static boolean isAlphanumericAndSpaces(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!isLetter(c) && !isDigit(c) && !isWhitespace(c)) {
+                return false;
+            }
+        }
+        return !value.isEmpty();
+    }
+
+    /**
+     * Checks whether a value is made of letters, digits, whitespace and quotation marks only.
+     *
+     * @param value The value to check.
+     * @return True if the value is not empty and has only letters, digits, whitespace, ' and ".
+     */
+    public static boolean isDescription(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!isLetter(c) && !isDigit(c) && !isWhitespace(c) && c != '\'' && c != '"') {
+                return false;
+            }
+        }
+        return !value.isEmpty();
+    }
+
+    /**
+     * Checks whether the characters from start to end are one or more digits, optionally followed by a '.' and
+     * one to three digits.
+     */
+    private static boolean isWeight(String value, int start, int end) {
+        int point = value.indexOf('.', start);
+        if (point == -1 || point >= end) {
+            return start < end && isDigits(value, start, end);
+        }
+        int decimalPlaces = end - point - 1;
+        return point > start && decimalPlaces >= 1 && decimalPlaces <= MAX_WEIGHT_DECIMAL_PLACES
+                && isDigits(value, start, point) && isDigits(value, point + 1, end);
+    }
+
+    private static boolean isDigits(String value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isTwoDigitsAt(String value, int index) {
+        return isDigit(value.charAt(index)) && isDigit(value.charAt(index + 1));
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Checks whether a character is whitespace in the same way as \s in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
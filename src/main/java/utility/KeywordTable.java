@@ -0,0 +1,92 @@
+package utility;
+
+/**
+ * Represents a case-insensitive lookup table from keywords to the constants of an enum, such as those in Filters.
+ * The table is an open-addressed hash table built once from the names of the constants. A keyword is looked up
+ * by hashing its characters where they are in the input and comparing it against the one constant in its slot,
+ * so looking up a keyword creates no objects and takes the same time however many constants the enum has.
+ *
+ * @param <E> The enum whose constants are looked up.
+ */
+public class KeywordTable<E extends Enum<E>> {
+    private static final int SLOTS_PER_CONSTANT = 4;
+
+    private final Object[] slots;
+    private final int mask;
+
+    /**
+     * Constructs a KeywordTable of the constants of an enum.
+     *
+     * @param enumClass The class of the enum.
+     */
+    public KeywordTable(Class<E> enumClass) {
+        E[] constants = enumClass.getEnumConstants();
+        int size = Integer.highestOneBit(Math.max(1, constants.length * SLOTS_PER_CONSTANT - 1)) << 1;
+        slots = new Object[size];
+        mask = size - 1;
+        for (E constant : constants) {
+            String name = constant.name();
+            int index = hash(name, 0, name.length()) & mask;
+            while (slots[index] != null) {
+                index = (index + 1) & mask;
+            }
+            slots[index] = constant;
+        }
+    }
+
+    /**
+     * Retrieves the constant whose name matches a keyword, ignoring case.
+     *
+     * @param keyword The keyword.
+     * @return The matching constant, or null if there is none.
+     */
+    public E lookup(String keyword) {
+        return lookup(keyword, 0, keyword.length());
+    }
+
+    /**
+     * Retrieves the constant whose name matches the characters of the input from start to end, ignoring case.
+     *
+     * @param input The input containing the keyword.
+     * @param start The index of the first character of the keyword.
+     * @param end   The index after the last character of the keyword.
+     * @return The matching constant, or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public E lookup(String input, int start, int end) {
+        int length = end - start;
+        int index = hash(input, start, end) & mask;
+        while (slots[index] != null) {
+            E constant = (E) slots[index];
+            String name = constant.name();
+            if (name.length() == length && input.regionMatches(true, start, name, 0, length)) {
+                return constant;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the constant whose name matches the first word of the input, ignoring case.
+     * The first word ends at the first space, as the input is split by spaces.
+     *
+     * @param input The input, without leading whitespace.
+     * @return The matching constant, or null if there is none.
+     */
+    public E lookupFirstWord(String input) {
+        int end = input.indexOf(' ');
+        return lookup(input, 0, end == -1 ? input.length() : end);
+    }
+
+    /**
+     * Hashes the characters of a keyword in the same way whatever their case.
+     */
+    private static int hash(String text, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + Character.toUpperCase(text.charAt(i));
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -8,17 +8,18 @@ import health.Appointment;
 import health.Bmi;
 import health.HealthList;
 import health.Period;
+import storage.JournalFile;
 import storage.LogFile;
 import ui.Output;
 
 import workouts.Gym;
+import workouts.GymStation;
 import workouts.Run;
 import workouts.WorkoutLists;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Objects;
 import java.util.Scanner;
 
@@ -48,16 +49,12 @@ public class Parser {
      * Parses and converts String date to a LocalDate variable.
      *
      * @param date String representing the date.
-     * @return LocalDate variable representing the date.
-     * @throws DateTimeParseException If there is an error parsing the date.
+     * @return LocalDate variable representing the date, or null if there is an error parsing the date.
      */
-    public LocalDate parseDate(String date) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
-        LocalDate formattedDate = null;
-        try {
-            formattedDate = LocalDate.parse(date, formatter);
-        } catch (DateTimeParseException e) {
-            output.printException(ErrorConstant.PARSING_DATE_ERROR);
+    public static LocalDate parseDate(String date) {
+        LocalDate formattedDate = DateCodec.parseDate(date);
+        if (formattedDate == null) {
+            new Output().printException(ErrorConstant.PARSING_DATE_ERROR);
         }
         return formattedDate;
     }
@@ -69,12 +66,8 @@ public class Parser {
      * @param date LocalDate object representing the date.
      * @return Formatted String representation of the date in the format "dd-MM-yyyy".
      */
-    public String parseFormattedDate(LocalDate date) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
-        if (date == null) {
-            return "NA";
-        }
-        return date.format(formatter);
+    public static String parseFormattedDate(LocalDate date) {
+        return DateCodec.formatDate(date);
     }
 
     //@@author syj02
@@ -82,16 +75,12 @@ public class Parser {
      * Parses and converts String time to a LocalDate variable.
      *
      * @param stringTime String representing the time.
-     * @return LocalTime variable representing the time.
-     * @throws DateTimeParseException If there is an error parsing the time.
+     * @return LocalTime variable representing the time, or null if there is an error parsing the time.
      */
-    public LocalTime parseTime(String stringTime) throws DateTimeParseException {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm");
-        LocalTime formattedTime = null;
-        try {
-            formattedTime = LocalTime.parse(stringTime, formatter);
-        } catch (DateTimeParseException e) {
-            output.printException(ErrorConstant.PARSING_TIME_ERROR);
+    public static LocalTime parseTime(String stringTime) {
+        LocalTime formattedTime = DateCodec.parseTime(stringTime);
+        if (formattedTime == null) {
+            new Output().printException(ErrorConstant.PARSING_TIME_ERROR);
         }
         return formattedTime;
     }
@@ -115,6 +104,38 @@ public class Parser {
         }
     }
 
+    /**
+     * Parses and validates user input for the log command. Returns an array containing the number of log lines
+     * to show and the search term, which is null if no search term is given.
+     *
+     * @param userInput The user input string.
+     * @return An array of strings containing the number of lines and the search term, or null if input is invalid.
+     */
+    public String[] parseLogInput(String userInput) {
+        try {
+            CommandTokens tokens = CommandTokens.tokenize(userInput);
+            if (tokens.getNumberOfSlashes() > UiConstant.NUM_OF_SLASHES_FOR_LOG) {
+                throw new CustomExceptions.InvalidInput(ErrorConstant.TOO_MANY_SLASHES_ERROR);
+            }
+            String numberOfLines = String.valueOf(UiConstant.DEFAULT_LOG_LINES);
+            if (tokens.hasFlag(UiConstant.LINES_FLAG)) {
+                numberOfLines = tokens.getValue(UiConstant.LINES_FLAG);
+                validation.validateLogLines(numberOfLines);
+            }
+            String searchTerm = null;
+            if (tokens.hasFlag(UiConstant.SEARCH_FLAG)) {
+                searchTerm = tokens.getValue(UiConstant.SEARCH_FLAG);
+                if (searchTerm.isEmpty()) {
+                    searchTerm = null;
+                }
+            }
+            return new String[]{numberOfLines, searchTerm};
+        } catch (CustomExceptions.InvalidInput e) {
+            output.printException(e.getMessage());
+            return null;
+        }
+    }
+
     //@@author JustinSoh
     /**
      * Function validates and parses the user input for the history command.
@@ -124,10 +145,11 @@ public class Parser {
      */
     public String parseHistory(String userInput) {
         try {
-            if (countForwardSlash(userInput) > UiConstant.NUM_OF_SLASHES_FOR_LATEST_AND_HISTORY) {
+            CommandTokens tokens = CommandTokens.tokenize(userInput);
+            if (tokens.getNumberOfSlashes() > UiConstant.NUM_OF_SLASHES_FOR_LATEST_AND_HISTORY) {
                 throw new CustomExceptions.InvalidInput(ErrorConstant.TOO_MANY_SLASHES_ERROR);
             }
-            String filter = extractSubstringFromSpecificIndex(userInput, UiConstant.ITEM_FLAG);
+            String filter = tokens.getValue(UiConstant.ITEM_FLAG);
 
             if (filter.isBlank()) {
                 throw new CustomExceptions.InsufficientInput(ErrorConstant.INSUFFICIENT_HISTORY_FILTER_ERROR);
@@ -149,10 +171,11 @@ public class Parser {
      */
     public String parseLatest(String userInput) {
         try {
-            if (countForwardSlash(userInput) > UiConstant.NUM_OF_SLASHES_FOR_LATEST_AND_HISTORY) {
+            CommandTokens tokens = CommandTokens.tokenize(userInput);
+            if (tokens.getNumberOfSlashes() > UiConstant.NUM_OF_SLASHES_FOR_LATEST_AND_HISTORY) {
                 throw new CustomExceptions.InvalidInput(ErrorConstant.TOO_MANY_SLASHES_ERROR);
             }
-            String filter = extractSubstringFromSpecificIndex(userInput, UiConstant.ITEM_FLAG);
+            String filter = tokens.getValue(UiConstant.ITEM_FLAG);
 
             if (filter.isBlank()) {
                 throw new CustomExceptions.InsufficientInput(ErrorConstant.INSUFFICIENT_LATEST_FILTER_ERROR);
@@ -181,7 +204,9 @@ public class Parser {
                 bmiDetails[HealthConstant.BMI_HEIGHT_INDEX],
                 bmiDetails[HealthConstant.BMI_WEIGHT_INDEX],
                 bmiDetails[HealthConstant.BMI_DATE_INDEX]);
+        HealthList.addBmi(newBmi);
         output.printAddBmi(newBmi);
+        JournalFile.recordAdd(newBmi);
         LogFile.writeLog("Added BMI", false);
     }
 
@@ -200,24 +225,30 @@ public class Parser {
         boolean isParser = true;
         validation.validatePeriodInput(periodDetails, isParser);
 
-        if (userInput.contains(HealthConstant.END_FLAG)) {
+        if (periodDetails[HealthConstant.PERIOD_END_DATE_INDEX] != null) {
             if ((size == 0) || (size > 0 &&
                     Objects.requireNonNull(HealthList.getPeriod(HealthConstant.FIRST_ITEM).getEndDate() != null))) {
                 Period newPeriod = new Period(
                         periodDetails[HealthConstant.PERIOD_START_DATE_INDEX],
                         periodDetails[HealthConstant.PERIOD_END_DATE_INDEX]);
+                HealthList.addPeriod(newPeriod);
                 output.printAddPeriod(newPeriod);
+                JournalFile.recordAdd(newPeriod);
                 LogFile.writeLog("Added Period", false);
             } else if (size > 0 &&
                     Objects.requireNonNull(HealthList.getPeriod(HealthConstant.FIRST_ITEM)).getEndDate() == null) {
                 Period latestPeriod = Objects.requireNonNull(HealthList.getPeriod(HealthConstant.FIRST_ITEM));
+                JournalFile.recordDelete(latestPeriod);
                 latestPeriod.updateEndDate(periodDetails[HealthConstant.PERIOD_END_DATE_INDEX]);
                 output.printAddPeriod(latestPeriod);
+                JournalFile.recordAdd(latestPeriod);
                 LogFile.writeLog("Added Period", false);
             }
         } else {
             Period newPeriod = new Period(periodDetails[HealthConstant.PERIOD_START_DATE_INDEX]);
+            HealthList.addPeriod(newPeriod);
             output.printAddPeriod(newPeriod);
+            JournalFile.recordAdd(newPeriod);
             LogFile.writeLog("Added Period", false);
         }
     }
@@ -256,29 +287,22 @@ public class Parser {
                 appointmentDetails[HealthConstant.APPOINTMENT_DATE_INDEX],
                 appointmentDetails[HealthConstant.APPOINTMENT_TIME_INDEX],
                 appointmentDetails[HealthConstant.APPOINTMENT_DESCRIPTION_INDEX]);
+        HealthList.addAppointment(newAppointment);
         output.printAddAppointment(newAppointment);
+        JournalFile.recordAdd(newAppointment);
         LogFile.writeLog("Added appointment", false);
     }
 
     //@@author L5-Z
     /**
-     * Extracts a substring from the given input string based on the provided delimiter.
+     * Extracts the value of a flag from the given input string, up to the next '/' or the end of the input.
      *
      * @param input The input string from which to extract the substring.
-     * @param delimiter The delimiter to search for in the input string.
+     * @param delimiter The flag to search for in the input string, such as "/date:".
      * @return The extracted substring, or an empty string if the delimiter is not found.
      */
     public String extractSubstringFromSpecificIndex(String input, String delimiter) {
-        int index = input.indexOf(delimiter);
-        if (index == -1 || index == input.length() - delimiter.length()) {
-            return "";
-        }
-        int startIndex = index + delimiter.length();
-        int endIndex = input.indexOf("/", startIndex);
-        if (endIndex == -1) {
-            endIndex = input.length();
-        }
-        return input.substring(startIndex, endIndex).trim();
+        return CommandTokens.tokenize(input).getValue(delimiter);
     }
 
     //@@author JustinSoh
@@ -293,15 +317,17 @@ public class Parser {
             CustomExceptions.InvalidInput {
         String[] gymDetails = splitGymInput(userInput);
         validation.validateGymInput(gymDetails);
-        Gym newGym;
-        if (gymDetails[WorkoutConstant.GYM_DATE_INDEX] == null) {
-            newGym = new Gym();
-        } else {
-            newGym = new Gym(gymDetails[WorkoutConstant.GYM_DATE_INDEX]);
+        int numberOfStations = Integer.parseInt(gymDetails[WorkoutConstant.GYM_NUMBER_OF_STATIONS_INDEX]);
+        ArrayList<GymStation> stations = parseGymStationInput(numberOfStations);
+        if (stations == null) {
+            return;
         }
 
-        int numberOfStations = Integer.parseInt(gymDetails[WorkoutConstant.GYM_NUMBER_OF_STATIONS_INDEX]);
-        parseGymStationInput(numberOfStations, newGym);
+        Gym newGym = Gym.createWithStations(gymDetails[WorkoutConstant.GYM_DATE_INDEX], stations);
+        WorkoutLists.addGym(newGym);
+        output.printAddGym(newGym);
+        JournalFile.recordAdd(newGym);
+        LogFile.writeLog("Added Gym", false);
     }
 
     //@@author rouvinerh
@@ -327,21 +353,25 @@ public class Parser {
                     runDetails[WorkoutConstant.RUN_DISTANCE_INDEX],
                     runDetails[WorkoutConstant.RUN_DATE_INDEX]);
         }
+        WorkoutLists.addRun(newRun);
         output.printAddRun(newRun);
+        JournalFile.recordAdd(newRun);
         LogFile.writeLog("Added Run", false);
     }
 
     //@@author JustinSoh
     /**
-     * Parses the gym station input from the user and adds it to the Gym object.
-     * This method is used in the parseGymInput method.
-     * User can input 'back' to exit the gym station input.
-     * The gym object will be deleted and control returned to handler.
+     * Parses the gym station input from the user into GymStation objects.
+     * This method is used in the parseGymInput method, which only adds the Gym object to the workout lists once
+     * every station has been entered, so the lists never hold a gym session that is still being entered.
+     * User can input 'back' to exit the gym station input, in which case no Gym object is created and control
+     * is returned to handler.
      *
      * @param numberOfStations The number of stations in one gym session.
-     * @param gym The Gym object.
+     * @return The GymStation objects entered, or null if the user exited the gym station input.
      */
-    public void parseGymStationInput(int numberOfStations, Gym gym) {
+    public ArrayList<GymStation> parseGymStationInput(int numberOfStations) {
+        ArrayList<GymStation> stations = new ArrayList<>(numberOfStations);
         for (int i = 0; i < numberOfStations; i++) {
             try {
                 // Prompt user for gym station details
@@ -351,8 +381,8 @@ public class Parser {
                 // If user wants to exit the gym station input
                 if (userInput.equals(WorkoutConstant.BACK)) {
                     output.printGymStationExit();
-                    WorkoutLists.deleteGym(WorkoutLists.getGymSize() - 1);
-                    return;
+                    Output.printDeleteGymMessage(stations.size());
+                    return null;
                 }
 
                 // Split the gym station input
@@ -362,17 +392,16 @@ public class Parser {
                 String numberOfReps = splitGymStationInputs[WorkoutConstant.GYM_STATION_REPS_INDEX];
                 String weights = splitGymStationInputs[WorkoutConstant.GYM_STATION_WEIGHTS_INDEX];
 
-                // Create a new GymStation object and add it to the Gym
-                gym.addStation(exerciseName, numberOfSets, numberOfReps, weights);
+                // Create a new GymStation object for the Gym
+                stations.add(new GymStation(exerciseName, numberOfSets, numberOfReps, weights));
+                LogFile.writeLog("Added Gym Station: {0}", exerciseName, false);
 
-            } catch (CustomExceptions.InsufficientInput | CustomExceptions.InvalidInput
-                     | CustomExceptions.OutOfBounds e) {
+            } catch (CustomExceptions.InsufficientInput | CustomExceptions.InvalidInput e) {
                 i -= 1;
                 output.printException(e.getMessage());
             }
         }
-        output.printAddGym(gym);
-        LogFile.writeLog("Added Gym", false);
+        return stations;
     }
 
     /**
@@ -390,25 +419,49 @@ public class Parser {
     public Gym parseGymFileInput(String input)
             throws CustomExceptions.InvalidInput,
             CustomExceptions.FileReadError, CustomExceptions.InsufficientInput {
+        return parseGymFileInput(input, parseGymFileStations(input));
+    }
+
+    /**
+     * Validates a gym line read from the file and creates its GymStation objects, without creating the Gym object.
+     * Does not modify any list, so it can be run on several lines at once.
+     *
+     * @param input The line read from the file.
+     * @return The GymStation objects of the gym, in file order.
+     * @throws CustomExceptions.InvalidInput  If there is invalid input from the file.
+     * @throws CustomExceptions.InsufficientInput If there is insufficient input from the file.
+     * @throws CustomExceptions.FileReadError If the file data is invalid or cannot be read.
+     */
+    public ArrayList<GymStation> parseGymFileStations(String input)
+            throws CustomExceptions.InvalidInput,
+            CustomExceptions.FileReadError, CustomExceptions.InsufficientInput {
 
         String[] gymDetails = splitGymFileInput(input);
         String[] checkGymDetails = new String[WorkoutConstant.NUMBER_OF_GYM_PARAMETERS];
         checkGymDetails[0] = gymDetails[1];
         checkGymDetails[1] = gymDetails[2];
         validation.validateGymInput(checkGymDetails);
-        Gym gym;
-        String date = gymDetails[WorkoutConstant.DATE_FILE_INDEX];
-
-        if (date.equals(ErrorConstant.NO_DATE_SPECIFIED_ERROR)) {
-            gym = new Gym();
-        } else {
-            gym = new Gym(date);
-        }
 
+        ArrayList<GymStation> stations = new ArrayList<>();
         int counter = WorkoutConstant.GYM_FILE_BASE_COUNTER;
         while (counter < gymDetails.length) {
-            counter = addStationFromFile(gym, gymDetails, counter);
+            counter = addStationFromFile(stations, gymDetails, counter);
         }
+        return stations;
+    }
+
+    /**
+     * Creates a Gym object from a gym line read from the file, using GymStation objects created from that line
+     * by parseGymFileStations. The Gym object is added to the workout lists.
+     *
+     * @param input    The line read from the file.
+     * @param stations The GymStation objects of the gym, in file order.
+     * @return New gym object created from the input.
+     */
+    public Gym parseGymFileInput(String input, ArrayList<GymStation> stations) {
+        String date = input.split(UiConstant.SPLIT_BY_COLON)[WorkoutConstant.DATE_FILE_INDEX];
+        Gym gym = Gym.createWithStations(date.equals(ErrorConstant.NO_DATE_SPECIFIED_ERROR) ? null : date, stations);
+        WorkoutLists.addGym(gym);
         return gym;
     }
 
@@ -423,19 +476,18 @@ public class Parser {
      */
     protected String[] splitDeleteInput(String input) throws CustomExceptions.InsufficientInput,
             CustomExceptions.InvalidInput {
-        if (!input.contains(UiConstant.ITEM_FLAG) || !input.contains(UiConstant.INDEX_FLAG)) {
+        CommandTokens tokens = CommandTokens.tokenize(input);
+        if (!tokens.hasFlag(UiConstant.ITEM_FLAG) || !tokens.hasFlag(UiConstant.INDEX_FLAG)) {
             throw new CustomExceptions.InsufficientInput(ErrorConstant.INSUFFICIENT_DELETE_PARAMETERS_ERROR);
         }
 
-        if (countForwardSlash(input) > UiConstant.NUM_OF_SLASHES_FOR_DELETE) {
+        if (tokens.getNumberOfSlashes() > UiConstant.NUM_OF_SLASHES_FOR_DELETE) {
             throw new CustomExceptions.InvalidInput(ErrorConstant.TOO_MANY_SLASHES_ERROR);
         }
 
         String[] results = new String[UiConstant.NUM_DELETE_PARAMETERS];
-        results[UiConstant.DELETE_ITEM_STRING_INDEX] = extractSubstringFromSpecificIndex(input,
-                UiConstant.ITEM_FLAG).trim();
-        results[UiConstant.DELETE_ITEM_NUMBER_INDEX] = extractSubstringFromSpecificIndex(input,
-                UiConstant.INDEX_FLAG).trim();
+        results[UiConstant.DELETE_ITEM_STRING_INDEX] = tokens.getValue(UiConstant.ITEM_FLAG);
+        results[UiConstant.DELETE_ITEM_NUMBER_INDEX] = tokens.getValue(UiConstant.INDEX_FLAG);
         return results;
     }
 
@@ -448,14 +500,14 @@ public class Parser {
      * @throws CustomExceptions.InvalidInput If the parameters are invalid.
      */
     protected String[] splitGymStationInput(String input) throws CustomExceptions.InvalidInput {
-        if (countForwardSlash(input) > WorkoutConstant.NUM_OF_SLASHES_FOR_GYM_STATION) {
+        CommandTokens tokens = CommandTokens.tokenize(input);
+        if (tokens.getNumberOfSlashes() > WorkoutConstant.NUM_OF_SLASHES_FOR_GYM_STATION) {
             throw new CustomExceptions.InvalidInput(ErrorConstant.TOO_MANY_SLASHES_ERROR);
         }
-        Parser parser = new Parser();
-        String exerciseName = input.split(UiConstant.SPLIT_BY_SLASH)[WorkoutConstant.STATION_NAME_INDEX].trim();
-        String sets = parser.extractSubstringFromSpecificIndex(input, WorkoutConstant.SETS_FLAG).trim();
-        String reps = parser.extractSubstringFromSpecificIndex(input, WorkoutConstant.REPS_FLAG).trim();
-        String weights = parser.extractSubstringFromSpecificIndex(input, WorkoutConstant.WEIGHTS_FLAG).trim();
+        String exerciseName = tokens.getHead();
+        String sets = tokens.getValue(WorkoutConstant.SETS_FLAG);
+        String reps = tokens.getValue(WorkoutConstant.REPS_FLAG);
+        String weights = tokens.getValue(WorkoutConstant.WEIGHTS_FLAG);
 
 
         String[] validatedGymStationInputs = new String[WorkoutConstant.NUMBER_OF_GYM_STATION_PARAMETERS];
@@ -477,25 +529,23 @@ public class Parser {
      */
     protected String[] splitRunInput(String input) throws CustomExceptions.InsufficientInput,
             CustomExceptions.InvalidInput {
-        if (!input.contains(WorkoutConstant.DISTANCE_FLAG) ||
-                !input.contains(WorkoutConstant.RUN_TIME_FLAG)) {
+        CommandTokens tokens = CommandTokens.tokenize(input);
+        if (!tokens.hasFlag(WorkoutConstant.DISTANCE_FLAG) ||
+                !tokens.hasFlag(WorkoutConstant.RUN_TIME_FLAG)) {
             throw new CustomExceptions.InsufficientInput(ErrorConstant.INSUFFICIENT_RUN_PARAMETERS_ERROR);
         }
 
-        if (countForwardSlash(input) != WorkoutConstant.NUM_OF_SLASHES_FOR_RUN_WITH_DATE &&
-                countForwardSlash(input) != WorkoutConstant.NUM_OF_SLASHES_FOR_RUN_WITHOUT_DATE) {
+        if (tokens.getNumberOfSlashes() != WorkoutConstant.NUM_OF_SLASHES_FOR_RUN_WITH_DATE &&
+                tokens.getNumberOfSlashes() != WorkoutConstant.NUM_OF_SLASHES_FOR_RUN_WITHOUT_DATE) {
             throw new CustomExceptions.InvalidInput(ErrorConstant.TOO_MANY_SLASHES_ERROR);
         }
 
         String[] results = new String[WorkoutConstant.NUMBER_OF_RUN_PARAMETERS];
-        results[WorkoutConstant.RUN_TIME_INDEX] = extractSubstringFromSpecificIndex(input,
-                WorkoutConstant.RUN_TIME_FLAG).trim();
-        results[WorkoutConstant.RUN_DISTANCE_INDEX] = extractSubstringFromSpecificIndex(input,
-                WorkoutConstant.DISTANCE_FLAG).trim();
+        results[WorkoutConstant.RUN_TIME_INDEX] = tokens.getValue(WorkoutConstant.RUN_TIME_FLAG);
+        results[WorkoutConstant.RUN_DISTANCE_INDEX] = tokens.getValue(WorkoutConstant.DISTANCE_FLAG);
 
-        if (input.contains(WorkoutConstant.DATE_FLAG)) {
-            results[WorkoutConstant.RUN_DATE_INDEX] = extractSubstringFromSpecificIndex(input,
-                    WorkoutConstant.DATE_FLAG).trim();
+        if (tokens.hasFlag(WorkoutConstant.DATE_FLAG)) {
+            results[WorkoutConstant.RUN_DATE_INDEX] = tokens.getValue(WorkoutConstant.DATE_FLAG);
         }
         return results;
     }
@@ -511,23 +561,23 @@ public class Parser {
      */
     protected String[] splitGymInput(String input) throws CustomExceptions.InsufficientInput,
             CustomExceptions.InvalidInput {
-        if (!input.contains(WorkoutConstant.NUMBER_OF_STATIONS_FLAG)) {
+        CommandTokens tokens = CommandTokens.tokenize(input);
+        if (!tokens.hasFlag(WorkoutConstant.NUMBER_OF_STATIONS_FLAG)) {
             throw new CustomExceptions.InsufficientInput(ErrorConstant.INSUFFICIENT_GYM_PARAMETERS_ERROR);
         }
 
-        if (countForwardSlash(input) != WorkoutConstant.NUM_OF_SLASHES_FOR_GYM_WITH_DATE &&
-                countForwardSlash(input) != WorkoutConstant.NUM_OF_SLASHES_FOR_GYM_WITHOUT_DATE) {
+        if (tokens.getNumberOfSlashes() != WorkoutConstant.NUM_OF_SLASHES_FOR_GYM_WITH_DATE &&
+                tokens.getNumberOfSlashes() != WorkoutConstant.NUM_OF_SLASHES_FOR_GYM_WITHOUT_DATE) {
             throw new CustomExceptions.InvalidInput(ErrorConstant.TOO_MANY_SLASHES_ERROR);
         }
 
 
         String[] results = new String[WorkoutConstant.NUMBER_OF_GYM_PARAMETERS];
-        results[WorkoutConstant.GYM_NUMBER_OF_STATIONS_INDEX] = extractSubstringFromSpecificIndex(input,
-                WorkoutConstant.NUMBER_OF_STATIONS_FLAG).trim();
+        results[WorkoutConstant.GYM_NUMBER_OF_STATIONS_INDEX] = tokens.getValue(
+                WorkoutConstant.NUMBER_OF_STATIONS_FLAG);
 
-        if (input.contains(WorkoutConstant.DATE_FLAG)) {
-            results[WorkoutConstant.GYM_DATE_INDEX] = extractSubstringFromSpecificIndex(input,
-                    WorkoutConstant.DATE_FLAG).trim();
+        if (tokens.hasFlag(WorkoutConstant.DATE_FLAG)) {
+            results[WorkoutConstant.GYM_DATE_INDEX] = tokens.getValue(WorkoutConstant.DATE_FLAG);
         }
         return results;
     }
@@ -544,22 +594,20 @@ public class Parser {
     protected String[] splitAppointmentDetails(String input)
             throws CustomExceptions.InsufficientInput, CustomExceptions.InvalidInput {
         String[] results = new String[HealthConstant.NUM_APPOINTMENT_PARAMETERS];
-        if (!input.contains(HealthConstant.DATE_FLAG)
-                || !input.contains(HealthConstant.TIME_FLAG)
-                || !input.contains(HealthConstant.DESCRIPTION_FLAG)) {
+        CommandTokens tokens = CommandTokens.tokenize(input);
+        if (!tokens.hasFlag(HealthConstant.DATE_FLAG)
+                || !tokens.hasFlag(HealthConstant.TIME_FLAG)
+                || !tokens.hasFlag(HealthConstant.DESCRIPTION_FLAG)) {
             throw new CustomExceptions.InsufficientInput(ErrorConstant.INSUFFICIENT_APPOINTMENT_PARAMETERS_ERROR);
         }
 
-        if (countForwardSlash(input) > HealthConstant.NUM_OF_SLASHES_FOR_APPOINTMENT) {
+        if (tokens.getNumberOfSlashes() > HealthConstant.NUM_OF_SLASHES_FOR_APPOINTMENT) {
             throw new CustomExceptions.InvalidInput(ErrorConstant.TOO_MANY_SLASHES_ERROR);
         }
 
-        results[HealthConstant.APPOINTMENT_DATE_INDEX] = extractSubstringFromSpecificIndex(input,
-                HealthConstant.DATE_FLAG).trim();
-        results[HealthConstant.APPOINTMENT_TIME_INDEX] = extractSubstringFromSpecificIndex(input,
-                HealthConstant.TIME_FLAG).trim();
-        results[HealthConstant.APPOINTMENT_DESCRIPTION_INDEX] = extractSubstringFromSpecificIndex(input,
-                HealthConstant.DESCRIPTION_FLAG).trim();
+        results[HealthConstant.APPOINTMENT_DATE_INDEX] = tokens.getValue(HealthConstant.DATE_FLAG);
+        results[HealthConstant.APPOINTMENT_TIME_INDEX] = tokens.getValue(HealthConstant.TIME_FLAG);
+        results[HealthConstant.APPOINTMENT_DESCRIPTION_INDEX] = tokens.getValue(HealthConstant.DESCRIPTION_FLAG);
         return results;
     }
 
@@ -574,23 +622,21 @@ public class Parser {
     protected String[] splitBmiInput(String input) throws CustomExceptions.InsufficientInput,
             CustomExceptions.InvalidInput {
 
-        if (!input.contains(HealthConstant.HEIGHT_FLAG)
-                || !input.contains(HealthConstant.WEIGHT_FLAG)
-                || !input.contains(HealthConstant.DATE_FLAG)) {
+        CommandTokens tokens = CommandTokens.tokenize(input);
+        if (!tokens.hasFlag(HealthConstant.HEIGHT_FLAG)
+                || !tokens.hasFlag(HealthConstant.WEIGHT_FLAG)
+                || !tokens.hasFlag(HealthConstant.DATE_FLAG)) {
             throw new CustomExceptions.InsufficientInput(ErrorConstant.INSUFFICIENT_BMI_PARAMETERS_ERROR);
         }
 
-        if (countForwardSlash(input) > HealthConstant.NUM_OF_SLASHES_FOR_BMI) {
+        if (tokens.getNumberOfSlashes() > HealthConstant.NUM_OF_SLASHES_FOR_BMI) {
             throw new CustomExceptions.InvalidInput(ErrorConstant.TOO_MANY_SLASHES_ERROR);
         }
 
         String[] results = new String[HealthConstant.NUM_BMI_PARAMETERS];
-        results[HealthConstant.BMI_HEIGHT_INDEX] = extractSubstringFromSpecificIndex(input,
-                HealthConstant.HEIGHT_FLAG).trim();
-        results[HealthConstant.BMI_WEIGHT_INDEX] = extractSubstringFromSpecificIndex(input,
-                HealthConstant.WEIGHT_FLAG).trim();
-        results[HealthConstant.BMI_DATE_INDEX] = extractSubstringFromSpecificIndex(input,
-                HealthConstant.DATE_FLAG).trim();
+        results[HealthConstant.BMI_HEIGHT_INDEX] = tokens.getValue(HealthConstant.HEIGHT_FLAG);
+        results[HealthConstant.BMI_WEIGHT_INDEX] = tokens.getValue(HealthConstant.WEIGHT_FLAG);
+        results[HealthConstant.BMI_DATE_INDEX] = tokens.getValue(HealthConstant.DATE_FLAG);
         return results;
     }
 
@@ -605,25 +651,19 @@ public class Parser {
      */
     protected String[] splitPeriodInput(String input) throws CustomExceptions.InsufficientInput,
             CustomExceptions.InvalidInput {
-        if (!input.contains(HealthConstant.START_FLAG)
-                || (!input.contains(HealthConstant.START_FLAG) && !input.contains(HealthConstant.END_FLAG))) {
+        CommandTokens tokens = CommandTokens.tokenize(input);
+        if (!tokens.hasFlag(HealthConstant.START_FLAG)) {
             throw new CustomExceptions.InsufficientInput(ErrorConstant.INSUFFICIENT_PERIOD_PARAMETERS_ERROR);
         }
 
-        if (countForwardSlash(input) > HealthConstant.NUM_OF_SLASHES_FOR_PERIOD) {
+        if (tokens.getNumberOfSlashes() > HealthConstant.NUM_OF_SLASHES_FOR_PERIOD) {
             throw new CustomExceptions.InvalidInput(ErrorConstant.TOO_MANY_SLASHES_ERROR);
         }
 
         String[] results = new String[HealthConstant.NUM_PERIOD_PARAMETERS];
-
-        if (input.contains(HealthConstant.START_FLAG) && input.contains(HealthConstant.END_FLAG)) {
-            results[HealthConstant.PERIOD_START_DATE_INDEX] = extractSubstringFromSpecificIndex(input,
-                    HealthConstant.START_FLAG).trim();
-            results[HealthConstant.PERIOD_END_DATE_INDEX] = extractSubstringFromSpecificIndex(input,
-                    HealthConstant.END_FLAG).trim();
-        } else if (input.contains(HealthConstant.START_FLAG) && !input.contains(HealthConstant.END_FLAG)) {
-            results[HealthConstant.PERIOD_START_DATE_INDEX] = extractSubstringFromSpecificIndex(input,
-                    HealthConstant.START_FLAG).trim();
+        results[HealthConstant.PERIOD_START_DATE_INDEX] = tokens.getValue(HealthConstant.START_FLAG);
+        if (tokens.hasFlag(HealthConstant.END_FLAG)) {
+            results[HealthConstant.PERIOD_END_DATE_INDEX] = tokens.getValue(HealthConstant.END_FLAG);
         }
 
         return results;
@@ -687,18 +727,18 @@ public class Parser {
 
     //@@author JustinSoh
     /**
-     * Adds a station to the gym object based of the file input.
-     * This method is used in the parseGymFileInput method.
+     * Adds a station to the list of stations based of the file input.
+     * This method is used in the parseGymFileStations method.
      * How the method works is that it will check if the station details are valid
-     * and then add the station to the gym.
+     * and then add the station to the list.
      *
-     * @param gym The gym object that the station will be added to.
+     * @param stations The list of stations that the station will be added to.
      * @param gymDetails The array of strings containing the gym details.
      * @param baseCounter The base counter to start adding the station.
      * @return The new base counter after adding the station.
      * @throws CustomExceptions.InvalidInput If the input is invalid.
      */
-    private int addStationFromFile(Gym gym, String[] gymDetails, int baseCounter)
+    private int addStationFromFile(ArrayList<GymStation> stations, String[] gymDetails, int baseCounter)
             throws CustomExceptions.InvalidInput, CustomExceptions.InsufficientInput {
         String currentStationName;
         String numberOfSetsStr;
@@ -713,27 +753,9 @@ public class Parser {
         } catch (ArrayIndexOutOfBoundsException e) {
             throw new CustomExceptions.InvalidInput(ErrorConstant.LOAD_GYM_FORMAT_ERROR);
         }
-        gym.addStation(currentStationName, numberOfSetsStr, repsStr, weightStrings);
+        stations.add(new GymStation(currentStationName, numberOfSetsStr, repsStr, weightStrings));
         baseCounter += WorkoutConstant.INCREMENT_OFFSET;
         return baseCounter;
     }
 
-    //@@author rouvinerh
-
-    /**
-     * Counts the number of '/' characters there are in a given string.
-     *
-     * @param input The user input string.
-     * @return An integer representing the number of '/' characters there are.
-     */
-    private int countForwardSlash(String input) {
-        int count = 0;
-        for (int i = 0; i < input.length(); i++) {
-            if (input.charAt(i) == '/') {
-                count++;
-            }
-        }
-        return count;
-    }
-
 }
@@ -4,11 +4,9 @@ import constants.ErrorConstant;
 import constants.HealthConstant;
 import constants.UiConstant;
 import constants.WorkoutConstant;
-import health.Bmi;
 import health.HealthList;
 import ui.Output;
 
-import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.util.Objects;
 import java.nio.file.Files;
@@ -18,7 +16,6 @@ import java.nio.file.Path;
  * Represents the validation class used to validate all inputs for PulsePilot.
  */
 public class Validation {
-
     //@@author JustinSoh
     public Validation(){
 
@@ -32,28 +29,36 @@ public class Validation {
      * @throws CustomExceptions.InvalidInput If the date is invalid.
      */
     public void validateDateInput(String date) throws CustomExceptions.InvalidInput {
-        if (!date.matches(UiConstant.VALID_DATE_REGEX)) {
-            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_DATE_ERROR);
+        checkDateInput(date).throwIfInvalidInput();
+    }
+
+    /**
+     * Checks that the input date string is correctly formatted in DD-MM-YYYY and is a valid date.
+     *
+     * @param date The string date from user input.
+     * @return The result of the check.
+     */
+    public ValidationResult checkDateInput(String date) {
+        if (!DateCodec.isDateFormat(date)) {
+            return ValidationResult.invalid(ErrorConstant.INVALID_DATE_ERROR);
         }
-        String[] parts = date.split(UiConstant.DASH);
-        int day = Integer.parseInt(parts[0]);
-        int month = Integer.parseInt(parts[1]);
-        int year = Integer.parseInt(parts[2]);
+        int day = DateCodec.getDay(date);
+        int month = DateCodec.getMonth(date);
+        int year = DateCodec.getYear(date);
 
         boolean isLeapYear = (year % 4 == 0 && year % 100 != 0) || (year % 400 == 0);
         if (month == 2 && day == 29 && !isLeapYear) {
-            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_LEAP_YEAR_ERROR);
+            return ValidationResult.invalid(ErrorConstant.INVALID_LEAP_YEAR_ERROR);
         }
 
         if (year < 1967) {
-            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_YEAR_ERROR);
+            return ValidationResult.invalid(ErrorConstant.INVALID_YEAR_ERROR);
         }
 
-        try {
-            LocalDate check = LocalDate.of(year, month, day);
-        } catch (DateTimeException e) {
-            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_DATE_ERROR);
+        if (month < 1 || month > 12 || day < 1 || day > DateCodec.lengthOfMonth(year, month)) {
+            return ValidationResult.invalid(ErrorConstant.INVALID_DATE_ERROR);
         }
+        return ValidationResult.VALID;
     }
 
     /**
@@ -74,6 +79,23 @@ public class Validation {
         }
     }
 
+    /**
+     * Validates the number of lines given for the log command.
+     *
+     * @param numberOfLines The number of lines string.
+     * @throws CustomExceptions.InvalidInput If the number of lines is not a positive integer.
+     */
+    public void validateLogLines(String numberOfLines) throws CustomExceptions.InvalidInput {
+        if (!validateIntegerIsPositive(numberOfLines)) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_LOG_LINES_ERROR);
+        }
+        try {
+            Integer.parseInt(numberOfLines);
+        } catch (NumberFormatException e) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_LOG_LINES_ERROR);
+        }
+    }
+
     //@@author L5-Z
     /**
      * Validates whether the filter string is either 'run', 'gym', 'workouts', 'bmi', 'period' or 'appointment'.
@@ -121,30 +143,51 @@ public class Validation {
      */
     public void validateBmiInput(String[] bmiDetails) throws CustomExceptions.InvalidInput,
             CustomExceptions.InsufficientInput {
+        validateBmiDetails(bmiDetails);
+        validateDateNotPresent(bmiDetails[HealthConstant.BMI_DATE_INDEX]);
+    }
+
+    /**
+     * Validates the BMI details entered without checking them against the Bmi objects already in HealthList.
+     *
+     * @param bmiDetails An array of strings with split BMI details.
+     * @throws CustomExceptions.InvalidInput If there are any errors in the details entered.
+     * @throws CustomExceptions.InsufficientInput If there are empty parameters specified.
+     */
+    public void validateBmiDetails(String[] bmiDetails) throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput {
+        checkBmiDetails(bmiDetails).throwIfInvalid();
+    }
+
+    /**
+     * Checks the BMI details entered without checking them against the Bmi objects already in HealthList.
+     *
+     * @param bmiDetails An array of strings with split BMI details.
+     * @return The result of the check.
+     */
+    public ValidationResult checkBmiDetails(String[] bmiDetails) {
         if (isEmptyParameterPresent(bmiDetails)) {
-            throw new CustomExceptions.InsufficientInput(ErrorConstant.INSUFFICIENT_BMI_PARAMETERS_ERROR);
+            return ValidationResult.insufficient(ErrorConstant.INSUFFICIENT_BMI_PARAMETERS_ERROR);
         }
 
-        if (!bmiDetails[HealthConstant.BMI_HEIGHT_INDEX].matches(UiConstant.VALID_TWO_DP_NUMBER_REGEX)
-                || !bmiDetails[HealthConstant.BMI_WEIGHT_INDEX].matches(UiConstant.VALID_TWO_DP_NUMBER_REGEX)) {
-            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_HEIGHT_WEIGHT_INPUT_ERROR);
+        if (!InputFormat.isTwoDecimalNumber(bmiDetails[HealthConstant.BMI_HEIGHT_INDEX])
+                || !InputFormat.isTwoDecimalNumber(bmiDetails[HealthConstant.BMI_WEIGHT_INDEX])) {
+            return ValidationResult.invalid(ErrorConstant.INVALID_HEIGHT_WEIGHT_INPUT_ERROR);
         }
 
         double height = Double.parseDouble(bmiDetails[HealthConstant.BMI_HEIGHT_INDEX]);
         double weight = Double.parseDouble(bmiDetails[HealthConstant.BMI_WEIGHT_INDEX]);
         if (height <= HealthConstant.MIN_HEIGHT || weight <= HealthConstant.MIN_WEIGHT) {
-            throw new CustomExceptions.InvalidInput(ErrorConstant.ZERO_HEIGHT_AND_WEIGHT_ERROR);
+            return ValidationResult.invalid(ErrorConstant.ZERO_HEIGHT_AND_WEIGHT_ERROR);
         }
         if (height > HealthConstant.MAX_HEIGHT) {
-            throw new CustomExceptions.InvalidInput(ErrorConstant.MAX_HEIGHT_ERROR);
+            return ValidationResult.invalid(ErrorConstant.MAX_HEIGHT_ERROR);
         }
         if (weight > HealthConstant.MAX_WEIGHT) {
-            throw new CustomExceptions.InvalidInput(ErrorConstant.MAX_WEIGHT_ERROR);
+            return ValidationResult.invalid(ErrorConstant.MAX_WEIGHT_ERROR);
         }
 
-        validateDateInput(bmiDetails[HealthConstant.BMI_DATE_INDEX]);
-        validateDateNotAfterToday(bmiDetails[HealthConstant.BMI_DATE_INDEX]);
-        validateDateNotPresent(bmiDetails[HealthConstant.BMI_DATE_INDEX]);
+        return checkDateInPast(bmiDetails[HealthConstant.BMI_DATE_INDEX]);
     }
 
     /**
@@ -157,33 +200,63 @@ public class Validation {
      */
     public void validatePeriodInput(String[] periodDetails, boolean isParser) throws CustomExceptions.InvalidInput,
             CustomExceptions.InsufficientInput {
+        checkPeriodDates(periodDetails).throwIfInvalid();
+        validateIfOnlyFromParser(isParser, periodDetails);
+        checkPeriodOrder(periodDetails).throwIfInvalid();
+    }
+
+    /**
+     * Checks the period details entered without checking them against the Period objects already in HealthList.
+     *
+     * @param periodDetails An array of strings with split period details.
+     * @return The result of the check.
+     */
+    public ValidationResult checkPeriodInput(String[] periodDetails) {
+        ValidationResult result = checkPeriodDates(periodDetails);
+        if (!result.isValid()) {
+            return result;
+        }
+        return checkPeriodOrder(periodDetails);
+    }
+
+    /**
+     * Checks that the period details are present and that its dates are valid.
+     */
+    private ValidationResult checkPeriodDates(String[] periodDetails) {
         if (isEmptyParameterPresent(periodDetails)) {
-            throw new CustomExceptions.InsufficientInput(ErrorConstant.INSUFFICIENT_PERIOD_PARAMETERS_ERROR);
+            return ValidationResult.insufficient(ErrorConstant.INSUFFICIENT_PERIOD_PARAMETERS_ERROR);
         }
-        try {
-            validateDateInput(periodDetails[HealthConstant.PERIOD_START_DATE_INDEX]);
-        } catch (CustomExceptions.InvalidInput e) {
-            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_START_DATE_ERROR + e.getMessage());
+        ValidationResult result = checkDateInput(periodDetails[HealthConstant.PERIOD_START_DATE_INDEX]);
+        if (!result.isValid()) {
+            return ValidationResult.invalid(ErrorConstant.INVALID_START_DATE_ERROR + " " + result.getMessage());
         }
-        try {
-            if (validateDateNotEmpty(periodDetails[HealthConstant.PERIOD_END_DATE_INDEX])) {
-                validateDateInput(periodDetails[HealthConstant.PERIOD_END_DATE_INDEX]);
+        if (validateDateNotEmpty(periodDetails[HealthConstant.PERIOD_END_DATE_INDEX])) {
+            result = checkDateInput(periodDetails[HealthConstant.PERIOD_END_DATE_INDEX]);
+            if (!result.isValid()) {
+                return ValidationResult.invalid(ErrorConstant.INVALID_END_DATE_ERROR + " " + result.getMessage());
             }
-        } catch (CustomExceptions.InvalidInput e) {
-            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_END_DATE_ERROR + e.getMessage());
         }
+        return ValidationResult.VALID;
+    }
 
-        validateIfOnlyFromParser(isParser, periodDetails);
-        validateDateNotAfterToday(periodDetails[HealthConstant.PERIOD_START_DATE_INDEX]);
-        Parser parser = new Parser();
-        LocalDate startDate = parser.parseDate(periodDetails[HealthConstant.PERIOD_START_DATE_INDEX]);
-        if (validateDateNotEmpty(periodDetails[HealthConstant.PERIOD_END_DATE_INDEX])) {
-            validateDateNotAfterToday(periodDetails[HealthConstant.PERIOD_END_DATE_INDEX]);
-            LocalDate endDate = parser.parseDate(periodDetails[HealthConstant.PERIOD_END_DATE_INDEX]);
-            if (startDate.isAfter(endDate)) {
-                throw new CustomExceptions.InvalidInput(ErrorConstant.PERIOD_END_BEFORE_START_ERROR);
-            }
+    /**
+     * Checks that the dates of a period are not after today and that it does not end before it starts.
+     */
+    private ValidationResult checkPeriodOrder(String[] periodDetails) {
+        ValidationResult result = checkDateNotAfterToday(periodDetails[HealthConstant.PERIOD_START_DATE_INDEX]);
+        if (!result.isValid() || !validateDateNotEmpty(periodDetails[HealthConstant.PERIOD_END_DATE_INDEX])) {
+            return result;
+        }
+        result = checkDateNotAfterToday(periodDetails[HealthConstant.PERIOD_END_DATE_INDEX]);
+        if (!result.isValid()) {
+            return result;
         }
+        LocalDate startDate = DateCodec.parseDate(periodDetails[HealthConstant.PERIOD_START_DATE_INDEX]);
+        LocalDate endDate = DateCodec.parseDate(periodDetails[HealthConstant.PERIOD_END_DATE_INDEX]);
+        if (startDate.isAfter(endDate)) {
+            return ValidationResult.invalid(ErrorConstant.PERIOD_END_BEFORE_START_ERROR);
+        }
+        return ValidationResult.VALID;
     }
 
     //@@author rouvinerh
@@ -196,23 +269,33 @@ public class Validation {
      */
     public void validateRunInput(String[] runDetails) throws CustomExceptions.InvalidInput,
             CustomExceptions.InsufficientInput {
+        checkRunInput(runDetails).throwIfInvalid();
+    }
+
+    /**
+     * Checks the run details entered.
+     *
+     * @param runDetails An array of strings with split run details.
+     * @return The result of the check.
+     */
+    public ValidationResult checkRunInput(String[] runDetails) {
         if (isEmptyParameterPresent(runDetails)) {
-            throw new CustomExceptions.InsufficientInput(ErrorConstant.INSUFFICIENT_RUN_PARAMETERS_ERROR);
+            return ValidationResult.insufficient(ErrorConstant.INSUFFICIENT_RUN_PARAMETERS_ERROR);
         }
 
-        if (!runDetails[WorkoutConstant.RUN_TIME_INDEX].matches(UiConstant.VALID_TIME_REGEX) &&
-                !runDetails[WorkoutConstant.RUN_TIME_INDEX].matches(UiConstant.VALID_TIME_WITH_HOURS_REGEX)) {
-            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_RUN_TIME_ERROR);
+        if (!InputFormat.isTime(runDetails[WorkoutConstant.RUN_TIME_INDEX]) &&
+                !InputFormat.isTimeWithHours(runDetails[WorkoutConstant.RUN_TIME_INDEX])) {
+            return ValidationResult.invalid(ErrorConstant.INVALID_RUN_TIME_ERROR);
         }
 
-        if (!runDetails[WorkoutConstant.RUN_DISTANCE_INDEX].matches(UiConstant.VALID_TWO_DP_NUMBER_REGEX)) {
-            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_RUN_DISTANCE_ERROR);
+        if (!InputFormat.isTwoDecimalNumber(runDetails[WorkoutConstant.RUN_DISTANCE_INDEX])) {
+            return ValidationResult.invalid(ErrorConstant.INVALID_RUN_DISTANCE_ERROR);
         }
 
         if (validateDateNotEmpty(runDetails[WorkoutConstant.RUN_DATE_INDEX])) {
-            validateDateInput(runDetails[WorkoutConstant.RUN_DATE_INDEX]);
-            validateDateNotAfterToday(runDetails[WorkoutConstant.RUN_DATE_INDEX]);
+            return checkDateInPast(runDetails[WorkoutConstant.RUN_DATE_INDEX]);
         }
+        return ValidationResult.VALID;
     }
 
     //@@author JustinSoh
@@ -225,22 +308,33 @@ public class Validation {
      */
     public void validateGymInput(String[] gymDetails) throws CustomExceptions.InvalidInput,
             CustomExceptions.InsufficientInput {
+        checkGymInput(gymDetails).throwIfInvalid();
+    }
+
+    /**
+     * Checks the number of stations and date of a gym entered.
+     *
+     * @param gymDetails An array of strings with split Gym details.
+     * @return The result of the check.
+     */
+    public ValidationResult checkGymInput(String[] gymDetails) {
         if (isEmptyParameterPresent(gymDetails)) {
-            throw new CustomExceptions.InsufficientInput(ErrorConstant.INSUFFICIENT_GYM_PARAMETERS_ERROR);
+            return ValidationResult.insufficient(ErrorConstant.INSUFFICIENT_GYM_PARAMETERS_ERROR);
         }
         if (!validateIntegerIsPositive(gymDetails[WorkoutConstant.GYM_NUMBER_OF_STATIONS_INDEX])) {
-            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_NUMBER_OF_STATIONS_ERROR);
+            return ValidationResult.invalid(ErrorConstant.INVALID_NUMBER_OF_STATIONS_ERROR);
         }
 
-        int numberOfStations = Integer.parseInt(gymDetails[WorkoutConstant.GYM_NUMBER_OF_STATIONS_INDEX]);
-        if (numberOfStations > WorkoutConstant.MAX_GYM_STATION_NUMBER) {
-            throw new CustomExceptions.InvalidInput(ErrorConstant.MAX_STATIONS_ERROR);
+        String numberOfStations = gymDetails[WorkoutConstant.GYM_NUMBER_OF_STATIONS_INDEX];
+        if (numberOfStations.length() > String.valueOf(WorkoutConstant.MAX_GYM_STATION_NUMBER).length()
+                || Integer.parseInt(numberOfStations) > WorkoutConstant.MAX_GYM_STATION_NUMBER) {
+            return ValidationResult.invalid(ErrorConstant.MAX_STATIONS_ERROR);
         }
 
         if (validateDateNotEmpty(gymDetails[WorkoutConstant.GYM_DATE_INDEX])) {
-            validateDateInput(gymDetails[WorkoutConstant.GYM_DATE_INDEX]);
-            validateDateNotAfterToday(gymDetails[WorkoutConstant.GYM_DATE_INDEX]);
+            return checkDateInPast(gymDetails[WorkoutConstant.GYM_DATE_INDEX]);
         }
+        return ValidationResult.VALID;
     }
 
     //@@author syj02
@@ -253,21 +347,36 @@ public class Validation {
      */
     public void validateAppointmentDetails(String[] appointmentDetails)
             throws CustomExceptions.InvalidInput, CustomExceptions.InsufficientInput {
+        checkAppointmentDetails(appointmentDetails).throwIfInvalid();
+    }
+
+    /**
+     * Checks the appointment details entered.
+     *
+     * @param appointmentDetails An array of strings with split appointment details.
+     * @return The result of the check.
+     */
+    public ValidationResult checkAppointmentDetails(String[] appointmentDetails) {
         if (isEmptyParameterPresent(appointmentDetails)) {
-            throw new CustomExceptions.InsufficientInput(ErrorConstant
-                    .INSUFFICIENT_APPOINTMENT_PARAMETERS_ERROR);
+            return ValidationResult.insufficient(ErrorConstant.INSUFFICIENT_APPOINTMENT_PARAMETERS_ERROR);
+        }
+        ValidationResult result = checkDateInput(appointmentDetails[HealthConstant.APPOINTMENT_DATE_INDEX]);
+        if (!result.isValid()) {
+            return result;
+        }
+        result = checkTimeInput(appointmentDetails[HealthConstant.APPOINTMENT_TIME_INDEX]);
+        if (!result.isValid()) {
+            return result;
         }
-        validateDateInput(appointmentDetails[HealthConstant.APPOINTMENT_DATE_INDEX]);
-        validateTimeInput(appointmentDetails[HealthConstant.APPOINTMENT_TIME_INDEX]);
 
         if (appointmentDetails[HealthConstant.APPOINTMENT_DESCRIPTION_INDEX].length()
                 > HealthConstant.MAX_DESCRIPTION_LENGTH) {
-            throw new CustomExceptions.InvalidInput(ErrorConstant.DESCRIPTION_LENGTH_ERROR);
+            return ValidationResult.invalid(ErrorConstant.DESCRIPTION_LENGTH_ERROR);
         }
-        if (!appointmentDetails[HealthConstant.APPOINTMENT_DESCRIPTION_INDEX]
-                .matches(UiConstant.VALID_APPOINTMENT_DESCRIPTION_REGEX)) {
-            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_DESCRIPTION_ERROR);
+        if (!InputFormat.isDescription(appointmentDetails[HealthConstant.APPOINTMENT_DESCRIPTION_INDEX])) {
+            return ValidationResult.invalid(ErrorConstant.INVALID_DESCRIPTION_ERROR);
         }
+        return ValidationResult.VALID;
     }
 
     //@@author rouvinerh
@@ -278,7 +387,7 @@ public class Validation {
      * @return Returns true if it only has alphanumeric characters, otherwise returns false.
      */
     public boolean validateIfUsernameIsValid(String name) {
-        return !name.matches(UiConstant.VALID_USERNAME_REGEX);
+        return !InputFormat.isAlphanumericAndSpaces(name);
     }
 
     /**
@@ -302,8 +411,7 @@ public class Validation {
      */
     public void validateDateAfterLatestPeriodInput(String dateString, LocalDate latestPeriodEndDate)
             throws CustomExceptions.InvalidInput {
-        Parser parser = new Parser();
-        LocalDate date = parser.parseDate(dateString);
+        LocalDate date = Parser.parseDate(dateString);
 
         if (latestPeriodEndDate != null && (date.isBefore(latestPeriodEndDate) || date.isEqual(latestPeriodEndDate))) {
             throw new CustomExceptions.InvalidInput(ErrorConstant.CURRENT_START_BEFORE_PREVIOUS_END);
@@ -321,8 +429,7 @@ public class Validation {
      */
     public void validateStartDatesTally(LocalDate latestPeriodEndDate, String[] periodDetails)
             throws CustomExceptions.InvalidInput {
-        Parser parser = new Parser();
-        LocalDate startDate = parser.parseDate(periodDetails[HealthConstant.PERIOD_START_DATE_INDEX]);
+        LocalDate startDate = Parser.parseDate(periodDetails[HealthConstant.PERIOD_START_DATE_INDEX]);
         LocalDate latestPeriodStartDate =
                 Objects.requireNonNull(HealthList.getPeriod(HealthConstant.FIRST_ITEM)).getStartDate();
 
@@ -378,12 +485,12 @@ public class Validation {
      * @throws CustomExceptions.InvalidInput If the same date is found.
      */
     public void validateDateNotPresent(String dateString) throws CustomExceptions.InvalidInput {
-        Parser parser = new Parser();
-        LocalDate dateToVerify = parser.parseDate(dateString);
-        for (Bmi bmi :  HealthList.getBmis()) {
-            if (bmi.getDate().isEqual(dateToVerify)) {
-                throw new CustomExceptions.InvalidInput(ErrorConstant.DATE_ALREADY_EXISTS_ERROR);
-            }
+        LocalDate dateToVerify = DateCodec.parseDate(dateString);
+        if (dateToVerify == null) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_DATE_ERROR);
+        }
+        if (HealthList.isBmiDatePresent(dateToVerify)) {
+            throw new CustomExceptions.InvalidInput(ErrorConstant.DATE_ALREADY_EXISTS_ERROR);
         }
     }
 
@@ -401,7 +508,7 @@ public class Validation {
     }
 
     public static boolean validateIntegerIsPositive(String value) {
-        return value.matches(UiConstant.VALID_POSITIVE_INTEGER_REGEX);
+        return InputFormat.isPositiveInteger(value);
     }
 
     //@@author rouvinerh
@@ -412,19 +519,29 @@ public class Validation {
      * @throws CustomExceptions.InvalidInput If time is formatted wrongly or is not valid.
      */
     protected void validateTimeInput(String time) throws CustomExceptions.InvalidInput {
-        if (!time.matches(UiConstant.VALID_TIME_REGEX)) {
-            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_ACTUAL_TIME_ERROR);
+        checkTimeInput(time).throwIfInvalidInput();
+    }
+
+    /**
+     * Checks that time is in HH:MM 24 hours format, and if it is a valid time.
+     *
+     * @param time The String time to check.
+     * @return The result of the check.
+     */
+    protected ValidationResult checkTimeInput(String time) {
+        if (!InputFormat.isTime(time)) {
+            return ValidationResult.invalid(ErrorConstant.INVALID_ACTUAL_TIME_ERROR);
         }
-        String [] parts = time.split(UiConstant.SPLIT_BY_COLON);
-        int hours = Integer.parseInt(parts[UiConstant.SPLIT_TIME_HOUR_INDEX]);
-        int minutes = Integer.parseInt(parts[UiConstant.SPLIT_TIME_MINUTES_INDEX]);
+        int hours = (time.charAt(0) - '0') * 10 + (time.charAt(1) - '0');
+        int minutes = (time.charAt(3) - '0') * 10 + (time.charAt(4) - '0');
 
         if (hours < UiConstant.MIN_HOURS || hours > UiConstant.MAX_HOURS) {
-            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_ACTUAL_TIME_HOUR_ERROR);
+            return ValidationResult.invalid(ErrorConstant.INVALID_ACTUAL_TIME_HOUR_ERROR);
         }
         if (minutes < UiConstant.MIN_MINUTES || minutes > UiConstant.MAX_MINUTES) {
-            throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_ACTUAL_TIME_MINUTE_ERROR);
+            return ValidationResult.invalid(ErrorConstant.INVALID_ACTUAL_TIME_MINUTE_ERROR);
         }
+        return ValidationResult.VALID;
     }
 
     //@@author rouvinerh
@@ -450,10 +567,34 @@ public class Validation {
      * @throws CustomExceptions.InvalidInput If the date specified is after today.
      */
     protected void validateDateNotAfterToday(String dateString) throws CustomExceptions.InvalidInput {
-        Parser parser = new Parser();
-        LocalDate date = parser.parseDate(dateString);
+        checkDateNotAfterToday(dateString).throwIfInvalidInput();
+    }
+
+    /**
+     * Checks that a valid date is not after today.
+     *
+     * @param dateString A string representing the date.
+     * @return The result of the check.
+     */
+    protected ValidationResult checkDateNotAfterToday(String dateString) {
+        LocalDate date = DateCodec.parseDate(dateString);
         if (date.isAfter(LocalDate.now())) {
-            throw new CustomExceptions.InvalidInput(ErrorConstant.DATE_IN_FUTURE_ERROR);
+            return ValidationResult.invalid(ErrorConstant.DATE_IN_FUTURE_ERROR);
+        }
+        return ValidationResult.VALID;
+    }
+
+    /**
+     * Checks that a date is valid and is not after today.
+     *
+     * @param dateString A string representing the date.
+     * @return The result of the check.
+     */
+    private ValidationResult checkDateInPast(String dateString) {
+        ValidationResult result = checkDateInput(dateString);
+        if (!result.isValid()) {
+            return result;
         }
+        return checkDateNotAfterToday(dateString);
     }
 }
@@ -0,0 +1,85 @@
+package utility;
+
+/**
+ * Represents the outcome of checking an input without throwing an exception.
+ * An invalid result holds the same error message that the matching exception would have, so the check methods
+ * of Validation can be used to go through many records cheaply, and the result only becomes an exception when
+ * it is reported to the user.
+ */
+public final class ValidationResult {
+    public static final ValidationResult VALID = new ValidationResult(null, false);
+
+    private final String message;
+    private final boolean isInsufficientInput;
+
+    private ValidationResult(String message, boolean isInsufficientInput) {
+        this.message = message;
+        this.isInsufficientInput = isInsufficientInput;
+    }
+
+    /**
+     * Creates the result of an input that is invalid.
+     *
+     * @param message The error message, as used by CustomExceptions.InvalidInput.
+     * @return The invalid result.
+     */
+    public static ValidationResult invalid(String message) {
+        return new ValidationResult(message, false);
+    }
+
+    /**
+     * Creates the result of an input that is missing parameters.
+     *
+     * @param message The error message, as used by CustomExceptions.InsufficientInput.
+     * @return The invalid result.
+     */
+    public static ValidationResult insufficient(String message) {
+        return new ValidationResult(message, true);
+    }
+
+    /**
+     * Checks whether the input is valid.
+     *
+     * @return True if the input is valid, otherwise false.
+     */
+    public boolean isValid() {
+        return message == null;
+    }
+
+    /**
+     * Retrieves the error message of the result.
+     *
+     * @return The error message, or null if the input is valid.
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Throws the exception matching the result if the input is not valid.
+     *
+     * @throws CustomExceptions.InvalidInput If the input is invalid.
+     * @throws CustomExceptions.InsufficientInput If the input is missing parameters.
+     */
+    public void throwIfInvalid() throws CustomExceptions.InvalidInput, CustomExceptions.InsufficientInput {
+        if (message == null) {
+            return;
+        }
+        if (isInsufficientInput) {
+            throw new CustomExceptions.InsufficientInput(message);
+        }
+        throw new CustomExceptions.InvalidInput(message);
+    }
+
+    /**
+     * Throws CustomExceptions.InvalidInput if the input is not valid, for checks that never report missing
+     * parameters.
+     *
+     * @throws CustomExceptions.InvalidInput If the input is invalid.
+     */
+    public void throwIfInvalidInput() throws CustomExceptions.InvalidInput {
+        if (message != null) {
+            throw new CustomExceptions.InvalidInput(message);
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package workouts;
 
 import constants.ErrorConstant;
+import storage.GymDetails;
 import storage.LogFile;
 import utility.CustomExceptions;
 import constants.UiConstant;
 import constants.WorkoutConstant;
 import utility.Validation;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Represents a Gym object that extends the Workout class.
@@ -18,13 +22,15 @@ public class Gym extends Workout {
     //@@author JustinSoh
 
     private final ArrayList<GymStation> stations = new ArrayList<>();
+    private int lazyNumberOfStations = 0;
+    private long fileOffset = WorkoutConstant.NO_FILE_OFFSET;
+    private int fileLength = 0;
 
     /**
      * Constructs a new Gym.
-     * When a new Gym object is created, it is automatically added to a list of workouts.
+     * The Gym object is not added to the list of workouts until it is passed to WorkoutLists.addGym.
      */
     public Gym() {
-        super.addIntoWorkoutList(this);
     }
 
     /**
@@ -34,7 +40,100 @@ public class Gym extends Workout {
      */
     public Gym(String stringDate) {
         super(stringDate);
-        super.addIntoWorkoutList(this);
+    }
+
+    /**
+     * Constructs a Gym with its stations, without adding it to the list of workouts.
+     *
+     * @param stringDate String representing the date of the gym session, or null if there is no date.
+     * @param stations   The GymStation objects of the gym session.
+     */
+    private Gym(String stringDate, List<GymStation> stations) {
+        super(stringDate);
+        this.stations.addAll(stations);
+    }
+
+    /**
+     * Constructs a Gym without a date with its stations, without adding it to the list of workouts.
+     *
+     * @param stations The GymStation objects of the gym session.
+     */
+    private Gym(List<GymStation> stations) {
+        this.stations.addAll(stations);
+    }
+
+    /**
+     * Creates a Gym that already has all of its stations, without adding it to the list of workouts.
+     * Adding it afterwards means the list never holds the gym session without its stations.
+     *
+     * @param stringDate String representing the date of the gym session, or null if there is no date.
+     * @param stations   The GymStation objects of the gym session, in order.
+     * @return The new Gym object.
+     */
+    public static Gym createWithStations(String stringDate, List<GymStation> stations) {
+        return stringDate == null ? new Gym(stations) : new Gym(stringDate, stations);
+    }
+
+    /**
+     * Constructs a Gym loaded lazily from the data file, without adding it to the list of workouts.
+     *
+     * @param stringDate       String representing the date of the gym session.
+     * @param numberOfStations The number of stations in the gym session.
+     * @param fileOffset       The offset of the gym record in the data file.
+     * @param fileLength       The length of the gym record in the data file.
+     */
+    private Gym(String stringDate, int numberOfStations, long fileOffset, int fileLength) {
+        super(stringDate);
+        this.lazyNumberOfStations = numberOfStations;
+        this.fileOffset = fileOffset;
+        this.fileLength = fileLength;
+    }
+
+    /**
+     * Constructs a Gym without a date loaded lazily from the data file, without adding it to the list of workouts.
+     *
+     * @param numberOfStations The number of stations in the gym session.
+     * @param fileOffset       The offset of the gym record in the data file.
+     * @param fileLength       The length of the gym record in the data file.
+     */
+    private Gym(int numberOfStations, long fileOffset, int fileLength) {
+        this.lazyNumberOfStations = numberOfStations;
+        this.fileOffset = fileOffset;
+        this.fileLength = fileLength;
+    }
+
+    /**
+     * Creates a Gym that only keeps its date, number of stations and the location of its record in the data file.
+     * Its GymStation objects are only created from the record when they are first accessed.
+     * The Gym object is not added to the list of workouts.
+     *
+     * @param stringDate       String representing the date of the gym session, or "NA" if there is no date.
+     * @param numberOfStations The number of stations in the gym session.
+     * @param fileOffset       The offset of the gym record in the data file.
+     * @param fileLength       The length of the gym record in the data file.
+     * @return The new Gym object.
+     */
+    public static Gym createLazy(String stringDate, int numberOfStations, long fileOffset, int fileLength) {
+        return stringDate.equals(ErrorConstant.NO_DATE_SPECIFIED_ERROR)
+                ? new Gym(numberOfStations, fileOffset, fileLength)
+                : new Gym(stringDate, numberOfStations, fileOffset, fileLength);
+    }
+
+    /**
+     * Checks whether the GymStation objects of the Gym are still only stored in the data file.
+     *
+     * @return True if the stations are loaded lazily, false otherwise.
+     */
+    public boolean isLazy() {
+        return fileOffset != WorkoutConstant.NO_FILE_OFFSET;
+    }
+
+    public long getFileOffset() {
+        return fileOffset;
+    }
+
+    public int getFileLength() {
+        return fileLength;
     }
 
     /**
@@ -56,18 +155,45 @@ public class Gym extends Workout {
 
         GymStation newStation = new GymStation(name, numberOfSet, numberOfRepetitions, weights);
         appendIntoStations(newStation);
-        LogFile.writeLog("Added Gym Station: " + name, false);
+        LogFile.writeLog("Added Gym Station: {0}", name, false);
+    }
+
+    /**
+     * Adds a GymStation object that has already been created and validated into the Gym object.
+     *
+     * @param station The GymStation object to add.
+     */
+    public void addStation(GymStation station) {
+        appendIntoStations(station);
+        LogFile.writeLog("Added Gym Station: {0}", station.getStationName(), false);
     }
 
     /**
      * Gets the list of GymStation objects.
      *
      * @return An ArrayList of GymStation objects.
+     * @throws UncheckedIOException If the stations of a lazy Gym cannot be read from the data file.
      */
     public ArrayList<GymStation> getStations() {
+        if (isLazy()) {
+            try {
+                return GymDetails.getStations(this);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
         return stations;
     }
 
+    /**
+     * Gets the number of GymStation objects without loading them.
+     *
+     * @return The number of stations.
+     */
+    public int getNumberOfStations() {
+        return isLazy() ? lazyNumberOfStations : stations.size();
+    }
+
     /**
      * Retrieves the GymStation object by index.
      *
@@ -76,11 +202,11 @@ public class Gym extends Workout {
      * @throws CustomExceptions.OutOfBounds If the index is out of bounds.
      */
     public GymStation getStationByIndex(int index) throws CustomExceptions.OutOfBounds {
-        boolean isIndexValid = Validation.validateIndexWithinBounds(index, 0,  stations.size());
+        boolean isIndexValid = Validation.validateIndexWithinBounds(index, 0,  getNumberOfStations());
         if (!isIndexValid) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.INVALID_INDEX_SEARCH_ERROR);
         }
-        return stations.get(index);
+        return getStations().get(index);
     }
 
     /**
@@ -98,9 +224,19 @@ public class Gym extends Workout {
      * Converts the Gym object into a string format suitable for writing into a file.
      * For more examples, refer to the GymTest method toFileString_correctInput_expectedCorrectString().
      *
+     * A lazy Gym returns its record as read from the data file.
+     *
      * @return A string representing the Gym object and its GymStation objects unsuitable for writing into a file.
+     * @throws UncheckedIOException If the record of a lazy Gym cannot be read from the data file.
      */
     public String toFileString(){
+        if (isLazy()) {
+            try {
+                return GymDetails.readRecord(this);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
         StringBuilder formattedString = new StringBuilder();
 
         // Append the type, number of stations, and date (GYM:NUM_STATIONS:DATE:)
@@ -142,7 +278,24 @@ public class Gym extends Workout {
                 prefix, date, gymStationString, gymSetString, UiConstant.DASH);
     }
 
+    /**
+     * Replaces the names of the GymStation objects with the copies stored in the station names of the repository.
+     *
+     * @param stationNames The station names of the repository the gym is in.
+     */
+    void internStationNames(StationNames stationNames) {
+        for (GymStation station : stations) {
+            station.internStationName(stationNames);
+        }
+    }
+
     private void appendIntoStations(GymStation station) {
-        stations.add(station);
+        WorkoutLists.getRepository().updateGym(this, () -> {
+            if (isLazy()) {
+                stations.addAll(getStations());
+                fileOffset = WorkoutConstant.NO_FILE_OFFSET;
+            }
+            stations.add(station);
+        });
     }
 }
@@ -4,18 +4,23 @@ import constants.ErrorConstant;
 import constants.UiConstant;
 import constants.WorkoutConstant;
 import utility.CustomExceptions;
+import utility.InputFormat;
 import utility.Validation;
 
 import java.util.ArrayList;
 
 /**
  * Represents a GymStation object.
+ * The station keeps its name, which is shared with every other station of the same name once the station is in a
+ * WorkoutRepository, its number of repetitions and the weight of each set in a float array, which holds every
+ * valid weight exactly. GymSet objects are only created when the sets are
+ * retrieved.
  */
 public class GymStation {
     //@@author JustinSoh
-    private final String stationName;
-    private final ArrayList<GymSet> sets = new ArrayList<>();
-    private final int numberOfSets;
+    private String stationName;
+    private final int numberOfRepetitions;
+    private final float[] weights;
 
     /**
      * Constructs a new GymStation object that contains the name, weight, number of repetitions and number of sets done
@@ -23,7 +28,7 @@ public class GymStation {
      *
      * @param exerciseName        The name of the gym station.
      *                            The name should not be empty and should not exceed the maximum length.
-     *                            The name should also follow the pattern (UiConstant.VALID_GYM_STATION_NAME_REGEX)
+     *                            The name should also have only letters and spaces (InputFormat.isLettersAndSpaces)
      * @param numberOfSetsStr     The number of sets done.
      *                            The number of sets should be a positive integer.
      *                            The number of sets should not be empty.
@@ -38,16 +43,13 @@ public class GymStation {
             throws CustomExceptions.InsufficientInput, CustomExceptions.InvalidInput {
         
         // Check input validity
-        this.stationName  = validateGymStationName(exerciseName);
-        this.numberOfSets = validateNumberOfSets(numberOfSetsStr);
-        int validNumberOfReps = validateNumberOfRepetitions(numberOfRepetitions);
-        ArrayList<Double> validWeights = processWeightsArray(weightsString);
+        this.stationName = validateGymStationName(exerciseName);
+        int numberOfSets = validateNumberOfSets(numberOfSetsStr);
+        this.numberOfRepetitions = validateNumberOfRepetitions(numberOfRepetitions);
+        this.weights = parseWeights(weightsString);
 
         // Verify if the number of weights matches the number of sets
-        checkIfNumberOfWeightsMatchesSets(validWeights, this.numberOfSets);
-
-        // Process the sets and weights and add them into the gym set object
-        processSets(validWeights, validNumberOfReps);
+        checkIfNumberOfWeightsMatchesSets(weights.length, numberOfSets);
     }
 
     /**
@@ -59,12 +61,26 @@ public class GymStation {
         return stationName;
     }
 
+    /**
+     * Replaces the name of the station with the copy stored in the station names of its repository.
+     *
+     * @param stationNames The station names of the repository the station is in.
+     */
+    void internStationName(StationNames stationNames) {
+        stationName = stationNames.intern(stationName);
+    }
+
     /**
      * Retrieves an ArrayList of gym sets for the GymStation object.
+     * The GymSet objects are created from the weights of the station each time this is called.
      *
      * @return The ArrayList of GymSet objects.
      */
     public ArrayList<GymSet> getSets() {
+        ArrayList<GymSet> sets = new ArrayList<>(weights.length);
+        for (float weight : weights) {
+            sets.add(new GymSet((double) weight, numberOfRepetitions));
+        }
         return sets;
     }
 
@@ -74,7 +90,7 @@ public class GymStation {
      * @return The number of sets done.
      */
     public int getNumberOfSets() {
-        return numberOfSets;
+        return weights.length;
     }
 
     /**
@@ -88,10 +104,11 @@ public class GymStation {
                 this.getStationName()) + String.format(WorkoutConstant.INDIVIDUAL_GYM_STATION_FORMAT,
                 this.getNumberOfSets()));
 
+        ArrayList<GymSet> sets = this.getSets();
         for (int i = 0; i < this.getNumberOfSets(); i++) {
             returnString.append(System.lineSeparator());
             returnString.append(String.format(WorkoutConstant.GYM_SET_INDEX_FORMAT, i+1 ,
-                    this.getSets().get(i).toString()));
+                    sets.get(i).toString()));
         }
         return returnString.toString();
     }
@@ -108,7 +125,7 @@ public class GymStation {
         StringBuilder fileString = new StringBuilder();
         String stationName = getStationName();
         String numOfSets = String.valueOf(getNumberOfSets());
-        String gymRepString = toRepString().split(UiConstant.SPLIT_BY_COMMAS)[0];
+        String gymRepString = String.valueOf(numberOfRepetitions);
         String gymWeightString = toWeightString();
         fileString.append(stationName);
         fileString.append(UiConstant.SPLIT_BY_COLON);
@@ -129,15 +146,9 @@ public class GymStation {
      */
     protected ArrayList<Double> processWeightsArray(String weightsString)
             throws CustomExceptions.InvalidInput {
-        validateWeightString(weightsString);
-        String[] weightsArray = weightsString.split(UiConstant.SPLIT_BY_COMMAS);
         ArrayList<Double> validatedWeightsArray = new ArrayList<>();
-
-        for (String weight: weightsArray){
-            boolean isValidWeight = validateWeight(weight);
-            if (isValidWeight){
-                validatedWeightsArray.add(Double.parseDouble(weight));
-            }
+        for (float weight : parseWeights(weightsString)) {
+            validatedWeightsArray.add((double) weight);
         }
         return validatedWeightsArray;
     }
@@ -145,7 +156,7 @@ public class GymStation {
     /**
      * Validates the gym station name ensuring that
      * - it is not empty
-     * - follows the correct pattern (UiConstant.VALID_GYM_STATION_NAME_REGEX)
+     * - has only letters and spaces (InputFormat.isLettersAndSpaces)
      * - does not exceed the maximum length. (WorkoutConstant.MAX_GYM_STATION_NAME_LENGTH)
      *
      * @param exerciseName The string representing the gym station name
@@ -179,21 +190,21 @@ public class GymStation {
 
     // Private Methods
     /**
-     * Retrieves the string representation of a GymStation object with commas.
-     * E.g. toRepString(",") returns "1,2,3"
+     * Validates the weight string and parses each weight without boxing it.
+     * Every valid weight is a multiple of 0.125 below the maximum weight, so it is held exactly as a float.
      *
-     * @return A formatted string representing a GymStation object with the specified delimiter.
+     * @param weightsString The string representing the weights in the format "weight1,weight2,weight3..."
+     * @return The weights in the order given.
+     * @throws CustomExceptions.InvalidInput If an invalid weights string is passed in.
      */
-    private String toRepString() {
-        StringBuilder repString = new StringBuilder();
-        for (int i = 0; i < sets.size(); i++) {
-            String currentRep = String.valueOf(sets.get(i).getNumberOfRepetitions());
-            repString.append(currentRep);
-            if (i != sets.size() - 1) {
-                repString.append(UiConstant.SPLIT_BY_COMMAS);
-            }
+    private float[] parseWeights(String weightsString) throws CustomExceptions.InvalidInput {
+        validateWeightString(weightsString);
+        String[] weightsArray = weightsString.split(UiConstant.SPLIT_BY_COMMAS);
+        float[] validatedWeights = new float[weightsArray.length];
+        for (int i = 0; i < weightsArray.length; i++) {
+            validatedWeights[i] = (float) validateWeight(weightsArray[i]);
         }
-        return repString.toString();
+        return validatedWeights;
     }
 
     /**
@@ -204,10 +215,10 @@ public class GymStation {
      */
     private String toWeightString(){
         StringBuilder weightString = new StringBuilder();
-        for (int i = 0; i < sets.size(); i++) {
-            String currentRep = String.valueOf(sets.get(i).getWeight());
-            weightString.append(currentRep);
-            if (i != sets.size() - 1) {
+        for (int i = 0; i < weights.length; i++) {
+            String currentWeight = String.valueOf((double) weights[i]);
+            weightString.append(currentWeight);
+            if (i != weights.length - 1) {
                 weightString.append(UiConstant.SPLIT_BY_COMMAS);
             }
         }
@@ -229,33 +240,20 @@ public class GymStation {
         return Integer.parseInt(numberOfRepetitions);
     }
 
-    /**
-     * Function which adds a GymSet object to GymStation.
-     *
-     * @param weightsList     The weight done for the particular set.
-     * @param numberOfRepetitions The number of repetitions done for the particular set.
-     */
-    private void processSets(ArrayList<Double> weightsList, int numberOfRepetitions) {
-        for (int i = 0; i < numberOfSets; i++) {
-            GymSet newSet = new GymSet(weightsList.get(i), numberOfRepetitions);
-            sets.add(newSet);
-        }
-    }
-
     /**
      * Validates the weight string ensuring that
      * - The weight does not exceed the maximum weight (@code WorkoutConstant.MAX_GYM_WEIGHT)
      * - The weight is a multiple of 0.125 (as that is the increment of weights in a gym)
      *
      * @param weight The string representing the weight
-     * @return boolean true  if the weight is valid
+     * @return The weight if it is valid
      * @throws CustomExceptions.InvalidInput if an invalid weight is passed in
      */
-    private boolean validateWeight(String weight) throws CustomExceptions.InvalidInput {
+    private double validateWeight(String weight) throws CustomExceptions.InvalidInput {
         double weightDouble = Double.parseDouble(weight);
         validateWeightDoesNotExceedMax(weightDouble);
         validateWeightIsMultiple(weightDouble);
-        return true;
+        return weightDouble;
     }
 
 
@@ -278,7 +276,7 @@ public class GymStation {
      * @throws CustomExceptions.InvalidInput if the exercise name does not match the pattern.
      */
     private void validateExerciseNamePattern(String exerciseName) throws CustomExceptions.InvalidInput {
-        if (!exerciseName.matches(UiConstant.VALID_GYM_STATION_NAME_REGEX)) {
+        if (!InputFormat.isLettersAndSpaces(exerciseName)) {
             throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_GYM_STATION_NAME_ERROR);
         }
     }
@@ -322,13 +320,13 @@ public class GymStation {
     /**
      * Checks if the number of weights matches the number of sets.
      *
-     * @param weights The list of weights.
+     * @param numberOfWeights The number of weights.
      * @param numberOfSets The number of sets.
      * @throws CustomExceptions.InvalidInput if the number of weights does not match the number of sets.
      */
-    private void checkIfNumberOfWeightsMatchesSets(ArrayList<Double> weights, int numberOfSets)
+    private void checkIfNumberOfWeightsMatchesSets(int numberOfWeights, int numberOfSets)
             throws CustomExceptions.InvalidInput {
-        if (weights.size() != numberOfSets){
+        if (numberOfWeights != numberOfSets){
             throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_WEIGHTS_NUMBER_ERROR);
         }
     }
@@ -336,7 +334,7 @@ public class GymStation {
     /**
      * Validates the weight string ensuring that
      * - The weight string is not empty
-     * - The weight string follows the correct format (UiConstant.VALID_WEIGHTS_ARRAY_REGEX)
+     * - The weight string follows the correct format (InputFormat.isWeights)
      *
      * @param weightsString The string representing the weights
      * @throws CustomExceptions.InvalidInput if an invalid weight string is passed in
@@ -346,7 +344,7 @@ public class GymStation {
             throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_WEIGHTS_EMPTY_ERROR);
         }
 
-        if (!weightsString.matches(UiConstant.VALID_WEIGHTS_ARRAY_REGEX)) {
+        if (!InputFormat.isWeights(weightsString)) {
             throw new CustomExceptions.InvalidInput(ErrorConstant.INVALID_WEIGHTS_ARRAY_FORMAT_ERROR);
         }
     }
@@ -10,12 +10,13 @@ import constants.WorkoutConstant;
  * Represents a Run object that extends the Workout class.
  * It takes in the time and distance of the run as input, calculates the pace of the run based on the time and distance,
  * and formats the time and distance into a readable String format when printed.
+ * The time is kept as a number of seconds and the distance as a number of centimetres, and the pace is only
+ * formatted when it is printed, so a Run object holds no other objects apart from its date.
  */
 public class Run extends Workout {
     //@@author rouvinerh
-    private final Integer[] times;
-    private final double distance;
-    private final String pace;
+    private final int durationSeconds;
+    private final int distanceCentimetres;
 
     /**
      * Constructs a new Run object with the time and distance from user input.
@@ -25,10 +26,9 @@ public class Run extends Workout {
      * @throws CustomExceptions.InvalidInput If there is invalid input in any parameters found.
      */
     public Run(String stringTime, String stringDistance) throws CustomExceptions.InvalidInput {
-        times = processRunTime(stringTime);
-        distance = checkDistance(stringDistance);
-        pace = calculatePace();
-        super.addIntoWorkoutList(this);
+        durationSeconds = calculateTotalSeconds(processRunTime(stringTime));
+        distanceCentimetres = toCentimetres(checkDistance(stringDistance));
+        calculatePace();
     }
 
     /**
@@ -41,11 +41,9 @@ public class Run extends Workout {
      */
     public Run(String stringTime, String stringDistance, String stringDate) throws CustomExceptions.InvalidInput {
         super(stringDate);
-        times = processRunTime(stringTime);
-        distance = checkDistance(stringDistance);
-        pace = calculatePace();
-        Workout workout = new Workout();
-        workout.addIntoWorkoutList(this);
+        durationSeconds = calculateTotalSeconds(processRunTime(stringTime));
+        distanceCentimetres = toCentimetres(checkDistance(stringDistance));
+        calculatePace();
     }
 
     /**
@@ -56,15 +54,13 @@ public class Run extends Workout {
      * @return Formatted string of the time for the run.
      */
     public String getTimes() {
-        if (times[WorkoutConstant.RUN_TIME_HOUR_INDEX] > UiConstant.MIN_HOURS) {
-            int hours = times[WorkoutConstant.RUN_TIME_HOUR_INDEX];
-            int minutes = times[WorkoutConstant.RUN_TIME_MINUTE_INDEX];
-            int seconds = times[WorkoutConstant.RUN_TIME_SECOND_INDEX];
+        // times without hours are always less than an hour, and times with hours are always at least an hour
+        int hours = durationSeconds / UiConstant.NUM_SECONDS_IN_HOUR;
+        int minutes = durationSeconds % UiConstant.NUM_SECONDS_IN_HOUR / UiConstant.NUM_SECONDS_IN_MINUTE;
+        int seconds = durationSeconds % UiConstant.NUM_SECONDS_IN_MINUTE;
+        if (hours > UiConstant.MIN_HOURS) {
             return String.format(WorkoutConstant.TIME_WITH_HOURS_FORMAT, hours, minutes, seconds);
-
         } else {
-            int minutes = times[WorkoutConstant.RUN_TIME_MINUTE_INDEX];
-            int seconds = times[WorkoutConstant.RUN_TIME_SECOND_INDEX];
             return String.format(WorkoutConstant.TIME_WITHOUT_HOURS_FORMAT, minutes, seconds);
         }
     }
@@ -75,7 +71,7 @@ public class Run extends Workout {
      * @return Run distance as String.
      */
     public String getDistance() {
-        return String.format(WorkoutConstant.TWO_DECIMAL_PLACE_FORMAT, distance);
+        return String.format(WorkoutConstant.TWO_DECIMAL_PLACE_FORMAT, getDistanceInKilometres());
     }
 
     /**
@@ -84,7 +80,25 @@ public class Run extends Workout {
      * @return Run pace as String.
      */
     public String getPace() {
-        return pace;
+        return formatPace(calculatePaceInMinutes());
+    }
+
+    /**
+     * Retrieves the run time in seconds.
+     *
+     * @return The total number of seconds in the run.
+     */
+    int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    /**
+     * Retrieves the run distance in centimetres.
+     *
+     * @return The run distance in centimetres.
+     */
+    int getDistanceCentimetres() {
+        return distanceCentimetres;
     }
 
     //@@author JustinSoh
@@ -174,8 +188,7 @@ public class Run extends Workout {
      * @throws CustomExceptions.InvalidInput If the pace calculated is too large or small.
      */
     protected String calculatePace() throws CustomExceptions.InvalidInput {
-        int totalSeconds = calculateTotalSeconds();
-        double paceInDecimal = ((double) totalSeconds / this.distance) / UiConstant.NUM_SECONDS_IN_MINUTE;
+        double paceInDecimal = calculatePaceInMinutes();
 
         if (paceInDecimal > WorkoutConstant.MAX_PACE) {
             throw new CustomExceptions.InvalidInput(ErrorConstant.MAX_PACE_ERROR);
@@ -184,29 +197,56 @@ public class Run extends Workout {
             throw new CustomExceptions.InvalidInput(ErrorConstant.MIN_PACE_ERROR);
         }
 
+        assert paceInDecimal >= 1: ErrorConstant.MIN_PACE_ERROR;
+        return formatPace(paceInDecimal);
+    }
+
+    /**
+     * Calculates the pace of the run in minutes per km.
+     *
+     * @return The pace of the run in minutes.
+     */
+    private double calculatePaceInMinutes() {
+        return ((double) durationSeconds / getDistanceInKilometres()) / UiConstant.NUM_SECONDS_IN_MINUTE;
+    }
+
+    /**
+     * Formats a pace in minutes per km into minutes and seconds.
+     *
+     * @param paceInDecimal The pace in minutes.
+     * @return The pace of the run as a String.
+     */
+    private static String formatPace(double paceInDecimal) {
         int minutes = (int) paceInDecimal;
         double remainingSeconds = paceInDecimal - minutes;
         int seconds = (int) Math.round(remainingSeconds * UiConstant.NUM_SECONDS_IN_MINUTE);
-        assert paceInDecimal >= 1: ErrorConstant.MIN_PACE_ERROR;
-
         return String.format(WorkoutConstant.RUN_PACE_FORMAT, minutes, seconds);
     }
 
+    private double getDistanceInKilometres() {
+        return (double) distanceCentimetres / WorkoutConstant.CENTIMETRES_IN_KILOMETRE;
+    }
+
+    private static int toCentimetres(double distance) {
+        return (int) Math.round(distance * WorkoutConstant.CENTIMETRES_IN_KILOMETRE);
+    }
+
     /**
      * Returns the total seconds based on the times taken for the run.
      *
+     * @param times The hours (if present), minutes and seconds of the run.
      * @return The total number of seconds in the run.
      */
-    private int calculateTotalSeconds() {
+    private static int calculateTotalSeconds(Integer[] times) {
         int totalSeconds;
 
         if (times[0] > 0) {
-            totalSeconds = this.times[WorkoutConstant.RUN_TIME_HOUR_INDEX] * UiConstant.NUM_SECONDS_IN_HOUR
-                    + this.times[WorkoutConstant.RUN_TIME_MINUTE_INDEX] * UiConstant.NUM_SECONDS_IN_MINUTE
-                    + this.times[WorkoutConstant.RUN_TIME_SECOND_INDEX];
+            totalSeconds = times[WorkoutConstant.RUN_TIME_HOUR_INDEX] * UiConstant.NUM_SECONDS_IN_HOUR
+                    + times[WorkoutConstant.RUN_TIME_MINUTE_INDEX] * UiConstant.NUM_SECONDS_IN_MINUTE
+                    + times[WorkoutConstant.RUN_TIME_SECOND_INDEX];
         } else {
-            totalSeconds = this.times[WorkoutConstant.RUN_TIME_MINUTE_INDEX] * UiConstant.NUM_SECONDS_IN_MINUTE
-                    + this.times[WorkoutConstant.RUN_TIME_SECOND_INDEX];
+            totalSeconds = times[WorkoutConstant.RUN_TIME_MINUTE_INDEX] * UiConstant.NUM_SECONDS_IN_MINUTE
+                    + times[WorkoutConstant.RUN_TIME_SECOND_INDEX];
         }
         assert totalSeconds > 0: ErrorConstant.ZERO_TIME_ERROR;
         return totalSeconds;
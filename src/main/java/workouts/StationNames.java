@@ -0,0 +1,45 @@
+package workouts;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Represents the dictionary of gym station names of one WorkoutRepository.
+ * Each distinct name is stored once, and the GymStation objects of the repository all refer to that one String,
+ * so an exercise repeated across many gym sessions does not keep a separate String for every station.
+ * The dictionary is cleared along with its repository, so it never outlives the session it belongs to.
+ */
+public class StationNames {
+    private final Map<String, String> names = new HashMap<>();
+
+    /**
+     * Retrieves the stored copy of a station name, storing the name if it is new.
+     *
+     * @param name The station name.
+     * @return The String stored for the name.
+     */
+    String intern(String name) {
+        String storedName = names.get(name);
+        if (storedName == null) {
+            names.put(name, name);
+            storedName = name;
+        }
+        return storedName;
+    }
+
+    /**
+     * Retrieves the number of distinct station names stored.
+     *
+     * @return The number of names.
+     */
+    int size() {
+        return names.size();
+    }
+
+    /**
+     * Removes every station name.
+     */
+    void clear() {
+        names.clear();
+    }
+}
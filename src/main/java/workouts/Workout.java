@@ -2,15 +2,16 @@ package workouts;
 import java.time.LocalDate;
 
 import constants.ErrorConstant;
-import utility.Parser;
+import utility.DateCodec;
 
 /**
  * Workout class is a parent class that is used in Gym and Run classes.
- * It contains the date of the workout and a parser object to parse the date.
+ * It contains the date of the workout, which is parsed with the shared date parsing methods of DateCodec.
  */
 public class Workout {
     //@@author JustinSoh
-    private LocalDate date = null;
+    private final LocalDate date;
+    private long sequenceNumber = 0;
 
     /**
      * Overloaded constructor that uses the optional date parameter from user input.
@@ -18,17 +19,37 @@ public class Workout {
      * @param stringDate String representing the date of the workout.
      */
     public Workout(String stringDate) {
-        Parser parser = new Parser();
-        this.date = parser.parseDate(stringDate);
+        this.date = DateCodec.parseDate(stringDate);
     }
 
     /**
      * Constructor that builds a new Workout object.
      */
     public Workout() {
+        this.date = null;
     }
 
 
+    /**
+     * Returns the position of the workout in the order workouts were added to WorkoutLists.
+     * The sequence number only orders the workouts of the current session, so it is 0 until the workout is added,
+     * is not saved to the data file and is given again when the workout is loaded. It is not a stable record ID.
+     *
+     * @return The sequence number of the workout.
+     */
+    long getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    /**
+     * Sets the position of the workout in the order workouts were added when it is added to WorkoutLists.
+     *
+     * @param sequenceNumber The sequence number of the workout.
+     */
+    void setSequenceNumber(long sequenceNumber) {
+        this.sequenceNumber = sequenceNumber;
+    }
+
     /**
      * Returns the date of the workout. If the date is not specified, returns "NA".
      *
@@ -51,8 +72,7 @@ public class Workout {
      * @return Formatted date in dd-MM-yyyy format.
      */
     public String getDateForFile(){
-        Parser parser = new Parser();
-        return parser.parseFormattedDate(this.date);
+        return DateCodec.formatDate(this.date);
     }
 
     /**
@@ -64,18 +84,4 @@ public class Workout {
     public String toString(){
         return getDate().toString();
     }
-
-    /**
-     * Adds the workout object into the workout list.
-     *
-     * @param workout The workout object to be added.
-     */
-    protected void addIntoWorkoutList(Workout workout) {
-        WorkoutLists workoutLists = new WorkoutLists();
-        if (workout instanceof Run) {
-            workoutLists.addRun((Run) workout);
-        } else if (workout instanceof Gym) {
-            workoutLists.addGym((Gym) workout);
-        }
-    }
 }
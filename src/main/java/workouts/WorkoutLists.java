@@ -6,51 +6,92 @@ import utility.CustomExceptions;
 import constants.ErrorConstant;
 import utility.Validation;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 
 /**
- * WorkoutLists class contains a static list of workouts, runs and gyms.
- * You cannot add a new object to the list directly.
- * It will automatically be added when you create a new Run/Gym object.
+ * WorkoutLists class gives access to the lists of workouts, runs and gyms, which are kept in the
+ * WorkoutRepository of the session of the calling thread.
+ * Run and Gym objects are not added when they are created, so the classes that create them from user input
+ * or the data file add them with the static 'add' methods provided.
  * To retrieve the list of workouts/gym/run, you can use the static 'get' methods provided.
  */
 public class WorkoutLists {
     //@@author JustinSoh
-    private static final ArrayList<Workout> WORKOUTS = new ArrayList<>();
-    private static final ArrayList<Run> RUNS = new ArrayList<>();
-    private static final ArrayList<Gym> GYMS = new ArrayList<>();
+    private static final WorkoutRepository DEFAULT_REPOSITORY = new WorkoutRepository();
+    private static final InheritableThreadLocal<WorkoutRepository> SESSION_REPOSITORY =
+            new InheritableThreadLocal<>() {
+                @Override
+                protected WorkoutRepository initialValue() {
+                    return DEFAULT_REPOSITORY;
+                }
+            };
 
     public WorkoutLists() {
 
     }
 
     /**
-     * Returns the static list of workouts objects which contains both runs and gyms.
+     * Returns the WorkoutRepository of the session of the calling thread.
+     * Threads use the default repository unless another one is set for them, and threads they start use the
+     * same repository as they do.
+     *
+     * @return The WorkoutRepository of the current session.
+     */
+    public static WorkoutRepository getRepository() {
+        return SESSION_REPOSITORY.get();
+    }
+
+    /**
+     * Sets the WorkoutRepository used by the calling thread, and by threads it starts afterwards.
+     *
+     * @param repository The WorkoutRepository of the session, or null to use the default repository.
+     */
+    public static void setRepository(WorkoutRepository repository) {
+        if (repository == null) {
+            SESSION_REPOSITORY.remove();
+        } else {
+            SESSION_REPOSITORY.set(repository);
+        }
+    }
+
+    /**
+     * Returns the number of changes made to the workout lists so far.
+     * Used to tell whether the lists have changed since they were last saved.
+     *
+     * @return The number of changes made.
+     */
+    public static long getModificationCount() {
+        return getRepository().getModificationCount();
+    }
+
+    /**
+     * Returns a copy of the static list of workouts objects which contains both runs and gyms.
      * It is important to note that the list is not sorted by date (as it is optional)
      * Rather, it is ordered by when it has been created.
      *
      * @return The list of workouts.
      */
     public static ArrayList<Workout> getWorkouts() {
-        return WORKOUTS;
+        return getRepository().getWorkouts();
     }
 
     /**
-     * Returns the static list of runs objects.
+     * Returns a copy of the static list of runs objects.
      *
      * @return The list of runs.
      */
     public static ArrayList<Run> getRuns() {
-        return RUNS;
+        return getRepository().getRuns();
     }
 
     /**
-     * Returns the static list of gyms objects.
+     * Returns a copy of the static list of gyms objects.
      *
      * @return The list of gyms.
      */
     public static ArrayList<Gym> getGyms() {
-        return GYMS;
+        return getRepository().getGyms();
     }
 
     /**
@@ -60,10 +101,10 @@ public class WorkoutLists {
      * @throws CustomExceptions.OutOfBounds If no runs are found in the list.
      */
     public static Run getLatestRun() throws CustomExceptions.OutOfBounds {
-        if (RUNS.isEmpty()) {
+        if (getRepository().runList().isEmpty()) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.RUN_EMPTY_ERROR);
         }
-        return RUNS.get(RUNS.size() - 1);
+        return getRepository().runList().get(getRepository().runList().size() - 1);
     }
 
     /**
@@ -73,10 +114,10 @@ public class WorkoutLists {
      * @throws CustomExceptions.OutOfBounds If no gyms are found in the list.
      */
     public static Gym getLatestGym() throws CustomExceptions.OutOfBounds {
-        if (GYMS.isEmpty()) {
+        if (getRepository().gymList().isEmpty()) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.GYM_EMPTY_ERROR);
         }
-        return GYMS.get(GYMS.size() - 1);
+        return getRepository().gymList().get(getRepository().gymList().size() - 1);
     }
 
     /**
@@ -85,7 +126,7 @@ public class WorkoutLists {
      * @return The number of runs.
      */
     public static int getRunSize() {
-        return RUNS.size();
+        return getRepository().runList().size();
     }
 
     /**
@@ -94,92 +135,104 @@ public class WorkoutLists {
      * @return The number of gyms.
      */
     public static int getGymSize() {
-        return GYMS.size();
+        return getRepository().gymList().size();
     }
 
     /**
      * Deletes Gym object based on the index that will be validated.
      *
      * @param index Index of the Gym object to be deleted.
+     * @return The Gym object deleted.
      * @throws CustomExceptions.OutOfBounds If the index is invalid.
      */
-    public static void deleteGym(int index) throws CustomExceptions.OutOfBounds {
-        boolean indexIsValid = Validation.validateIndexWithinBounds(index, 0, GYMS.size());
+    public static Gym deleteGym(int index) throws CustomExceptions.OutOfBounds {
+        boolean indexIsValid = Validation.validateIndexWithinBounds(index, 0, getRepository().gymList().size());
 
         if (!indexIsValid) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.INVALID_INDEX_DELETE_ERROR);
         }
 
-        Gym deletedGym = GYMS.get(index);
+        Gym deletedGym = getRepository().gymList().get(index);
+        removeGym(index);
         Output.printDeleteGymMessage(deletedGym);
-        WORKOUTS.remove(deletedGym);
-        GYMS.remove(index);
-        LogFile.writeLog("Removed gym with index: " + index, false);
+        LogFile.writeLog("Removed gym with index: {0,number,#}", index, false);
+        return deletedGym;
     }
 
     /**
      * Deletes Run object based on the index that will be validated.
      *
      * @param index Index of the Run object to be deleted.
+     * @return The Run object deleted.
      * @throws CustomExceptions.OutOfBounds If the index is invalid.
      */
-    public static void deleteRun(int index) throws CustomExceptions.OutOfBounds {
-        assert !RUNS.isEmpty() : "Run list is empty.";
-        boolean indexIsValid = Validation.validateIndexWithinBounds(index, 0, RUNS.size());
+    public static Run deleteRun(int index) throws CustomExceptions.OutOfBounds {
+        assert !getRepository().runList().isEmpty() : "Run list is empty.";
+        boolean indexIsValid = Validation.validateIndexWithinBounds(index, 0, getRepository().runList().size());
         if (!indexIsValid) {
             throw new CustomExceptions.OutOfBounds(ErrorConstant.INVALID_INDEX_DELETE_ERROR);
         }
-        Run deletedRun = RUNS.get(index);
+        Run deletedRun = getRepository().runList().get(index);
         Output.printDeleteRunMessage(deletedRun);
-        WORKOUTS.remove(deletedRun);
-        RUNS.remove(index);
-        LogFile.writeLog("Removed run with index: " + index, false);
+        removeRun(index);
+        LogFile.writeLog("Removed run with index: {0,number,#}", index, false);
+        return deletedRun;
     }
 
     /**
-     * Clears the workouts, runs and gyms ArrayLists.
-     * Used mainly for JUnit testing to clear the list after each test.
+     * Removes the Gym object at a specified index from both the gyms and workouts lists without printing.
+     * Used when replaying stored deletions.
+     *
+     * @param index Index of the Gym object to be removed.
      */
-    public static void clearWorkoutsRunGym() {
-        WORKOUTS.clear();
-        RUNS.clear();
-        GYMS.clear();
+    public static void removeGym(int index) {
+        getRepository().removeGym(index);
     }
 
-    // Protected Methods
-
     /**
-     * Only classes within the workouts package can add a new run to the list of runs.
-     * This is called automatically when a new run object is created in the Run class.
-     * It will also automatically add the run to the workouts list by calling addWorkout.
+     * Removes the Run object at a specified index from both the runs and workouts lists without printing.
+     * Used when replaying stored deletions.
      *
-     * @param run the Run object to be added
+     * @param index Index of the Run object to be removed.
      */
-    protected void addRun(Run run) {
-        RUNS.add(run);
-        addWorkout(run);
+    public static void removeRun(int index) {
+        getRepository().removeRun(index);
     }
 
     /**
-     * Only classes within the workouts package can add a new gym to the list of gyms.
-     * This is called automatically when a new gym object is created in the Gym class.
-     * It will also automatically add the gym to the workouts list by calling addWorkout.
+     * Adds a lazy Gym object loaded from the data file to both the gyms and workouts lists.
+     * The digest of its record is computed while it is loaded, so adding it does not read the data file again.
      *
-     * @param gym the Gym object to be added.
+     * @param gym          The lazy Gym object, as created by Gym.createLazy.
+     * @param recordDigest The digest of the record of the gym, as returned by RecordHash.
+     */
+    public static void addLazyGym(Gym gym, BigInteger recordDigest) {
+        getRepository().addGym(gym, recordDigest);
+    }
+
+    /**
+     * Clears the workouts, runs and gyms ArrayLists.
+     * Used mainly for JUnit testing to clear the list after each test.
      */
-    protected void addGym(Gym gym) {
-        GYMS.add(gym);
-        addWorkout(gym);
+    public static void clearWorkoutsRunGym() {
+        getRepository().clear();
     }
 
-    // Private Methods
+    /**
+     * Adds a Run object to both the runs and workouts lists.
+     *
+     * @param run the Run object to be added
+     */
+    public static void addRun(Run run) {
+        getRepository().addRun(run);
+    }
 
     /**
-     * Automatically adds a workout to the list of workouts.
+     * Adds a Gym object with all of its stations to both the gyms and workouts lists.
      *
-     * @param workout Workout object to be added to the WORKOUTS lists.
+     * @param gym the Gym object to be added.
      */
-    private void addWorkout(Workout workout) {
-        WORKOUTS.add(workout);
+    public static void addGym(Gym gym) {
+        getRepository().addGym(gym);
     }
 }
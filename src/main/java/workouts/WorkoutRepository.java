@@ -0,0 +1,330 @@
+package workouts;
+
+import constants.ErrorConstant;
+import storage.RecordHash;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Represents the Run and Gym objects of one user session.
+ * Each WorkoutRepository has its own lists and record hash, so several sessions can be kept in one JVM
+ * without sharing any state. WorkoutLists works on the repository of the session of the calling thread.
+ * Every change is made while holding the write lock, and lookups are made while holding the read lock, so any
+ * number of threads can read while one thread writes. The lists are returned as copies taken while holding the
+ * read lock. Only WorkoutLists, on the thread that changes the repository, uses the lists themselves.
+ */
+public class WorkoutRepository {
+    private final ArrayList<Workout> workouts = new ArrayList<>();
+    private final ArrayList<Run> runs = new ArrayList<>();
+    private final ArrayList<Gym> gyms = new ArrayList<>();
+    private final StationNames stationNames = new StationNames();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long nextSequenceNumber = 1;
+    private volatile long modificationCount = 0;
+    private BigInteger recordHash = BigInteger.ZERO;
+
+    /**
+     * Returns the read lock, which is held to read several parts of the repository as of the same change.
+     *
+     * @return The read lock of the repository.
+     */
+    public Lock readLock() {
+        return lock.readLock();
+    }
+
+    /**
+     * Returns the number of changes made to the repository so far.
+     *
+     * @return The number of changes made.
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the sum of the digests of every record in the repository, as used by RecordHash.
+     *
+     * @return The record hash of the repository.
+     */
+    public BigInteger getRecordHash() {
+        lock.readLock().lock();
+        try {
+            return recordHash;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a copy of the runs and gyms, ordered by when they were added.
+     * The copy is taken while holding the read lock, so it can be used on any thread.
+     *
+     * @return A copy of the list of workouts.
+     */
+    public ArrayList<Workout> getWorkouts() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(workouts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the workouts themselves, without copying them.
+     * Must only be used on the thread that changes the repository.
+     *
+     * @return The list of workouts.
+     */
+    ArrayList<Workout> workoutList() {
+        return workouts;
+    }
+
+    /**
+     * Returns a copy of the runs, ordered by when they were added.
+     * The copy is taken while holding the read lock, so it can be used on any thread.
+     *
+     * @return A copy of the list of runs.
+     */
+    public ArrayList<Run> getRuns() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(runs);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the runs themselves, without copying them.
+     * Must only be used on the thread that changes the repository.
+     *
+     * @return The list of runs.
+     */
+    ArrayList<Run> runList() {
+        return runs;
+    }
+
+    /**
+     * Returns a copy of the gyms, ordered by when they were added.
+     * The copy is taken while holding the read lock, so it can be used on any thread.
+     *
+     * @return A copy of the list of gyms.
+     */
+    public ArrayList<Gym> getGyms() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(gyms);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the gyms themselves, without copying them.
+     * Must only be used on the thread that changes the repository.
+     *
+     * @return The list of gyms.
+     */
+    ArrayList<Gym> gymList() {
+        return gyms;
+    }
+
+    /**
+     * Returns the dictionary of the names of the gym stations in the repository.
+     *
+     * @return The StationNames of the repository.
+     */
+    StationNames getStationNames() {
+        return stationNames;
+    }
+
+    /**
+     * Adds a run to the runs and workouts lists.
+     *
+     * @param run The Run object to be added.
+     */
+    void addRun(Run run) {
+        lock.writeLock().lock();
+        try {
+            runs.add(run);
+            addWorkout(run, RecordHash.digestOf(run));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a gym to the gyms and workouts lists.
+     *
+     * @param gym The Gym object to be added.
+     */
+    void addGym(Gym gym) {
+        addGym(gym, RecordHash.digestOf(gym));
+    }
+
+    /**
+     * Adds a gym whose record digest is already known to the gyms and workouts lists.
+     * Used for lazy gyms, whose record would otherwise have to be read back from the data file.
+     *
+     * @param gym          The Gym object to be added.
+     * @param recordDigest The digest of the record of the gym, as returned by RecordHash.
+     */
+    void addGym(Gym gym, BigInteger recordDigest) {
+        lock.writeLock().lock();
+        try {
+            gym.internStationNames(stationNames);
+            gyms.add(gym);
+            addWorkout(gym, recordDigest);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the run at a specified index from the runs and workouts lists.
+     *
+     * @param index Index of the Run object to be removed.
+     * @return The removed Run object.
+     */
+    public Run removeRun(int index) {
+        lock.writeLock().lock();
+        try {
+            BigInteger recordDigest = RecordHash.digestOf(runs.get(index));
+            Run removedRun = runs.remove(index);
+            removeWorkout(removedRun, recordDigest);
+            return removedRun;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the gym at a specified index from the gyms and workouts lists.
+     *
+     * @param index Index of the Gym object to be removed.
+     * @return The removed Gym object.
+     */
+    public Gym removeGym(int index) {
+        lock.writeLock().lock();
+        try {
+            BigInteger recordDigest = RecordHash.digestOf(gyms.get(index));
+            Gym removedGym = gyms.remove(index);
+            removeWorkout(removedGym, recordDigest);
+            return removedGym;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Changes a gym, keeping the record hash and the station names up to date if the gym is in the repository.
+     * A gym that has not been added yet is changed without touching the record hash.
+     *
+     * @param gym    The Gym object to be changed.
+     * @param change The change to make to the gym.
+     */
+    void updateGym(Gym gym, Runnable change) {
+        lock.writeLock().lock();
+        try {
+            int index = searchWorkoutIndex(gym.getSequenceNumber());
+            if (index == -1 || workouts.get(index) != gym) {
+                change.run();
+                return;
+            }
+            recordHash = RecordHash.subtract(recordHash, RecordHash.digestOf(gym));
+            change.run();
+            gym.internStationNames(stationNames);
+            recordHash = RecordHash.add(recordHash, RecordHash.digestOf(gym));
+            modificationCount++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every run and gym.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            workouts.clear();
+            runs.clear();
+            gyms.clear();
+            stationNames.clear();
+            recordHash = BigInteger.ZERO;
+            modificationCount++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gives a workout the next sequence number and adds it to the workouts list and the record hash.
+     * Must be called while holding the write lock.
+     *
+     * @param workout      Workout object to be added.
+     * @param recordDigest The digest of the record of the workout.
+     */
+    private void addWorkout(Workout workout, BigInteger recordDigest) {
+        workout.setSequenceNumber(nextSequenceNumber++);
+        workouts.add(workout);
+        recordHash = RecordHash.add(recordHash, recordDigest);
+        modificationCount++;
+    }
+
+    /**
+     * Removes a Run or Gym object that was removed from its own list from the workouts list and the record hash.
+     * Must be called while holding the write lock. The digest is computed before anything is removed, as reading
+     * the record of a lazy gym can fail.
+     *
+     * @param workout      Workout object to be removed.
+     * @param recordDigest The digest of the record of the workout.
+     */
+    private void removeWorkout(Workout workout, BigInteger recordDigest) {
+        workouts.remove(findWorkoutIndex(workout.getSequenceNumber()));
+        recordHash = RecordHash.subtract(recordHash, recordDigest);
+        modificationCount++;
+    }
+
+    /**
+     * Finds the index of a workout in the workouts list by binary search on its sequence number.
+     * The workouts list is ordered by when workouts were added, which is also the order of their sequence numbers.
+     *
+     * @param sequenceNumber The sequence number of the workout.
+     * @return The index of the workout in the workouts list.
+     */
+    private int findWorkoutIndex(long sequenceNumber) {
+        int index = searchWorkoutIndex(sequenceNumber);
+        if (index == -1) {
+            throw new IllegalStateException(ErrorConstant.WORKOUT_NOT_FOUND_ERROR);
+        }
+        return index;
+    }
+
+    /**
+     * Searches for a workout in the workouts list by binary search on its sequence number.
+     *
+     * @param sequenceNumber The sequence number of the workout.
+     * @return The index of the workout in the workouts list, or -1 if there is none.
+     */
+    private int searchWorkoutIndex(long sequenceNumber) {
+        int low = 0;
+        int high = workouts.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleSequenceNumber = workouts.get(middle).getSequenceNumber();
+            if (middleSequenceNumber < sequenceNumber) {
+                low = middle + 1;
+            } else if (middleSequenceNumber > sequenceNumber) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+}
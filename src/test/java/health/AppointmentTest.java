@@ -13,6 +13,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.util.List;
 
 
 public class AppointmentTest {
@@ -37,6 +38,9 @@ public class AppointmentTest {
         Appointment firstAppointment = new Appointment("25-03-2024", "16:30", "Physiotherapy session");
         Appointment secondAppointment = new Appointment("22-03-2024", "16:00", "Wound dressing change");
         Appointment thirdAppointment = new Appointment("22-03-2024", "11:00", "Doctor consultation");
+        HealthList.addAppointment(firstAppointment);
+        HealthList.addAppointment(secondAppointment);
+        HealthList.addAppointment(thirdAppointment);
 
         String expected = "Your Appointment history:"
                 + System.lineSeparator()
@@ -71,6 +75,9 @@ public class AppointmentTest {
         Appointment firstAppointment = new Appointment("25-03-2024", "16:30", "Physiotherapy session");
         Appointment secondAppointment = new Appointment("22-03-2024", "16:00", "Wound dressing change");
         Appointment thirdAppointment = new Appointment("22-03-2024", "11:00", "Doctor consultation");
+        HealthList.addAppointment(firstAppointment);
+        HealthList.addAppointment(secondAppointment);
+        HealthList.addAppointment(thirdAppointment);
 
 
         String expected = UiConstant.PARTITION_LINE
@@ -122,4 +129,21 @@ public class AppointmentTest {
                 + "\u001b[0m";
         assertEquals(expected, exception.getMessage());
     }
+
+    /**
+     * Tests that Appointment objects added out of order are kept from earliest to latest date and time.
+     */
+    @Test
+    void addAppointment_outOfOrderDateTimes_sortedEarliestFirst() {
+        Appointment first = new Appointment("25-03-2024", "16:30", "Physiotherapy session");
+        Appointment second = new Appointment("22-03-2024", "16:00", "Wound dressing change");
+        Appointment third = new Appointment("25-03-2024", "09:00", "Blood test");
+        Appointment fourth = new Appointment("22-03-2024", "16:00", "Follow up");
+        HealthList.addAppointment(first);
+        HealthList.addAppointment(second);
+        HealthList.addAppointment(third);
+        HealthList.addAppointment(fourth);
+
+        assertEquals(List.of(second, fourth, third, first), HealthList.getAppointments());
+    }
 }
@@ -6,10 +6,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.time.LocalDate;
+import java.util.List;
 import utility.CustomExceptions;
 
 class BmiTest {
@@ -101,8 +105,7 @@ class BmiTest {
     @Test
     void printLatestBmi_bmiObject_printsCorrectLatestBmi() throws CustomExceptions.OutOfBounds {
         Bmi bmi = new Bmi("1.75", "70.00", "19-03-2024");
-        HealthList healthList = new HealthList();
-        healthList.addBmi(bmi);
+        HealthList.addBmi(bmi);
 
         String expected = "2024-03-19"
                 + System.lineSeparator()
@@ -120,8 +123,8 @@ class BmiTest {
      */
     @Test
     void printBmiHistory_twoBmiObjects_printsCorrectBmiHistory() throws CustomExceptions.OutOfBounds {
-        new Bmi("1.75", "80.0", "20-03-2024");
-        new Bmi("1.80", "74.0", "21-03-2024");
+        HealthList.addBmi(new Bmi("1.75", "80.0", "20-03-2024"));
+        HealthList.addBmi(new Bmi("1.80", "74.0", "21-03-2024"));
 
 
         String expected = "Your BMI history:"
@@ -154,8 +157,8 @@ class BmiTest {
      */
     @Test
     void deleteBmi_properList_listOfSizeOne() throws CustomExceptions.OutOfBounds {
-        new Bmi("1.75", "80.0", "20-03-2024");
-        new Bmi("1.80", "74.0", "21-03-2024");
+        HealthList.addBmi(new Bmi("1.75", "80.0", "20-03-2024"));
+        HealthList.addBmi(new Bmi("1.80", "74.0", "21-03-2024"));
 
 
         int index = 1;
@@ -180,8 +183,7 @@ class BmiTest {
     @Test
     void deleteBmi_properListInvalidIndex_throwOutOfBoundsForBmi() {
         Bmi firstBmi = new Bmi("1.75", "80.0", "20-03-2024");
-        HealthList healthList = new HealthList();
-        healthList.addBmi(firstBmi);
+        HealthList.addBmi(firstBmi);
         int invalidIndex = 5;
         assertThrows (CustomExceptions.OutOfBounds.class, () ->
                 HealthList.deleteBmi(invalidIndex));
@@ -203,4 +205,47 @@ class BmiTest {
                 + "\u001b[0m";
         assertEquals(expected, exception.getMessage());
     }
+
+    /**
+     * Tests that Bmi objects added out of order are kept from latest to earliest date,
+     * with Bmi objects of the same date kept in the order they were added.
+     */
+    @Test
+    void addBmi_outOfOrderDates_sortedLatestFirstAndStable() {
+        Bmi first = new Bmi("1.75", "70.0", "10-03-2024");
+        Bmi second = new Bmi("1.75", "71.0", "30-03-2024");
+        Bmi third = new Bmi("1.75", "72.0", "20-03-2024");
+        Bmi fourth = new Bmi("1.75", "73.0", "30-03-2024");
+        Bmi fifth = new Bmi("1.75", "74.0", "01-03-2024");
+        HealthList.addBmi(first);
+        HealthList.addBmi(second);
+        HealthList.addBmi(third);
+        HealthList.addBmi(fourth);
+        HealthList.addBmi(fifth);
+
+        assertEquals(List.of(second, fourth, third, first, fifth), HealthList.getBmis());
+    }
+
+    /**
+     * Tests that the date index of Bmi objects follows adds and deletes, including two Bmi objects on the same date.
+     */
+    @Test
+    void isBmiDatePresent_addAndDelete_dateIndexUpdated() throws CustomExceptions.OutOfBounds {
+        LocalDate date = LocalDate.of(2024, 3, 20);
+        assertFalse(HealthList.isBmiDatePresent(date));
+
+        HealthList.addBmi(new Bmi("1.75", "80.0", "20-03-2024"));
+        HealthList.addBmi(new Bmi("1.80", "74.0", "20-03-2024"));
+        HealthList.addBmi(new Bmi("1.80", "75.0", "21-03-2024"));
+        assertTrue(HealthList.isBmiDatePresent(date));
+
+        HealthList.deleteBmi(1);
+        assertTrue(HealthList.isBmiDatePresent(date));
+        HealthList.deleteBmi(1);
+        assertFalse(HealthList.isBmiDatePresent(date));
+        assertTrue(HealthList.isBmiDatePresent(LocalDate.of(2024, 3, 21)));
+
+        HealthList.clearHealthLists();
+        assertFalse(HealthList.isBmiDatePresent(LocalDate.of(2024, 3, 21)));
+    }
 }
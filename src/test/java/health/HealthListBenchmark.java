@@ -0,0 +1,121 @@
+package health;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmark of adding 100k Bmi objects in date order, run as a program rather than as a test.
+ * Compares appending each Bmi and sorting the whole list again, as HealthList did before, with inserting each Bmi
+ * at its sorted position, both on a plain list and through HealthList.addBmi, which also updates the date index
+ * and record hash of the repository. The Bmi objects are added latest first, the order of the data file, and in
+ * random order. Each measurement is the fastest of a few rounds, except the append and sort, which takes too long
+ * to repeat and is run once after warming up on a smaller list.
+ */
+public class HealthListBenchmark {
+    private static final int BMI_COUNT = 100_000;
+    private static final int WARM_UP_BMI_COUNT = 10_000;
+    private static final int ROUNDS = 3;
+    private static final int DAYS_OF_DATES = 8000;
+    private static final long RANDOM_SEED = 15;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2000, 1, 1);
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final Comparator<Bmi> BMI_ORDER = Comparator.comparing(Bmi::getDate).reversed();
+
+    /**
+     * Runs the benchmark and prints one line per way of adding and order of the Bmi objects.
+     *
+     * @param args Unused.
+     */
+    public static void main(String[] args) {
+        List<Bmi> latestFirst = createBmis();
+        latestFirst.sort(BMI_ORDER);
+        List<Bmi> shuffled = new ArrayList<>(latestFirst);
+        Collections.shuffle(shuffled, new Random(RANDOM_SEED));
+
+        appendAndSort(latestFirst.subList(0, WARM_UP_BMI_COUNT));
+        appendAndSort(shuffled.subList(0, WARM_UP_BMI_COUNT));
+        System.out.printf("%-22s %-14s %10s%n", "Add", "Order", "Time (ms)");
+        print("append + sort", "latest first", time(() -> appendAndSort(latestFirst)));
+        print("append + sort", "random", time(() -> appendAndSort(shuffled)));
+        print("sorted insert", "latest first", best(() -> insertSorted(latestFirst)));
+        print("sorted insert", "random", best(() -> insertSorted(shuffled)));
+        print("HealthList.addBmi", "latest first", best(() -> addToHealthList(latestFirst)));
+        print("HealthList.addBmi", "random", best(() -> addToHealthList(shuffled)));
+        HealthList.setRepository(null);
+    }
+
+    private static List<Bmi> createBmis() {
+        List<Bmi> bmis = new ArrayList<>(BMI_COUNT);
+        for (int i = 0; i < BMI_COUNT; i++) {
+            String date = FIRST_DATE.plusDays(i % DAYS_OF_DATES).format(DATE_FORMATTER);
+            bmis.add(new Bmi("1.75", String.format("%d.00", 50 + i % 50), date));
+        }
+        return bmis;
+    }
+
+    private static void appendAndSort(List<Bmi> bmis) {
+        List<Bmi> list = new ArrayList<>();
+        for (Bmi bmi : bmis) {
+            list.add(bmi);
+            list.sort(BMI_ORDER);
+        }
+        checkOrder(list, bmis.size());
+    }
+
+    private static void insertSorted(List<Bmi> bmis) {
+        List<Bmi> list = new ArrayList<>();
+        for (Bmi bmi : bmis) {
+            list.add(HealthList.findInsertionIndex(list, bmi, BMI_ORDER), bmi);
+        }
+        checkOrder(list, bmis.size());
+    }
+
+    private static void addToHealthList(List<Bmi> bmis) {
+        HealthList.setRepository(new HealthRepository());
+        for (Bmi bmi : bmis) {
+            HealthList.addBmi(bmi);
+        }
+        checkOrder(HealthList.getBmis(), bmis.size());
+    }
+
+    /**
+     * Stops the benchmark if a list is not in date order, so a broken way of adding is not reported as a fast one.
+     *
+     * @param list         The list of Bmi objects.
+     * @param expectedSize The number of Bmi objects added.
+     */
+    private static void checkOrder(List<Bmi> list, int expectedSize) {
+        if (list.size() != expectedSize) {
+            throw new IllegalStateException("Expected " + expectedSize + " Bmi objects but found " + list.size());
+        }
+        for (int i = 1; i < list.size(); i++) {
+            if (BMI_ORDER.compare(list.get(i - 1), list.get(i)) > 0) {
+                throw new IllegalStateException("Bmi objects out of order at " + i);
+            }
+        }
+    }
+
+    private static long time(Runnable benchmark) {
+        System.gc();
+        long start = System.nanoTime();
+        benchmark.run();
+        return System.nanoTime() - start;
+    }
+
+    private static long best(Runnable benchmark) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            best = Math.min(best, time(benchmark));
+        }
+        return best;
+    }
+
+    private static void print(String add, String order, long nanoseconds) {
+        System.out.printf("%-22s %-14s %10.1f%n", add, order, nanoseconds / 1e6);
+    }
+}
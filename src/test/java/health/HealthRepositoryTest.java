@@ -0,0 +1,161 @@
+package health;
+
+import helper.RetainedSize;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HealthRepositoryTest {
+    private static final int NUMBER_OF_RECORDS = 1000;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2000, 1, 1);
+
+    @AfterEach
+    void cleanup() {
+        HealthList.setRepository(null);
+        HealthList.clearHealthLists();
+    }
+
+    /**
+     * Tests the behaviour of two sessions on different threads.
+     * Verifies that objects added in one session are only added to the repository of that session.
+     */
+    @Test
+    void setRepository_separateSessions_expectSeparateLists() throws InterruptedException {
+        HealthList.addBmi(new Bmi("1.75", "70.0", "19-03-2024"));
+        HealthRepository sessionRepository = new HealthRepository();
+        AtomicReference<HealthRepository> threadRepository = new AtomicReference<>();
+
+        Thread session = new Thread(() -> {
+            HealthList.setRepository(sessionRepository);
+            HealthList.addBmi(new Bmi("1.80", "74.0", "21-03-2024"));
+            HealthList.addBmi(new Bmi("1.80", "75.0", "22-03-2024"));
+            threadRepository.set(HealthList.getRepository());
+        });
+        session.start();
+        session.join();
+
+        assertSame(sessionRepository, threadRepository.get());
+        assertEquals(1, HealthList.getBmisSize());
+        assertEquals(2, sessionRepository.getBmis().size());
+        assertEquals(LocalDate.of(2024, 3, 22), sessionRepository.getBmis().get(0).getDate());
+    }
+
+    /**
+     * Tests the behaviour of reading from a repository while another thread adds and removes objects.
+     * Verifies that the reader sees consistent lookups and the writer's changes are all applied.
+     */
+    @Test
+    void readLock_concurrentReaderAndWriter_expectConsistentRepository() throws InterruptedException {
+        HealthRepository repository = new HealthRepository();
+        HealthList.setRepository(repository);
+        Thread writer = new Thread(() -> {
+            for (int day = 1; day <= 28; day++) {
+                HealthList.addBmi(new Bmi("1.75", "70.0", String.format("%02d-02-2024", day)));
+            }
+            for (int i = 0; i < 14; i++) {
+                HealthList.removeBmi(0);
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            repository.readLock().lock();
+            try {
+                for (Bmi bmi : repository.getBmis()) {
+                    assertTrue(repository.isBmiDatePresent(bmi.getDate()));
+                }
+            } finally {
+                repository.readLock().unlock();
+            }
+        }
+        writer.join();
+
+        assertEquals(14, repository.getBmis().size());
+        assertFalse(repository.isBmiDatePresent(LocalDate.of(2024, 2, 28)));
+        assertEquals(0, new HealthRepository().getBmis().size());
+    }
+
+    /**
+     * Tests the behaviour of going through the Bmi objects without the read lock while another thread changes them.
+     * Verifies that the list returned is a copy, which later changes to the repository do not affect.
+     */
+    @Test
+    void getBmis_concurrentWriter_expectUnchangedCopy() throws InterruptedException {
+        HealthRepository repository = new HealthRepository();
+        HealthList.setRepository(repository);
+        HealthList.addBmi(new Bmi("1.75", "70.0", "01-02-2024"));
+        ArrayList<Bmi> copy = repository.getBmis();
+        Thread writer = new Thread(() -> {
+            for (int day = 2; day <= 28; day++) {
+                HealthList.addBmi(new Bmi("1.75", "70.0", String.format("%02d-02-2024", day)));
+                HealthList.removeBmi(0);
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            for (Bmi bmi : repository.getBmis()) {
+                assertEquals(2024, bmi.getDate().getYear());
+            }
+        }
+        writer.join();
+
+        assertEquals(1, copy.size());
+        assertEquals(LocalDate.of(2024, 2, 1), copy.get(0).getDate());
+        assertEquals(LocalDate.of(2024, 2, 1), repository.getBmis().get(0).getDate());
+    }
+
+    /**
+     * Tests the heap retained by Bmi objects, including their entries in the lists and indexes of the repository.
+     * Expects each Bmi to retain less than 200 bytes.
+     */
+    @Test
+    void bmi_manyRecords_expectSmallFootprint() {
+        long bytes = measureBytesPerRecord(i -> HealthList.addBmi(new Bmi("1.75", "70.00", formatDate(i))));
+        assertTrue(bytes < 200, "Bytes per Bmi: " + bytes);
+    }
+
+    /**
+     * Tests the heap retained by Period objects, including their entries in the lists of the repository.
+     * Expects each Period to retain less than 200 bytes.
+     */
+    @Test
+    void period_manyRecords_expectSmallFootprint() {
+        long bytes = measureBytesPerRecord(i ->
+                HealthList.addPeriod(new Period(formatDate(2 * i), formatDate(2 * i + 1))));
+        assertTrue(bytes < 200, "Bytes per Period: " + bytes);
+    }
+
+    /**
+     * Tests the heap retained by Appointment objects, including their entries in the lists of the repository.
+     * Expects each Appointment to retain less than 200 bytes.
+     */
+    @Test
+    void appointment_manyRecords_expectSmallFootprint() {
+        long bytes = measureBytesPerRecord(i ->
+                HealthList.addAppointment(new Appointment(formatDate(i), "19:00", "knee surgery")));
+        assertTrue(bytes < 200, "Bytes per Appointment: " + bytes);
+    }
+
+    private static long measureBytesPerRecord(IntConsumer factory) {
+        HealthRepository repository = new HealthRepository();
+        HealthList.setRepository(repository);
+        long before = RetainedSize.of(repository);
+        for (int i = 0; i < NUMBER_OF_RECORDS; i++) {
+            factory.accept(i);
+        }
+        return (RetainedSize.of(repository) - before) / NUMBER_OF_RECORDS;
+    }
+
+    private static String formatDate(int day) {
+        return FIRST_DATE.plusDays(day).format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
+    }
+}
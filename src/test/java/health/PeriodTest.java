@@ -14,6 +14,10 @@ import utility.Parser;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -63,6 +67,8 @@ class PeriodTest {
     void printLatestPeriod_twoPeriodInputs_printCorrectPeriod() throws CustomExceptions.OutOfBounds {
         Period firstPeriod = new Period("09-02-2023", "16-02-2023");
         Period secondPeriod = new Period("09-03-2023", "16-03-2023");
+        HealthList.addPeriod(firstPeriod);
+        HealthList.addPeriod(secondPeriod);
 
         String expected = "Period Start: "
                 + secondPeriod.getStartDate()
@@ -86,6 +92,8 @@ class PeriodTest {
     void showPeriodHistory_twoInputs_printCorrectPeriodHistory() throws CustomExceptions.OutOfBounds {
         Period firstPeriod = new Period("10-04-2023", "16-04-2023");
         Period secondPeriod = new Period("09-05-2023", "16-05-2023");
+        HealthList.addPeriod(firstPeriod);
+        HealthList.addPeriod(secondPeriod);
 
         String expected = "Your Period history:"
                 + System.lineSeparator()
@@ -124,8 +132,8 @@ class PeriodTest {
      */
     @Test
     void deletePeriod_properList_listOfSizeOne() throws CustomExceptions.OutOfBounds {
-        new Period("10-04-2024", "16-04-2024");
-        new Period("09-05-2024", "16-05-2024");
+        HealthList.addPeriod(new Period("10-04-2024", "16-04-2024"));
+        HealthList.addPeriod(new Period("09-05-2024", "16-05-2024"));
 
         int index = 1;
         HealthList.deletePeriod(index);
@@ -149,6 +157,7 @@ class PeriodTest {
     @Test
     void deletePeriod_properListInvalidIndex_throwOutOfBoundsForBmi() {
         Period firstPeriod = new Period("10-04-2024", "16-04-2024");
+        HealthList.addPeriod(firstPeriod);
 
         int invalidIndex = 5;
         assertThrows(CustomExceptions.OutOfBounds.class, () ->
@@ -164,6 +173,10 @@ class PeriodTest {
         Period secondPeriod = new Period("09-01-2024", "16-01-2024");
         Period thirdPeriod = new Period("10-02-2024", "16-02-2024");
         Period fourthPeriod = new Period("09-03-2024", "14-03-2024");
+        HealthList.addPeriod(firstPeriod);
+        HealthList.addPeriod(secondPeriod);
+        HealthList.addPeriod(thirdPeriod);
+        HealthList.addPeriod(fourthPeriod);
 
         long expectedCycleLength = (31+ 32 + 28) / HealthConstant.LATEST_THREE_CYCLE_LENGTHS;
         LocalDate expected = fourthPeriod.getStartDate().plusDays(expectedCycleLength);
@@ -226,6 +239,10 @@ class PeriodTest {
         Period secondPeriod = new Period("10-02-2024", "16-02-2024");
         Period thirdPeriod = new Period("09-03-2024", "14-03-2024");
         Period fourthPeriod = new Period("09-04-2024", "16-04-2024");
+        HealthList.addPeriod(firstPeriod);
+        HealthList.addPeriod(secondPeriod);
+        HealthList.addPeriod(thirdPeriod);
+        HealthList.addPeriod(fourthPeriod);
 
         String expected = UiConstant.PARTITION_LINE
                 + System.lineSeparator()
@@ -381,4 +398,40 @@ class PeriodTest {
     }
 
 
+
+    /**
+     * Checks that the cycle length of every period matches a full recompute over PERIODS,
+     * where each cycle ends at the start date of the next period and the latest period has no cycle length.
+     */
+    private void assertCycleLengthsMatchFullRecompute() {
+        ArrayList<Period> periods = HealthList.getPeriods();
+        assertEquals(0, periods.get(HealthConstant.FIRST_ITEM).getCycleLength());
+        for (int i = 1; i < periods.size(); i++) {
+            long expected = ChronoUnit.DAYS.between(periods.get(i).getStartDate(), periods.get(i - 1).getStartDate());
+            assertEquals(expected, periods.get(i).getCycleLength());
+        }
+    }
+
+    /**
+     * Tests that cycle lengths stay correct when 10000 periods are added in random order and some are then deleted.
+     */
+    @Test
+    void addPeriod_tenThousandPeriodsRandomOrder_cycleLengthsMatchFullRecompute() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+        LocalDate earliestDate = LocalDate.of(1990, 1, 1);
+        Random random = new Random(15);
+        for (int i = 0; i < 10000; i++) {
+            HealthList.addPeriod(new Period(earliestDate.plusDays(random.nextInt(12000)).format(formatter)));
+        }
+        assertEquals(10000, HealthList.getPeriodsSize());
+        assertCycleLengthsMatchFullRecompute();
+
+        HealthList.removePeriod(HealthConstant.FIRST_ITEM);
+        HealthList.removePeriod(HealthList.getPeriodsSize() - 1);
+        for (int i = 0; i < 100; i++) {
+            HealthList.removePeriod(random.nextInt(HealthList.getPeriodsSize()));
+        }
+        assertEquals(9898, HealthList.getPeriodsSize());
+        assertCycleLengthsMatchFullRecompute();
+    }
 }
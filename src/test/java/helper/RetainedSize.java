@@ -0,0 +1,161 @@
+package helper;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Helper class to estimate the heap retained by an object without relying on the garbage collector.
+ * Goes through every object reachable from the instance fields of the root, and adds up their sizes as laid out
+ * by a 64-bit JVM with compressed references, which is 12 bytes of header and 4 bytes per reference, with each
+ * object padded to 8 bytes. Static fields and enum constants are shared, so they are not counted.
+ * The fields of JDK classes cannot be read, so strings, collections and maps are sized through their methods,
+ * and any other JDK object is counted by its own fields only.
+ */
+public class RetainedSize {
+    private static final int OBJECT_HEADER_BYTES = 12;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int REFERENCE_BYTES = 4;
+    private static final int ALIGNMENT_BYTES = 8;
+    private static final int HASH_MAP_NODE_BYTES = 32;
+    private static final int HASH_MAP_MIN_CAPACITY = 16;
+    private static final double HASH_MAP_LOAD_FACTOR = 0.75;
+
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Deque<Object> pending = new ArrayDeque<>();
+    private long bytes = 0;
+
+    private RetainedSize() {
+    }
+
+    /**
+     * Estimates the number of bytes retained by an object and everything reachable from it.
+     *
+     * @param root The object to measure.
+     * @return The estimated number of bytes.
+     */
+    public static long of(Object root) {
+        RetainedSize size = new RetainedSize();
+        size.visit(root);
+        while (!size.pending.isEmpty()) {
+            size.measure(size.pending.pop());
+        }
+        return size.bytes;
+    }
+
+    private void visit(Object object) {
+        if (object == null || object instanceof Class || object instanceof Enum) {
+            return;
+        }
+        if (visited.add(object)) {
+            pending.push(object);
+        }
+    }
+
+    private void measure(Object object) {
+        Class<?> type = object.getClass();
+        if (type.isArray()) {
+            measureArray(object);
+        } else if (object instanceof String) {
+            String string = (String) object;
+            bytes += align(fieldBytes(type)) + align(ARRAY_HEADER_BYTES + string.length());
+        } else if (isJdkClass(type) && object instanceof Collection) {
+            Collection<?> collection = (Collection<?>) object;
+            bytes += align(fieldBytes(type)) + referenceArrayBytes(collection.size());
+            collection.forEach(this::visit);
+        } else if (isJdkClass(type) && object instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) object;
+            bytes += align(fieldBytes(type)) + referenceArrayBytes(hashMapCapacity(map.size()))
+                    + (long) map.size() * HASH_MAP_NODE_BYTES;
+            map.forEach((key, value) -> {
+                visit(key);
+                visit(value);
+            });
+        } else {
+            bytes += align(fieldBytes(type));
+            if (!isJdkClass(type)) {
+                visitFields(object, type);
+            }
+        }
+    }
+
+    private void measureArray(Object array) {
+        int length = Array.getLength(array);
+        Class<?> componentType = array.getClass().getComponentType();
+        bytes += align(ARRAY_HEADER_BYTES + (long) length * typeBytes(componentType));
+        if (!componentType.isPrimitive()) {
+            for (int i = 0; i < length; i++) {
+                visit(Array.get(array, i));
+            }
+        }
+    }
+
+    private void visitFields(Object object, Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                    continue;
+                }
+                field.setAccessible(true);
+                try {
+                    visit(field.get(object));
+                } catch (IllegalAccessException e) {
+                    throw new AssertionError(e);
+                }
+            }
+        }
+    }
+
+    private static long fieldBytes(Class<?> type) {
+        long total = OBJECT_HEADER_BYTES;
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    total += typeBytes(field.getType());
+                }
+            }
+        }
+        return total;
+    }
+
+    private static int typeBytes(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return REFERENCE_BYTES;
+    }
+
+    private static long referenceArrayBytes(int length) {
+        return align(ARRAY_HEADER_BYTES + (long) length * REFERENCE_BYTES);
+    }
+
+    private static int hashMapCapacity(int size) {
+        int capacity = HASH_MAP_MIN_CAPACITY;
+        while (capacity * HASH_MAP_LOAD_FACTOR < size) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    private static boolean isJdkClass(Class<?> type) {
+        Module module = type.getModule();
+        return module.isNamed() && module.getName().startsWith("java.");
+    }
+
+    private static long align(long size) {
+        return (size + ALIGNMENT_BYTES - 1) / ALIGNMENT_BYTES * ALIGNMENT_BYTES;
+    }
+}
@@ -0,0 +1,153 @@
+package storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class AsyncLogHandlerTest {
+    private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch firstRecordTaken = new CountDownLatch(1);
+    private final CountDownLatch writerReleased = new CountDownLatch(1);
+    private AsyncLogHandler handler;
+
+    /**
+     * Handler that collects the messages it is given. Publishing the first record blocks until the test
+     * releases it, so the buffer can be filled while the writer thread is busy.
+     */
+    private final Handler target = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+            messages.add(record.getMessage());
+            firstRecordTaken.countDown();
+            try {
+                writerReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        writerReleased.countDown();
+        handler.close();
+    }
+
+    private void publish(String message) {
+        handler.publish(new LogRecord(Level.INFO, message));
+    }
+
+    /**
+     * Fills the buffer of the handler while the writer thread is blocked on the first record.
+     *
+     * @param numberOfRecords The number of records to publish after the first.
+     */
+    private void publishWhileWriterBlocked(int numberOfRecords) throws InterruptedException {
+        publish("first");
+        firstRecordTaken.await();
+        for (int i = 0; i < numberOfRecords; i++) {
+            publish("record " + i);
+        }
+    }
+
+    /**
+     * Tests that records published from several threads are all written, in order for each thread.
+     */
+    @Test
+    void publish_manyThreads_allRecordsWrittenInOrder() throws InterruptedException {
+        writerReleased.countDown();
+        handler = new AsyncLogHandler(target, 16, 4, AsyncLogHandler.OverflowPolicy.BLOCK);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            String prefix = "thread " + t + " ";
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    publish(prefix + i);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        handler.flush();
+
+        assertEquals(2000, messages.size());
+        for (int t = 0; t < 4; t++) {
+            int expected = 0;
+            for (String message : new ArrayList<>(messages)) {
+                if (message.startsWith("thread " + t + " ")) {
+                    assertEquals("thread " + t + " " + expected, message);
+                    expected++;
+                }
+            }
+            assertEquals(500, expected);
+        }
+        assertEquals(0, handler.getDroppedRecords());
+    }
+
+    /**
+     * Tests that the DROP_NEWEST policy keeps the records already in a full buffer and reports the dropped records.
+     */
+    @Test
+    void publish_dropNewestBufferFull_newestRecordsDropped() throws InterruptedException {
+        handler = new AsyncLogHandler(target, 4, 4, AsyncLogHandler.OverflowPolicy.DROP_NEWEST);
+        publishWhileWriterBlocked(6);
+        assertEquals(2, handler.getDroppedRecords());
+
+        writerReleased.countDown();
+        handler.flush();
+        assertEquals(List.of("first", "Dropped 2 log records", "record 0", "record 1", "record 2", "record 3"),
+                messages);
+    }
+
+    /**
+     * Tests that the DROP_OLDEST policy makes space for new records by dropping the oldest waiting records.
+     */
+    @Test
+    void publish_dropOldestBufferFull_oldestRecordsDropped() throws InterruptedException {
+        handler = new AsyncLogHandler(target, 4, 4, AsyncLogHandler.OverflowPolicy.DROP_OLDEST);
+        publishWhileWriterBlocked(6);
+        assertEquals(2, handler.getDroppedRecords());
+
+        writerReleased.countDown();
+        handler.flush();
+        assertEquals(List.of("first", "Dropped 2 log records", "record 2", "record 3", "record 4", "record 5"),
+                messages);
+    }
+
+    /**
+     * Tests that closing the handler writes the records still waiting in the buffer.
+     */
+    @Test
+    void close_recordsWaiting_recordsWritten() throws InterruptedException {
+        handler = new AsyncLogHandler(target, 8, 2, AsyncLogHandler.OverflowPolicy.BLOCK);
+        publishWhileWriterBlocked(5);
+        writerReleased.countDown();
+        handler.close();
+
+        assertEquals(6, messages.size());
+        publish("after close");
+        assertFalse(messages.contains("after close"));
+    }
+}
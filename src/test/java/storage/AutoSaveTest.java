@@ -0,0 +1,114 @@
+package storage;
+
+import constants.UiConstant;
+import health.Bmi;
+import health.HealthList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utility.CustomExceptions;
+import workouts.WorkoutLists;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AutoSaveTest {
+    private final String testDataFilePath = "./test_autosave_data.txt";
+    private final String testHashFilePath = "./test_autosave_hash.txt";
+    private final String testBlockIndexFilePath = "./test_autosave_blocks.txt";
+    private final String testJournalFilePath = "./test_autosave_journal.txt";
+    private final String originalDataFilePath = "./pulsepilot_data.txt";
+    private final String originalHashFilePath = "./pulsepilot_hash.txt";
+    private final String originalBlockIndexFilePath = "./pulsepilot_blocks.txt";
+    private final String originalJournalFilePath = "./pulsepilot_journal.txt";
+
+    /**
+     * Sets up the test environment by pointing the data file at a test file and starting from empty lists.
+     * Autosave is started and stopped immediately, so checks are only run when a test calls them.
+     */
+    @BeforeEach
+    void setUp() {
+        UiConstant.dataFilePath = testDataFilePath;
+        UiConstant.saveFile = new File(testDataFilePath);
+        UiConstant.hashFilePath = testHashFilePath;
+        UiConstant.blockIndexFilePath = testBlockIndexFilePath;
+        UiConstant.journalFilePath = testJournalFilePath;
+        DataFile.userName = "John Doe";
+        HealthList.clearHealthLists();
+        WorkoutLists.clearWorkoutsRunGym();
+        AutoSave.startAutoSave();
+        AutoSave.stopAutoSave();
+    }
+
+    @AfterEach
+    void tearDown() {
+        JournalFile.closeJournal();
+        new File(testJournalFilePath).delete();
+        new File(testDataFilePath).delete();
+        new File(testHashFilePath).delete();
+        new File(testBlockIndexFilePath).delete();
+        UiConstant.dataFilePath = originalDataFilePath;
+        UiConstant.saveFile = new File(originalDataFilePath);
+        UiConstant.hashFilePath = originalHashFilePath;
+        UiConstant.blockIndexFilePath = originalBlockIndexFilePath;
+        UiConstant.journalFilePath = originalJournalFilePath;
+        HealthList.clearHealthLists();
+        WorkoutLists.clearWorkoutsRunGym();
+    }
+
+    /**
+     * Tests that changes are only saved once they stop changing between checks.
+     */
+    @Test
+    void checkForChanges_burstOfChanges_savedOnceSettled() throws IOException {
+        HealthList.addBmi(new Bmi("1.70", "70.00", "01-04-2023"));
+        AutoSave.checkForChanges();
+        HealthList.addBmi(new Bmi("1.80", "80.00", "02-04-2023"));
+        AutoSave.checkForChanges();
+        assertFalse(new File(testDataFilePath).exists());
+
+        AutoSave.checkForChanges();
+        List<String> lines = Files.readAllLines(new File(testDataFilePath).toPath());
+        assertEquals(3, lines.size());
+        assertTrue(new File(testHashFilePath).exists());
+    }
+
+    /**
+     * Tests that nothing is written when the lists have not changed since the last save.
+     */
+    @Test
+    void checkForChanges_noChangesSinceSave_saveSkipped() {
+        HealthList.addBmi(new Bmi("1.70", "70.00", "01-04-2023"));
+        AutoSave.checkForChanges();
+        AutoSave.checkForChanges();
+        assertTrue(new File(testDataFilePath).delete());
+
+        AutoSave.checkForChanges();
+        AutoSave.checkForChanges();
+        assertFalse(new File(testDataFilePath).exists());
+    }
+
+    /**
+     * Tests that changes are left in the journal while it is open, instead of being saved as a new snapshot.
+     */
+    @Test
+    void checkForChanges_journalOpen_snapshotNotRewritten() throws IOException,
+            CustomExceptions.FileWriteError {
+        JournalFile.openJournal();
+        Bmi bmi = new Bmi("1.70", "70.00", "01-04-2023");
+        HealthList.addBmi(bmi);
+        JournalFile.recordAdd(bmi);
+        AutoSave.checkForChanges();
+        AutoSave.checkForChanges();
+        JournalFile.closeJournal();
+
+        assertEquals(1, Files.readAllLines(new File(testDataFilePath).toPath()).size());
+        assertEquals(2, Files.readAllLines(new File(testJournalFilePath).toPath()).size());
+    }
+}
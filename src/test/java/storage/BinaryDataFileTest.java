@@ -0,0 +1,95 @@
+package storage;
+
+import constants.UiConstant;
+import health.HealthList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import utility.CustomExceptions;
+import workouts.WorkoutLists;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryDataFileTest {
+    private final String testTextFilePath = "./test_binary_data.txt";
+    private final String testBinaryFilePath = "./test_binary_data.bin";
+    private final String testConvertedFilePath = "./test_binary_converted.txt";
+
+    @AfterEach
+    void tearDown() {
+        new File(testTextFilePath).delete();
+        new File(testBinaryFilePath).delete();
+        new File(testConvertedFilePath).delete();
+        UiConstant.isBinaryFormat = false;
+        UiConstant.dataFilePath = UiConstant.TEXT_DATA_FILE_PATH;
+        UiConstant.saveFile = new File(UiConstant.TEXT_DATA_FILE_PATH);
+        HealthList.clearHealthLists();
+        WorkoutLists.clearWorkoutsRunGym();
+    }
+
+    private List<String> writeTextFile() throws IOException {
+        List<String> lines = List.of(
+                "NAME:John Doe",
+                "BMI:1.70:70.00:24.22:01-04-2023",
+                "APPOINTMENT:02-04-2023:09.05:Dentist visit",
+                "PERIOD:01-01-2023:07-01-2023:7",
+                "PERIOD:01-03-2023:NA:1",
+                "RUN:5.25:25.30:NA",
+                "RUN:21.10:01.45.09:15-01-1970",
+                "GYM:2:NA:bench press:2:4:10.125,20.0:squat:1:5:2850.0",
+                "GYM:1:31-12-1967:deadlift:3:8:0.0,60.5,62.5"
+        );
+        try (FileWriter writer = new FileWriter(testTextFilePath)) {
+            for (String line : lines) {
+                writer.write(line + System.lineSeparator());
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Tests that converting a text data file to binary and back reproduces every record exactly.
+     */
+    @Test
+    void convert_textToBinaryToText_recordsUnchanged() throws IOException, CustomExceptions.InvalidInput {
+        List<String> expected = writeTextFile();
+
+        BinaryDataFile.convertTextToBinary(new File(testTextFilePath), new File(testBinaryFilePath));
+        BinaryDataFile.convertBinaryToText(new File(testBinaryFilePath), new File(testConvertedFilePath));
+
+        assertEquals(expected, Files.readAllLines(new File(testConvertedFilePath).toPath()));
+        assertTrue(new File(testBinaryFilePath).length() < new File(testTextFilePath).length());
+    }
+
+    /**
+     * Tests that a binary data file without the binary header is rejected.
+     */
+    @Test
+    void convertBinaryToText_textFileAsInput_throwsIOException() throws IOException {
+        writeTextFile();
+
+        assertThrows(IOException.class, () -> BinaryDataFile.convertBinaryToText(new File(testTextFilePath),
+                new File(testConvertedFilePath)));
+    }
+
+    /**
+     * Tests that a gym weight which is not a multiple of 0.125 cannot be encoded.
+     */
+    @Test
+    void convertTextToBinary_weightNotMultipleOfEighth_throwsInvalidInput() throws IOException {
+        try (FileWriter writer = new FileWriter(testTextFilePath)) {
+            writer.write("NAME:John Doe" + System.lineSeparator());
+            writer.write("GYM:1:NA:bench press:1:4:10.1" + System.lineSeparator());
+        }
+
+        assertThrows(CustomExceptions.InvalidInput.class, () -> BinaryDataFile.convertTextToBinary(
+                new File(testTextFilePath), new File(testBinaryFilePath)));
+    }
+}
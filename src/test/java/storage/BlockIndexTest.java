@@ -0,0 +1,159 @@
+package storage;
+
+import constants.UiConstant;
+import health.HealthList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utility.CustomExceptions;
+import workouts.Run;
+import workouts.WorkoutLists;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlockIndexTest {
+    private static final int NUMBER_OF_RUNS = 600;
+
+    private final String testDataFilePath = "./test_block_data.txt";
+    private final String testHashFilePath = "./test_block_hash.txt";
+    private final String testBlockIndexFilePath = "./test_block_blocks.txt";
+    private final String testQuarantineFilePath = "./test_block_quarantine.txt";
+    private final String testJournalFilePath = "./test_block_journal.txt";
+    private final String originalDataFilePath = "./pulsepilot_data.txt";
+    private final String originalHashFilePath = "./pulsepilot_hash.txt";
+    private final String originalBlockIndexFilePath = "./pulsepilot_blocks.txt";
+    private final String originalQuarantineFilePath = "./pulsepilot_quarantine.txt";
+    private final String originalJournalFilePath = "./pulsepilot_journal.txt";
+
+    @BeforeEach
+    void setUp() {
+        UiConstant.dataFilePath = testDataFilePath;
+        UiConstant.saveFile = new File(testDataFilePath);
+        UiConstant.hashFilePath = testHashFilePath;
+        UiConstant.blockIndexFilePath = testBlockIndexFilePath;
+        UiConstant.quarantineFilePath = testQuarantineFilePath;
+        UiConstant.journalFilePath = testJournalFilePath;
+        HealthList.clearHealthLists();
+        WorkoutLists.clearWorkoutsRunGym();
+    }
+
+    @AfterEach
+    void tearDown() {
+        new File(testDataFilePath).delete();
+        new File(testHashFilePath).delete();
+        new File(testBlockIndexFilePath).delete();
+        new File(testQuarantineFilePath).delete();
+        new File(testJournalFilePath).delete();
+        UiConstant.dataFilePath = originalDataFilePath;
+        UiConstant.saveFile = new File(originalDataFilePath);
+        UiConstant.hashFilePath = originalHashFilePath;
+        UiConstant.blockIndexFilePath = originalBlockIndexFilePath;
+        UiConstant.quarantineFilePath = originalQuarantineFilePath;
+        UiConstant.journalFilePath = originalJournalFilePath;
+        HealthList.clearHealthLists();
+        WorkoutLists.clearWorkoutsRunGym();
+    }
+
+    private byte[] saveRuns() throws CustomExceptions.InvalidInput, CustomExceptions.FileWriteError, IOException {
+        for (int i = 0; i < NUMBER_OF_RUNS; i++) {
+            WorkoutLists.addRun(new Run(String.format("%02d:%02d", 20 + i % 40, i % 60),
+                    String.format("%d.%02d", 5 + i / 100, i % 100), "01-01-2023"));
+        }
+        new DataFile().saveDataFile("John Doe", new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                WorkoutLists.getWorkouts());
+        WorkoutLists.clearWorkoutsRunGym();
+        return Files.readAllBytes(new File(testDataFilePath).toPath());
+    }
+
+    private byte[] corruptBlock(byte[] data, BlockIndex.Block block) throws IOException {
+        int corruptOffset = block.getOffset() + 6;
+        data[corruptOffset] = (byte) (data[corruptOffset] == '1' ? '2' : '1');
+        Files.write(new File(testDataFilePath).toPath(), data);
+        return data;
+    }
+
+    private void writeJournal(String... records) throws IOException {
+        String chain = new DataFile().readHashFromFile(new File(testHashFilePath));
+        StringBuilder journal = new StringBuilder("SNAPSHOT:" + chain + System.lineSeparator());
+        for (String record : records) {
+            chain = JournalFile.checksumOf(chain, record);
+            journal.append(record).append("|").append(chain).append(System.lineSeparator());
+        }
+        Files.writeString(new File(testJournalFilePath).toPath(), journal.toString());
+    }
+
+    /**
+     * Tests that an untouched data file is split into several blocks that all verify.
+     */
+    @Test
+    void verify_untouchedDataFile_allBlocksIntact() throws CustomExceptions.InvalidInput,
+            CustomExceptions.FileWriteError, IOException {
+        byte[] data = saveRuns();
+
+        BlockIndex blockIndex = BlockIndex.read(data);
+        assertNotNull(blockIndex);
+        assertTrue(blockIndex.getBlocks().size() > 2);
+        assertTrue(blockIndex.verify(data).isEmpty());
+    }
+
+    /**
+     * Tests that a corrupted byte only loses the entries of its block, which are moved to the quarantine file,
+     * and that the recovered data file loads cleanly afterwards.
+     */
+    @Test
+    void readDataFile_corruptByteInOneBlock_onlyThatBlockQuarantined() throws CustomExceptions.InvalidInput,
+            CustomExceptions.FileWriteError, CustomExceptions.FileReadError, IOException {
+        byte[] data = saveRuns();
+        BlockIndex.Block corruptBlock = BlockIndex.read(data).getBlocks().get(1);
+        corruptBlock(data, corruptBlock);
+
+        new DataFile().readDataFile();
+
+        int expectedRuns = NUMBER_OF_RUNS - corruptBlock.getNumberOfRecords();
+        assertEquals(expectedRuns, WorkoutLists.getRuns().size());
+        String quarantined = Files.readString(new File(testQuarantineFilePath).toPath());
+        assertTrue(quarantined.contains("entries " + (corruptBlock.getFirstRecord() + 1) + " to "));
+
+        WorkoutLists.clearWorkoutsRunGym();
+        new DataFile().readDataFile();
+        assertEquals(expectedRuns, WorkoutLists.getRuns().size());
+    }
+
+    /**
+     * Tests that the journal is replayed on top of a data file with a quarantined block before it is saved again,
+     * skipping only the deletes of entries in the quarantined block.
+     */
+    @Test
+    void readDataFile_corruptBlockWithJournal_journalReplayedBeforeSaving() throws CustomExceptions.InvalidInput,
+            CustomExceptions.FileWriteError, CustomExceptions.FileReadError, IOException {
+        byte[] data = saveRuns();
+        List<String> records = Files.readAllLines(new File(testDataFilePath).toPath());
+        BlockIndex.Block corruptBlock = BlockIndex.read(data).getBlocks().get(1);
+        String quarantinedRecord = records.get(corruptBlock.getFirstRecord() + 1);
+        String intactRecord = records.get(1);
+        writeJournal("ADD:RUN:3.00:15.00:02-01-2023", "DELETE:" + quarantinedRecord, "DELETE:" + intactRecord);
+        corruptBlock(data, corruptBlock);
+
+        new DataFile().readDataFile();
+
+        int expectedRuns = NUMBER_OF_RUNS - corruptBlock.getNumberOfRecords();
+        assertEquals(expectedRuns, WorkoutLists.getRuns().size());
+        assertFalse(new File(testJournalFilePath).exists());
+
+        WorkoutLists.clearWorkoutsRunGym();
+        new DataFile().readDataFile();
+        assertEquals(expectedRuns, WorkoutLists.getRuns().size());
+        List<String> savedRecords = Files.readAllLines(new File(testDataFilePath).toPath());
+        assertTrue(savedRecords.contains("RUN:3.00:15.00:02-01-2023"));
+        assertFalse(savedRecords.contains(intactRecord));
+    }
+}
@@ -0,0 +1,217 @@
+package storage;
+
+import constants.UiConstant;
+import health.HealthList;
+import workouts.Gym;
+import workouts.GymStation;
+import workouts.Run;
+import workouts.WorkoutLists;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.logging.Level;
+
+/**
+ * Benchmark of loading data files of 10k, 100k and 1M records, run as a program rather than as a test.
+ * For each size, a text data file of runs and gym sessions is saved, then loaded with readDataFile, and the time
+ * taken and the bytes allocated are printed. The records are also tokenized on their own, once with Scanner and
+ * String.split as DataFile did before RecordReader, and once with RecordReader, to compare the two readers.
+ * Allocation is read from the JVM for every live thread, so threads that end during a load are not counted.
+ * Each measurement is the fastest of a few rounds, taken after warming up on the smallest file.
+ * Logs are written to the log file, as they are when PulsePilot runs, and the load is also measured with logs off.
+ */
+public class DataFileBenchmark {
+    private static final int[] RECORD_COUNTS = {10_000, 100_000, 1_000_000};
+    private static final int ROUNDS = 3;
+    private static final int GYM_INTERVAL = 4;
+    private static final int DAYS_OF_DATES = 8000;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2000, 1, 1);
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final String BENCHMARK_DATA_FILE_PATH = "./benchmark_data.txt";
+    private static final String BENCHMARK_HASH_FILE_PATH = "./benchmark_hash.txt";
+    private static final String BENCHMARK_BLOCK_INDEX_FILE_PATH = "./benchmark_blocks.txt";
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Runs the benchmark and prints one line per data file size and reader.
+     *
+     * @param args Unused.
+     */
+    public static void main(String[] args) throws Exception {
+        LogFile.getInstance();
+        String originalDataFilePath = UiConstant.dataFilePath;
+        File originalSaveFile = UiConstant.saveFile;
+        String originalHashFilePath = UiConstant.hashFilePath;
+        String originalBlockIndexFilePath = UiConstant.blockIndexFilePath;
+        UiConstant.dataFilePath = BENCHMARK_DATA_FILE_PATH;
+        UiConstant.saveFile = new File(BENCHMARK_DATA_FILE_PATH);
+        UiConstant.hashFilePath = BENCHMARK_HASH_FILE_PATH;
+        UiConstant.blockIndexFilePath = BENCHMARK_BLOCK_INDEX_FILE_PATH;
+        try {
+            saveRecords(RECORD_COUNTS[0]);
+            for (int i = 0; i < ROUNDS; i++) {
+                measureLoad();
+                measureScanner();
+                measureRecordReader();
+            }
+            System.out.printf("%-10s %-14s %10s %16s%n", "Records", "Reader", "Time (ms)", "Allocated (MB)");
+            for (int recordCount : RECORD_COUNTS) {
+                saveRecords(recordCount);
+                print(recordCount, "readDataFile", best(DataFileBenchmark::measureLoad));
+                print(recordCount, "  (logs off)", best(DataFileBenchmark::measureLoadWithoutLogs));
+                print(recordCount, "Scanner+split", best(DataFileBenchmark::measureScanner));
+                print(recordCount, "RecordReader", best(DataFileBenchmark::measureRecordReader));
+            }
+        } finally {
+            HealthList.clearHealthLists();
+            WorkoutLists.clearWorkoutsRunGym();
+            new File(BENCHMARK_DATA_FILE_PATH).delete();
+            new File(BENCHMARK_HASH_FILE_PATH).delete();
+            new File(BENCHMARK_BLOCK_INDEX_FILE_PATH).delete();
+            UiConstant.dataFilePath = originalDataFilePath;
+            UiConstant.saveFile = originalSaveFile;
+            UiConstant.hashFilePath = originalHashFilePath;
+            UiConstant.blockIndexFilePath = originalBlockIndexFilePath;
+        }
+    }
+
+    /**
+     * Saves a data file with one gym session of two stations for every three runs.
+     *
+     * @param recordCount The number of records to save.
+     */
+    private static void saveRecords(int recordCount) throws Exception {
+        DataFile dataFile = new DataFile();
+        List<String> records = new ArrayList<>(recordCount);
+        for (int i = 0; i < recordCount; i++) {
+            String date = FIRST_DATE.plusDays(i % DAYS_OF_DATES).format(DATE_FORMATTER);
+            if (i % GYM_INTERVAL == 0) {
+                Gym gym = new Gym(date);
+                gym.addStation(new GymStation("Bench Press", "3", "8", "40.0,42.5,45.0"));
+                gym.addStation(new GymStation("Squat", "2", "5", "60.0,65.0"));
+                records.add(dataFile.formatWorkout(gym));
+            } else {
+                String time = String.format("%02d:%02d", 20 + i % 40, i % 60);
+                String distance = String.format("%d.%02d", 5 + i % 10, i % 100);
+                records.add(dataFile.formatWorkout(new Run(time, distance, date)));
+            }
+        }
+        dataFile.saveRecords("John Doe", records);
+    }
+
+    /**
+     * Loads the data file into cleared lists.
+     */
+    private static void measureLoad() throws Exception {
+        HealthList.clearHealthLists();
+        WorkoutLists.clearWorkoutsRunGym();
+        new DataFile().readDataFile();
+    }
+
+    /**
+     * Loads the data file into cleared lists without writing any logs.
+     */
+    private static void measureLoadWithoutLogs() throws Exception {
+        LogFile.setLogLevel(Level.OFF);
+        try {
+            measureLoad();
+        } finally {
+            LogFile.setLogLevel(Level.INFO);
+        }
+    }
+
+    /**
+     * Splits every line of the data file into trimmed fields with Scanner and String.split.
+     */
+    private static void measureScanner() throws FileNotFoundException {
+        long fieldCount = 0;
+        try (Scanner scanner = new Scanner(new File(BENCHMARK_DATA_FILE_PATH))) {
+            while (scanner.hasNextLine()) {
+                for (String field : scanner.nextLine().split(UiConstant.SPLIT_BY_COLON)) {
+                    fieldCount += field.trim().isEmpty() ? 0 : 1;
+                }
+            }
+        }
+        checkFieldCount(fieldCount);
+    }
+
+    /**
+     * Splits every line of the data file into fields with RecordReader.
+     */
+    private static void measureRecordReader() throws IOException {
+        long fieldCount = 0;
+        RecordReader reader = new RecordReader(new File(BENCHMARK_DATA_FILE_PATH));
+        while (reader.nextLine()) {
+            for (String field : reader.getFields()) {
+                fieldCount += field.isEmpty() ? 0 : 1;
+            }
+        }
+        checkFieldCount(fieldCount);
+    }
+
+    /**
+     * Stops the benchmark if a reader found no fields, so a broken reader is not reported as a fast one.
+     *
+     * @param fieldCount The number of fields read.
+     */
+    private static void checkFieldCount(long fieldCount) {
+        if (fieldCount == 0) {
+            throw new IllegalStateException("No fields read from " + BENCHMARK_DATA_FILE_PATH);
+        }
+    }
+
+    /**
+     * Runs a measurement a few times and keeps the round that took the least time.
+     *
+     * @param measurement The measurement to run.
+     * @return The time in nanoseconds and the bytes allocated in the fastest round.
+     */
+    private static long[] best(Measurement measurement) throws Exception {
+        long[] best = null;
+        for (int i = 0; i < ROUNDS; i++) {
+            System.gc();
+            long allocatedBefore = allocatedBytes();
+            long start = System.nanoTime();
+            measurement.run();
+            long elapsed = System.nanoTime() - start;
+            long allocated = allocatedBytes() - allocatedBefore;
+            if (best == null || elapsed < best[0]) {
+                best = new long[]{elapsed, allocated};
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Retrieves the total number of bytes allocated so far by the live threads.
+     *
+     * @return The number of bytes.
+     */
+    private static long allocatedBytes() {
+        long total = 0;
+        for (long allocated : THREADS.getThreadAllocatedBytes(THREADS.getAllThreadIds())) {
+            total += Math.max(allocated, 0);
+        }
+        return total;
+    }
+
+    private static void print(int recordCount, String reader, long[] result) {
+        System.out.printf("%-10d %-14s %10.1f %16.1f%n", recordCount, reader, result[0] / 1e6,
+                result[1] / (1024.0 * 1024.0));
+    }
+
+    /**
+     * Represents one run of a measured operation.
+     */
+    private interface Measurement {
+        void run() throws Exception;
+    }
+}
@@ -35,8 +35,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 public class DataFileTest {
     private final String testDataFilePath = "./test_data.txt";
     private final String testHashFilePath = "./test_hash.txt";
+    private final String testBlockIndexFilePath = "./test_blocks.txt";
     private final String originalDataFilePath = "./pulsepilot_data.txt";
     private final String originalHashFilePath = "./pulsepilot_hash.txt";
+    private final String originalBlockIndexFilePath = "./pulsepilot_blocks.txt";
 
     /**
      * Sets up the test environment by setting the file paths to the test files.
@@ -47,6 +49,7 @@ public class DataFileTest {
         UiConstant.dataFilePath = testDataFilePath;
         UiConstant.saveFile = new File(testDataFilePath);
         UiConstant.hashFilePath = testHashFilePath;
+        UiConstant.blockIndexFilePath = testBlockIndexFilePath;
     }
 
     /**
@@ -57,11 +60,13 @@ public class DataFileTest {
         // Delete the test files after each test
         new File(testDataFilePath).delete();
         new File(testHashFilePath).delete();
+        new File(testBlockIndexFilePath).delete();
 
         // Reset the file paths
         UiConstant.dataFilePath = originalDataFilePath;
         UiConstant.saveFile = new File(originalDataFilePath);
         UiConstant.hashFilePath = originalHashFilePath;
+        UiConstant.blockIndexFilePath = originalBlockIndexFilePath;
     }
 
     /**
@@ -345,6 +350,40 @@ public class DataFileTest {
                 Arrays.toString(WorkoutLists.getWorkouts().toArray()));
     }
 
+    /**
+     * Tests the readDataFile method with a data file and hash file written by older versions, where the hash file
+     * holds the hash of the whole data file.
+     * Verifies that the data is loaded and the hash file is rewritten with the hash of the records.
+     */
+    @Test
+    void readDataFile_legacyHashFile_loadsAndMigratesHash() throws IOException, NoSuchAlgorithmException,
+            CustomExceptions.FileReadError {
+        // Arrange
+        cleanup();
+        String legacyData = "NAME:alice\n"
+                + "BMI:1.70:70.00:24.22:01-04-2023\n"
+                + "APPOINTMENT:25-03-2024:16.30:knee surgery\n"
+                + "PERIOD:05-03-2024:10-03-2024:6\n"
+                + "RUN:5.15:25.03:02-04-2023\n"
+                + "GYM:1:03-04-2023:bench press:2:4:10.0,20.0\n";
+        File dataFileName = new File(testDataFilePath);
+        Files.writeString(dataFileName.toPath(), legacyData);
+        DataFile dataFile = new DataFile();
+        Files.writeString(Path.of(testHashFilePath), dataFile.generateFileHash(dataFileName));
+
+        // Act
+        dataFile.readDataFile();
+
+        // Assert
+        assertEquals("alice", DataFile.userName);
+        assertEquals(1, HealthList.getBmis().size());
+        assertEquals(1, HealthList.getAppointments().size());
+        assertEquals(1, HealthList.getPeriods().size());
+        assertEquals(2, WorkoutLists.getWorkouts().size());
+        assertEquals(RecordHash.getHash("alice"), dataFile.readHashFromFile(new File(testHashFilePath)));
+        cleanup();
+    }
+
     /**
      * Tests the verifyIntegrity method with an invalid file.
      * Expects a FileCreateError exception to be thrown.
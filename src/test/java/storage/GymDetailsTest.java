@@ -0,0 +1,184 @@
+package storage;
+
+import constants.UiConstant;
+import health.HealthList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utility.CustomExceptions;
+import utility.Filters.DataType;
+import workouts.Gym;
+import workouts.WorkoutLists;
+
+import java.io.File;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GymDetailsTest {
+    private final String testDataFilePath = "./test_gym_details_data.txt";
+    private final String testHashFilePath = "./test_gym_details_hash.txt";
+    private final String testBlockIndexFilePath = "./test_gym_details_blocks.txt";
+    private final String testGymDetailFilePath = "./test_gym_details.tmp";
+    private final String originalDataFilePath = "./pulsepilot_data.txt";
+    private final String originalHashFilePath = "./pulsepilot_hash.txt";
+    private final String originalBlockIndexFilePath = "./pulsepilot_blocks.txt";
+    private final String originalGymDetailFilePath = "./pulsepilot_gym_details.tmp";
+
+    @BeforeEach
+    void setUp() {
+        UiConstant.dataFilePath = testDataFilePath;
+        UiConstant.saveFile = new File(testDataFilePath);
+        UiConstant.hashFilePath = testHashFilePath;
+        UiConstant.blockIndexFilePath = testBlockIndexFilePath;
+        UiConstant.gymDetailFilePath = testGymDetailFilePath;
+        UiConstant.isLazyGymLoading = true;
+        HealthList.clearHealthLists();
+        WorkoutLists.clearWorkoutsRunGym();
+    }
+
+    @AfterEach
+    void tearDown() {
+        GymDetails.close();
+        new File(testDataFilePath).delete();
+        new File(testHashFilePath).delete();
+        new File(testBlockIndexFilePath).delete();
+        UiConstant.dataFilePath = originalDataFilePath;
+        UiConstant.saveFile = new File(originalDataFilePath);
+        UiConstant.hashFilePath = originalHashFilePath;
+        UiConstant.blockIndexFilePath = originalBlockIndexFilePath;
+        UiConstant.gymDetailFilePath = originalGymDetailFilePath;
+        UiConstant.isLazyGymLoading = false;
+        UiConstant.isBinaryFormat = false;
+        HealthList.clearHealthLists();
+        WorkoutLists.clearWorkoutsRunGym();
+    }
+
+    /**
+     * Saves gym sessions with different numbers of stations, then loads them lazily.
+     *
+     * @return The records of the gym sessions, in order.
+     */
+    private List<String> saveAndLoadGyms() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput, CustomExceptions.FileWriteError, CustomExceptions.FileReadError {
+        String[] stationNames = {"Bench Press", "Squat", "Lat Pulldown"};
+        List<String> records = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            Gym gym = new Gym("0" + i + "-04-2023");
+            for (int j = 0; j < i; j++) {
+                gym.addStation(stationNames[j], "2", "10", (10 + i) + "," + (20 + j));
+            }
+            WorkoutLists.addGym(gym);
+            records.add(gym.toFileString());
+        }
+        new DataFile().saveDataFile("John Doe", new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                WorkoutLists.getWorkouts());
+        WorkoutLists.clearWorkoutsRunGym();
+
+        new DataFile().readDataFile();
+        return records;
+    }
+
+    /**
+     * Tests that lazily loaded gym sessions keep their number of stations and load the same stations on access.
+     */
+    @Test
+    void getStations_lazyGyms_sameStationsAsSaved() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput, CustomExceptions.FileWriteError, CustomExceptions.FileReadError {
+        List<String> records = saveAndLoadGyms();
+
+        ArrayList<Gym> gyms = WorkoutLists.getGyms();
+        assertEquals(records.size(), gyms.size());
+        for (int i = 0; i < gyms.size(); i++) {
+            Gym gym = gyms.get(i);
+            assertTrue(gym.isLazy());
+            assertEquals(i + 1, gym.getNumberOfStations());
+            assertEquals(i + 1, gym.getStations().size());
+            assertSame(gym.getStations(), gym.getStations());
+            assertEquals(records.get(i), gym.toFileString());
+        }
+    }
+
+    /**
+     * Tests that gym sessions loaded lazily from a binary data file load the same stations on access.
+     */
+    @Test
+    void getStations_lazyGymsBinaryFormat_sameStationsAsSaved() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput, CustomExceptions.FileWriteError, CustomExceptions.FileReadError {
+        UiConstant.isBinaryFormat = true;
+        List<String> records = saveAndLoadGyms();
+
+        ArrayList<Gym> gyms = WorkoutLists.getGyms();
+        assertEquals(records.size(), gyms.size());
+        for (int i = 0; i < gyms.size(); i++) {
+            assertTrue(gyms.get(i).isLazy());
+            assertEquals(i + 1, gyms.get(i).getStations().size());
+            assertEquals(records.get(i), gyms.get(i).toFileString());
+        }
+    }
+
+    /**
+     * Tests that lazily loaded gym sessions are read from the detail file once the data file has been saved over,
+     * and that adding a station to one loads it fully.
+     */
+    @Test
+    void toFileString_dataFileSavedOver_recordReadFromDetailFile() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput, CustomExceptions.FileWriteError, CustomExceptions.FileReadError {
+        List<String> records = saveAndLoadGyms();
+
+        new DataFile().saveDataFile("John Doe", new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                new ArrayList<>());
+        new File(testDataFilePath).delete();
+        assertTrue(new File(testGymDetailFilePath).exists());
+        assertEquals(records.get(2), WorkoutLists.getGyms().get(2).toFileString());
+        assertEquals(3, WorkoutLists.getGyms().get(2).getStations().size());
+
+        Gym gym = WorkoutLists.getGyms().get(0);
+        gym.addStation("Deadlift", "1", "5", "60");
+        assertFalse(gym.isLazy());
+        assertEquals(2, gym.getStations().size());
+
+        GymDetails.close();
+        assertFalse(new File(testGymDetailFilePath).exists());
+    }
+
+    /**
+     * Tests that a lazily loaded gym session whose data file is gone reports an error instead of returning
+     * fewer stations than it has, and that saving it fails without writing a data file.
+     */
+    @Test
+    void getStations_dataFileDeletedBeforeSave_throwsUncheckedIoException() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput, CustomExceptions.FileWriteError, CustomExceptions.FileReadError {
+        saveAndLoadGyms();
+        new File(testDataFilePath).delete();
+
+        Gym gym = WorkoutLists.getGyms().get(1);
+        assertEquals(2, gym.getNumberOfStations());
+        assertThrows(UncheckedIOException.class, gym::getStations);
+        assertThrows(UncheckedIOException.class, () -> gym.getHistoryFormatForSpecificGymStation(0));
+        assertThrows(CustomExceptions.FileWriteError.class, () -> new DataFile().saveDataFile("John Doe",
+                new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), WorkoutLists.getWorkouts()));
+        assertFalse(new File(testDataFilePath).exists());
+        assertEquals(3, WorkoutLists.getGymSize());
+    }
+
+    /**
+     * Tests that a gym record with an invalid station is rejected when it is loaded lazily, as it is when it is
+     * loaded in full.
+     */
+    @Test
+    void createRecord_lazyGymWithInvalidStation_throwsInvalidInput() {
+        String record = "GYM:1:01-04-2023:Bench Press:2:10:abc,20";
+        String[] input = record.split(UiConstant.SPLIT_BY_COLON);
+
+        assertThrows(CustomExceptions.InvalidInput.class,
+                () -> new DataFile().createRecord(DataType.GYM, input, record, 0, record.length()));
+        assertEquals(0, WorkoutLists.getGymSize());
+    }
+}
@@ -0,0 +1,230 @@
+package storage;
+
+import constants.UiConstant;
+import health.Bmi;
+import health.HealthList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utility.CustomExceptions;
+import workouts.Run;
+import workouts.WorkoutLists;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JournalFileTest {
+    private final String testDataFilePath = "./test_journal_data.txt";
+    private final String testHashFilePath = "./test_journal_hash.txt";
+    private final String testBlockIndexFilePath = "./test_journal_blocks.txt";
+    private final String testJournalFilePath = "./test_journal.txt";
+    private final String testCorruptJournalFilePath = "./test_journal_corrupt.txt";
+    private final String originalDataFilePath = "./pulsepilot_data.txt";
+    private final String originalHashFilePath = "./pulsepilot_hash.txt";
+    private final String originalBlockIndexFilePath = "./pulsepilot_blocks.txt";
+    private final String originalJournalFilePath = "./pulsepilot_journal.txt";
+    private final String originalCorruptJournalFilePath = "./pulsepilot_journal_corrupt.txt";
+
+    /**
+     * Sets up the test environment by setting the file paths to the test files and clearing all lists.
+     */
+    @BeforeEach
+    void setUp() {
+        UiConstant.dataFilePath = testDataFilePath;
+        UiConstant.saveFile = new File(testDataFilePath);
+        UiConstant.hashFilePath = testHashFilePath;
+        UiConstant.blockIndexFilePath = testBlockIndexFilePath;
+        UiConstant.journalFilePath = testJournalFilePath;
+        UiConstant.journalCorruptFilePath = testCorruptJournalFilePath;
+        DataFile.userName = "John Doe";
+        cleanup();
+    }
+
+    /**
+     * Tears down the test environment by closing the journal, deleting the test files and resetting the paths.
+     */
+    @AfterEach
+    void tearDown() {
+        JournalFile.closeJournal();
+        new File(testDataFilePath).delete();
+        new File(testHashFilePath).delete();
+        new File(testBlockIndexFilePath).delete();
+        new File(testJournalFilePath).delete();
+        new File(testCorruptJournalFilePath).delete();
+
+        UiConstant.dataFilePath = originalDataFilePath;
+        UiConstant.saveFile = new File(originalDataFilePath);
+        UiConstant.hashFilePath = originalHashFilePath;
+        UiConstant.blockIndexFilePath = originalBlockIndexFilePath;
+        UiConstant.journalFilePath = originalJournalFilePath;
+        UiConstant.journalCorruptFilePath = originalCorruptJournalFilePath;
+        cleanup();
+    }
+
+    private void cleanup() {
+        WorkoutLists.clearWorkoutsRunGym();
+        HealthList.clearHealthLists();
+    }
+
+    /**
+     * Tests that adds and deletes recorded in the journal are replayed on top of the snapshot at startup.
+     */
+    @Test
+    void openJournal_recordedChanges_replayedOnNextStartup() throws CustomExceptions.FileWriteError,
+            CustomExceptions.FileReadError, CustomExceptions.InvalidInput {
+        DataFile dataFile = new DataFile();
+        dataFile.loadDataFile();
+        JournalFile.openJournal();
+
+        Bmi firstBmi = new Bmi("1.70", "70.00", "01-04-2023");
+        Bmi secondBmi = new Bmi("1.80", "80.00", "15-04-2023");
+        Run run = new Run("30:00", "5.00", "01-04-2023");
+        HealthList.addBmi(firstBmi);
+        HealthList.addBmi(secondBmi);
+        WorkoutLists.addRun(run);
+        JournalFile.recordAdd(firstBmi);
+        JournalFile.recordAdd(secondBmi);
+        JournalFile.recordAdd(run);
+        Bmi deletedBmi = HealthList.getBmis().get(0);
+        HealthList.removeBmi(0);
+        JournalFile.recordDelete(deletedBmi);
+        String expectedBmis = HealthList.getBmis().toString();
+        String expectedWorkouts = WorkoutLists.getWorkouts().toString();
+        JournalFile.closeJournal();
+
+        cleanup();
+        dataFile.loadDataFile();
+        dataFile.readDataFile();
+        assertTrue(HealthList.getBmis().isEmpty());
+        JournalFile.openJournal();
+
+        assertEquals(expectedBmis, HealthList.getBmis().toString());
+        assertEquals(expectedWorkouts, WorkoutLists.getWorkouts().toString());
+    }
+
+    /**
+     * Tests that a journal written against a different snapshot is discarded and replaced with a fresh one.
+     */
+    @Test
+    void openJournal_staleSnapshotHash_journalDiscarded() throws IOException, CustomExceptions.FileWriteError {
+        DataFile dataFile = new DataFile();
+        dataFile.loadDataFile();
+        JournalFile.openJournal();
+        JournalFile.closeJournal();
+
+        try (FileWriter writer = new FileWriter(testJournalFilePath)) {
+            writer.write("SNAPSHOT:stalehash" + System.lineSeparator());
+            writer.write("ADD:BMI:1.70:70.00:24.22:01-04-2023" + System.lineSeparator());
+        }
+
+        JournalFile.openJournal();
+        JournalFile.closeJournal();
+
+        assertTrue(HealthList.getBmis().isEmpty());
+        List<String> lines = Files.readAllLines(Path.of(testJournalFilePath));
+        assertEquals(1, lines.size());
+        assertFalse(lines.get(0).contains("stalehash"));
+    }
+
+    /**
+     * Tests that replay stops at a torn record, keeping all records before it and truncating the torn one.
+     */
+    @Test
+    void openJournal_tornLastRecord_earlierRecordsReplayed() throws IOException, CustomExceptions.FileWriteError {
+        DataFile dataFile = new DataFile();
+        dataFile.loadDataFile();
+        JournalFile.openJournal();
+        JournalFile.closeJournal();
+
+        String checksum = appendRecord(readSnapshotHash(), "ADD:BMI:1.70:70.00:24.22:01-04-2023");
+        try (FileWriter writer = new FileWriter(testJournalFilePath, true)) {
+            writer.write("ADD:RUN:5.0");
+        }
+
+        JournalFile.openJournal();
+        JournalFile.closeJournal();
+
+        assertEquals(1, HealthList.getBmisSize());
+        assertEquals(0, WorkoutLists.getRunSize());
+        List<String> lines = Files.readAllLines(Path.of(testJournalFilePath));
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(1).endsWith(checksum));
+        assertFalse(new File(testCorruptJournalFilePath).exists());
+    }
+
+    /**
+     * Tests that a complete record appended by hand without a valid checksum is not replayed, and that the
+     * journal is moved aside instead of being overwritten.
+     */
+    @Test
+    void openJournal_recordWithoutChecksum_notReplayedAndJournalKept() throws IOException,
+            CustomExceptions.FileWriteError {
+        DataFile dataFile = new DataFile();
+        dataFile.loadDataFile();
+        JournalFile.openJournal();
+        JournalFile.closeJournal();
+
+        try (FileWriter writer = new FileWriter(testJournalFilePath, true)) {
+            writer.write("ADD:RUN:42.00:03.10.00:01-01-2024" + System.lineSeparator());
+        }
+
+        JournalFile.openJournal();
+        JournalFile.closeJournal();
+
+        assertEquals(0, WorkoutLists.getRunSize());
+        assertTrue(Files.readString(Path.of(testCorruptJournalFilePath)).contains("ADD:RUN:42.00"));
+        assertEquals(1, Files.readAllLines(Path.of(testJournalFilePath)).size());
+    }
+
+    /**
+     * Tests that a corrupt record in the middle of the journal stops replay at that record,
+     * keeping the records before it.
+     */
+    @Test
+    void openJournal_corruptMiddleRecord_replayStopsAtCorruptRecord() throws IOException,
+            CustomExceptions.FileWriteError {
+        DataFile dataFile = new DataFile();
+        dataFile.loadDataFile();
+        JournalFile.openJournal();
+        JournalFile.closeJournal();
+
+        String checksum = appendRecord(readSnapshotHash(), "ADD:BMI:1.70:70.00:24.22:01-04-2023");
+        checksum = appendRecord(checksum, "ADD:RUN:5.00:00.30.00:01-04-2023");
+        appendRecord(checksum, "ADD:BMI:1.80:80.00:24.69:15-04-2023");
+        String journal = Files.readString(Path.of(testJournalFilePath)).replace("RUN:5.00", "RUN:9.00");
+        Files.writeString(Path.of(testJournalFilePath), journal);
+
+        JournalFile.openJournal();
+        JournalFile.closeJournal();
+
+        assertEquals(1, HealthList.getBmisSize());
+        assertEquals(0, WorkoutLists.getRunSize());
+        assertEquals(journal, Files.readString(Path.of(testCorruptJournalFilePath)));
+    }
+
+    private String readSnapshotHash() throws IOException {
+        String header = Files.readAllLines(Path.of(testJournalFilePath)).get(0);
+        return header.substring(header.indexOf(':') + 1);
+    }
+
+    /**
+     * Appends a record to the journal with its chained checksum, as JournalFile writes it.
+     *
+     * @return The checksum of the record.
+     */
+    private String appendRecord(String previousChecksum, String record) throws IOException {
+        String checksum = JournalFile.checksumOf(previousChecksum, record);
+        try (FileWriter writer = new FileWriter(testJournalFilePath, true)) {
+            writer.write(record + UiConstant.JOURNAL_CHECKSUM_SEPARATOR + checksum + System.lineSeparator());
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,154 @@
+package storage;
+
+import constants.UiConstant;
+import health.HealthList;
+import workouts.Run;
+import workouts.WorkoutLists;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.FileHandler;
+import java.util.logging.Handler;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * Benchmark of loading a data file with each logging backend, run as a program rather than as a test.
+ * A text data file of 100k runs is loaded with readDataFile while the logs of LogFile go to one of three handlers:
+ * a FileHandler with a SimpleFormatter, as LogFile used before, a synchronous RotatingLogHandler, as used when
+ * asynchronous logging is turned off, and an AsyncLogHandler in front of a RotatingLogHandler, as used by default.
+ * For each backend, the time taken by the load is printed, along with the time until every log has been written.
+ * Each measurement is the fastest of a few rounds, taken after one round to warm up.
+ */
+public class LogFileBenchmark {
+    private static final int RECORD_COUNT = 100_000;
+    private static final int ROUNDS = 3;
+    private static final int DAYS_OF_DATES = 8000;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2000, 1, 1);
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final String BENCHMARK_DATA_FILE_PATH = "./benchmark_data.txt";
+    private static final String BENCHMARK_HASH_FILE_PATH = "./benchmark_hash.txt";
+    private static final String BENCHMARK_BLOCK_INDEX_FILE_PATH = "./benchmark_blocks.txt";
+    private static final String BENCHMARK_LOG_FILE_PATH = "./benchmark_log.txt";
+    private static final Logger logger = Logger.getLogger(LogFile.class.getName());
+
+    /**
+     * Runs the benchmark and prints one line per logging backend.
+     *
+     * @param args Unused.
+     */
+    public static void main(String[] args) throws Exception {
+        LogFile.getInstance();
+        LogFile.closeLogFile();
+        String originalDataFilePath = UiConstant.dataFilePath;
+        File originalSaveFile = UiConstant.saveFile;
+        String originalHashFilePath = UiConstant.hashFilePath;
+        String originalBlockIndexFilePath = UiConstant.blockIndexFilePath;
+        UiConstant.dataFilePath = BENCHMARK_DATA_FILE_PATH;
+        UiConstant.saveFile = new File(BENCHMARK_DATA_FILE_PATH);
+        UiConstant.hashFilePath = BENCHMARK_HASH_FILE_PATH;
+        UiConstant.blockIndexFilePath = BENCHMARK_BLOCK_INDEX_FILE_PATH;
+        try {
+            saveRuns();
+            System.out.printf("%-26s %10s %18s%n", "Backend", "Load (ms)", "Logs written (ms)");
+            print("FileHandler (before)", measure(LogFileBenchmark::createFileHandler));
+            print("RotatingLogHandler (sync)", measure(LogFileBenchmark::createRotatingLogHandler));
+            print("AsyncLogHandler", measure(LogFileBenchmark::createAsyncLogHandler));
+        } finally {
+            HealthList.clearHealthLists();
+            WorkoutLists.clearWorkoutsRunGym();
+            new File(BENCHMARK_DATA_FILE_PATH).delete();
+            new File(BENCHMARK_HASH_FILE_PATH).delete();
+            new File(BENCHMARK_BLOCK_INDEX_FILE_PATH).delete();
+            deleteLogFiles();
+            UiConstant.dataFilePath = originalDataFilePath;
+            UiConstant.saveFile = originalSaveFile;
+            UiConstant.hashFilePath = originalHashFilePath;
+            UiConstant.blockIndexFilePath = originalBlockIndexFilePath;
+        }
+    }
+
+    /**
+     * Saves a data file of runs.
+     */
+    private static void saveRuns() throws Exception {
+        DataFile dataFile = new DataFile();
+        List<String> records = new ArrayList<>(RECORD_COUNT);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            String time = String.format("%02d:%02d", 20 + i % 40, i % 60);
+            String distance = String.format("%d.%02d", 5 + i % 10, i % 100);
+            String date = FIRST_DATE.plusDays(i % DAYS_OF_DATES).format(DATE_FORMATTER);
+            records.add(dataFile.formatWorkout(new Run(time, distance, date)));
+        }
+        dataFile.saveRecords("John Doe", records);
+    }
+
+    private static Handler createFileHandler() throws IOException {
+        FileHandler fileHandler = new FileHandler(BENCHMARK_LOG_FILE_PATH);
+        fileHandler.setFormatter(new SimpleFormatter());
+        return fileHandler;
+    }
+
+    private static Handler createRotatingLogHandler() throws IOException {
+        return new RotatingLogHandler(BENCHMARK_LOG_FILE_PATH, UiConstant.LOG_MAX_FILE_BYTES,
+                UiConstant.logRetainedSegments, true);
+    }
+
+    private static Handler createAsyncLogHandler() throws IOException {
+        return new AsyncLogHandler(new RotatingLogHandler(BENCHMARK_LOG_FILE_PATH, UiConstant.LOG_MAX_FILE_BYTES,
+                UiConstant.logRetainedSegments, false), UiConstant.LOG_BUFFER_CAPACITY, UiConstant.LOG_BATCH_SIZE,
+                AsyncLogHandler.OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Loads the data file into cleared lists with the logs of LogFile going to a new handler, a few times.
+     *
+     * @param handlerFactory The way of creating the handler.
+     * @return The time in nanoseconds taken by the fastest load, and the time until its logs were all written.
+     */
+    private static long[] measure(HandlerFactory handlerFactory) throws Exception {
+        long[] best = null;
+        for (int i = 0; i <= ROUNDS; i++) {
+            deleteLogFiles();
+            HealthList.clearHealthLists();
+            WorkoutLists.clearWorkoutsRunGym();
+            System.gc();
+            Handler handler = handlerFactory.create();
+            logger.addHandler(handler);
+            long start = System.nanoTime();
+            new DataFile().readDataFile();
+            long loaded = System.nanoTime() - start;
+            handler.flush();
+            long written = System.nanoTime() - start;
+            logger.removeHandler(handler);
+            handler.close();
+            boolean isWarmUp = i == 0;
+            if (!isWarmUp && (best == null || loaded < best[0])) {
+                best = new long[]{loaded, written};
+            }
+        }
+        return best;
+    }
+
+    private static void deleteLogFiles() {
+        new File(BENCHMARK_LOG_FILE_PATH).delete();
+        for (int segment = 1; segment <= UiConstant.logRetainedSegments; segment++) {
+            RotatingLogHandler.getSegmentFile(BENCHMARK_LOG_FILE_PATH, segment).delete();
+        }
+    }
+
+    private static void print(String backend, long[] result) {
+        System.out.printf("%-26s %10.1f %18.1f%n", backend, result[0] / 1e6, result[1] / 1e6);
+    }
+
+    /**
+     * Represents a way of creating the handler that the logs are written to.
+     */
+    private interface HandlerFactory {
+        Handler create() throws IOException;
+    }
+}
@@ -1,12 +1,25 @@
 package storage;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.logging.Level;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class LogFileTest {
     static LogFile logTest = LogFile.getInstance();
 
+    @AfterEach
+    void tearDown() {
+        LogFile.setLogLevel(Level.INFO);
+    }
+
     /**
      * Tests the behaviour of the getInstance function in the LogFile class, and whether
      * it returns a non-null instance.
@@ -15,4 +28,50 @@ class LogFileTest {
     void initializeLogFile_noInput_logFileHandlerNotNull() {
         assertNotNull(LogFile.logFileHandler);
     }
+
+    /**
+     * Tests that information logs are not built or written when the log level only allows warnings.
+     */
+    @Test
+    void writeLog_levelWarning_informationLogSkipped() {
+        LogFile.setLogLevel(Level.WARNING);
+        assertFalse(LogFile.isLoggable(false));
+        assertTrue(LogFile.isLoggable(true));
+
+        LogFile.writeLog(() -> {
+            throw new AssertionError("Message should not be built");
+        }, false);
+        LogFile.writeLog("Skipped template {0}", "log-level-test-argument", false);
+        assertFalse(LogFile.readLogContent().contains("log-level-test-argument"));
+    }
+
+    /**
+     * Tests that template and supplier logs are written with their message built.
+     */
+    @Test
+    void writeLog_templateAndSupplier_messageWritten() {
+        LogFile.writeLog("Template test: {0}", "template-test-argument", false);
+        LogFile.writeLog("Index test: {0,number,#}", 12345, false);
+        LogFile.writeLog(() -> "Supplier test: " + "supplier-test-argument", true);
+
+        String logContent = LogFile.readLogContent();
+        assertTrue(logContent.contains("INFO: Template test: template-test-argument"));
+        assertTrue(logContent.contains("INFO: Index test: 12345"));
+        assertTrue(logContent.contains("WARNING: Supplier test: supplier-test-argument"));
+    }
+
+    /**
+     * Tests that tailLog returns the last matching lines of the log file in order.
+     */
+    @Test
+    void tailLog_searchTerm_returnsLastMatchingLines() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            LogFile.writeLog("Tail test entry {0}", String.valueOf(i), false);
+        }
+
+        List<String> lines = LogFile.tailLog(2, "Tail test entry");
+        assertEquals(List.of("INFO: Tail test entry 3", "INFO: Tail test entry 4"), lines);
+        assertEquals(2, LogFile.tailLog(2, null).size());
+        assertTrue(LogFile.tailLog(5, "no-such-log-entry-text").isEmpty());
+    }
 }
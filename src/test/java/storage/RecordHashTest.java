@@ -0,0 +1,123 @@
+package storage;
+
+import health.Appointment;
+import health.Bmi;
+import health.HealthList;
+import health.Period;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utility.CustomExceptions;
+import workouts.Gym;
+import workouts.Run;
+import workouts.WorkoutLists;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class RecordHashTest {
+    private final String name = "John Doe";
+
+    @BeforeEach
+    void setUp() {
+        HealthList.clearHealthLists();
+        WorkoutLists.clearWorkoutsRunGym();
+    }
+
+    @AfterEach
+    void tearDown() {
+        HealthList.clearHealthLists();
+        WorkoutLists.clearWorkoutsRunGym();
+    }
+
+    private List<String> formatCurrentRecords() {
+        return new DataFile().formatRecords(HealthList.getBmis(), HealthList.getAppointments(),
+                HealthList.getPeriods(), WorkoutLists.getWorkouts());
+    }
+
+    private void createEntries() throws CustomExceptions.InvalidInput, CustomExceptions.InsufficientInput {
+        HealthList.addBmi(new Bmi("1.70", "70.00", "01-04-2023"));
+        HealthList.addAppointment(new Appointment("01-05-2023", "10:00", "Dentist Appointment"));
+        HealthList.addPeriod(new Period("01-03-2023", "05-03-2023"));
+        HealthList.addPeriod(new Period("01-04-2023"));
+        WorkoutLists.addRun(new Run("40:10", "10.32", "15-03-2024"));
+        Gym gym = new Gym();
+        gym.addStation("Bench Press", "2", "4", "10.0,20.0");
+        gym.addStation("Squat", "1", "5", "60.5");
+        WorkoutLists.addGym(gym);
+    }
+
+    /**
+     * Tests that the hash kept while entries are added and changed matches the hash computed from the records.
+     */
+    @Test
+    void getHash_entriesAddedAndChanged_matchesHashOfRecords() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput {
+        createEntries();
+        HealthList.getPeriod(0).updateEndDate("05-04-2023");
+
+        assertEquals(RecordHash.hashOf(name, formatCurrentRecords()), RecordHash.getHash(name));
+    }
+
+    /**
+     * Tests that removing entries subtracts exactly their records from the hash.
+     */
+    @Test
+    void getHash_entriesRemoved_matchesHashOfRecords() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput {
+        String emptyHash = RecordHash.getHash(name);
+        createEntries();
+        HealthList.removeBmi(0);
+        WorkoutLists.removeGym(0);
+
+        assertEquals(RecordHash.hashOf(name, formatCurrentRecords()), RecordHash.getHash(name));
+
+        HealthList.clearHealthLists();
+        WorkoutLists.clearWorkoutsRunGym();
+        assertEquals(emptyHash, RecordHash.getHash(name));
+    }
+
+    /**
+     * Tests that changing, deleting or duplicating a single record, or changing the name, changes the hash.
+     */
+    @Test
+    void hashOf_singleRecordTampered_hashChanges() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput {
+        createEntries();
+        List<String> records = formatCurrentRecords();
+        String hash = RecordHash.getHash(name);
+
+        List<String> changed = new ArrayList<>(records);
+        changed.set(0, changed.get(0).replace("70.0", "71.0"));
+        List<String> deleted = new ArrayList<>(records);
+        deleted.remove(deleted.size() - 1);
+        List<String> duplicated = new ArrayList<>(records);
+        duplicated.add(records.get(1));
+
+        assertNotEquals(hash, RecordHash.hashOf(name, changed));
+        assertNotEquals(hash, RecordHash.hashOf(name, deleted));
+        assertNotEquals(hash, RecordHash.hashOf(name, duplicated));
+        assertNotEquals(hash, RecordHash.hashOf("Jane Doe", records));
+    }
+
+    /**
+     * Tests that removing the hash of a block from the hash of a data file gives the hash of the remaining records.
+     */
+    @Test
+    void subtractBlocks_blockRemoved_matchesHashOfRemainingRecords() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput {
+        createEntries();
+        List<String> records = formatCurrentRecords();
+        String hash = RecordHash.getHash(name);
+        List<String> block = records.subList(1, 3);
+        List<String> remaining = new ArrayList<>(records);
+        remaining.removeAll(block);
+
+        assertEquals(RecordHash.hashOf(name, remaining),
+                RecordHash.subtractBlocks(hash, List.of(RecordHash.hashOfBlock(block))));
+        assertEquals(hash, RecordHash.subtractBlocks(hash, new ArrayList<>()));
+    }
+}
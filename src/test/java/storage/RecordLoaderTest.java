@@ -0,0 +1,100 @@
+package storage;
+
+import constants.UiConstant;
+import health.HealthList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import utility.CustomExceptions;
+import utility.Filters.DataType;
+import workouts.WorkoutLists;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecordLoaderTest {
+    private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    @BeforeEach
+    void setUp() {
+        HealthList.clearHealthLists();
+        WorkoutLists.clearWorkoutsRunGym();
+    }
+
+    @AfterEach
+    void tearDown() {
+        HealthList.clearHealthLists();
+        WorkoutLists.clearWorkoutsRunGym();
+    }
+
+    /**
+     * Creates records of every type in shuffled date order, enough to be split across several tasks.
+     */
+    private List<String> createRecords() {
+        List<String> records = new ArrayList<>();
+        LocalDate start = LocalDate.of(2000, 1, 1);
+        for (int i = 0; i < 400; i++) {
+            String date = start.plusDays((i * 37L) % 400).format(formatter);
+            records.add("BMI:1.70:" + (50 + i % 40) + ".00:0.00:" + date);
+            records.add("RUN:5.00:" + String.format("%02d", 20 + i % 30) + ".00:" + date);
+            records.add("APPOINTMENT:" + date + ":10.30:Checkup " + i);
+            records.add("GYM:2:" + date + ":bench press:2:4:10.0,20.0:squat:1:5:60.5");
+        }
+        for (int i = 0; i < 50; i++) {
+            String periodStart = start.plusDays(i * 28L).format(formatter);
+            String periodEnd = start.plusDays(i * 28L + 5).format(formatter);
+            records.add("PERIOD:" + periodStart + ":" + periodEnd + ":6");
+        }
+        return records;
+    }
+
+    private String snapshotLists() {
+        return HealthList.getBmis().toString() + HealthList.getAppointments() + HealthList.getPeriods()
+                + WorkoutLists.getWorkouts() + WorkoutLists.getRuns() + WorkoutLists.getGyms();
+    }
+
+    /**
+     * Tests that loading records in parallel fills the lists exactly as loading them one by one does.
+     */
+    @Test
+    void loadRecords_manyMixedRecords_sameListsAsSerialLoad() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput, CustomExceptions.FileReadError {
+        DataFile dataFile = new DataFile();
+        List<String> records = createRecords();
+        for (String record : records) {
+            dataFile.processRecord(record);
+        }
+        String expected = snapshotLists();
+        setUp();
+
+        RecordLoader recordLoader = new RecordLoader(dataFile);
+        for (String record : records) {
+            String[] input = record.split(UiConstant.SPLIT_BY_COLON);
+            recordLoader.addRecord(DataType.valueOf(input[UiConstant.DATA_TYPE_INDEX]), input, record);
+        }
+
+        assertTrue(recordLoader.loadRecords());
+        assertEquals(expected, snapshotLists());
+    }
+
+    /**
+     * Tests that a BMI entry duplicating the date of an earlier one in the same file is still rejected.
+     */
+    @Test
+    void loadRecords_duplicateBmiDate_returnsFalse() {
+        RecordLoader recordLoader = new RecordLoader(new DataFile());
+        for (String record : List.of("BMI:1.70:70.00:24.22:01-04-2023", "BMI:1.80:80.00:24.69:01-04-2023")) {
+            String[] input = record.split(UiConstant.SPLIT_BY_COLON);
+            recordLoader.addRecord(DataType.BMI, input, record);
+        }
+
+        assertFalse(recordLoader.loadRecords());
+        assertEquals(1, HealthList.getBmisSize());
+    }
+}
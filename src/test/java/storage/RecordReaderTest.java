@@ -0,0 +1,84 @@
+package storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import utility.Filters.DataType;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecordReaderTest {
+    private final String testFilePath = "./test_record_reader.txt";
+
+    @AfterEach
+    void tearDown() {
+        new File(testFilePath).delete();
+    }
+
+    private RecordReader createReader(String content) throws IOException {
+        try (FileWriter writer = new FileWriter(testFilePath)) {
+            writer.write(content);
+        }
+        return new RecordReader(new File(testFilePath));
+    }
+
+    /**
+     * Tests that fields are split on colons and trimmed, and that both line terminators are handled.
+     */
+    @Test
+    void nextLine_mixedLineEndings_fieldsSplitAndTrimmed() throws IOException {
+        RecordReader reader = createReader("NAME: John Doe \r\nRUN:5.00: 30.00 :01-04-2023\n");
+
+        assertTrue(reader.nextLine());
+        assertArrayEquals(new String[]{"NAME", "John Doe"}, reader.getFields());
+        assertTrue(reader.nextLine());
+        assertEquals("RUN:5.00: 30.00 :01-04-2023", reader.getLine());
+        assertArrayEquals(new String[]{"RUN", "5.00", "30.00", "01-04-2023"}, reader.getFields());
+        assertFalse(reader.nextLine());
+    }
+
+    /**
+     * Tests that trailing empty fields are dropped in the same way as String.split.
+     */
+    @Test
+    void nextLine_trailingColons_matchesStringSplit() throws IOException {
+        String line = "RUN:5.00::30.00::";
+        RecordReader reader = createReader(line);
+
+        assertTrue(reader.nextLine());
+        String[] expected = line.split(":");
+        assertEquals(expected.length, reader.getFieldCount());
+        assertArrayEquals(expected, reader.getFields());
+    }
+
+    /**
+     * Tests that the DataType of a record is matched from its first field.
+     */
+    @Test
+    void getDataType_validAndInvalidLabels_matchesOrThrows() throws IOException {
+        RecordReader reader = createReader("APPOINTMENT:01-05-2023:10.00:Dentist\nUNKNOWN:1\n");
+
+        reader.nextLine();
+        assertEquals(DataType.APPOINTMENT, reader.getDataType());
+        reader.nextLine();
+        assertThrows(IllegalArgumentException.class, reader::getDataType);
+    }
+
+    /**
+     * Tests that requesting a field beyond the end of the line throws an exception.
+     */
+    @Test
+    void getField_indexOutOfRange_throwsException() throws IOException {
+        RecordReader reader = createReader("NAME");
+
+        reader.nextLine();
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> reader.getField(1));
+    }
+}
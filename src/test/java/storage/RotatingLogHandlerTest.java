@@ -0,0 +1,73 @@
+package storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RotatingLogHandlerTest {
+    private final String testLogFilePath = "./test_rotating_log.txt";
+    private RotatingLogHandler handler;
+
+    @AfterEach
+    void tearDown() {
+        handler.close();
+        new File(testLogFilePath).delete();
+        for (int segment = 1; segment <= 3; segment++) {
+            RotatingLogHandler.getSegmentFile(testLogFilePath, segment).delete();
+        }
+    }
+
+    private String readSegment(int segment) throws IOException {
+        File segmentFile = RotatingLogHandler.getSegmentFile(testLogFilePath, segment);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(segmentFile.toPath()))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Tests that the log file is rotated into compressed segments once it reaches the maximum size,
+     * and that only the retained number of segments are kept.
+     */
+    @Test
+    void publish_logFileExceedsMaximumSize_rotatedIntoCompressedSegments() throws IOException {
+        handler = new RotatingLogHandler(testLogFilePath, 200, 2, true);
+        for (int i = 0; i < 20; i++) {
+            handler.publish(new LogRecord(Level.INFO, "Rotation test record " + i));
+        }
+
+        assertTrue(RotatingLogHandler.getSegmentFile(testLogFilePath, 1).exists());
+        assertTrue(RotatingLogHandler.getSegmentFile(testLogFilePath, 2).exists());
+        assertFalse(RotatingLogHandler.getSegmentFile(testLogFilePath, 3).exists());
+        assertTrue(new File(testLogFilePath).length() < 200);
+
+        String newestSegment = readSegment(1);
+        String olderSegment = readSegment(2);
+        assertTrue(newestSegment.contains("Rotation test record"));
+        assertFalse(olderSegment.contains("Rotation test record 19"));
+        assertFalse(newestSegment.contains("Rotation test record 0" + System.lineSeparator()));
+    }
+
+    /**
+     * Tests that the log file is not rotated while it is below the maximum size.
+     */
+    @Test
+    void publish_logFileBelowMaximumSize_notRotated() throws IOException {
+        handler = new RotatingLogHandler(testLogFilePath, 1024 * 1024, 2, false);
+        handler.publish(new LogRecord(Level.INFO, "Small record"));
+        handler.flush();
+
+        assertTrue(new File(testLogFilePath).length() > 0);
+        assertFalse(RotatingLogHandler.getSegmentFile(testLogFilePath, 1).exists());
+    }
+}
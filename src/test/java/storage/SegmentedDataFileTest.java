@@ -0,0 +1,96 @@
+package storage;
+
+import constants.UiConstant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SegmentedDataFileTest {
+    private final String testManifestFilePath = "./test_segmented_manifest.txt";
+    private final String testSegmentFilePrefix = "./test_segmented_";
+
+    @BeforeEach
+    void setUp() {
+        UiConstant.saveFile = new File(testManifestFilePath);
+        UiConstant.segmentFilePrefix = testSegmentFilePrefix;
+    }
+
+    @AfterEach
+    void tearDown() {
+        SegmentedDataFile.deleteSegments();
+        new File(testManifestFilePath).delete();
+        UiConstant.saveFile = new File(UiConstant.TEXT_DATA_FILE_PATH);
+        UiConstant.segmentFilePrefix = "./pulsepilot_";
+    }
+
+    private List<String> createRecords() {
+        return new ArrayList<>(List.of(
+                "BMI:1.70:70.00:24.22:01-04-2023",
+                "APPOINTMENT:02-04-2023:09.05:Dentist visit",
+                "PERIOD:01-01-2023:07-01-2023:7",
+                "RUN:5.25:25.30:NA",
+                "GYM:1:31-12-1967:deadlift:3:8:0.0,60.5,62.5",
+                "RUN:21.10:01.45.09:15-01-1970"
+        ));
+    }
+
+    private SegmentedDataFile readManifest() throws IOException {
+        return SegmentedDataFile.readManifest(Files.readAllBytes(new File(testManifestFilePath).toPath()));
+    }
+
+    /**
+     * Tests that writing and reading segments keeps every record, with runs and gyms in their original order.
+     */
+    @Test
+    void write_mixedRecords_readBackInOrder() throws IOException {
+        List<String> records = createRecords();
+        SegmentedDataFile.write("John Doe", records);
+
+        SegmentedDataFile segmentedDataFile = readManifest();
+        assertEquals("John Doe", segmentedDataFile.getName());
+        assertEquals(records, segmentedDataFile.readVerifiedRecords());
+    }
+
+    /**
+     * Tests that saving after a change to one list only rewrites the segment of that list.
+     */
+    @Test
+    void write_oneSegmentChanged_onlyChangedSegmentRewritten() throws IOException {
+        List<String> records = createRecords();
+        SegmentedDataFile.write("John Doe", records);
+        File bmiSegment = SegmentedDataFile.getSegmentFile(SegmentedDataFile.Segment.BMI);
+        File workoutSegment = SegmentedDataFile.getSegmentFile(SegmentedDataFile.Segment.WORKOUT);
+        assertTrue(bmiSegment.setLastModified(0));
+        assertTrue(workoutSegment.setLastModified(0));
+
+        records.add("RUN:3.00:15.00:NA");
+        SegmentedDataFile.write("John Doe", records);
+
+        assertEquals(0, bmiSegment.lastModified());
+        assertFalse(workoutSegment.lastModified() == 0);
+        assertEquals(records, readManifest().readVerifiedRecords());
+    }
+
+    /**
+     * Tests that a segment edited outside PulsePilot fails verification.
+     */
+    @Test
+    void readVerifiedRecords_tamperedSegment_returnsNull() throws IOException {
+        SegmentedDataFile.write("John Doe", createRecords());
+        File periodSegment = SegmentedDataFile.getSegmentFile(SegmentedDataFile.Segment.PERIOD);
+        Files.writeString(periodSegment.toPath(), "PERIOD:01-01-2023:08-01-2023:8" + System.lineSeparator());
+
+        assertNull(readManifest().readVerifiedRecords());
+    }
+}
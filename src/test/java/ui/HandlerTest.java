@@ -155,6 +155,32 @@ class HandlerTest {
     }
 
 
+    /**
+     * Tests the processInput function's behaviour when the user enters the 'log' command with a search term.
+     * Verifies that only matching log lines are printed, up to the number of lines given.
+     */
+    @Test
+    void processInput_logCommandWithSearch_printsMatchingLines() {
+        String input = "log /lines:1 /search:User Input: log";
+        Handler myHandler = new Handler(input);
+        myHandler.processInput();
+        String[] lines = outContent.toString().split(System.lineSeparator());
+        assertEquals(3, lines.length);
+        assertTrue(lines[1].contains("INFO: User Input: log /lines:1 /search:User Input: log"));
+    }
+
+    /**
+     * Tests the processInput function's behaviour when the user enters the 'log' command with an invalid number
+     * of lines. Verifies that an error message is printed.
+     */
+    @Test
+    void processInput_logCommandInvalidLines_printsException() {
+        String input = "log /lines:zero";
+        Handler myHandler = new Handler(input);
+        myHandler.processInput();
+        assertTrue(errContent.toString().contains(ErrorConstant.INVALID_LOG_LINES_ERROR));
+    }
+
     /**
      * Tests the processInput function's behaviour when the user enters an invalid command.
      * Verifies that an error message is printed.
@@ -383,14 +383,18 @@ public class IntegrationTest {
         try{
             Run run1Expected = new Run("40:10", "10.30", "15-03-2024");
             Run run2Expected = new Run("30:10", "11.59", "17-03-2024");
+            WorkoutLists.addRun(run1Expected);
+            WorkoutLists.addRun(run2Expected);
 
             Gym gym1expected = new Gym("18-03-2024");
             gym1expected.addStation("benchpress", "2", "4", "40.0,60.0");
             gym1expected.addStation("squats", "3", "4", "10.0,20.0,30.0");
+            WorkoutLists.addGym(gym1expected);
 
             Gym gym2expected = new Gym("22-03-2024");
             gym2expected.addStation("deadlift",  "4",
                     "4", "120.0,130.0,140.0,160.0");
+            WorkoutLists.addGym(gym2expected);
 
             Output output = new Output();
             output.printAddRun(run1Expected);
@@ -444,15 +448,19 @@ public class IntegrationTest {
         Output output = new Output();
 
         Period expectedPeriod1 = new Period("18-12-2023" , "26-12-2023");
+        HealthList.addPeriod(expectedPeriod1);
         output.printAddPeriod(expectedPeriod1);
 
         Period expectedPeriod2 = new Period("18-01-2024" , "26-01-2024");
+        HealthList.addPeriod(expectedPeriod2);
         output.printAddPeriod(expectedPeriod2);
 
         Period expectedPeriod3 = new Period("21-02-2024", "28-02-2024");
+        HealthList.addPeriod(expectedPeriod3);
         output.printAddPeriod(expectedPeriod3);
 
         Period expectedPeriod4 = new Period("22-03-2024", "29-03-2024");
+        HealthList.addPeriod(expectedPeriod4);
         output.printAddPeriod(expectedPeriod4);
 
         Parser parser = new Parser();
@@ -487,10 +495,13 @@ public class IntegrationTest {
         tearDown();
 
         Period expectedPeriod1 = new Period("18-12-2023" , "26-12-2023");
+        HealthList.addPeriod(expectedPeriod1);
         output.printAddPeriod(expectedPeriod1);
         Period expectedPeriod2 = new Period("18-01-2024" , "26-01-2024");
+        HealthList.addPeriod(expectedPeriod2);
         output.printAddPeriod(expectedPeriod2);
         Period expectedPeriod3 = new Period("21-02-2024", "28-02-2024");
+        HealthList.addPeriod(expectedPeriod3);
         output.printAddPeriod(expectedPeriod3);
 
         String expected = outContent.toString();
@@ -71,6 +71,8 @@ class OutputTest {
     void printHistory_runsOnly_expectAllRunsPrinted() throws CustomExceptions.InvalidInput {
         Run run1 = new Run("40:10", "10.3", "15-03-2024");
         Run run2 = new Run("01:59:10", "15.3");
+        WorkoutLists.addRun(run1);
+        WorkoutLists.addRun(run2);
         String expected = UiConstant.PARTITION_LINE +
                 System.lineSeparator() +
                 "Your run history:" +
@@ -241,6 +243,7 @@ class OutputTest {
     @Test
     void printLatestRun_oneRun_expectOneRunPrinted() throws CustomExceptions.InvalidInput {
         Run newRun = new Run("40:10", "10.3");
+        WorkoutLists.addRun(newRun);
         String expected = UiConstant.PARTITION_LINE +
                 System.lineSeparator() +
                 "Your latest run:" +
@@ -283,10 +286,12 @@ class OutputTest {
             Gym gym1 = new Gym();
             gym1.addStation("Bench Press", "1", "10", "1.0");
             gym1.addStation("Shoulder Press", "2", "10", "1.0,2.0");
+            WorkoutLists.addGym(gym1);
 
             Gym gym2 = new Gym();
             gym2.addStation("Squat Press", "1", "50", "1.0");
             gym2.addStation("Lat Press", "2", "10", "1.0,2.0");
+            WorkoutLists.addGym(gym2);
 
         } catch (CustomExceptions.InvalidInput | CustomExceptions.InsufficientInput e) {
             fail("Shouldn't have failed");
@@ -340,8 +345,8 @@ class OutputTest {
      */
     @Test
     void printLatestBmi_twoBmis_expectOneBmiPrinted() {
-        new Bmi("1.75", "70.0", "18-03-2024");
-        new Bmi("1.55", "55.0", "20-03-2024");
+        HealthList.addBmi(new Bmi("1.75", "70.0", "18-03-2024"));
+        HealthList.addBmi(new Bmi("1.55", "55.0", "20-03-2024"));
 
         Output output = new Output();
         output.printLatestBmi();
@@ -363,8 +368,8 @@ class OutputTest {
      */
     @Test
     void printLatestPeriod_twoPeriods_expectOnePeriodPrinted() {
-        new Period("09-02-2023", "16-02-2023");
-        new Period("09-03-2023", "16-03-2023");
+        HealthList.addPeriod(new Period("09-02-2023", "16-02-2023"));
+        HealthList.addPeriod(new Period("09-03-2023", "16-03-2023"));
 
 
         Output output = new Output();
@@ -388,8 +393,8 @@ class OutputTest {
      */
     @Test
     void printLatestAppointment_twoAppointments_expectOneAppointmentPrinted() {
-        new Appointment("29-03-2025", "17:00", "test");
-        new Appointment("24-01-2026", "12:00", "test2");
+        HealthList.addAppointment(new Appointment("29-03-2025", "17:00", "test"));
+        HealthList.addAppointment(new Appointment("24-01-2026", "12:00", "test2"));
 
 
         Output output = new Output();
@@ -412,8 +417,8 @@ class OutputTest {
     @Test
     void printAppointmentHistory_twoAppointments_expectTwoAppointmentsPrinted() throws
             CustomExceptions.OutOfBounds {
-        new Appointment("29-03-2024", "17:00", "test");
-        new Appointment("24-01-2026", "12:00", "test2");
+        HealthList.addAppointment(new Appointment("29-03-2024", "17:00", "test"));
+        HealthList.addAppointment(new Appointment("24-01-2026", "12:00", "test2"));
 
 
         Output output = new Output();
@@ -437,8 +442,8 @@ class OutputTest {
     @Test
     void printPeriodHistory_twoPeriods_expectTwoPeriodsPrinted() throws
             CustomExceptions.OutOfBounds {
-        new Period("09-02-2023", "16-02-2023");
-        new Period("09-03-2023", "16-03-2023");
+        HealthList.addPeriod(new Period("09-02-2023", "16-02-2023"));
+        HealthList.addPeriod(new Period("09-03-2023", "16-03-2023"));
 
 
         Output output = new Output();
@@ -469,8 +474,8 @@ class OutputTest {
      */
     @Test
     void printBmiHistory_twoBmis_expectTwoBmisPrinted() throws CustomExceptions.OutOfBounds {
-        new Bmi("1.75", "70.0", "18-03-2024");
-        new Bmi("1.55", "55.0", "20-03-2024");
+        HealthList.addBmi(new Bmi("1.75", "70.0", "18-03-2024"));
+        HealthList.addBmi(new Bmi("1.55", "55.0", "20-03-2024"));
 
         Output output = new Output();
         output.printBmiHistory();
@@ -506,10 +511,12 @@ class OutputTest {
             Gym gym1 = new Gym();
             gym1.addStation("Bench Press", "1", "50", "1.0");
             gym1.addStation("Shoulder Press", "2", "10", "1.0,2.0");
+            WorkoutLists.addGym(gym1);
 
             Gym gym2 = new Gym();
             gym2.addStation("Squat Press", "1", "50", "1.0");
             gym2.addStation("Lat Press", "2", "10", "1.0,2.0");
+            WorkoutLists.addGym(gym2);
 
         } catch (CustomExceptions.InvalidInput | CustomExceptions.InsufficientInput e) {
             fail("Shouldn't have failed");
@@ -563,10 +570,11 @@ class OutputTest {
     @Test
     void printWorkoutHistory() {
         try {
-            new Run("01:11:12", "10.24", "19-12-1999");
+            WorkoutLists.addRun(new Run("01:11:12", "10.24", "19-12-1999"));
             Gym gym1 = new Gym("11-11-1992");
             gym1.addStation("Bench Press", "2", "4", "10.0,20.0");
             gym1.addStation("Squat Press", "2", "4", "100.0,200.0");
+            WorkoutLists.addGym(gym1);
 
         } catch (CustomExceptions.InvalidInput | CustomExceptions.InsufficientInput e) {
             fail("Shouldn't have failed");
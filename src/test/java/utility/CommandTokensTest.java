@@ -0,0 +1,62 @@
+package utility;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandTokensTest {
+
+    /**
+     * Tests the behaviour of tokenizing a run command with a date.
+     * Expects every flag to be found with its trimmed value.
+     */
+    @Test
+    void tokenize_runCommand_expectAllFlagsFound() {
+        CommandTokens tokens = CommandTokens.tokenize("workout /e:run /d:5.15 /t:25:03 /date:15-03-2024");
+        assertEquals(4, tokens.getNumberOfSlashes());
+        assertEquals("workout", tokens.getHead());
+        assertEquals("run", tokens.getValue("/e:"));
+        assertEquals("5.15", tokens.getValue("/d:"));
+        assertEquals("25:03", tokens.getValue("/t:"));
+        assertEquals("15-03-2024", tokens.getValue("/date:"));
+        assertTrue(tokens.hasFlag("/date:"));
+        assertFalse(tokens.hasFlag("/da:"));
+    }
+
+    /**
+     * Tests the behaviour of tokenizing commands with missing, empty and repeated flags.
+     * Expects the same results as searching the command for each flag.
+     */
+    @Test
+    void tokenize_unusualCommands_expectSameAsSearchingForFlag() {
+        String[] commands = {"", "/", "//", "/h:", "bench press /s:2 /r:4 /w:10,20",
+            "health /h:bmi /height:1.70 /weight:70.00 /date:", "/item:run /item:gym /index:1",
+            "log /lines:5 /search", "no flags here", "/date:01-01-2024/date:02-02-2024"};
+        String[] flags = {"/h:", "/s:", "/r:", "/w:", "/height:", "/weight:", "/date:", "/item:", "/index:",
+            "/lines:", "/search:"};
+        for (String command : commands) {
+            CommandTokens tokens = CommandTokens.tokenize(command);
+            for (String flag : flags) {
+                assertEquals(command.contains(flag), tokens.hasFlag(flag), command + " " + flag);
+                assertEquals(extractBySearching(command, flag), tokens.getValue(flag), command + " " + flag);
+            }
+            assertEquals(command.chars().filter(c -> c == '/').count(), tokens.getNumberOfSlashes());
+        }
+        assertEquals("bench press", CommandTokens.tokenize("bench press /s:2 /r:4 /w:10,20").getHead());
+    }
+
+    private static String extractBySearching(String input, String flag) {
+        int index = input.indexOf(flag);
+        if (index == -1) {
+            return "";
+        }
+        int startIndex = index + flag.length();
+        int endIndex = input.indexOf("/", startIndex);
+        if (endIndex == -1) {
+            endIndex = input.length();
+        }
+        return input.substring(startIndex, endIndex).trim();
+    }
+}
@@ -0,0 +1,87 @@
+package utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DateCodecTest {
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    /**
+     * Tests the behaviour of parsing and formatting every date from 1967 to 2100.
+     * Expects the same results as DateTimeFormatter.
+     */
+    @Test
+    void parseDateAndFormatDate_everyDate_expectSameAsDateTimeFormatter() {
+        LocalDate end = LocalDate.of(2100, 12, 31);
+        for (LocalDate date = LocalDate.of(1967, 1, 1); !date.isAfter(end); date = date.plusDays(1)) {
+            String text = date.format(DATE_FORMATTER);
+            assertEquals(text, DateCodec.formatDate(date));
+            assertEquals(date, DateCodec.parseDate(text));
+            assertEquals(text, DateCodec.formatEpochDay(date.toEpochDay()));
+        }
+    }
+
+    /**
+     * Tests the behaviour of parsing a date that is used again.
+     * Expects the same LocalDate and formatted String to be returned.
+     */
+    @Test
+    void parseDate_repeatedDate_expectCachedObjects() {
+        LocalDate date = DateCodec.parseDate("19-03-2024");
+        assertSame(date, DateCodec.parseDate(new String("19-03-2024")));
+        assertSame(DateCodec.formatDate(date), DateCodec.formatDate(LocalDate.of(2024, 3, 19)));
+    }
+
+    /**
+     * Tests the behaviour of parsing dates that are not valid.
+     * Expects null, or the last day of the month for a day past its end.
+     */
+    @Test
+    void parseDate_invalidDates_expectNullOrLastDayOfMonth() {
+        assertNull(DateCodec.parseDate("2024-03-08"));
+        assertNull(DateCodec.parseDate("8-03-2024"));
+        assertNull(DateCodec.parseDate("32-01-2024"));
+        assertNull(DateCodec.parseDate("01-13-2024"));
+        assertNull(DateCodec.parseDate("00-01-2024"));
+        assertNull(DateCodec.parseDate(null));
+        assertEquals(LocalDate.of(2023, 2, 28), DateCodec.parseDate("30-02-2023"));
+        assertEquals(LocalDate.parse("31-04-2024", DATE_FORMATTER), DateCodec.parseDate("31-04-2024"));
+        assertEquals("NA", DateCodec.formatDate(null));
+    }
+
+    /**
+     * Tests the behaviour of checking the format of a date and reading its parts.
+     */
+    @Test
+    void isDateFormat_variousInputs_expectCorrectResults() {
+        assertTrue(DateCodec.isDateFormat("29-02-2023"));
+        assertFalse(DateCodec.isDateFormat("29/02/2023"));
+        assertFalse(DateCodec.isDateFormat("2a-02-2023"));
+        assertFalse(DateCodec.isDateFormat("29-02-20233"));
+        assertEquals(29, DateCodec.getDay("29-02-2023"));
+        assertEquals(2, DateCodec.getMonth("29-02-2023"));
+        assertEquals(2023, DateCodec.getYear("29-02-2023"));
+    }
+
+    /**
+     * Tests the behaviour of parsing valid and invalid times.
+     */
+    @Test
+    void parseTime_variousInputs_expectCorrectResults() {
+        assertEquals(LocalTime.of(0, 0), DateCodec.parseTime("00:00"));
+        assertEquals(LocalTime.of(23, 59), DateCodec.parseTime("23:59"));
+        assertNull(DateCodec.parseTime("24:00"));
+        assertNull(DateCodec.parseTime("12:60"));
+        assertNull(DateCodec.parseTime("1:30"));
+        assertNull(DateCodec.parseTime("12-30"));
+    }
+}
@@ -0,0 +1,31 @@
+package utility;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InputFormatTest {
+    private static final String[] VALUES = {"", " ", "0", "1", "01", "10", "1.", ".50", "1.75", "1.750", "12.34",
+        "1.7a", "12:34", "1:34", "12:3a", "12:34:56", "12:34:5", "12-34-56", "40", "40.5", "40.125", "40.1250",
+        "40,42.5,45", "40,,45", "40,", ",40", "40.,45", "Bench Press", "bench\tpress", "Squat1", "knee surgery",
+        "Dr's \"check\" 2", "a/b", "a_b", "\u00e9", "ABC xyz 123"};
+
+    /**
+     * Tests the behaviour of every check over a set of values.
+     * Expects the same results as the regular expressions that the checks replace.
+     */
+    @Test
+    void checks_variousValues_expectSameAsRegularExpressions() {
+        for (String value : VALUES) {
+            assertEquals(value.matches("^\\d+\\.\\d{2}$"), InputFormat.isTwoDecimalNumber(value), value);
+            assertEquals(value.matches("^\\d{2}:\\d{2}$"), InputFormat.isTime(value), value);
+            assertEquals(value.matches("^\\d{2}:\\d{2}:\\d{2}$"), InputFormat.isTimeWithHours(value), value);
+            assertEquals(value.matches("^[1-9]\\d*$"), InputFormat.isPositiveInteger(value), value);
+            assertEquals(value.matches("^\\d+(\\.\\d{1,3})?(,\\d+(\\.\\d{1,3})?)*$"), InputFormat.isWeights(value),
+                    value);
+            assertEquals(value.matches("^[A-Za-z\\s]+$"), InputFormat.isLettersAndSpaces(value), value);
+            assertEquals(value.matches("^[0-9A-Za-z\\s]+$"), InputFormat.isAlphanumericAndSpaces(value), value);
+            assertEquals(value.matches("^[0-9a-zA-Z\\s'\"]+$"), InputFormat.isDescription(value), value);
+        }
+    }
+}
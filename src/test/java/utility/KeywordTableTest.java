@@ -0,0 +1,74 @@
+package utility;
+
+import org.junit.jupiter.api.Test;
+import utility.Filters.Command;
+import utility.Filters.HealthFilters;
+import utility.Filters.HistoryAndLatestFilters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class KeywordTableTest {
+    private final KeywordTable<Command> commands = new KeywordTable<>(Command.class);
+
+    /**
+     * Tests the behaviour of looking up the name of every constant in upper, lower and mixed case.
+     * Expects the matching constant to be returned.
+     */
+    @Test
+    void lookup_everyConstantInAnyCase_expectMatchingConstant() {
+        for (Command command : Command.values()) {
+            String name = command.name();
+            String mixedCase = name.charAt(0) + name.substring(1).toLowerCase();
+            assertEquals(command, commands.lookup(name));
+            assertEquals(command, commands.lookup(name.toLowerCase()));
+            assertEquals(command, commands.lookup(mixedCase));
+        }
+        KeywordTable<HistoryAndLatestFilters> filters = new KeywordTable<>(HistoryAndLatestFilters.class);
+        for (HistoryAndLatestFilters filter : HistoryAndLatestFilters.values()) {
+            assertEquals(filter, filters.lookup(filter.name().toLowerCase()));
+        }
+    }
+
+    /**
+     * Tests the behaviour of looking up keywords that are not the name of any constant.
+     * Expects null to be returned.
+     */
+    @Test
+    void lookup_unknownKeywords_expectNull() {
+        assertNull(commands.lookup(""));
+        assertNull(commands.lookup("exi"));
+        assertNull(commands.lookup("exits"));
+        assertNull(commands.lookup("hel p"));
+        assertNull(commands.lookup("\u00e9xit"));
+    }
+
+    /**
+     * Tests the behaviour of looking up the first word and a region of an input.
+     * Expects only the characters of the word or region to be matched.
+     */
+    @Test
+    void lookupFirstWordAndRegion_commandLines_expectMatchingConstant() {
+        assertEquals(Command.HEALTH, commands.lookupFirstWord("HEALTH /h:bmi /height:1.70"));
+        assertEquals(Command.EXIT, commands.lookupFirstWord("exit"));
+        assertNull(commands.lookupFirstWord("healthy /h:bmi"));
+        assertNull(commands.lookupFirstWord(""));
+        assertEquals(Command.LOG, commands.lookup("show log now", 5, 8));
+        assertNull(commands.lookup("show log now", 5, 9));
+    }
+
+    /**
+     * Tests the behaviour of looking up the value of a flag through CommandTokens.
+     * Expects whitespace around the value to be ignored, and null if the flag is missing.
+     */
+    @Test
+    void getKeyword_flagValues_expectMatchingConstant() {
+        KeywordTable<HealthFilters> types = new KeywordTable<>(HealthFilters.class);
+        assertEquals(HealthFilters.PERIOD,
+                CommandTokens.tokenize("health /h:  Period /start:09-03-2024").getKeyword("/h:", types));
+        assertEquals(HealthFilters.PREDICTION, CommandTokens.tokenize("health /h:prediction").getKeyword("/h:", types));
+        assertNull(CommandTokens.tokenize("health /h:pe riod").getKeyword("/h:", types));
+        assertNull(CommandTokens.tokenize("health /h: ").getKeyword("/h:", types));
+        assertNull(CommandTokens.tokenize("health bmi").getKeyword("/h:", types));
+    }
+}
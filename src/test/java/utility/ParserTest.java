@@ -5,11 +5,15 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import workouts.Gym;
+import workouts.GymStation;
+import workouts.WorkoutLists;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Scanner;
 
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -405,6 +409,24 @@ class ParserTest {
         }
     }
 
+    /**
+     * Tests the behaviour of the parseGymStationInput function while stations are being entered.
+     * Expects the stations to be returned without any gym being added to the workout lists.
+     */
+    @Test
+    void parseGymStationInput_validStations_noGymAddedWhileEntering() {
+        String input = "bench press /s:2 /r:4 /w:10,20" + System.lineSeparator()
+                + "squats /s:1 /r:5 /w:30" + System.lineSeparator();
+        Parser stationParser = new Parser(new Scanner(input));
+        WorkoutLists.clearWorkoutsRunGym();
+
+        ArrayList<GymStation> stations = stationParser.parseGymStationInput(2);
+
+        assertEquals(2, stations.size());
+        assertEquals("squats", stations.get(1).getStationName());
+        assertEquals(0, WorkoutLists.getGymSize());
+    }
+
     /**
      * Tests the behaviour of parseGymFileInput when invalid input strings are given.
      * Expects InvalidInput exception to be thrown.
@@ -15,6 +15,7 @@ import java.io.InputStream;
 import java.io.PrintStream;
 import java.time.LocalDate;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -283,7 +284,7 @@ public class ValidationTest {
         assertTrue(exceptionThrown.toString().contains(ErrorConstant.MAX_WEIGHT_ERROR));
 
         // specified date already added
-        new Bmi("1.70", "70.00", "14-04-2024");
+        HealthList.addBmi(new Bmi("1.70", "70.00", "14-04-2024"));
         String[] input6 = {"1.70", "70.03", "14-04-2024"};
         exceptionThrown = assertThrows(CustomExceptions.InvalidInput.class, () ->
                 validation.validateBmiInput(input6));
@@ -608,7 +609,7 @@ public class ValidationTest {
      */
     @Test
     void validateStartDatesTally_validInput_noExceptionThrown() {
-        new Period("01-01-2024");
+        HealthList.addPeriod(new Period("01-01-2024"));
         String[] input1 = {"01-01-2024", "05-01-2024"};
         assertDoesNotThrow(() ->
                 validation.validateStartDatesTally(null, input1));
@@ -625,7 +626,7 @@ public class ValidationTest {
      */
     @Test
     void validateStartDatesTally_invalidInput_expectsInvalidInputExceptionWithCorrectMessage() {
-        new Period("01-01-2024");
+        HealthList.addPeriod(new Period("01-01-2024"));
         Exception exceptionThrown;
 
         //start dates do not tally
@@ -647,8 +648,8 @@ public class ValidationTest {
      */
     @Test
     void validateDateNotPresent_validInput_noExceptionThrown() {
-        new Bmi("1.75", "70.00", "02-02-2024");
-        new Bmi("1.75", "71.00", "02-03-2024");
+        HealthList.addBmi(new Bmi("1.75", "70.00", "02-02-2024"));
+        HealthList.addBmi(new Bmi("1.75", "71.00", "02-03-2024"));
 
         //date not found in list
         String input1 = "03-03-2024";
@@ -662,8 +663,8 @@ public class ValidationTest {
      */
     @Test
     void validateDateNotPresent_invalidInput_expectsInvalidInputExceptionWithCorrectMessage() {
-        new Bmi("1.75", "70.00", "02-02-2024");
-        new Bmi("1.75", "71.00", "02-03-2024");
+        HealthList.addBmi(new Bmi("1.75", "70.00", "02-02-2024"));
+        HealthList.addBmi(new Bmi("1.75", "71.00", "02-03-2024"));
         Exception exceptionThrown;
         //date found in list
         String input1 = "02-02-2024";
@@ -671,4 +672,46 @@ public class ValidationTest {
                 validation.validateDateNotPresent(input1));
         assertTrue(exceptionThrown.toString().contains(ErrorConstant.DATE_ALREADY_EXISTS_ERROR));
     }
+
+    /**
+     * Tests the behaviour of the check methods with invalid and insufficient details.
+     * Expects results holding the same error messages as the exceptions, without any exception thrown.
+     */
+    @Test
+    void checkMethods_invalidDetails_returnsInvalidResultsWithCorrectMessage() {
+        ValidationResult result = validation.checkDateInput("31-04-2024");
+        assertFalse(result.isValid());
+        assertEquals(ErrorConstant.INVALID_DATE_ERROR, result.getMessage());
+
+        result = validation.checkRunInput(new String[]{"25:00", "5.0", null});
+        assertEquals(ErrorConstant.INVALID_RUN_DISTANCE_ERROR, result.getMessage());
+
+        result = validation.checkBmiDetails(new String[]{"", "70.00", "19-03-2024"});
+        assertEquals(ErrorConstant.INSUFFICIENT_BMI_PARAMETERS_ERROR, result.getMessage());
+        assertThrows(CustomExceptions.InsufficientInput.class, result::throwIfInvalid);
+
+        result = validation.checkGymInput(new String[]{"99999999999", null});
+        assertEquals(ErrorConstant.MAX_STATIONS_ERROR, result.getMessage());
+
+        result = validation.checkPeriodInput(new String[]{"16-03-2024", "09-03-2024"});
+        assertEquals(ErrorConstant.PERIOD_END_BEFORE_START_ERROR, result.getMessage());
+
+        result = validation.checkAppointmentDetails(new String[]{"29-04-2024", "24:00", "knee surgery"});
+        assertEquals(ErrorConstant.INVALID_ACTUAL_TIME_HOUR_ERROR, result.getMessage());
+    }
+
+    /**
+     * Tests the behaviour of the check methods with valid details.
+     * Expects valid results.
+     */
+    @Test
+    void checkMethods_validDetails_returnsValidResults() {
+        assertTrue(validation.checkDateInput("29-02-2024").isValid());
+        assertTrue(validation.checkRunInput(new String[]{"01:25:00", "15.00", "19-03-2024"}).isValid());
+        assertTrue(validation.checkBmiDetails(new String[]{"1.75", "70.00", "19-03-2024"}).isValid());
+        assertTrue(validation.checkGymInput(new String[]{"3", null}).isValid());
+        assertTrue(validation.checkPeriodInput(new String[]{"09-03-2024", "16-03-2024"}).isValid());
+        assertTrue(validation.checkAppointmentDetails(new String[]{"29-04-2024", "19:00", "knee surgery"}).isValid());
+        assertDoesNotThrow(ValidationResult.VALID::throwIfInvalid);
+    }
 }
@@ -13,6 +13,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class GymStationTest {
 
@@ -145,4 +146,26 @@ class GymStationTest {
 
     }
 
+    /**
+     * Tests the behaviour of stations with the same exercise name and their sets.
+     * Expects the same name, and the sets to hold the weights and repetitions given. Names are only shared once
+     * the station is in a WorkoutRepository.
+     *
+     * @throws CustomExceptions.InvalidInput If the input is invalid.
+     * @throws CustomExceptions.InsufficientInput If the input is empty.
+     */
+    @Test
+    void getSets_repeatedStationName_expectSameNameAndCorrectSets() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput {
+        GymStation station = new GymStation(new String("Bench Press"), "3", "8", "2850.0,42.125,0.0");
+
+        assertEquals(gymStation.getStationName(), station.getStationName());
+        ArrayList<GymSet> sets = station.getSets();
+        assertEquals(3, sets.size());
+        assertEquals(2850.0, sets.get(0).getWeight());
+        assertEquals(42.125, sets.get(1).getWeight());
+        assertEquals(0.0, sets.get(2).getWeight());
+        assertEquals(8, sets.get(2).getNumberOfRepetitions());
+        assertEquals("Bench Press:3:8:2850.0,42.125,0.0", station.toFileString());
+    }
 }
@@ -4,6 +4,8 @@ import constants.ErrorConstant;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import utility.CustomExceptions;
+
+
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -160,4 +162,16 @@ class RunTest {
                 new Run("02:00", "10.00"));
         assertTrue(exceptionThrown.toString().contains(ErrorConstant.MIN_PACE_ERROR));
     }
+
+    /**
+     * Tests the behaviour of a run of an hour or more, which is stored in seconds and centimetres.
+     * Expects the time, distance and pace to be formatted as they were entered.
+     */
+    @Test
+    void getTimes_hourLongRun_expectHoursShown() throws CustomExceptions.InvalidInput {
+        Run run = new Run("01:00:00", "10.25");
+        assertEquals("01:00:00", run.getTimes());
+        assertEquals("10.25", run.getDistance());
+        assertEquals("5:51/km", run.getPace());
+    }
 }
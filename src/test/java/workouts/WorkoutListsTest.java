@@ -14,6 +14,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class WorkoutListsTest {
     @BeforeEach
@@ -39,8 +40,7 @@ class WorkoutListsTest {
         try {
             Run inputRun = new Run("40:10", "10.3", "15-03-2024");
 
-            WorkoutLists workoutListsInstance = new WorkoutLists();
-            workoutListsInstance.addRun(inputRun);
+            WorkoutLists.addRun(inputRun);
 
             ArrayList<Run> runList = WorkoutLists.getRuns();
             ArrayList<Workout> workoutList = WorkoutLists.getWorkouts();
@@ -72,14 +72,18 @@ class WorkoutListsTest {
             Gym gym1 = new Gym("15-11-2023");
             gym1.addStation("Bench Press", "1", "50", "1.0");
             gym1.addStation("Shoulder Press", "2", "10", "1.0,2.0");
+            WorkoutLists.addGym(gym1);
 
             Gym gym2 = new Gym("16-11-2023");
             gym2.addStation("Squat Press", "1", "50", "1.0");
             gym2.addStation("Lat Press", "2", "10", "1.0,2.0");
             gym2.addStation("Bicep curls", "1", "10", "1.0");
+            WorkoutLists.addGym(gym2);
 
             Run run1 = new Run("40:10", "10.3", "15-03-2024");
             Run run2 = new Run("30:10", "20.3", "30-03-2023");
+            WorkoutLists.addRun(run1);
+            WorkoutLists.addRun(run2);
 
 
             inputGymList.add(gym1);
@@ -122,8 +126,9 @@ class WorkoutListsTest {
     @Test
     void getLatestRun_properList_correctRetrieval() {
         try {
-            new Run("20:10", "10.3", "15-03-2024");
+            WorkoutLists.addRun(new Run("20:10", "10.3", "15-03-2024"));
             Run secondRun = new Run("20:10", "10.3", "15-03-2024");
+            WorkoutLists.addRun(secondRun);
 
             Run actual = WorkoutLists.getLatestRun();
             assertEquals(secondRun, actual);
@@ -150,8 +155,8 @@ class WorkoutListsTest {
     @Test
     void deleteRun_properList_listOfSizeOne() {
         try {
-            new Run("20:10", "10.3", "15-03-2024");
-            new Run("20:11", "10.3", "15-03-2023");
+            WorkoutLists.addRun(new Run("20:10", "10.3", "15-03-2024"));
+            WorkoutLists.addRun(new Run("20:11", "10.3", "15-03-2023"));
             int index = 1;
             WorkoutLists.deleteRun(index);
             assertEquals(1, WorkoutLists.getRunSize());
@@ -177,7 +182,7 @@ class WorkoutListsTest {
     @Test
     void deleteRun_properListInvalidIndex_throwOutOfBoundsForRun(){
         try {
-            new Run("20:10", "10.3", "15-03-2024");
+            WorkoutLists.addRun(new Run("20:10", "10.3", "15-03-2024"));
         } catch (CustomExceptions.InvalidInput e) {
             fail("Should not throw an exception");
         }
@@ -199,11 +204,13 @@ class WorkoutListsTest {
         try {
             gym1.addStation("Bench Press", "1", "50", "1.0");
             gym1.addStation("Shoulder Press", "2", "10", "1.0,2.0");
+            WorkoutLists.addGym(gym1);
 
             Gym gym2 = new Gym();
             gym2.addStation("Squat Press", "1", "50", "1.0");
             gym2.addStation("Lat Press", "2", "10", "1.0,2.0");
             gym2.addStation("Bicep curls", "1", "10", "1.0");
+            WorkoutLists.addGym(gym2);
         } catch (CustomExceptions.InvalidInput | CustomExceptions.InsufficientInput e) {
             fail("Should not throw an exception");
         }
@@ -240,6 +247,7 @@ class WorkoutListsTest {
         try {
             gym1.addStation("Bench Press", "1", "50", "1.0");
             gym1.addStation("Shoulder Press", "2", "10", "2.0,3.0");
+            WorkoutLists.addGym(gym1);
 
         } catch (CustomExceptions.InvalidInput | CustomExceptions.InsufficientInput e) {
             fail("Should not throw an exception");
@@ -257,4 +265,33 @@ class WorkoutListsTest {
                 WorkoutLists.deleteGym(invalidIndex2));
         assertTrue(exception.getMessage().contains(ErrorConstant.INVALID_INDEX_DELETE_ERROR));
     }
+
+    /**
+     * Tests that deleting runs and gyms interleaved in the workouts list removes the right workouts from it.
+     */
+    @Test
+    void removeRunAndGym_interleavedDeletes_rightWorkoutsRemoved() throws CustomExceptions.InvalidInput {
+        List<Workout> added = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Run run = new Run("40:10", "10.3", "15-03-2024");
+            Gym gym = new Gym();
+            WorkoutLists.addRun(run);
+            WorkoutLists.addGym(gym);
+            added.add(run);
+            added.add(gym);
+        }
+
+        WorkoutLists.removeRun(0);
+        WorkoutLists.removeGym(4);
+        WorkoutLists.removeRun(3);
+
+        List<Workout> expected = new ArrayList<>(added);
+        expected.remove(9);
+        expected.remove(8);
+        expected.remove(0);
+        assertEquals(expected.size(), WorkoutLists.getWorkouts().size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), WorkoutLists.getWorkouts().get(i));
+        }
+    }
 }
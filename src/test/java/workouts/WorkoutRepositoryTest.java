@@ -0,0 +1,121 @@
+package workouts;
+
+import helper.RetainedSize;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import storage.RecordHash;
+import utility.CustomExceptions;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorkoutRepositoryTest {
+    private static final int NUMBER_OF_RECORDS = 1000;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2000, 1, 1);
+
+    @AfterEach
+    void cleanup() {
+        WorkoutLists.setRepository(null);
+        WorkoutLists.clearWorkoutsRunGym();
+    }
+
+    /**
+     * Tests the heap retained by Run objects, including their entries in the lists of the repository.
+     * Expects each Run to retain less than 200 bytes.
+     */
+    @Test
+    void run_manyRecords_expectSmallFootprint() {
+        long bytes = measureBytesPerRecord(i -> WorkoutLists.addRun(new Run("25:00", "5.00", formatDate(i))));
+        assertTrue(bytes < 200, "Bytes per Run: " + bytes);
+    }
+
+    /**
+     * Tests the heap retained by Gym objects with two stations of three sets, including their entries in the
+     * lists of the repository.
+     * Expects each Gym to retain less than 600 bytes.
+     */
+    @Test
+    void gym_manyRecords_expectSmallFootprint() {
+        long bytes = measureBytesPerRecord(i -> {
+            Gym gym = new Gym(formatDate(i));
+            gym.addStation(new GymStation("Bench Press", "3", "8", "40.0,42.5,45.0"));
+            gym.addStation(new GymStation("Squat", "3", "8", "60.0,60.0,60.0"));
+            WorkoutLists.addGym(gym);
+        });
+        assertTrue(bytes < 600, "Bytes per Gym: " + bytes);
+    }
+
+    /**
+     * Tests the behaviour of adding gyms whose stations repeat the same exercise.
+     * Verifies that the stations share one stored name, and that clearing the repository clears the names.
+     */
+    @Test
+    void addGym_repeatedStationName_expectSharedNameClearedWithRepository() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput {
+        WorkoutRepository repository = new WorkoutRepository();
+        WorkoutLists.setRepository(repository);
+        Gym firstGym = new Gym("19-03-2024");
+        firstGym.addStation(new GymStation(new String("Bench Press"), "1", "8", "40.0"));
+        Gym secondGym = new Gym("20-03-2024");
+        secondGym.addStation(new GymStation(new String("Bench Press"), "1", "8", "42.5"));
+        WorkoutLists.addGym(firstGym);
+        WorkoutLists.addGym(secondGym);
+
+        assertSame(firstGym.getStations().get(0).getStationName(), secondGym.getStations().get(0).getStationName());
+        assertEquals(1, repository.getStationNames().size());
+        assertEquals(0, new WorkoutRepository().getStationNames().size());
+
+        repository.clear();
+        assertEquals(0, repository.getStationNames().size());
+    }
+
+    /**
+     * Tests the behaviour of creating and changing a gym that has not been added to the repository.
+     * Verifies that the repository and its record hash only change once the gym is added.
+     */
+    @Test
+    void addStation_gymNotAdded_expectRepositoryUnchanged() throws CustomExceptions.InvalidInput,
+            CustomExceptions.InsufficientInput {
+        WorkoutRepository repository = new WorkoutRepository();
+        WorkoutLists.setRepository(repository);
+        Gym gym = new Gym("19-03-2024");
+        gym.addStation(new GymStation("Bench Press", "1", "8", "40.0"));
+
+        assertEquals(0, repository.getGyms().size());
+        assertEquals(BigInteger.ZERO, repository.getRecordHash());
+
+        WorkoutLists.addGym(gym);
+        assertSame(gym, repository.getGyms().get(0));
+        assertEquals(RecordHash.digestOf(gym), repository.getRecordHash());
+    }
+
+    private static long measureBytesPerRecord(RecordFactory factory) {
+        WorkoutRepository repository = new WorkoutRepository();
+        WorkoutLists.setRepository(repository);
+        long before = RetainedSize.of(repository);
+        for (int i = 0; i < NUMBER_OF_RECORDS; i++) {
+            try {
+                factory.create(i);
+            } catch (CustomExceptions.InvalidInput | CustomExceptions.InsufficientInput e) {
+                throw new AssertionError(e);
+            }
+        }
+        return (RetainedSize.of(repository) - before) / NUMBER_OF_RECORDS;
+    }
+
+    private static String formatDate(int day) {
+        return FIRST_DATE.plusDays(day).format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
+    }
+
+    /**
+     * Represents a way of creating one record.
+     */
+    private interface RecordFactory {
+        void create(int index) throws CustomExceptions.InvalidInput, CustomExceptions.InsufficientInput;
+    }
+}